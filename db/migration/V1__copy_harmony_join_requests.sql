@@ -0,0 +1,25 @@
+--
+-- V1: 구 가입 대기 목록 → harmony_room_join_requests (1회성 데이터 이전)
+--
+-- 구 구조: harmony_room_assign_wait (룸당 1행) + ManyToMany harmony_room_waiting_users (대기 사용자)
+-- 신 구조: harmony_room_join_requests (룸 × 사용자 1행, status = WAITING)
+--
+-- 실행 시점: harmony_room_join_requests를 쓰는 버전이 배포되어 테이블이 생성된 뒤, psql로 1회 실행
+--   psql "$DATABASE_URL" -v ON_ERROR_STOP=1 -f db/migration/V1__copy_harmony_join_requests.sql
+-- 재실행해도 안전 (ON CONFLICT DO NOTHING) → 롤링 배포 중 구 버전이 쓴 대기 행은 cut-over 완료 후 한 번 더 실행해 옮김
+--
+-- 구 테이블은 여기서 지우지 않음. cut-over 완료 확인 후 별도 변경(V2)에서 DROP
+-- (그때까지 HarmonyRoomTeardownRepository가 룸 삭제 시 구 테이블 행도 함께 정리)
+--
+
+BEGIN;
+
+INSERT INTO harmony_room_join_requests (id, harmony_room_id, user_id, status, requested_at)
+SELECT DISTINCT ON (w.harmony_room_id, wu.user_id)
+       gen_random_uuid(), w.harmony_room_id, wu.user_id, 'WAITING', w.created_at
+FROM harmony_room_waiting_users wu
+JOIN harmony_room_assign_wait w ON w.id = wu.assign_wait_id
+ORDER BY w.harmony_room_id, wu.user_id, w.created_at
+ON CONFLICT (harmony_room_id, user_id) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,93 @@
+package com.osunji.melog.elk.config;
+
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.http.TransportHttpClient;
+import co.elastic.clients.transport.instrumentation.Instrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ES 클라이언트 지표 (transport instrumentation)
+ * - es.client.requests: 인덱스 × 연산(search, bulk ...) × 결과별 지연 히스토그램
+ * - es.client.in_flight: 응답 대기 중인 요청 수, es.client.pool.utilization: in_flight / 최대 커넥션 수
+ */
+public class ElasticClientMetrics implements Instrumentation {
+
+	private static final String ALL_INDICES = "_all";
+
+	private final MeterRegistry meterRegistry;
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	public ElasticClientMetrics(MeterRegistry meterRegistry, int maxConnTotal) {
+		this.meterRegistry = meterRegistry;
+		meterRegistry.gauge("es.client.in_flight", inFlight);
+		meterRegistry.gauge("es.client.pool.utilization", inFlight, n -> (double) n.get() / maxConnTotal);
+	}
+
+	@Override
+	public <TRequest> Context newContext(TRequest request, Endpoint<TRequest, ?, ?> endpoint) {
+		String index = ALL_INDICES;
+		try {
+			Map<String, String> params = endpoint.pathParameters(request);
+			if (params != null && params.get("index") != null) index = params.get("index");
+		} catch (RuntimeException ignored) {
+			// 경로 파라미터가 없는 엔드포인트
+		}
+		return new RequestContext(endpoint.id(), index);
+	}
+
+	private class RequestContext implements Context {
+		private final String operation;
+		private final String index;
+		private long startedAt;
+		private String outcome = "success";
+
+		private RequestContext(String operation, String index) {
+			this.operation = operation;
+			this.index = index;
+		}
+
+		@Override
+		public ThreadScope makeCurrent() {
+			return () -> {};
+		}
+
+		@Override
+		public void beforeSendingHttpRequest(TransportHttpClient.Request httpRequest, TransportOptions options) {
+			startedAt = System.nanoTime();
+			inFlight.incrementAndGet();
+		}
+
+		@Override
+		public void afterReceivingHttpResponse(TransportHttpClient.Response httpResponse) {
+			if (httpResponse.statusCode() >= 400) outcome = "error";
+		}
+
+		@Override
+		public <TResponse> void afterDecodingApiResponse(TResponse apiResponse) {
+		}
+
+		@Override
+		public void recordException(Throwable thr) {
+			outcome = "exception";
+		}
+
+		@Override
+		public void close() {
+			if (startedAt == 0) return;
+			inFlight.decrementAndGet();
+			Timer.builder("es.client.requests")
+				.tag("operation", operation)
+				.tag("index", index)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+}
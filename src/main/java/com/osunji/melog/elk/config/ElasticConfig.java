@@ -2,28 +2,51 @@ package com.osunji.melog.elk.config;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientOptions;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.ssl.SSLContextBuilder;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import javax.net.ssl.SSLContext;
+import java.net.URI;
+import java.util.Arrays;
 
+/**
+ * ES 클라이언트 전송 계층
+ * - spring.elasticsearch.uris (쉼표 구분) 전체 노드로 라운드 로빈, 실패한 노드는 RestClient가 backoff 동안 제외 (failover)
+ * - 커넥션 풀 크기 / 풀 대기 / 연결 / 응답 타임아웃 설정 → ES가 느려도 요청 스레드가 무한정 묶이지 않음
+ * - 요청 gzip 압축 + 응답 gzip 수신
+ * - 기본 클라이언트는 조회용 타임아웃, bulkElasticsearchClient는 _bulk용 긴 타임아웃 (같은 커넥션 풀)
+ * - batchElasticsearchClient는 백그라운드 작업의 무거운 조회(긴 기간 집계, PIT 스캔)용 긴 타임아웃
+ * - 지표는 ElasticClientMetrics (인덱스 × 연산별 지연, in-flight, 풀 사용률)
+ */
+@Slf4j
 @Configuration
 public class ElasticConfig {
 
-	@Value("${spring.elasticsearch.uris}")
+	@Value("${spring.elasticsearch.uris:https://localhost:9200}")
 	private String uris;
 
 	@Value("${spring.elasticsearch.username}")
@@ -32,8 +55,39 @@ public class ElasticConfig {
 	@Value("${spring.elasticsearch.password}")
 	private String password;
 
+	@Value("${elk.client.max-conn-total:100}")
+	private int maxConnTotal;
+
+	@Value("${elk.client.max-conn-per-route:50}")
+	private int maxConnPerRoute;
+
+	@Value("${elk.client.io-threads:2}")
+	private int ioThreads;
+
+	@Value("${elk.client.compression:true}")
+	private boolean compression;
+
+	/** 풀에서 커넥션을 기다리는 최대 시간 (풀이 고갈되면 빨리 실패) */
+	@Value("${elk.client.pool-timeout-ms:1000}")
+	private int poolTimeoutMillis;
+
+	@Value("${elk.client.connect-timeout-ms:2000}")
+	private int connectTimeoutMillis;
+
+	/** 조회(search/get 등) 응답 타임아웃 */
+	@Value("${elk.client.search-timeout-ms:5000}")
+	private int searchTimeoutMillis;
+
+	/** _bulk 응답 타임아웃 */
+	@Value("${elk.client.bulk-timeout-ms:30000}")
+	private int bulkTimeoutMillis;
+
+	/** 백그라운드 집계/스캔 응답 타임아웃 */
+	@Value("${elk.client.batch-timeout-ms:60000}")
+	private int batchTimeoutMillis;
+
 	@Bean
-	public RestClient restClient() {
+	public RestClient restClient(MeterRegistry meterRegistry) {
 		try {
 			SSLContext sslContext = SSLContextBuilder
 				.create()
@@ -46,14 +100,31 @@ public class ElasticConfig {
 				new UsernamePasswordCredentials(username, password)
 			);
 
-			return RestClient.builder(
-					new HttpHost("localhost", 9200,"https")
+			Counter nodeFailures = meterRegistry.counter("es.client.node.failures");
+
+			return RestClient.builder(hosts())
+				.setCompressionEnabled(compression)
+				.setNodeSelector(NodeSelector.SKIP_DEDICATED_MASTERS)
+				.setFailureListener(new RestClient.FailureListener() {
+					@Override
+					public void onFailure(Node node) {
+						nodeFailures.increment();
+						log.warn("ES 노드 응답 실패, 일시 제외: {}", node.getHost());
+					}
+				})
+				.setRequestConfigCallback(requestConfig -> requestConfig
+					.setConnectionRequestTimeout(poolTimeoutMillis)
+					.setConnectTimeout(connectTimeoutMillis)
+					.setSocketTimeout(searchTimeoutMillis)
 				)
 				.setHttpClientConfigCallback(httpClientBuilder ->
 					httpClientBuilder
 						.setSSLContext(sslContext)
 						.setSSLHostnameVerifier((hostname, session) -> true)
 						.setDefaultCredentialsProvider(credentialsProvider)
+						.setMaxConnTotal(maxConnTotal)
+						.setMaxConnPerRoute(maxConnPerRoute)
+						.setDefaultIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(ioThreads).build())
 				)
 				.build();
 		} catch (Exception e) {
@@ -62,7 +133,8 @@ public class ElasticConfig {
 	}
 
 	@Bean
-	public ElasticsearchClient elasticsearchClient(RestClient restClient) {
+	@Primary
+	public ElasticsearchClient elasticsearchClient(RestClient restClient, MeterRegistry meterRegistry) {
 		// 🎯 핵심: JavaTimeModule을 등록한 ObjectMapper 생성
 		ObjectMapper objectMapper = new ObjectMapper()
 			.registerModule(new JavaTimeModule())
@@ -71,9 +143,47 @@ public class ElasticConfig {
 
 		RestClientTransport transport = new RestClientTransport(
 			restClient,
-			new JacksonJsonpMapper(objectMapper)  // 커스텀 ObjectMapper 사용
+			new JacksonJsonpMapper(objectMapper),  // 커스텀 ObjectMapper 사용
+			null,
+			new ElasticClientMetrics(meterRegistry, maxConnTotal)
 		);
 
 		return new ElasticsearchClient(transport);
 	}
+
+	/** _bulk 전용 - 같은 전송 계층, 응답 타임아웃만 길게 */
+	@Bean
+	@Qualifier("bulkElasticsearchClient")
+	public ElasticsearchClient bulkElasticsearchClient(ElasticsearchClient elasticsearchClient) {
+		return withSocketTimeout(elasticsearchClient, bulkTimeoutMillis);
+	}
+
+	/** 백그라운드 무거운 조회 전용 (실시간 검색어 ES 보정, user_logs 일별 집계, 자동완성 PIT 스캔) */
+	@Bean
+	@Qualifier("batchElasticsearchClient")
+	public ElasticsearchClient batchElasticsearchClient(ElasticsearchClient elasticsearchClient) {
+		return withSocketTimeout(elasticsearchClient, batchTimeoutMillis);
+	}
+
+	private ElasticsearchClient withSocketTimeout(ElasticsearchClient elasticsearchClient, int socketTimeoutMillis) {
+		RequestConfig requestConfig = RequestConfig.custom()
+			.setConnectionRequestTimeout(poolTimeoutMillis)
+			.setConnectTimeout(connectTimeoutMillis)
+			.setSocketTimeout(socketTimeoutMillis)
+			.build();
+		RequestOptions options = RequestOptions.DEFAULT.toBuilder()
+			.setRequestConfig(requestConfig)
+			.build();
+		return elasticsearchClient.withTransportOptions(new RestClientOptions(options, false));
+	}
+
+	/** spring.elasticsearch.uris → 노드 목록 (스킴 생략 시 https, 포트 생략 시 9200) */
+	private HttpHost[] hosts() {
+		return Arrays.stream(uris.split(","))
+			.map(String::trim)
+			.filter(uri -> !uri.isEmpty())
+			.map(uri -> URI.create(uri.contains("://") ? uri : "https://" + uri))
+			.map(uri -> new HttpHost(uri.getHost(), uri.getPort() > 0 ? uri.getPort() : 9200, uri.getScheme()))
+			.toArray(HttpHost[]::new);
+	}
 }
@@ -9,6 +9,7 @@ import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Document(indexName = "user_logs")
 @Data
@@ -18,6 +19,9 @@ import java.time.LocalDateTime;
 @JsonIgnoreProperties(ignoreUnknown = true)  // ES 인덱스명 = search_logs
 public class UserLog {
 
+    /** eventTime 기준 시간대 - offset 없이 이 시간대의 시각으로 저장, 일별 요약의 날짜 경계도 같은 시간대 */
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     @Id
     private String id;
 
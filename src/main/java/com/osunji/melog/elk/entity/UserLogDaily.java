@@ -0,0 +1,45 @@
+package com.osunji.melog.elk.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_logs 일별 요약 (UserLog.ZONE 기준 하루 1문서, 문서 ID = yyyy-MM-dd)
+ * - 닫힌 날은 DAU/가입자/이벤트 수 조회에 원본 대신 사용 (늦게 도착한 로그는 UserLogRollupService가 최근 며칠을 다시 집계해 반영)
+ */
+@Document(indexName = "user_logs_daily")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserLogDaily {
+
+    @Id
+    private String id;
+
+    @Field(type = FieldType.Keyword)
+    private String day;
+
+    @Field(type = FieldType.Long)
+    private Long dau;
+
+    @Field(type = FieldType.Long)
+    private Long signups;
+
+    @Field(type = FieldType.Object)
+    private Map<String, Long> eventCounts; // eventType → 건수
+
+    @Field(type = FieldType.Keyword)
+    private List<String> signupUserIds; // 그날 가입자 (최신순, 최대 100명)
+}
@@ -7,45 +7,58 @@ import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.GetIndexRequest;
 import com.osunji.melog.elk.entity.SearchLog;
-import lombok.RequiredArgsConstructor;
+import com.osunji.melog.elk.service.LogSpool;
+import com.osunji.melog.elk.service.TelemetryPipeline;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 public class ELKSearchRepository {
 
 	private final ElasticsearchClient elasticsearchClient;
+	/** 긴 기간 집계용 (긴 응답 타임아웃) */
+	private final ElasticsearchClient batchElasticsearchClient;
+	private final LogSpool logSpool;
+	private final TelemetryPipeline telemetryPipeline;
+
+	public ELKSearchRepository(ElasticsearchClient elasticsearchClient,
+							   @Qualifier("batchElasticsearchClient") ElasticsearchClient batchElasticsearchClient,
+							   LogSpool logSpool,
+							   TelemetryPipeline telemetryPipeline) {
+		this.elasticsearchClient = elasticsearchClient;
+		this.batchElasticsearchClient = batchElasticsearchClient;
+		this.logSpool = logSpool;
+		this.telemetryPipeline = telemetryPipeline;
+	}
 
 	/**
-	 * 검색 로그 기록 (실제 기능)
+	 * 검색 로그 기록 - 로컬 스풀에 추가만 (ES 반영은 LogSpoolShipper가 _bulk로)
+	 * - 스풀이 거부하면(용량 초과/디스크 오류) 메모리 파이프라인으로
 	 */
 	public void logSearch(String query, String category, String userId) {
-		try {
-			SearchLog searchLog = SearchLog.builder()
-				.query(query)
-				.category(category)
-				.searchTime(LocalDateTime.now())
-				.userId(userId)
-				.build();
-
-			IndexRequest<SearchLog> request = IndexRequest.of(i -> i
-				.index("search_logs")
-				.document(searchLog)
-			);
-
-			elasticsearchClient.index(request);
-			log.info("검색 로그 저장 완료: query={}, category={}, userId={}", query, category, userId);
-		} catch (Exception e) {
-			log.error("검색 로그 기록 실패: {}", e.getMessage());
+		SearchLog searchLog = SearchLog.builder()
+			.id(UUID.randomUUID().toString())
+			.query(query)
+			.category(category)
+			.searchTime(LocalDateTime.now())
+			.userId(userId)
+			.build();
+
+		if (!logSpool.append("search_logs", searchLog.getId(), searchLog)
+			&& !telemetryPipeline.enqueue("search_logs", searchLog.getId(), searchLog)) {
+			log.error("검색 로그 기록 실패: query={}, category={}", query, category);
 		}
 	}
 	/**
@@ -69,63 +82,26 @@ public class ELKSearchRepository {
 	}
 
 	/**
-	 * 인기 검색어 조회 - 20개 빈도 내림차순
+	 * 검색어별 검색 횟수 (since 이후, 상위 size개) - 실시간 인기 검색어 보정용
+	 * @param since ES date math (예: "now-24h")
 	 */
-	public List<String> getPopularSearchTerms() {
-		try {
-			System.out.println("📊 ELK 인기 검색어 집계 시작 (20개 빈도순)");
-			ensureIndexExists("search_logs");
-
-			SearchRequest searchRequest = SearchRequest.of(s -> s
-					.index("search_logs")
-					.size(0)
-					.query(q -> q.range(r -> r
-							.date(d -> d
-									.field("searchTime")
-									.gte("now-3d")
-							)
-					))
-
-				.aggregations("popular_terms", a -> a
-					.terms(t -> t
-						.field("query")
-						.size(20)
-					)
-				)
-			);
-
-			SearchResponse<Void> response = elasticsearchClient.search(searchRequest, Void.class);
-
-			List<String> results = response.aggregations()
-				.get("popular_terms")
-				.sterms()
-				.buckets()
-				.array()
-				.stream()
-				.map(bucket -> {
-					String term = bucket.key().stringValue();
-					long count = bucket.docCount();
-					System.out.println("    🔥 " + count + "회: '" + term + "'");
-					return term;
-				})
-				.collect(Collectors.toList());  // ✅ 필터링 제거, 모든 검색어 포함
-
-			System.out.println("✅ ELK 인기 검색어 " + results.size() + "개 (빈도순)");
-
-			// ✅ 20개 미만이면 그냥 반환, 20개 이상이면 20개만
-			return results;
-
-		} catch (Exception e) {
-			log.error("인기 검색어 조회 실패: {}", e.getMessage(), e);
-
-			// ✅ 실패 시에도 20개 기본값
-			return Arrays.asList(
-				"피아노", "교향곡", "협주곡", "소나타", "바이올린",
-				"첼로", "오페라", "클래식", "바로크", "낭만주의",
-				"베토벤", "모차르트", "쇼팽", "바흐", "브람스",
-				"리스트", "드뷔시", "라벨", "바그너", "브루크너"
-			);
+	public Map<String, Long> countQueryTerms(String since, int size) throws IOException {
+		SearchRequest searchRequest = SearchRequest.of(s -> s
+			.index("search_logs")
+			.ignoreUnavailable(true)
+			.size(0)
+			.query(q -> q.range(r -> r.date(d -> d.field("searchTime").gte(since))))
+			.aggregations("popular_terms", a -> a.terms(t -> t.field("query").size(size)))
+		);
+
+		SearchResponse<Void> response = batchElasticsearchClient.search(searchRequest, Void.class);
+		Map<String, Long> counts = new LinkedHashMap<>();
+		if (response.aggregations() == null || !response.aggregations().containsKey("popular_terms")) {
+			return counts;
 		}
+		response.aggregations().get("popular_terms").sterms().buckets().array()
+			.forEach(bucket -> counts.put(bucket.key().stringValue(), bucket.docCount()));
+		return counts;
 	}
 
 	/**
@@ -2,27 +2,40 @@ package com.osunji.melog.elk.repository;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.SortOrder;
-import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.GetIndexRequest;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.json.JsonData;
-import lombok.RequiredArgsConstructor;
+import com.osunji.melog.elk.entity.UserLog;
+import com.osunji.melog.elk.entity.UserLogDaily;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 public class ELKUserRepository {
 
     private final ElasticsearchClient elasticsearchClient;
+    /** 하루치 집계(computeDaily)용 - 백필 시 수십 일을 연달아 집계하므로 긴 응답 타임아웃 */
+    private final ElasticsearchClient batchElasticsearchClient;
+
+    public ELKUserRepository(ElasticsearchClient elasticsearchClient,
+                             @Qualifier("batchElasticsearchClient") ElasticsearchClient batchElasticsearchClient) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.batchElasticsearchClient = batchElasticsearchClient;
+    }
 
     private static final String INDEX_USER_LOGS = "user_logs";
     private static final String F_USER_ID = "userId";
@@ -32,6 +45,21 @@ public class ELKUserRepository {
     private static final String F_UA = "userAgent";
     private static final String F_META = "metaJson";
 
+    private static final String INDEX_USER_LOGS_DAILY = "user_logs_daily";
+    private static final int SIGNUP_IDS_PER_DAY = 100;
+    /** 자정 후 이 시간이 지나야 그 전날을 닫힌 날로 봄 (늦게 도착하는 로그 여유) */
+    private static final Duration ROLLUP_GRACE = Duration.ofHours(1);
+    /** 진행 중인 날(원본 집계) 캐시 시간 */
+    private static final Duration OPEN_DAY_TTL = Duration.ofMinutes(1);
+
+    /** 닫힌 날 요약 - 닫힌 날 경계가 바뀔 때까지 유지 (key = 조회 시작일) */
+    private final Map<LocalDate, Map<LocalDate, UserLogDaily>> closedDaysCache = new ConcurrentHashMap<>();
+    private volatile LocalDate closedDaysCacheBoundary;
+    /** 진행 중인 날 요약 - OPEN_DAY_TTL 동안 유지 */
+    private final Map<LocalDate, OpenDay> openDaysCache = new ConcurrentHashMap<>();
+
+    private record OpenDay(UserLogDaily daily, long expiresAt) {}
+
     // =========================== 기록(실제 기능) ===========================
 
     /**
@@ -39,12 +67,10 @@ public class ELKUserRepository {
      */
     public void logUserEvent(String userId, String eventType, String ip, String userAgent, String metaJson) {
         try {
-            ensureIndexExists(INDEX_USER_LOGS);
-
             Map<String, Object> doc = new HashMap<>();
             doc.put(F_USER_ID, userId);
             doc.put(F_EVENT_TYPE, eventType);
-            doc.put(F_EVENT_TIME, LocalDateTime.now());
+            doc.put(F_EVENT_TIME, LocalDateTime.now(UserLog.ZONE));
             doc.put(F_IP, ip);
             doc.put(F_UA, userAgent);
             doc.put(F_META, (metaJson == null || metaJson.isBlank()) ? "{}" : metaJson);
@@ -64,68 +90,14 @@ public class ELKUserRepository {
     // =========================== 조회/집계 ===========================
 
     /**
-     * 최근 N일 간 DAU(일간 활성 사용자 수) 시계열 (yyyy-MM-dd -> dau)
+     * 최근 N일 간 DAU(일간 활성 사용자 수) 시계열 (yyyy-MM-dd -> dau, UserLog.ZONE 날짜 오름차순)
+     * - 닫힌 날은 user_logs_daily 요약, 진행 중인 날(오늘 + 유예 중인 어제)만 원본 집계
      */
     public LinkedHashMap<String, Long> getDauSeries(int days) {
         try {
-            ensureIndexExists(INDEX_USER_LOGS);
-
-            // 날짜 범위는 문자열("now-<days>d")로 넘겨 타입 이슈 제거
-            SearchRequest req = SearchRequest.of(s -> s
-                    .index(INDEX_USER_LOGS)
-                    .size(0)
-                    .query(q -> q.range(r -> r
-                            .date(d -> d
-                                    .field(F_EVENT_TIME)
-                                    .gte("now-" + days + "d")       // Date math 문자열 그대로
-                            )
-                    ))
-                    .aggregations("daily", a -> a
-                            .dateHistogram(dh -> dh
-                                    .field(F_EVENT_TIME)
-                                    .calendarInterval(CalendarInterval.Day)
-                            )
-                            .aggregations("dau", sub -> sub.cardinality(c -> c.field(F_USER_ID)))
-                    )
-            );
-
-            SearchResponse<Void> res = elasticsearchClient.search(req, Void.class);
-
-            List<co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket> buckets =
-                    res.aggregations()
-                            .get("daily")
-                            .dateHistogram()
-                            .buckets()
-                            .array();
-
             LinkedHashMap<String, Long> series = new LinkedHashMap<>();
-            // keyAsString 예: 2025-09-12T00:00:00.000Z
-            for (co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket b : buckets) {
-                String keyStr = b.keyAsString();
-                if (keyStr == null) continue;
-                String day = keyStr.length() >= 10 ? keyStr.substring(0, 10) : keyStr; // yyyy-MM-dd
-
-                Long dau = Optional.ofNullable(
-                        b.aggregations()
-                                .get("dau")
-                                .cardinality()
-                                .value()
-                ).orElse(0L);
-
-                series.put(day, dau);
-            }
-
-            // 날짜 오름차순 정렬 보장
-            LinkedHashMap<String, Long> sorted = series.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            Map.Entry::getValue,
-                            (a, b) -> a,
-                            LinkedHashMap::new
-                    ));
-
-            return sorted;
+            dailyRange(days).forEach((day, daily) -> series.put(day.toString(), daily.getDau()));
+            return series;
         } catch (Exception e) {
             log.error("DAU 시계열 조회 실패", e);
             return new LinkedHashMap<>();
@@ -135,41 +107,23 @@ public class ELKUserRepository {
 
     /**
      * 최근 가입자 목록 (최근 N일, 최신순, 최대 size)
-     * eventType = SIGNUP 기준
+     * eventType = SIGNUP 기준, 날짜별 요약의 가입자 목록을 최신 날부터 이어 붙임
      */
     public List<String> getRecentSignups(int days, int size) {
         try {
-            ensureIndexExists(INDEX_USER_LOGS);
-
-            SearchRequest req = SearchRequest.of(s -> s
-                    .index(INDEX_USER_LOGS)
-                    .size(size)
-                    .sort(sort -> sort.field(f -> f.field(F_EVENT_TIME).order(SortOrder.Desc)))
-                    .query(q -> q.bool(b -> b
-                            .must(m -> m.term(t -> t.field(F_EVENT_TYPE).value("SIGNUP")))
-                            .must(m -> m.range(r -> r
-                                    .date(d -> d
-                                            .field(F_EVENT_TIME)
-                                            .gte("now-" + days + "d")
-                                    )
-                            ))
-                    ))
-                    .source(src -> src.filter(f -> f.includes(List.of(F_USER_ID))))
-            );
-
-            @SuppressWarnings("unchecked")
-            SearchResponse<Map<String, Object>> res =
-                    elasticsearchClient.search(req, (Class<Map<String, Object>>)(Class<?>)Map.class);
-
-            return res.hits().hits().stream()
-                    .map(h -> {
-                        Map<String, Object> src = h.source();
-                        return src == null ? null : (String) src.get(F_USER_ID);
-                    })
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .collect(Collectors.toList());
-
+            List<UserLogDaily> newestFirst = new ArrayList<>(dailyRange(days).values());
+            Collections.reverse(newestFirst);
+
+            LinkedHashSet<String> userIds = new LinkedHashSet<>();
+            for (UserLogDaily daily : newestFirst) {
+                if (daily.getSignupUserIds() == null) continue;
+                for (String userId : daily.getSignupUserIds()) {
+                    if (userIds.size() >= size) break;
+                    userIds.add(userId);
+                }
+                if (userIds.size() >= size) break;
+            }
+            return new ArrayList<>(userIds);
         } catch (Exception e) {
             log.error("최근 가입자 조회 실패", e);
             return Collections.emptyList();
@@ -182,10 +136,9 @@ public class ELKUserRepository {
      */
     public List<String> getUserRecentEvents(String userId, int days, int size) {
         try {
-            ensureIndexExists(INDEX_USER_LOGS);
-
             SearchRequest req = SearchRequest.of(s -> s
                     .index(INDEX_USER_LOGS)
+                    .ignoreUnavailable(true)
                     .size(size)
                     .sort(sort -> sort.field(f -> f.field(F_EVENT_TIME).order(SortOrder.Desc)))
                     .query(q -> q.bool(b -> b
@@ -218,6 +171,153 @@ public class ELKUserRepository {
         }
     }
 
+    // =========================== 일별 요약(rollup) ===========================
+
+    /** 아직 닫히지 않은 첫 날 (UserLog.ZONE) - 이 날부터는 원본 로그로 집계 */
+    public LocalDate firstOpenDay() {
+        return LocalDateTime.now(UserLog.ZONE).minus(ROLLUP_GRACE).toLocalDate();
+    }
+
+    /** 원본 user_logs로 하루 요약 계산 (집계 한 번) - eventTime과 같은 UserLog.ZONE 벽시계 기준 [자정, 다음 자정) */
+    public UserLogDaily computeDaily(LocalDate day) throws IOException {
+        SearchRequest req = SearchRequest.of(s -> s
+                .index(INDEX_USER_LOGS)
+                .ignoreUnavailable(true)
+                .size(0)
+                .query(q -> q.range(r -> r
+                        .date(d -> d
+                                .field(F_EVENT_TIME)
+                                .gte(day.atStartOfDay().toString())
+                                .lt(day.plusDays(1).atStartOfDay().toString())
+                        )
+                ))
+                .aggregations("dau", a -> a.cardinality(c -> c.field(F_USER_ID).precisionThreshold(40000)))
+                .aggregations("events", a -> a.terms(t -> t.field(F_EVENT_TYPE).size(100)))
+                .aggregations("signups", a -> a
+                        .filter(f -> f.term(t -> t.field(F_EVENT_TYPE).value("SIGNUP")))
+                        .aggregations("latest", sub -> sub.topHits(th -> th
+                                .size(SIGNUP_IDS_PER_DAY)
+                                .sort(so -> so.field(f -> f.field(F_EVENT_TIME).order(SortOrder.Desc)))
+                                .source(src -> src.filter(f -> f.includes(List.of(F_USER_ID))))
+                        ))
+                )
+        );
+
+        SearchResponse<Void> res = batchElasticsearchClient.search(req, Void.class);
+        UserLogDaily.UserLogDailyBuilder daily = UserLogDaily.builder()
+                .id(day.toString())
+                .day(day.toString())
+                .dau(0L)
+                .signups(0L)
+                .eventCounts(new LinkedHashMap<>())
+                .signupUserIds(new ArrayList<>());
+        if (res.aggregations() == null || !res.aggregations().containsKey("dau")) {
+            return daily.build();
+        }
+
+        Map<String, Long> eventCounts = new LinkedHashMap<>();
+        res.aggregations().get("events").sterms().buckets().array()
+                .forEach(b -> eventCounts.put(b.key().stringValue(), b.docCount()));
+
+        var signups = res.aggregations().get("signups").filter();
+        List<String> signupUserIds = new ArrayList<>();
+        for (Hit<JsonData> hit : signups.aggregations().get("latest").topHits().hits().hits()) {
+            if (hit.source() == null) continue;
+            Object userId = hit.source().to(Map.class).get(F_USER_ID);
+            if (userId != null && !signupUserIds.contains(userId.toString())) {
+                signupUserIds.add(userId.toString());
+            }
+        }
+
+        return daily
+                .dau(res.aggregations().get("dau").cardinality().value())
+                .signups(signups.docCount())
+                .eventCounts(eventCounts)
+                .signupUserIds(signupUserIds)
+                .build();
+    }
+
+    /** 요약 문서 저장 (문서 ID = 날짜라 다시 써도 덮어쓰기) - 다시 집계된 날이 반영되도록 닫힌 날 캐시 비움 */
+    public void saveDaily(UserLogDaily daily) throws IOException {
+        elasticsearchClient.index(i -> i.index(INDEX_USER_LOGS_DAILY).id(daily.getId()).document(daily));
+        closedDaysCache.clear();
+    }
+
+    /** [from, toExclusive) 기간의 저장된 요약 (없는 날은 빠짐) */
+    public Map<LocalDate, UserLogDaily> findDaily(LocalDate from, LocalDate toExclusive) throws IOException {
+        List<String> ids = new ArrayList<>();
+        for (LocalDate d = from; d.isBefore(toExclusive); d = d.plusDays(1)) {
+            ids.add(d.toString());
+        }
+        Map<LocalDate, UserLogDaily> result = new TreeMap<>();
+        if (ids.isEmpty()) return result;
+
+        SearchResponse<UserLogDaily> res = elasticsearchClient.search(s -> s
+                .index(INDEX_USER_LOGS_DAILY)
+                .ignoreUnavailable(true)
+                .size(ids.size())
+                .query(q -> q.ids(i -> i.values(ids))), UserLogDaily.class);
+        for (Hit<UserLogDaily> hit : res.hits().hits()) {
+            if (hit.source() != null) {
+                result.put(LocalDate.parse(hit.source().getDay()), hit.source());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 N일 + 오늘의 일별 요약 (날짜 오름차순)
+     * - 닫힌 날: 저장된 요약 (아직 롤업 전이면 원본으로 계산), 닫힌 날 경계가 바뀔 때까지 캐시
+     * - 진행 중인 날: 원본 집계, OPEN_DAY_TTL 동안 캐시
+     */
+    private Map<LocalDate, UserLogDaily> dailyRange(int days) throws IOException {
+        LocalDate today = LocalDate.now(UserLog.ZONE);
+        LocalDate from = today.minusDays(days);
+        LocalDate open = firstOpenDay();
+
+        Map<LocalDate, UserLogDaily> result = new TreeMap<>(closedDays(from, open));
+        for (LocalDate d = from.isAfter(open) ? from : open; !d.isAfter(today); d = d.plusDays(1)) {
+            result.put(d, openDay(d));
+        }
+        return result;
+    }
+
+    private Map<LocalDate, UserLogDaily> closedDays(LocalDate from, LocalDate open) throws IOException {
+        if (!open.equals(closedDaysCacheBoundary)) {
+            closedDaysCache.clear();
+            closedDaysCacheBoundary = open;
+        }
+        Map<LocalDate, UserLogDaily> cached = closedDaysCache.get(from);
+        if (cached != null) return cached;
+
+        Map<LocalDate, UserLogDaily> closed = findDaily(from, open);
+        for (LocalDate d = from; d.isBefore(open); d = d.plusDays(1)) {
+            if (!closed.containsKey(d)) {
+                closed.put(d, computeDaily(d));
+            }
+        }
+        Map<LocalDate, UserLogDaily> result = Collections.unmodifiableMap(closed);
+        closedDaysCache.put(from, result);
+        return result;
+    }
+
+    private UserLogDaily openDay(LocalDate day) throws IOException {
+        long now = System.currentTimeMillis();
+        OpenDay cached = openDaysCache.get(day);
+        if (cached != null && cached.expiresAt() > now) return cached.daily();
+
+        UserLogDaily daily = computeDaily(day);
+        openDaysCache.keySet().removeIf(d -> d.isBefore(firstOpenDay()));
+        openDaysCache.put(day, new OpenDay(daily, now + OPEN_DAY_TTL.toMillis()));
+        return daily;
+    }
+
+    /** 기동 시 1회 - 인덱스가 없으면 매핑과 함께 생성 (조회마다 확인하지 않음) */
+    public void ensureIndices() {
+        ensureIndexExists(INDEX_USER_LOGS);
+        ensureIndexExists(INDEX_USER_LOGS_DAILY);
+    }
+
     // =========================== 헬퍼 ===========================
 
     private void ensureIndexExists(String indexName) {
@@ -231,6 +331,20 @@ public class ELKUserRepository {
 
     private void createIndex(String indexName) {
         try {
+            if (INDEX_USER_LOGS_DAILY.equals(indexName)) {
+                elasticsearchClient.indices().create(c -> c
+                        .index(indexName)
+                        .mappings(m -> m
+                                .properties("day",           p -> p.keyword(k -> k))
+                                .properties("dau",           p -> p.long_(l -> l))
+                                .properties("signups",       p -> p.long_(l -> l))
+                                .properties("eventCounts",   p -> p.object(o -> o))
+                                .properties("signupUserIds", p -> p.keyword(k -> k))
+                        )
+                );
+                log.info("{} 인덱스 생성 완료", indexName);
+                return;
+            }
             if (!INDEX_USER_LOGS.equals(indexName)) return;
 
             CreateIndexRequest create = CreateIndexRequest.of(c -> c
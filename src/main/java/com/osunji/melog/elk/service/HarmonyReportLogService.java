@@ -1,38 +1,23 @@
 package com.osunji.melog.elk.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
 import com.osunji.melog.elk.entity.HarmonyReportLog;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HarmonyReportLogService {
 
-	private final ElasticsearchClient elasticsearchClient;
-	private final BlockingQueue<HarmonyReportLog> logQueue = new LinkedBlockingQueue<>(500);
-	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-	private final int BATCH_SIZE = 100;
+	private static final String INDEX = "harmony_reports";
 
-	@PostConstruct
-	public void startScheduler() {
-		scheduler.scheduleAtFixedRate(this::flushIfNeeded, 5, 5, TimeUnit.SECONDS);
-	}
+	private final TelemetryPipeline telemetryPipeline;
 
 	/**
 	 * 하모니룸 신고 로그 기록 - 간소화 버전 (Field 오류 해결)
@@ -57,14 +42,8 @@ public class HarmonyReportLogService {
 				.reportTime(LocalDateTime.now())
 				.build();
 
-			boolean offered = logQueue.offer(reportLog);
-			if (!offered) {
-				log.error("하모니룸 신고 로그 큐 가득참, 로그 폐기: reportId={}, harmonyId={}", safeReportId, safeHarmonyId);
-				return;
-			}
-
-			if (logQueue.size() >= BATCH_SIZE) {
-				scheduler.execute(this::flushLogQueue);
+			if (!telemetryPipeline.enqueue(INDEX, null, reportLog)) {
+				log.error("하모니룸 신고 로그 폐기: reportId={}, harmonyId={}", safeReportId, safeHarmonyId);
 			}
 
 		} catch (Exception e) {
@@ -72,30 +51,6 @@ public class HarmonyReportLogService {
 		}
 	}
 
-	private void flushIfNeeded() {
-		if (!logQueue.isEmpty()) {
-			flushLogQueue();
-		}
-	}
-	private void flushLogQueue() {
-		List<HarmonyReportLog> batch = new ArrayList<>();
-		logQueue.drainTo(batch, BATCH_SIZE);
-
-		if (batch.isEmpty()) return;
-
-		try {
-			elasticsearchClient.bulk(b -> {
-				for (HarmonyReportLog log : batch) {
-					b.operations(op -> op.index(idx -> idx.index("harmony_reports").document(log)));
-				}
-				return b;
-			});
-			log.info("벌크 하모니룸 신고 로그 저장 완료 ({}건)", batch.size());
-		} catch (Exception e) {
-			log.error("벌크 하모니룸 신고 로그 저장 실패: {}", e.getMessage(), e);
-			// 필요 시 재시도 로직 추가 가능
-		}
-	}
 	/**
 	 * reportId 필드 처리
 	 */
@@ -245,20 +200,12 @@ public class HarmonyReportLogService {
 	}
 
 	/**
-	 * 벌크 신고 로그 저장
+	 * 벌크 신고 로그 저장 (파이프라인이 _bulk로 묶어서 전송)
 	 */
 	public void logMultipleHarmonyReports(List<HarmonyReportLog> reportLogs) {
-		try {
-			for (HarmonyReportLog reportLog : reportLogs) {
-				IndexRequest<HarmonyReportLog> request = IndexRequest.of(i -> i
-					.index("harmony_reports")
-					.document(reportLog)
-				);
-				elasticsearchClient.index(request);
-			}
-			log.info("📊 벌크 하모니룸 신고 로그 저장 완료: {}개", reportLogs.size());
-		} catch (Exception e) {
-			log.error("💥 벌크 신고 로그 저장 실패: {}", e.getMessage());
+		for (HarmonyReportLog reportLog : reportLogs) {
+			telemetryPipeline.enqueue(INDEX, null, reportLog);
 		}
+		log.info("📊 벌크 하모니룸 신고 로그 적재: {}개", reportLogs.size());
 	}
-}
+}
\ No newline at end of file
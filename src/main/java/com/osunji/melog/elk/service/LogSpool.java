@@ -0,0 +1,333 @@
+package com.osunji.melog.elk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 로그 이벤트 로컬 스풀 (append-only, 메모리 매핑 세그먼트)
+ * - 레코드 = [길이 4B][CRC32 4B][JSON {"index","id","doc"}], 길이 0이면 세그먼트의 끝
+ * - append는 매핑된 버퍼에 순차 복사만 (디스크 I/O는 OS가 처리) → 요청 경로 비용은 직렬화 + memcpy
+ * - 세그먼트가 차면 다음 파일로 넘어감, 출고(checkpoint)가 지나간 세그먼트는 삭제 (compaction)
+ * - 재기동 시 마지막 세그먼트를 CRC로 검증하며 끝까지 훑어서 쓰기 위치 복구 (잘린 레코드는 버림)
+ * - 세그먼트 합계가 elk.spool.max-bytes를 넘거나 디스크가 차면 append 거부 → 호출 쪽이 메모리 파이프라인으로
+ * - elk.spool.dir은 재기동 후에도 남는 경로(컨테이너면 볼륨)로 지정해야 함
+ *   → 기본값(java.io.tmpdir)은 컨테이너 재시작 시 사라져서 출고 전 로그가 유실됨, 기동 시 경고
+ */
+@Slf4j
+@Component
+public class LogSpool {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+
+    /** 스풀 위치 (세그먼트 번호, 세그먼트 안 offset) */
+    public record Position(long segment, int offset) {}
+
+    /** 읽은 레코드들 + 다음에 읽을 위치 */
+    public record Batch(List<byte[]> payloads, Position next) {}
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final long maxBytes;
+    private final ObjectMapper objectMapper;
+    private final Counter appendedCounter;
+    private final Counter rejectedCounter;
+
+    // 쓰기 세그먼트 (this 로 보호)
+    private long activeSegment;
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    /** 디스크에 있는 세그먼트 크기 합 (append/출고 스레드 공유) */
+    private final AtomicLong diskBytes = new AtomicLong();
+    /** 용량 초과로 거부 중인지 (상태가 바뀔 때만 로그) */
+    private boolean full;
+    /** 읽기 가능한 끝 - append가 끝난 뒤 갱신 (읽는 쪽과의 happens-before) */
+    private volatile Position committed = new Position(0, 0);
+
+    // 읽기 매핑 (출고 스레드 전용)
+    private long readSegment = -1;
+    private MappedByteBuffer readBuffer;
+
+    public LogSpool(MeterRegistry meterRegistry,
+                    @Value("${elk.spool.dir:${java.io.tmpdir}/melog-spool}") String dir,
+                    @Value("${elk.spool.segment-bytes:16777216}") int segmentBytes,
+                    @Value("${elk.spool.max-bytes:1073741824}") long maxBytes) {
+        this.dir = Path.of(dir);
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = maxBytes;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.appendedCounter = meterRegistry.counter("spool.appended");
+        this.rejectedCounter = meterRegistry.counter("spool.rejected");
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(dir);
+        if (dir.toAbsolutePath().startsWith(Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            log.warn("로그 스풀이 임시 디렉터리에 있음 ({}) - 컨테이너 재시작 시 출고 전 로그 유실, elk.spool.dir을 영속 볼륨으로 지정", dir);
+        }
+        List<Long> segments = segments();
+        activeSegment = segments.isEmpty() ? loadCheckpoint().segment() : segments.get(segments.size() - 1);
+        diskBytes.set((long) (segments.isEmpty() ? 1 : segments.size()) * segmentBytes);
+        map(activeSegment);
+        int offset = recover(activeBuffer);
+        activeBuffer.position(offset);
+        committed = new Position(activeSegment, offset);
+        log.info("로그 스풀 열림: {} (세그먼트 {}, offset {})", dir, activeSegment, offset);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (activeBuffer != null) activeBuffer.force();
+            if (activeChannel != null) activeChannel.close();
+        } catch (IOException e) {
+            log.warn("로그 스풀 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로그 문서 추가
+     * @return false면 스풀에 쓰지 못함 (디스크 오류 등) → 호출 쪽에서 다른 경로로
+     */
+    public boolean append(String index, String id, Object document) {
+        byte[] payload;
+        try {
+            ObjectNode record = objectMapper.createObjectNode();
+            record.put("index", index);
+            record.put("id", id);
+            record.set("doc", objectMapper.valueToTree(document));
+            payload = objectMapper.writeValueAsBytes(record);
+        } catch (Exception e) {
+            rejectedCounter.increment();
+            log.warn("스풀 레코드 직렬화 실패: {}", e.getMessage());
+            return false;
+        }
+        return append(payload);
+    }
+
+    private synchronized boolean append(byte[] payload) {
+        int need = HEADER_BYTES + payload.length;
+        // 끝 표시(길이 0)를 위해 헤더 하나만큼은 항상 남겨 둠
+        if (need + HEADER_BYTES > segmentBytes) {
+            rejectedCounter.increment();
+            log.warn("스풀 레코드가 세그먼트보다 큼: {}B", payload.length);
+            return false;
+        }
+        try {
+            if (activeBuffer.remaining() < need + HEADER_BYTES) {
+                if (diskBytes.get() + segmentBytes > maxBytes) {
+                    rejectedCounter.increment();
+                    if (!full) {
+                        full = true;
+                        log.warn("로그 스풀 용량 초과 ({}B), 출고될 때까지 append 거부", maxBytes);
+                    }
+                    return false;
+                }
+                roll();
+                full = false;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            int pos = activeBuffer.position();
+            activeBuffer.putInt(pos + 4, (int) crc.getValue());
+            activeBuffer.put(pos + HEADER_BYTES, payload);
+            activeBuffer.putInt(pos, payload.length); // 길이를 마지막에 써서 레코드 완성
+            activeBuffer.position(pos + need);
+            committed = new Position(activeSegment, pos + need);
+            appendedCounter.increment();
+            return true;
+        } catch (IOException e) {
+            rejectedCounter.increment();
+            log.warn("스풀 세그먼트 전환 실패: {}", e.getMessage());
+            return false;
+        } catch (InternalError e) {
+            // 매핑된 페이지를 디스크에 못 붙일 때 (디스크 가득 참 등) - 길이를 못 썼으므로 레코드는 미완성으로 남음
+            rejectedCounter.increment();
+            log.warn("스풀 쓰기 실패 (디스크 부족?): {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 페이지 캐시 → 디스크 (출고 주기마다)
+     * - 락은 현재 세그먼트를 집어오는 동안만 → 느린 force 중에도 append는 막히지 않음
+     * - 그 사이 roll되면 이전 세그먼트는 roll에서 이미 force됨
+     */
+    public void force() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            buffer = activeBuffer;
+        }
+        if (buffer != null) buffer.force();
+    }
+
+    //---------------읽기/출고-----------------//
+
+    /** from부터 최대 max개 읽기 (출고 스레드 전용) */
+    public Batch read(Position from, int max) throws IOException {
+        Position end = committed;
+        List<byte[]> payloads = new ArrayList<>();
+        long segment = from.segment();
+        int offset = from.offset();
+        while (payloads.size() < max) {
+            if (segment > end.segment() || (segment == end.segment() && offset >= end.offset())) break;
+            MappedByteBuffer buffer = readBuffer(segment);
+            int length = (buffer != null && offset + HEADER_BYTES <= buffer.limit()) ? buffer.getInt(offset) : 0;
+            if (length <= 0 || offset + HEADER_BYTES + length > buffer.limit()) {
+                // 닫힌 세그먼트의 끝 (또는 이미 지워진 세그먼트) → 다음 세그먼트
+                segment++;
+                offset = 0;
+                continue;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                log.warn("스풀 레코드 CRC 불일치, 세그먼트 {} 나머지 건너뜀 (offset {})", segment, offset);
+                segment++;
+                offset = 0;
+                continue;
+            }
+            payloads.add(payload);
+            offset += HEADER_BYTES + length;
+        }
+        return new Batch(payloads, new Position(segment, offset));
+    }
+
+    /** 출고 완료 위치 저장 + 그 이전 세그먼트 삭제 */
+    public void checkpoint(Position position) throws IOException {
+        Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, position.segment() + " " + position.offset(), StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long keepFrom = Math.min(position.segment(), committed.segment());
+        for (long segment : segments()) {
+            if (segment >= keepFrom) break;
+            if (segment == readSegment) {
+                readSegment = -1;
+                readBuffer = null;
+            }
+            if (Files.deleteIfExists(segmentPath(segment))) diskBytes.addAndGet(-segmentBytes);
+            log.debug("출고 끝난 스풀 세그먼트 삭제: {}", segment);
+        }
+    }
+
+    /** 마지막 출고 위치 (없으면 처음) */
+    public Position loadCheckpoint() {
+        Path file = dir.resolve(CHECKPOINT_FILE);
+        try {
+            if (!Files.exists(file)) return new Position(firstSegment(), 0);
+            String[] parts = Files.readString(file, StandardCharsets.UTF_8).trim().split(" ");
+            return new Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+        } catch (IOException | RuntimeException e) {
+            log.warn("스풀 checkpoint 읽기 실패, 남은 세그먼트 처음부터 출고: {}", e.getMessage());
+            return new Position(firstSegment(), 0);
+        }
+    }
+
+    /** 출고 대기 세그먼트 수 (지표용) */
+    public long backlogSegments(Position shipped) {
+        return committed.segment() - shipped.segment();
+    }
+
+    //---------------세그먼트-----------------//
+
+    private void roll() throws IOException {
+        activeBuffer.force();
+        activeChannel.close();
+        map(activeSegment + 1);
+        diskBytes.addAndGet(segmentBytes);
+        activeSegment++;
+        committed = new Position(activeSegment, 0);
+    }
+
+    private void map(long segment) throws IOException {
+        activeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    private MappedByteBuffer readBuffer(long segment) throws IOException {
+        if (segment != readSegment) {
+            Path path = segmentPath(segment);
+            if (!Files.exists(path)) return null;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                readBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), segmentBytes));
+            }
+            readSegment = segment;
+        }
+        return readBuffer;
+    }
+
+    /** 유효한 레코드 끝 offset (길이 0, 범위 초과, CRC 불일치에서 멈춤) */
+    private int recover(MappedByteBuffer buffer) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length + HEADER_BYTES > buffer.limit()) break;
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                log.warn("스풀 마지막 세그먼트에 잘린 레코드 발견, offset {}부터 덮어씀", offset);
+                buffer.putInt(offset, 0);
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX))
+                    .map(n -> Long.parseLong(n.substring(SEGMENT_PREFIX.length(), n.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long firstSegment() {
+        try {
+            List<Long> segments = segments();
+            return segments.isEmpty() ? 0 : segments.get(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+}
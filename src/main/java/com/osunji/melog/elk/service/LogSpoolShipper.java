@@ -0,0 +1,150 @@
+package com.osunji.melog.elk.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 스풀 → ES 출고
+ * - checkpoint부터 스풀을 따라 읽어 batch-size개씩 _bulk, 배치가 다 반영되면 checkpoint 저장 + 지난 세그먼트 삭제
+ * - 429/5xx가 섞이면 배치 전체를 지수 backoff 후 다시 보냄 (문서 ID가 있어서 중복 없음), 4xx 문서는 버림
+ * - ES가 오래 죽어 있어도 스풀 파일에 계속 쌓이므로 재기동/장애 후에도 이어서 출고
+ * - 지표: spool.shipped / spool.dropped / spool.ship.latency / spool.backlog.segments
+ */
+@Slf4j
+@Service
+public class LogSpoolShipper {
+
+    private static final long BASE_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 300_000;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final LogSpool logSpool;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int batchSize;
+    private final long intervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong backlogSegments = new AtomicLong();
+    private final Counter shippedCounter;
+    private final Counter droppedCounter;
+    private final Timer shipLatency;
+
+    // 출고 스레드 전용
+    private LogSpool.Position shipped;
+    private int failures;
+    private long nextAttemptAt;
+
+    public LogSpoolShipper(@Qualifier("bulkElasticsearchClient") ElasticsearchClient elasticsearchClient,
+                           LogSpool logSpool,
+                           MeterRegistry meterRegistry,
+                           @Value("${elk.spool.batch-size:1000}") int batchSize,
+                           @Value("${elk.spool.interval-ms:1000}") long intervalMillis) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.logSpool = logSpool;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.shippedCounter = meterRegistry.counter("spool.shipped");
+        this.droppedCounter = meterRegistry.counter("spool.dropped");
+        this.shipLatency = meterRegistry.timer("spool.ship.latency");
+        meterRegistry.gauge("spool.backlog.segments", backlogSegments);
+    }
+
+    @PostConstruct
+    public void startScheduler() {
+        shipped = logSpool.loadCheckpoint();
+        scheduler.scheduleWithFixedDelay(this::shipSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    private void shipSafely() {
+        try {
+            logSpool.force();
+            if (System.currentTimeMillis() < nextAttemptAt) return;
+            // 밀린 레코드가 배치 크기만큼 꽉 차 있으면 바로 이어서 출고
+            while (shipOnce() >= batchSize) {
+                // continue
+            }
+        } catch (Exception e) {
+            backoff(e.getMessage());
+        } finally {
+            backlogSegments.set(logSpool.backlogSegments(shipped));
+        }
+    }
+
+    /** 한 배치 출고 - 출고한 레코드 수 (실패하면 0) */
+    int shipOnce() throws IOException {
+        LogSpool.Batch batch = logSpool.read(shipped, batchSize);
+        if (batch.payloads().isEmpty()) {
+            if (!batch.next().equals(shipped)) commit(batch.next());
+            return 0;
+        }
+
+        BulkRequest.Builder br = new BulkRequest.Builder();
+        for (byte[] payload : batch.payloads()) {
+            JsonNode record = objectMapper.readTree(payload);
+            String index = record.path("index").asText();
+            String id = record.path("id").asText();
+            JsonNode doc = record.get("doc");
+            br.operations(op -> op.index(idx -> idx.index(index).id(id).document(doc)));
+        }
+
+        long started = System.nanoTime();
+        BulkResponse response = elasticsearchClient.bulk(br.build());
+        shipLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        int retryable = 0;
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() == null) continue;
+            if (item.status() == 429 || item.status() >= 500) {
+                retryable++;
+            } else {
+                droppedCounter.increment();
+                log.warn("스풀 문서 거부됨: index={}, status={}, reason={}", item.index(), item.status(), item.error().reason());
+            }
+        }
+        if (retryable > 0) {
+            backoff(retryable + "건 재시도 필요");
+            return 0;
+        }
+        shippedCounter.increment(batch.payloads().size());
+        commit(batch.next());
+        failures = 0;
+        nextAttemptAt = 0;
+        return batch.payloads().size();
+    }
+
+    private void commit(LogSpool.Position position) throws IOException {
+        logSpool.checkpoint(position);
+        shipped = position;
+    }
+
+    private void backoff(String reason) {
+        long delay = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(failures, 16));
+        failures++;
+        nextAttemptAt = System.currentTimeMillis() + delay;
+        log.warn("스풀 출고 실패, {}ms 후 재시도: {}", delay, reason);
+    }
+}
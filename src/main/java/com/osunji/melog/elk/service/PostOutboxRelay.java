@@ -0,0 +1,214 @@
+package com.osunji.melog.elk.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.osunji.melog.elk.entity.PostIndex;
+import com.osunji.melog.review.entity.Post;
+import com.osunji.melog.review.entity.PostOutbox;
+import com.osunji.melog.review.repository.PostOutboxRepository;
+import com.osunji.melog.review.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * post_outbox → ES posts 인덱스 릴레이
+ * - 쓰기 요청은 아웃박스에만 기록하고, 여기서 주기적으로 _bulk 반영 (요청 경로에 ES 지연 없음)
+ * - 같은 게시글의 여러 이벤트는 한 번으로 합치고, 릴레이 시점 최신 Post로 문서 ID=postId upsert (멱등)
+ * - 배치는 SKIP LOCKED + lease로 선점 → 여러 인스턴스가 같은 이벤트를 동시에 릴레이하지 않음
+ * - 실패 이벤트는 지수 backoff 후 재시도, max-attempts를 넘기면 failed_at을 찍어 보관 (poison 이벤트 무한 재시도 방지)
+ * - 지표: post_outbox.lag.seconds / pending / parked / relayed / failed / parked.total
+ */
+@Slf4j
+@Service
+public class PostOutboxRelay {
+
+    private static final String POSTS_INDEX = "posts";
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final PostOutboxRepository outboxRepository;
+    private final PostRepository postRepository;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+
+    public PostOutboxRelay(@Qualifier("bulkElasticsearchClient") ElasticsearchClient elasticsearchClient,
+                           PostOutboxRepository outboxRepository,
+                           PostRepository postRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${elk.outbox.batch-size:500}") int batchSize,
+                           @Value("${elk.outbox.interval-ms:2000}") long intervalMillis,
+                           @Value("${elk.outbox.max-attempts:10}") int maxAttempts,
+                           @Value("${elk.outbox.lease-seconds:120}") long leaseSeconds) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.outboxRepository = outboxRepository;
+        this.postRepository = postRepository;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        meterRegistry.gauge("post_outbox.lag.seconds", lagSeconds);
+        meterRegistry.gauge("post_outbox.pending", pending);
+        meterRegistry.gauge("post_outbox.parked", parked);
+        this.relayedCounter = meterRegistry.counter("post_outbox.relayed");
+        this.failedCounter = meterRegistry.counter("post_outbox.failed");
+        this.parkedCounter = meterRegistry.counter("post_outbox.parked.total");
+    }
+
+    @PostConstruct
+    public void startScheduler() {
+        scheduler.scheduleWithFixedDelay(this::relaySafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
+
+    private void relaySafely() {
+        try {
+            // 밀린 이벤트가 배치 크기만큼 꽉 차 있으면 바로 이어서 처리
+            while (relayOnce() >= batchSize) {
+                // continue
+            }
+        } catch (Exception e) {
+            log.warn("post_outbox 릴레이 실패: {}", e.getMessage());
+        } finally {
+            updateLag();
+        }
+    }
+
+    /** 한 배치 처리 - 처리한 이벤트 수 반환 */
+    int relayOnce() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<PostOutbox> events = new ArrayList<>(outboxRepository.claimDue(now, now.plusSeconds(leaseSeconds), batchSize));
+        if (events.isEmpty()) return 0;
+        events.sort(Comparator.comparing(PostOutbox::getId));
+
+        // 게시글별 마지막 이벤트만 반영 (나머지는 같은 결과라 함께 삭제)
+        Map<UUID, List<PostOutbox>> byPost = events.stream()
+                .collect(Collectors.groupingBy(PostOutbox::getPostId, LinkedHashMap::new, Collectors.toList()));
+        Map<UUID, Post> posts = postRepository.findAllWithUserByIdIn(new ArrayList<>(byPost.keySet())).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        BulkRequest.Builder br = new BulkRequest.Builder();
+        for (UUID postId : byPost.keySet()) {
+            Post post = posts.get(postId);
+            if (post != null) {
+                PostIndex doc = toDocument(post);
+                br.operations(op -> op.index(idx -> idx.index(POSTS_INDEX).id(postId.toString()).document(doc)));
+            } else {
+                // 삭제됐거나 DELETE 이벤트 → 문서 제거 (없으면 404, 성공으로 취급)
+                br.operations(op -> op.delete(d -> d.index(POSTS_INDEX).id(postId.toString())));
+            }
+        }
+
+        BulkResponse resp;
+        try {
+            resp = elasticsearchClient.bulk(br.build());
+        } catch (Exception e) {
+            backoff(events);
+            throw e;
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<PostOutbox> failed = new ArrayList<>();
+        for (BulkResponseItem item : resp.items()) {
+            List<PostOutbox> group = byPost.get(UUID.fromString(item.id()));
+            if (group == null) continue;
+            boolean ok = item.error() == null || item.status() == 404;
+            if (ok) {
+                group.forEach(e -> done.add(e.getId()));
+            } else {
+                log.warn("[postOutbox] error id={}, reason={}", item.id(), item.error().reason());
+                failed.addAll(group);
+            }
+        }
+
+        if (!done.isEmpty()) outboxRepository.deleteByIdIn(done);
+        if (!failed.isEmpty()) backoff(failed);
+        relayedCounter.increment(done.size());
+        return events.size();
+    }
+
+    /** 시도 횟수별 지수 backoff (2^n초, 최대 5분), 이번이 max-attempts번째 실패면 보관 */
+    private void backoff(List<PostOutbox> events) {
+        failedCounter.increment(events.size());
+        Map<Integer, List<Long>> byAttempts = new HashMap<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (PostOutbox e : events) {
+            if (e.getAttempts() + 1 >= maxAttempts) {
+                exhausted.add(e.getId());
+            } else {
+                byAttempts.computeIfAbsent(e.getAttempts(), k -> new ArrayList<>()).add(e.getId());
+            }
+        }
+        if (!exhausted.isEmpty()) {
+            outboxRepository.park(exhausted, LocalDateTime.now());
+            parkedCounter.increment(exhausted.size());
+            log.error("post_outbox 재시도 {}회 초과, 보관 처리: ids={}", maxAttempts, exhausted);
+        }
+        byAttempts.forEach((attempts, ids) -> {
+            long delay = Math.min(MAX_BACKOFF_SECONDS, 1L << Math.min(attempts + 1, 20));
+            outboxRepository.markFailed(ids, LocalDateTime.now().plusSeconds(delay));
+        });
+    }
+
+    private void updateLag() {
+        try {
+            LocalDateTime oldest = outboxRepository.findOldestCreatedAt();
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+            pending.set(outboxRepository.countByFailedAtIsNull());
+            parked.set(outboxRepository.countByFailedAtIsNotNull());
+        } catch (Exception e) {
+            log.debug("post_outbox lag 측정 실패: {}", e.getMessage());
+        }
+    }
+
+    private static PostIndex toDocument(Post post) {
+        return PostIndex.builder()
+                .id(post.getId().toString())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .tags(post.getTags())
+                .userId(post.getUser().getId().toString())
+                .likeCount(post.getLikeCount())
+                .createdAt(post.getCreatedAt())
+                .mediaType(post.getMediaType())
+                .mediaUrl(post.getMediaUrl())
+                .build();
+    }
+}
@@ -1,44 +1,30 @@
 package com.osunji.melog.elk.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
 import com.osunji.melog.elk.entity.SearchLog;
+import com.osunji.melog.feed.service.UserSignalService;
+import com.osunji.melog.search.service.LiveSearchTermService;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchLogService {
 
-	private final ElasticsearchClient elasticsearchClient;
-	private final BlockingQueue<SearchLog> logQueue = new LinkedBlockingQueue<>(500);
-	private final int BATCH_SIZE = 100;
+	private static final String INDEX = "search_logs";
 
-	// 재시도 큐 대신 실패 로그 ID(또는 해시) 담는 단순 Set으로 중복재시도 방지
-	private final java.util.Set<String> retryingLogIds = ConcurrentHashMap.newKeySet();
+	private final LogSpool logSpool;
+	private final TelemetryPipeline telemetryPipeline;
+	private final UserSignalService userSignalService;
+	private final LiveSearchTermService liveSearchTermService;
 
-	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-
-	@PostConstruct
-	public void startScheduler() {
-		scheduler.scheduleAtFixedRate(this::flushIfNeeded, 5, 5, TimeUnit.SECONDS);
-	}
 	public void logSearch(String query, String category, String userId) {
 		try {
 			SearchLog logDoc = SearchLog.builder()
@@ -49,60 +35,24 @@ public class SearchLogService {
 				.userId(processUserId(userId))
 				.build();
 
-			if (!logQueue.offer(logDoc)) {
-				log.warn("검색 로그 큐 가득 참, 폐기: query='{}', category='{}', userId='{}'",
+			if (!ship(logDoc)) {
+				log.warn("검색 로그 폐기: query='{}', category='{}', userId='{}'",
 					logDoc.getQuery(), logDoc.getCategory(), logDoc.getUserId());
-				return;
-			}
-
-			if (logQueue.size() >= BATCH_SIZE) {
-				scheduler.execute(this::flushLogQueue);
 			}
+			// 캐시된 추천 신호 프로필에도 바로 반영 (ES 재집계 없이)
+			userSignalService.onSearch(logDoc.getUserId(), logDoc.getQuery(), logDoc.getCategory());
+			// 실시간 인기 검색어 분 버킷에도 반영
+			liveSearchTermService.record(logDoc.getQuery());
 		} catch (Exception e) {
 			log.error("검색 로그 기록 실패: query='{}', category='{}', error={}",
 				query, category, e.getMessage());
 		}
 	}
-	private void flushIfNeeded() {
-		if (!logQueue.isEmpty()) {
-			flushLogQueue();
-		}
+	/** 로컬 스풀에 기록 (재기동/ES 장애에도 유지), 스풀에 못 쓰면 메모리 파이프라인으로 */
+	private boolean ship(SearchLog doc) {
+		return logSpool.append(INDEX, doc.getId(), doc) || telemetryPipeline.enqueue(INDEX, doc.getId(), doc);
 	}
 
-	private void flushLogQueue() {
-		List<SearchLog> batch = new ArrayList<>();
-		logQueue.drainTo(batch, BATCH_SIZE);
-
-		if (batch.isEmpty()) return;
-
-		try {
-			elasticsearchClient.bulk(b -> {
-				for (SearchLog log : batch) {
-					b.operations(op -> op.index(idx -> idx.index("search_logs").document(log)));
-				}
-				return b;
-			});
-			log.info("벌크 검색 로그 저장 성공 ({}건)", batch.size());
-
-			// 성공했으면 재시도 세트에서 ID 제거
-			batch.forEach(l -> retryingLogIds.remove(l.getId()));
-
-		} catch (Exception e) {
-			log.error("벌크 검색 로그 저장 실패: {}", e.getMessage());
-
-			// 재시도 실패한 로그만 한 번씩 재시도 대상에 넣기
-			for (SearchLog log : batch) {
-				if (!retryingLogIds.contains(log.getId())) {
-					retryingLogIds.add(log.getId());
-					// 재시도 위해 큐에 넣기(실패 로그만 한 번만 다시 시도)
-					boolean reoffered = logQueue.offer(log);
-					if (!reoffered) {
-					}
-				} else {
-				}
-			}
-		}
-	}
 	/**
 	 * query 필드 처리 (한글 지원)
 	 */
@@ -167,20 +117,12 @@ public class SearchLogService {
 	}
 
 	/**
-	 * 벌크 검색 로그 저장
+	 * 벌크 검색 로그 저장 (파이프라인이 _bulk로 묶어서 전송)
 	 */
 	public void logMultipleSearches(List<SearchLog> searchLogs) {
-		try {
-			for (SearchLog searchLog : searchLogs) {
-				IndexRequest<SearchLog> request = IndexRequest.of(i -> i
-					.index("search_logs")
-					.document(searchLog)
-				);
-				elasticsearchClient.index(request);
-			}
-			log.info("벌크 검색 로그 저장 완료: {}개", searchLogs.size());
-		} catch (Exception e) {
-			log.error("벌크 검색 로그 저장 실패: {}", e.getMessage());
+		for (SearchLog searchLog : searchLogs) {
+			if (searchLog.getId() == null) searchLog.setId(UUID.randomUUID().toString());
+			ship(searchLog);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,487 @@
+package com.osunji.melog.elk.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ES 로그 수집 파이프라인 (user_logs / search_logs / harmony_reports 공용)
+ * - 로그 호출은 lock-free 링 버퍼에 넣기만 함 (요청 경로에서 ES 호출 없음)
+ * - 배치 크기가 차거나 flush 주기가 되면 _bulk 비동기 전송, 동시 전송은 max-in-flight개까지
+ * - 실패 배치는 지수 backoff 재시도, 버퍼가 가득 차거나 재시도를 다 쓰면 디스크 spill → ES 회복 후 재전송
+ * - spill 파일 쓰기는 파이프라인(스케줄러) 스레드에서만 → 요청 스레드/ES 클라이언트 I/O 스레드는 spill 대기열에 넣기만 함
+ * - 장애 후 새 로그가 없어도 probe-interval마다 spill 재전송을 시도해서 회복을 확인
+ * - 문서 ID를 항상 붙여 보내므로 재전송돼도 문서가 중복되지 않음
+ * - 지표: telemetry.enqueued / flushed / dropped / spilled / retried, telemetry.flush.latency
+ */
+@Slf4j
+@Service
+public class TelemetryPipeline {
+
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+    private static final String SPILL_FILE = "spill.jsonl";
+    private static final String REPLAY_FILE = "replay.jsonl";
+
+    /** 파이프라인 한 건 - 인덱스 + 문서 ID + 문서 */
+    public record Event(String index, String id, Object document) {}
+
+    /** 재시도 대기 배치 */
+    private record Retry(List<Event> events, int attempt, long dueAt) {}
+
+    private final ElasticsearchAsyncClient asyncClient;
+    private final ObjectMapper objectMapper;
+    private final MpscRingBuffer<Event> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxInFlight;
+    private final int maxAttempts;
+    private final long spillMaxBytes;
+    private final Path spillDir;
+    private final long probeIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Semaphore inFlight;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Queue<Retry> retries = new ConcurrentLinkedQueue<>();
+    private final AtomicLong retryingEvents = new AtomicLong();
+    /** 디스크에 쓰일 차례를 기다리는 이벤트 (스케줄러 스레드가 spill 파일로 옮김) */
+    private final Queue<List<Event>> pendingSpills = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingSpillEvents = new AtomicLong();
+    private final AtomicBoolean spillRequested = new AtomicBoolean();
+    private final Object spillLock = new Object();
+    private volatile boolean healthy = true;
+    /** 장애 중 다음 재전송 시도 시각 (스케줄러 스레드 전용) */
+    private long nextProbeAt;
+    /** spill 재전송 중인 파일 (스케줄러 스레드 전용) */
+    private BufferedReader replayReader;
+
+    private final Counter enqueuedCounter;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter retriedCounter;
+    private final Timer flushLatency;
+
+    public TelemetryPipeline(@Qualifier("bulkElasticsearchClient") ElasticsearchClient elasticsearchClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${elk.telemetry.buffer-size:8192}") int bufferSize,
+                             @Value("${elk.telemetry.batch-size:500}") int batchSize,
+                             @Value("${elk.telemetry.flush-interval-ms:1000}") long flushIntervalMillis,
+                             @Value("${elk.telemetry.max-in-flight:2}") int maxInFlight,
+                             @Value("${elk.telemetry.max-attempts:6}") int maxAttempts,
+                             @Value("${elk.telemetry.spill-dir:${java.io.tmpdir}/melog-telemetry}") String spillDir,
+                             @Value("${elk.telemetry.spill-max-bytes:268435456}") long spillMaxBytes,
+                             @Value("${elk.telemetry.probe-interval-ms:30000}") long probeIntervalMillis) {
+        // 같은 전송 계층(커넥션 풀) 재사용, 응답 처리는 HTTP 클라이언트 I/O 스레드에서
+        this.asyncClient = new ElasticsearchAsyncClient(elasticsearchClient._transport(), elasticsearchClient._transportOptions());
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxInFlight = maxInFlight;
+        this.maxAttempts = maxAttempts;
+        this.spillDir = Path.of(spillDir);
+        this.spillMaxBytes = spillMaxBytes;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        this.enqueuedCounter = meterRegistry.counter("telemetry.enqueued");
+        this.flushedCounter = meterRegistry.counter("telemetry.flushed");
+        this.droppedCounter = meterRegistry.counter("telemetry.dropped");
+        this.spilledCounter = meterRegistry.counter("telemetry.spilled");
+        this.retriedCounter = meterRegistry.counter("telemetry.retried");
+        this.flushLatency = meterRegistry.timer("telemetry.flush.latency");
+        meterRegistry.gauge("telemetry.buffer.size", buffer, MpscRingBuffer::size);
+        meterRegistry.gauge("telemetry.retry.pending", retryingEvents);
+        meterRegistry.gauge("telemetry.spill.pending", pendingSpillEvents);
+    }
+
+    @PostConstruct
+    public void startScheduler() {
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 이벤트는 spill 파일로 (재기동 후 재전송) */
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            if (inFlight.tryAcquire(maxInFlight, 5, TimeUnit.SECONDS)) {
+                inFlight.release(maxInFlight);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writePendingSpills();
+        List<Event> rest = new ArrayList<>();
+        for (Retry retry; (retry = retries.poll()) != null; ) {
+            rest.addAll(retry.events());
+        }
+        for (Event event; (event = buffer.poll()) != null; ) {
+            rest.add(event);
+        }
+        if (!rest.isEmpty()) {
+            spill(rest);
+            log.info("종료 전 미전송 로그 {}건 spill", rest.size());
+        }
+    }
+
+    /**
+     * 로그 문서 적재 - id가 null이면 새로 발급
+     * @return false면 버퍼와 spill 대기열이 모두 가득 차서 버려짐
+     */
+    public boolean enqueue(String index, String id, Object document) {
+        Event event = new Event(index, id != null ? id : UUID.randomUUID().toString(), document);
+        if (!buffer.offer(event)) {
+            // 버퍼가 가득 참 (ES 지연/장애) → 버리지 않고 디스크로 (쓰기는 파이프라인 스레드에서)
+            return requestSpill(List.of(event));
+        }
+        enqueuedCounter.increment();
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    //---------------전송-----------------//
+
+    /** 스케줄러 스레드 - 밀린 spill 쓰기 후, 전송 슬롯이 남는 동안 재시도 → 버퍼 → spill 순으로 배치 전송 */
+    private void flush() {
+        flushRequested.set(false);
+        writePendingSpills();
+        try {
+            while (inFlight.tryAcquire()) {
+                List<Event> batch;
+                int attempt = 0;
+                Retry retry = dueRetry();
+                if (retry != null) {
+                    batch = retry.events();
+                    attempt = retry.attempt();
+                } else {
+                    batch = drain();
+                    if (batch.isEmpty() && retries.isEmpty() && (healthy || probeDue())) {
+                        batch = readSpill();
+                    }
+                }
+                if (batch.isEmpty()) {
+                    inFlight.release();
+                    return;
+                }
+                send(batch, attempt);
+            }
+        } catch (Exception e) {
+            log.warn("로그 flush 실패: {}", e.getMessage());
+        }
+    }
+
+    private void send(List<Event> batch, int attempt) {
+        long started = System.nanoTime();
+        CompletableFuture<BulkResponse> future;
+        try {
+            BulkRequest.Builder br = new BulkRequest.Builder();
+            for (Event event : batch) {
+                br.operations(op -> op.index(idx -> idx.index(event.index()).id(event.id()).document(event.document())));
+            }
+            future = asyncClient.bulk(br.build());
+        } catch (Exception e) {
+            inFlight.release();
+            failed(batch, attempt, e.getMessage());
+            return;
+        }
+        future.whenComplete((response, error) -> {
+            inFlight.release();
+            flushLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (error != null) {
+                failed(batch, attempt, error.getMessage());
+            } else {
+                completed(batch, attempt, response);
+            }
+        });
+    }
+
+    /** 문서별 결과 - 429/5xx만 재시도, 매핑 오류 등 4xx는 다시 보내도 실패하므로 버림 */
+    private void completed(List<Event> batch, int attempt, BulkResponse response) {
+        List<Event> retryable = new ArrayList<>();
+        int ok = 0;
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            if (item.error() == null) {
+                ok++;
+            } else if (item.status() == 429 || item.status() >= 500) {
+                retryable.add(batch.get(i));
+            } else {
+                droppedCounter.increment();
+                log.warn("로그 문서 거부됨: index={}, status={}, reason={}", item.index(), item.status(), item.error().reason());
+            }
+        }
+        flushedCounter.increment(ok);
+        if (retryable.isEmpty()) {
+            healthy = true;
+        } else {
+            failed(retryable, attempt, "일부 문서 재시도 필요 (" + retryable.size() + "건)");
+        }
+    }
+
+    private void failed(List<Event> events, int attempt, String reason) {
+        healthy = false;
+        int next = attempt + 1;
+        if (next >= maxAttempts || retryingEvents.get() + events.size() > buffer.capacity()) {
+            log.warn("로그 전송 실패, spill: {}건 ({})", events.size(), reason);
+            requestSpill(events);
+            return;
+        }
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 16));
+        retryingEvents.addAndGet(events.size());
+        retries.add(new Retry(events, next, System.currentTimeMillis() + backoff));
+        retriedCounter.increment(events.size());
+        log.warn("로그 전송 실패, {}ms 후 재시도 ({}회째): {}건 ({})", backoff, next, events.size(), reason);
+    }
+
+    /** 장애 중이면 probe-interval마다 한 번 spill 재전송을 시도 (성공하면 completed에서 healthy 복귀) */
+    private boolean probeDue() {
+        long now = System.currentTimeMillis();
+        if (now < nextProbeAt) return false;
+        nextProbeAt = now + probeIntervalMillis;
+        return true;
+    }
+
+    private Retry dueRetry() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Retry> it = retries.iterator(); it.hasNext(); ) {
+            Retry retry = it.next();
+            if (retry.dueAt() <= now) {
+                it.remove();
+                retryingEvents.addAndGet(-retry.events().size());
+                return retry;
+            }
+        }
+        return null;
+    }
+
+    private List<Event> drain() {
+        List<Event> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        for (Event event; batch.size() < batchSize && (event = buffer.poll()) != null; ) {
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    //---------------spill-----------------//
+
+    /** spill 대기열에 넣고 파이프라인 스레드에 쓰기 요청 (대기열도 버퍼 크기만큼 차 있으면 버림) */
+    private boolean requestSpill(List<Event> events) {
+        if (pendingSpillEvents.addAndGet(events.size()) > buffer.capacity()) {
+            pendingSpillEvents.addAndGet(-events.size());
+            droppedCounter.increment(events.size());
+            log.error("spill 대기열 가득 참, 로그 {}건 폐기", events.size());
+            return false;
+        }
+        pendingSpills.add(events);
+        if (spillRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::writePendingSpills);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - stop()에서 남은 대기열을 씀
+                spillRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    /** 스케줄러 스레드(또는 종료 시) - spill 대기열을 파일에 씀 */
+    private void writePendingSpills() {
+        spillRequested.set(false);
+        List<Event> events = new ArrayList<>();
+        for (List<Event> pending; (pending = pendingSpills.poll()) != null; ) {
+            events.addAll(pending);
+        }
+        if (events.isEmpty()) return;
+        pendingSpillEvents.addAndGet(-events.size());
+        spill(events);
+    }
+
+    /** 이벤트를 spill 파일 끝에 JSON 한 줄씩 추가 (최대 크기를 넘으면 버림) */
+    private boolean spill(List<Event> events) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDir);
+                Path file = spillDir.resolve(SPILL_FILE);
+                StringBuilder sb = new StringBuilder();
+                for (Event event : events) {
+                    ObjectNode line = objectMapper.createObjectNode();
+                    line.put("index", event.index());
+                    line.put("id", event.id());
+                    line.set("doc", objectMapper.valueToTree(event.document()));
+                    sb.append(objectMapper.writeValueAsString(line)).append('\n');
+                }
+                byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+                long size = Files.exists(file) ? Files.size(file) : 0;
+                if (size + bytes.length > spillMaxBytes) {
+                    droppedCounter.increment(events.size());
+                    log.error("spill 파일 최대 크기 초과, 로그 {}건 폐기", events.size());
+                    return false;
+                }
+                Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                spilledCounter.increment(events.size());
+                return true;
+            } catch (IOException e) {
+                droppedCounter.increment(events.size());
+                log.error("spill 실패, 로그 {}건 폐기: {}", events.size(), e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /** spill 파일을 재전송 파일로 넘겨서 배치 크기만큼 읽음 (다 읽으면 삭제) */
+    private List<Event> readSpill() {
+        Path replay = spillDir.resolve(REPLAY_FILE);
+        try {
+            if (replayReader == null) {
+                if (!Files.exists(replay)) {
+                    synchronized (spillLock) {
+                        Path spill = spillDir.resolve(SPILL_FILE);
+                        if (!Files.exists(spill)) return List.of();
+                        Files.move(spill, replay, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                }
+                replayReader = Files.newBufferedReader(replay, StandardCharsets.UTF_8);
+                log.info("spill 로그 재전송 시작");
+            }
+            List<Event> batch = new ArrayList<>();
+            String line;
+            while (batch.size() < batchSize && (line = replayReader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    batch.add(new Event(node.path("index").asText(), node.path("id").asText(), node.get("doc")));
+                } catch (IOException e) {
+                    droppedCounter.increment();
+                    log.warn("spill 로그 한 줄 파싱 실패, 건너뜀: {}", e.getMessage());
+                }
+            }
+            if (batch.size() < batchSize) {
+                replayReader.close();
+                replayReader = null;
+                Files.deleteIfExists(replay);
+            }
+            return batch;
+        } catch (IOException e) {
+            log.warn("spill 로그 읽기 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    //---------------링 버퍼-----------------//
+
+    /**
+     * 고정 크기 MPSC 링 버퍼 (여러 요청 스레드가 넣고, 스케줄러 스레드 하나만 꺼냄)
+     * - 슬롯마다 시퀀스를 둬서 생산자는 CAS 한 번으로 자리를 잡고, 락 없이 넣음
+     */
+    static final class MpscRingBuffer<E> {
+        private final AtomicReferenceArray<E> slots;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong head = new AtomicLong();
+
+        MpscRingBuffer(int capacity) {
+            int size = 1 << (32 - Integer.numberOfLeadingZeros(Math.max(2, capacity) - 1));
+            this.slots = new AtomicReferenceArray<>(size);
+            this.sequences = new AtomicLongArray(size);
+            this.mask = size - 1;
+            for (int i = 0; i < size; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        /** 가득 찼으면 false */
+        boolean offer(E element) {
+            long pos = tail.get();
+            int idx;
+            while (true) {
+                idx = (int) (pos & mask);
+                long diff = sequences.get(idx) - pos;
+                if (diff == 0) {
+                    if (tail.compareAndSet(pos, pos + 1)) break;
+                    pos = tail.get();
+                } else if (diff < 0) {
+                    return false;
+                } else {
+                    pos = tail.get();
+                }
+            }
+            slots.set(idx, element);
+            sequences.set(idx, pos + 1);
+            return true;
+        }
+
+        /** 소비자 스레드 전용 - 비었으면 null */
+        E poll() {
+            long pos = head.get();
+            int idx = (int) (pos & mask);
+            if (sequences.get(idx) != pos + 1) return null;
+            E element = slots.get(idx);
+            slots.set(idx, null);
+            sequences.set(idx, pos + mask + 1);
+            head.lazySet(pos + 1);
+            return element;
+        }
+
+        int size() {
+            return (int) Math.max(0, tail.get() - head.get());
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.osunji.melog.elk.service;
+
+import com.osunji.melog.elk.entity.UserLogDaily;
+import com.osunji.melog.elk.repository.ELKUserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user_logs → user_logs_daily 일별 요약 작업
+ * - 매시간 닫힌 날(UserLog.ZONE, 자정 + 유예 경과) 중 요약이 없는 날을 계산해서 저장
+ * - 최근 reroll-days일은 요약이 있어도 다시 계산, 달라졌을 때만 덮어씀
+ *   → 스풀/재전송으로 늦게 도착한 로그도 반영 (그보다 더 늦은 로그는 반영 안 됨)
+ * - 처음 배포 시 backfill-days만큼 지난 날을 채움
+ */
+@Slf4j
+@Service
+public class UserLogRollupService {
+
+    private final ELKUserRepository elkUserRepository;
+    private final int backfillDays;
+    private final int rerollDays;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public UserLogRollupService(ELKUserRepository elkUserRepository,
+                                @Value("${elk.rollup.backfill-days:90}") int backfillDays,
+                                @Value("${elk.rollup.reroll-days:3}") int rerollDays) {
+        this.elkUserRepository = elkUserRepository;
+        this.backfillDays = backfillDays;
+        this.rerollDays = rerollDays;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.execute(elkUserRepository::ensureIndices);
+        scheduler.scheduleWithFixedDelay(this::rollupSafely, 0, 1, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void rollupSafely() {
+        try {
+            int written = rollupClosedDays();
+            if (written > 0) log.info("user_logs 일별 요약 {}일 저장", written);
+        } catch (Exception e) {
+            log.warn("user_logs 일별 요약 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    /** 요약이 없는 닫힌 날 + 최근 rerollDays일 계산/저장 - 저장한 날 수 */
+    int rollupClosedDays() throws IOException {
+        LocalDate open = elkUserRepository.firstOpenDay();
+        LocalDate from = open.minusDays(backfillDays);
+        LocalDate rerollFrom = open.minusDays(rerollDays);
+        Map<LocalDate, UserLogDaily> done = elkUserRepository.findDaily(from, open);
+
+        int written = 0;
+        for (LocalDate day = from; day.isBefore(open); day = day.plusDays(1)) {
+            UserLogDaily saved = done.get(day);
+            if (saved != null && day.isBefore(rerollFrom)) continue;
+            UserLogDaily daily = elkUserRepository.computeDaily(day);
+            if (daily.equals(saved)) continue;
+            elkUserRepository.saveDaily(daily);
+            written++;
+        }
+        return written;
+    }
+}
@@ -1,47 +1,26 @@
 package com.osunji.melog.elk.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
 import com.osunji.melog.elk.entity.UserLog;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserLogService {
 
-    private final ElasticsearchClient elasticsearchClient;
-    private final BlockingQueue<UserLog> logQueue = new LinkedBlockingQueue<>(500);
-    private final BlockingQueue<UserLog> retryQueue = new LinkedBlockingQueue<>(2000);
+    private static final String INDEX = "user_logs";
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-    private final int BATCH_SIZE = 100;
-    private final int RETRY_MAX_ATTEMPTS = 5;
-
-
-    @PostConstruct
-    public void startScheduler() {
-        // 주기적 기본 로그 플러시
-        scheduler.scheduleAtFixedRate(this::flushIfNeeded, 5, 5, TimeUnit.SECONDS);
-        // 주기적 재전송 큐 플러시
-        scheduler.scheduleAtFixedRate(this::flushRetryQueue, 10, 10, TimeUnit.SECONDS);
-    }
+    private final LogSpool logSpool;
+    private final TelemetryPipeline telemetryPipeline;
 
     /**
      * 유저 이벤트 로그 기록 - null/빈값 안전 처리ddd
@@ -52,77 +31,20 @@ public class UserLogService {
                 .id(UUID.randomUUID().toString())
                 .userId(processUserId(userId))
                 .eventType(processEventType(eventType))
-                .eventTime(LocalDateTime.now())
+                .eventTime(LocalDateTime.now(UserLog.ZONE))
                 .ip(processIp(ip))
                 .userAgent(processUserAgent(userAgent))
                 .metaJson(processMetaJson(metaJson))
                 .build();
 
-            if (!logQueue.offer(logDoc)) {
-                log.error("로그 큐 가득 참, 로그 폐기: userId={}, eventType={}", logDoc.getUserId(), logDoc.getEventType());
-                return;
-            }
-
-            if (logQueue.size() >= BATCH_SIZE) {
-                scheduler.execute(this::flushLogQueue);
+            if (!ship(logDoc)) {
+                log.error("유저 로그 폐기: userId={}, eventType={}", logDoc.getUserId(), logDoc.getEventType());
             }
         } catch (Exception e) {
             log.error("유저 로그 기록 실패: userId='{}', eventType='{}', error={}",
                 userId, eventType, e.getMessage(), e);
         }
     }
-    private void flushIfNeeded() {
-        if (!logQueue.isEmpty()) {
-            flushLogQueue();
-        }
-    }
-
-    private void flushLogQueue() {
-        List<UserLog> batch = new ArrayList<>();
-        logQueue.drainTo(batch, BATCH_SIZE);
-
-        if (batch.isEmpty()) return;
-
-        try {
-            elasticsearchClient.bulk(b -> {
-                for (UserLog log : batch) {
-                    b.operations(op -> op.index(idx -> idx.index("user_logs").document(log)));
-                }
-                return b;
-            });
-            log.info("벌크 로그 저장 성공 ({}건)", batch.size());
-        } catch (Exception e) {
-            log.error("벌크 로그 저장 실패: {}, 재전송 큐에 적재", e.getMessage());
-            // 실패한 로그는 retry 큐에 적재
-            for (UserLog log : batch) {
-                if (!retryQueue.offer(log)) {
-                }
-            }
-        }
-    }
-    private void flushRetryQueue() {
-        List<UserLog> retryBatch = new ArrayList<>();
-        retryQueue.drainTo(retryBatch, BATCH_SIZE);
-
-        if (retryBatch.isEmpty()) return;
-
-        try {
-            elasticsearchClient.bulk(b -> {
-                for (UserLog log : retryBatch) {
-                    b.operations(op -> op.index(idx -> idx.index("user_logs").document(log)));
-                }
-                return b;
-            });
-            log.info("재전송 큐 벌크 저장 성공 ({}건)", retryBatch.size());
-        } catch (Exception e) {
-            log.error("재전송 큐 벌크 저장 실패: {}", e.getMessage(), e);
-            // 재전송 실패 시 다시 큐에 적재 (백오프 재시도 정책 필요)
-            for (UserLog log : retryBatch) {
-                if (!retryQueue.offer(log)) {
-                }
-            }
-        }
-    }
     /* ===================== 편의 메서드들 (필요 시 선택 사용) ===================== */
 
     public void logLogin(String userId, String ip, String userAgent, String provider) {
@@ -158,28 +80,28 @@ public class UserLogService {
     }
 
     /**
-     * 벌크 유저 로그 저장 (간단 루프; 대량이면 Bulk API 별도 구성 권장)
+     * 벌크 유저 로그 저장 (파이프라인이 _bulk로 묶어서 전송)
      */
     public void logMultipleUserEvents(List<UserLog> logs) {
-        try {
-            for (UserLog doc : logs) {
-                UserLog safe = UserLog.builder()
-                        .id(doc.getId() != null ? doc.getId() : UUID.randomUUID().toString())
-                        .userId(processUserId(doc.getUserId()))
-                        .eventType(processEventType(doc.getEventType()))
-                        .eventTime(doc.getEventTime() != null ? doc.getEventTime() : LocalDateTime.now())
-                        .ip(processIp(doc.getIp()))
-                        .userAgent(processUserAgent(doc.getUserAgent()))
-                        .metaJson(processMetaJson(doc.getMetaJson()))
-                        .build();
-
-                IndexRequest<UserLog> req = IndexRequest.of(i -> i.index("user_logs").document(safe));
-                elasticsearchClient.index(req);
-            }
-        } catch (Exception e) {
+        for (UserLog doc : logs) {
+            UserLog safe = UserLog.builder()
+                    .id(doc.getId() != null ? doc.getId() : UUID.randomUUID().toString())
+                    .userId(processUserId(doc.getUserId()))
+                    .eventType(processEventType(doc.getEventType()))
+                    .eventTime(doc.getEventTime() != null ? doc.getEventTime() : LocalDateTime.now(UserLog.ZONE))
+                    .ip(processIp(doc.getIp()))
+                    .userAgent(processUserAgent(doc.getUserAgent()))
+                    .metaJson(processMetaJson(doc.getMetaJson()))
+                    .build();
+            ship(safe);
         }
     }
 
+    /** 로컬 스풀에 기록 (재기동/ES 장애에도 유지), 스풀에 못 쓰면 메모리 파이프라인으로 */
+    private boolean ship(UserLog doc) {
+        return logSpool.append(INDEX, doc.getId(), doc) || telemetryPipeline.enqueue(INDEX, doc.getId(), doc);
+    }
+
     /* ============================= 필드 처리 ============================= */
 
     private String processUserId(String userId) {
@@ -7,7 +7,6 @@ import com.osunji.melog.feed.service.RecommendationFacade;
 
 import com.osunji.melog.feed.dto.FeedResponse;
 import com.osunji.melog.global.security.JwtAuthFilter;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,13 +21,11 @@ public class FeedController {
     @GetMapping("/recommend")
     public ResponseEntity<FeedResponse> recommend(
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) List<String> seen,
-            HttpServletRequest request
+            @RequestAttribute(JwtAuthFilter.USER_ID_ATTR) UUID userId
     ) {
-        String userIdStr = (String) request.getAttribute(JwtAuthFilter.USER_ID_ATTR);
-        UUID userId = UUID.fromString(userIdStr);
-
-        FeedResponse response = feedFacade.recommend(userId, size, (seen == null ? List.of() : seen));
+        FeedResponse response = feedFacade.recommend(userId, size, cursor, (seen == null ? List.of() : seen));
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import java.util.UUID;
 @Builder
 public class FeedResponse {
     private List<FeedItem> results;
+    private String nextCursor;          // 다음 페이지 cursor (후보 풀 소진 시 null)
 
     @Getter
     @Builder
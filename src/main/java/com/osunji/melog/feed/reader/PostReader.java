@@ -33,7 +33,7 @@ public class PostReader implements com.osunji.melog.feed.repository.PostReader {
                         v -> safeToInt(v.getCnt())
                 ));
 
-        // 3) 매핑: 좋아요 수는 컬렉션 size, 태그는 JSON 컬럼 그대로
+        // 3) 매핑: 좋아요 수는 post_likes 집계가 반영된 like_count 컬럼 (likes 컬렉션 초기화 없음), 태그는 JSON 컬럼 그대로
         return posts.stream().collect(Collectors.toMap(
                 Post::getId,
                 p -> new com.osunji.melog.feed.repository.PostReader.PostDetail(
@@ -41,16 +41,13 @@ public class PostReader implements com.osunji.melog.feed.repository.PostReader {
                         p.getMediaType(),                      // String
                         p.getMediaUrl(),
                         Optional.ofNullable(p.getTags()).orElseGet(List::of),
-                        safeSize(p.getLikes()),                // List<User>
+                        p.getLikeCount(),
                         commentCountMap.getOrDefault(p.getId(), 0),
                         p.getCreatedAt()                       // LocalDateTime
                 )
         ));
     }
 
-    private static int safeSize(Collection<?> c) {
-        return (c == null) ? 0 : c.size();
-    }
     private static int safeToInt(long v) {
         return (v > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) v;
     }
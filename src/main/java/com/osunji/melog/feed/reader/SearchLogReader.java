@@ -14,6 +14,7 @@ import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
 import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 
@@ -22,18 +23,24 @@ import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 public class SearchLogReader {
 
     private static final String SEARCH_INDEX = "search_logs";
+    private static final String TOP_QUERIES = "top_queries";
+    private static final String TOP_CATEGORIES = "top_categories";
 
     private final ElasticsearchOperations esOps;
 
+    /** 최근 N일 검색어/카테고리 상위 집계 결과 */
+    public record TopTerms(Map<String, Long> queries, Map<String, Long> categories) {}
+
     public Map<String, Long> topQueries(String userId, int days, int size) {
-        return termsAgg(userId, days, "query.keyword", size, "top_queries");
+        return topTerms(userId, days, size).queries();
     }
 
     public Map<String, Long> topCategories(String userId, int days, int size) {
-        return termsAgg(userId, days, "category.keyword", size, "top_categories");
+        return topTerms(userId, days, size).categories();
     }
 
-    private Map<String, Long> termsAgg(String userId, int days, String field, int size, String aggName) {
+    /** 검색어/카테고리 terms 집계를 한 번의 요청(이름 있는 집계 2개)으로 */
+    public TopTerms topTerms(String userId, int days, int size) {
         // 1) 기간/사용자 필터
         Query time = RangeQuery.of(r -> r
                 .date(d -> d
@@ -45,41 +52,46 @@ public class SearchLogReader {
         Query uid = TermQuery.of(t -> t.field("userId").value(userId))._toQuery();
         Query bool = BoolQuery.of(b -> b.filter(uid).filter(time))._toQuery();
 
-        // 2) terms 집계 정의
-        Aggregation termsAgg = Aggregation.of(ag -> ag
-                .terms(t -> t.field(field).size(size))
+        // 2) terms 집계 정의 (같은 필터 위에서 두 필드 동시 집계)
+        Aggregation queriesAgg = Aggregation.of(ag -> ag
+                .terms(t -> t.field("query.keyword").size(size))
+        );
+        Aggregation categoriesAgg = Aggregation.of(ag -> ag
+                .terms(t -> t.field("category.keyword").size(size))
         );
 
         // 3) NativeQuery 구성 (※ withAggregation 사용)
         NativeQuery nq = new NativeQueryBuilder()
                 .withQuery(bool)
-                .withAggregation(aggName, termsAgg)
+                .withAggregation(TOP_QUERIES, queriesAgg)
+                .withAggregation(TOP_CATEGORIES, categoriesAgg)
                 .withMaxResults(0)              // 문서 본문 0, 집계만
-                // .withTrackTotalHits(false)    // 선택: 비용 절감
+                .withTrackTotalHits(false)
                 .build();
 
         SearchHits<Object> resp = esOps.search(nq, Object.class, IndexCoordinates.of(SEARCH_INDEX));
 
-        Map<String, Long> out = new LinkedHashMap<>();
-
         var aggs = resp.getAggregations();
         if (aggs instanceof ElasticsearchAggregations elcAggs) {
-            var ea = elcAggs.aggregationsAsMap().get(aggName); // 이름으로 바로 접근
-            if (ea != null) {
-                Aggregate agg = ea.aggregation().getAggregate();
+            var byName = elcAggs.aggregationsAsMap();
+            return new TopTerms(buckets(byName.get(TOP_QUERIES)), buckets(byName.get(TOP_CATEGORIES)));
+        }
+        return new TopTerms(new LinkedHashMap<>(), new LinkedHashMap<>());
+    }
 
-                if (agg != null && agg.isSterms()) {
-                    var terms = agg.sterms();
-                    if (terms != null && terms.buckets() != null && terms.buckets().isArray()) {
-                        for (var b : terms.buckets().array()) {
-                            out.put(b.key().stringValue(), b.docCount());
-                        }
-                    }
+    private static Map<String, Long> buckets(ElasticsearchAggregation ea) {
+        Map<String, Long> out = new LinkedHashMap<>();
+        if (ea == null) return out;
+
+        Aggregate agg = ea.aggregation().getAggregate();
+        if (agg != null && agg.isSterms()) {
+            var terms = agg.sterms();
+            if (terms != null && terms.buckets() != null && terms.buckets().isArray()) {
+                for (var b : terms.buckets().array()) {
+                    out.put(b.key().stringValue(), b.docCount());
                 }
             }
         }
-
-
         return out;
     }
 }
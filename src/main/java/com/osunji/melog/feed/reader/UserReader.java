@@ -2,17 +2,31 @@ package com.osunji.melog.feed.reader;
 
 
 
+import com.osunji.melog.user.domain.User;
+import com.osunji.melog.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class UserReader implements com.osunji.melog.feed.repository.UserReader {
+
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
     @Override
     public Map<UUID, UserProfile> batchFindProfiles(List<UUID> userIds) {
-        // TODO: 나중에 UserRepository로 교체
-        return Collections.emptyMap();
+        if (userIds == null || userIds.isEmpty()) return Collections.emptyMap();
+
+        // 작성자 배치 조회 (IN 쿼리 1번)
+        return userRepository.findAllByIdIn(userIds).stream()
+                .collect(Collectors.toMap(
+                        User::getId,
+                        u -> new UserProfile(u.getId(), u.getNickname(), u.getProfileImageUrl())
+                ));
     }
 }
@@ -2,6 +2,7 @@ package com.osunji.melog.feed.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -11,9 +12,16 @@ public class CommentReaderJpa implements CommentReader {
 
     private final PostCommentRepository postCommentRepository;
 
+    @Transactional(readOnly = true)
     @Override
     public Map<UUID, BestComment> batchFindBestByPostIds(List<UUID> postIds) {
-        // TODO: PostCommentRepository로 실제 베댓 조회 구현
-        return Collections.emptyMap();
+        if (postIds == null || postIds.isEmpty()) return Collections.emptyMap();
+
+        // 게시글 수와 무관하게 쿼리 1번 (게시글당 최대 1행)
+        Map<UUID, BestComment> out = new HashMap<>();
+        for (PostCommentRepository.BestView v : postCommentRepository.findBestByPostIds(postIds)) {
+            out.put(v.getPostId(), new BestComment(v.getPostId(), v.getUserId(), v.getContent()));
+        }
+        return out;
     }
 }
@@ -23,4 +23,25 @@ public interface PostCommentRepository extends JpaRepository<PostComment, UUID>
            group by pc.post.id
            """)
     List<CountView> countByPostIds(@Param("postIds") List<UUID> postIds);
+
+    interface BestView {
+        UUID getPostId();
+        UUID getUserId();
+        String getContent();
+    }
+
+    /** 게시글별 베스트 댓글 (like_count 1위, 동률이면 먼저 쓴 댓글) - 게시글마다 인덱스 첫 행만 (LATERAL) */
+    @Query(value = """
+           select p.id as postId, b.user_id as userId, b.content as content
+           from posts p
+           cross join lateral (
+               select c.user_id, c.content
+               from post_comments c
+               where c.post_id = p.id
+               order by c.like_count desc, c.created_at asc
+               limit 1
+           ) b
+           where p.id in (:postIds)
+           """, nativeQuery = true)
+    List<BestView> findBestByPostIds(@Param("postIds") List<UUID> postIds);
 }
@@ -0,0 +1,157 @@
+package com.osunji.melog.feed.service;
+
+import com.osunji.melog.feed.view.FeedItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 추천 2단계 중 후보 풀 캐시 (사용자별, 짧은 TTL)
+ * - 1단계: ES에서 수백 개 후보를 점수순으로 한 번 가져와 풀로 저장
+ * - 2단계: cursor(풀 토큰 + 페이지 번호)로 풀에서 잘라 서빙 → 2페이지부터는 ES 호출 없음
+ * - 인스턴스 로컬 LRU라 다른 인스턴스로 간 cursor는 풀 재생성으로 처리됨
+ */
+@Component
+public class CandidatePoolCache {
+
+    private static final int MAX_USERS = 10_000;
+
+    private final Duration ttl;
+    private final Map<UUID, CandidatePool> pools;
+
+    public CandidatePoolCache(@Value("${recommend.pool.ttl-seconds:300}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.pools = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CandidatePool> eldest) {
+                return size() > MAX_USERS;
+            }
+        };
+    }
+
+    /** 토큰이 일치하고 만료되지 않은 풀 */
+    public synchronized CandidatePool find(UUID userId, String token) {
+        CandidatePool pool = pools.get(userId);
+        if (pool == null || pool.isExpired()) {
+            pools.remove(userId);
+            return null;
+        }
+        return (token != null && token.equals(pool.token)) ? pool : null;
+    }
+
+    public synchronized CandidatePool put(UUID userId, List<FeedItem> ranked) {
+        CandidatePool pool = new CandidatePool(ranked, System.currentTimeMillis() + ttl.toMillis());
+        pools.put(userId, pool);
+        return pool;
+    }
+
+    public synchronized void evict(UUID userId) {
+        pools.remove(userId);
+    }
+
+    /** cursor 포맷: {풀 토큰}:{페이지 번호} */
+    public static String cursor(CandidatePool pool, int pageIndex) {
+        return pool.token + ":" + pageIndex;
+    }
+
+    /** 사용자별 후보 풀 - 점수순 후보 + 이미 잘라낸 페이지 메모 (같은 cursor 재요청은 같은 결과) */
+    public static class CandidatePool {
+        private final String token = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        private final List<FeedItem> ranked;
+        private final long expiresAt;
+        private final boolean[] served;
+        private final List<List<FeedItem>> pages = new ArrayList<>();
+        private int firstUnserved = 0;
+
+        CandidatePool(List<FeedItem> ranked, long expiresAt) {
+            this.ranked = ranked;
+            this.expiresAt = expiresAt;
+            this.served = new boolean[ranked.size()];
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+
+        /** 남은 후보가 있는지 */
+        public synchronized boolean hasMore() {
+            return firstUnserved < ranked.size();
+        }
+
+        /**
+         * pageIndex 페이지 (없으면 순서대로 생성)
+         * - seen은 해시셋 조회, 다양화는 키별 카운트 맵으로 한 번 훑음 (contains 없이 선형)
+         * - 다양화로 밀린 후보는 served 처리하지 않아 다음 페이지에서 다시 후보가 됨
+         */
+        public synchronized List<FeedItem> page(int pageIndex, int size, Set<String> seen,
+                                                List<Function<FeedItem, String>> keys, int perKeyLimit) {
+            while (pages.size() <= pageIndex && hasMore()) {
+                pages.add(nextPage(size, seen, keys, perKeyLimit));
+            }
+            if (pageIndex < 0 || pageIndex >= pages.size()) return Collections.emptyList();
+            List<FeedItem> page = pages.get(pageIndex);
+            if (seen.isEmpty()) return page;
+            return page.stream().filter(i -> !seen.contains(i.getId())).toList();
+        }
+
+        private List<FeedItem> nextPage(int size, Set<String> seen,
+                                        List<Function<FeedItem, String>> keys, int perKeyLimit) {
+            List<Map<String, Integer>> counts = new ArrayList<>(keys.size());
+            for (int k = 0; k < keys.size(); k++) counts.add(new HashMap<>());
+
+            List<Integer> picked = new ArrayList<>(size);
+            List<Integer> deferred = new ArrayList<>();
+            int i = firstUnserved;
+            for (; i < ranked.size() && picked.size() < size; i++) {
+                if (served[i]) continue;
+                FeedItem item = ranked.get(i);
+                if (seen.contains(item.getId())) {
+                    served[i] = true;   // 이미 본 글은 풀에서 제외
+                    continue;
+                }
+                if (withinLimit(item, keys, counts, perKeyLimit)) {
+                    picked.add(i);
+                } else {
+                    deferred.add(i);
+                }
+            }
+            // 다양화 때문에 모자라면 밀린 후보로 채움 (점수순)
+            for (int d = 0; d < deferred.size() && picked.size() < size; d++) {
+                picked.add(deferred.get(d));
+            }
+
+            List<FeedItem> page = new ArrayList<>(picked.size());
+            picked.sort(Integer::compareTo);
+            for (int idx : picked) {
+                served[idx] = true;
+                page.add(ranked.get(idx));
+            }
+            while (firstUnserved < ranked.size() && served[firstUnserved]) firstUnserved++;
+            return page;
+        }
+
+        private static boolean withinLimit(FeedItem item, List<Function<FeedItem, String>> keys,
+                                           List<Map<String, Integer>> counts, int perKeyLimit) {
+            for (int k = 0; k < keys.size(); k++) {
+                String key = keys.get(k).apply(item);
+                if (key != null && counts.get(k).getOrDefault(key, 0) >= perKeyLimit) return false;
+            }
+            for (int k = 0; k < keys.size(); k++) {
+                String key = keys.get(k).apply(item);
+                if (key != null) counts.get(k).merge(key, 1, Integer::sum);
+            }
+            return true;
+        }
+    }
+}
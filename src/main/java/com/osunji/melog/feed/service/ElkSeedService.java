@@ -8,8 +8,8 @@ import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -19,10 +19,17 @@ import java.util.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ElkSeedService {
 
     private final ElasticsearchClient es;
+    /** 시드 _bulk 전용 (긴 응답 타임아웃) */
+    private final ElasticsearchClient bulkEs;
+
+    public ElkSeedService(ElasticsearchClient es,
+                          @Qualifier("bulkElasticsearchClient") ElasticsearchClient bulkEs) {
+        this.es = es;
+        this.bulkEs = bulkEs;
+    }
 
     public static final String USERS_INDEX      = "users";
     public static final String USER_LOGS_INDEX  = "user_logs";
@@ -108,7 +115,7 @@ public class ElkSeedService {
                         .document(d)
                 ));
             }
-            BulkResponse resp = es.bulk(br.build());
+            BulkResponse resp = bulkEs.bulk(br.build());
             logBulkErrors("seedUsers", resp);
             total += (to - from);
         }
@@ -126,7 +133,7 @@ public class ElkSeedService {
                         .document(d)
                 ));
             }
-            BulkResponse resp = es.bulk(br.build());
+            BulkResponse resp = bulkEs.bulk(br.build());
             logBulkErrors("seedUserLogs", resp);
             total += (to - from);
         }
@@ -145,7 +152,7 @@ public class ElkSeedService {
                         .document(d)
                 ));
             }
-            BulkResponse resp = es.bulk(br.build());
+            BulkResponse resp = bulkEs.bulk(br.build());
             logBulkErrors("seedPosts", resp);
             total += (to - from);
         }
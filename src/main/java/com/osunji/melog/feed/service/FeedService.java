@@ -4,7 +4,6 @@ import co.elastic.clients.elasticsearch._types.Time;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import com.osunji.melog.elk.entity.PostIndex;
 import com.osunji.melog.feed.view.FeedItem;
-import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
@@ -14,7 +13,7 @@ import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 // ==== Elasticsearch Java API v8 (co.elastic.clients) – 쿼리/빌더는 전부 이 패키지로! ====
 import co.elastic.clients.elasticsearch._types.FieldValue;
@@ -23,8 +22,18 @@ import co.elastic.clients.elasticsearch._types.FieldValue;
 public class FeedService {
     private static final String POSTS_INDEX = "posts";
 
+    private static final int PER_KEY_LIMIT = 2;   // 페이지 내 동일 작성자/대표 태그 최대 개수
+
+    /** 다양화 키: 동일 작성자 / 대표 태그 */
+    private static final List<Function<FeedItem, String>> DIVERSIFY_KEYS = List.of(
+            FeedItem::getAuthorId,
+            item -> firstOrNull(item.getTags())
+    );
+
     private final ElasticsearchOperations esOps;
     private final UserSignalService signalService;
+    private final CandidatePoolCache poolCache;
+    private final int poolSize;                   // 1단계 후보 수
 
     // 가중치/스케일 설정
     private final Double tag;         // function weight
@@ -34,18 +43,58 @@ public class FeedService {
     public FeedService(
             ElasticsearchOperations esOps,
             UserSignalService signalService,
+            CandidatePoolCache poolCache,
+            @Value("${recommend.pool.size:300}") int poolSize,
             @Value("${recommend.boost.tag}") Double tag,
             @Value("${recommend.boost.followee}") Double followee,  // ← 키 수정!
             @Value("${recommend.fresh.scale}") String scale         // ← 타입: String ("7d" 등)
     ) {
         this.esOps = esOps;
         this.signalService = signalService;
+        this.poolCache = poolCache;
+        this.poolSize = poolSize;
         this.tag = tag;
         this.followee = followee;
         this.scale = scale;
     }
 
-    public List<FeedItem> recommend(UUID userId, int size, List<String> seenIds) {
+    /** 추천 한 페이지 + 다음 cursor (마지막이면 null) */
+    public record FeedPage(List<FeedItem> items, String nextCursor) {}
+
+    /**
+     * 2단계 추천
+     * - cursor가 살아있는 풀을 가리키면 풀에서 바로 서빙 (ES 호출 없음)
+     * - 없거나 만료됐으면 후보 생성(ES 1회) 후 첫 페이지
+     */
+    public FeedPage recommend(UUID userId, int size, String cursor, Collection<String> seenIds) {
+        Set<String> seen = (seenIds == null || seenIds.isEmpty()) ? Set.of() : new HashSet<>(seenIds);
+
+        CandidatePoolCache.CandidatePool pool = null;
+        int pageIndex = 0;
+        if (cursor != null) {
+            int sep = cursor.lastIndexOf(':');
+            if (sep > 0) {
+                pool = poolCache.find(userId, cursor.substring(0, sep));
+                try {
+                    pageIndex = Integer.parseInt(cursor.substring(sep + 1));
+                } catch (NumberFormatException e) {
+                    pool = null;
+                }
+                if (pageIndex < 0) pool = null;
+            }
+        }
+        if (pool == null) {
+            pool = poolCache.put(userId, generateCandidates(userId));
+            pageIndex = 0;
+        }
+
+        List<FeedItem> items = pool.page(pageIndex, size, seen, DIVERSIFY_KEYS, PER_KEY_LIMIT);
+        String next = pool.hasMore() ? CandidatePoolCache.cursor(pool, pageIndex + 1) : null;
+        return new FeedPage(items, next);
+    }
+
+    /** 1단계 후보 생성 - function_score로 poolSize개를 점수순으로 (게시글 중복 제거) */
+    List<FeedItem> generateCandidates(UUID userId) {
         var sig       = signalService.build(userId);
         var tags      = sig.getTopTags();
         var followees = sig.getFolloweeIds();
@@ -122,42 +171,29 @@ public class FeedService {
         // 4) 실행
         NativeQuery nq = new NativeQueryBuilder()
                 .withQuery(functionScore)
-                .withMaxResults(Math.max(size * 5, 100))  // 1차 후보 넉넉히
+                .withMaxResults(poolSize)
                 .build();
 
         var hits = esOps.search(nq, PostIndex.class, IndexCoordinates.of(POSTS_INDEX))
                 .getSearchHits();
 
-        // 5) 서버단 정제: seenIds 제거 + 다양화
-        var dedup = new HashMap<String, Pair>();
+        // 5) 점수순 유지 + 게시글 중복 제거
+        var ranked = new LinkedHashMap<String, FeedItem>();
         for (SearchHit<PostIndex> h : hits) {
             var p = h.getContent();
-            if (p == null) continue;
-            if (seenIds != null && seenIds.contains(p.getId())) continue;
-            dedup.putIfAbsent(p.getId(), new Pair(p, h.getScore()));
+            if (p == null || p.getId() == null) continue;
+            ranked.putIfAbsent(p.getId(), FeedItem.builder()
+                    .id(p.getId())
+                    .title(p.getTitle())
+                    .excerpt(snippet(p.getContent()))
+                    .tags(p.getTags())
+                    .authorId(p.getUserId())
+                    .likeCount(p.getLikeCount())
+                    .createdAt(p.getCreatedAt())
+                    .score(h.getScore())
+                    .build());
         }
-
-        var ranked = dedup.values().stream()
-                .sorted(Comparator.comparingDouble((Pair p) -> p.score).reversed())
-                .limit((long) size * 3)
-                .toList();
-
-        var diversified = diversify(ranked, size,
-                pair -> pair.post.getUserId(),            // 동일 작성자 제한
-                pair -> firstOrNull(pair.post.getTags())  // 대표 태그 제한
-        );
-
-        return diversified.stream().map(p -> FeedItem.builder()
-                .id(p.post.getId())
-                .title(p.post.getTitle())
-                .excerpt(snippet(p.post.getContent()))
-                .tags(p.post.getTags())
-                .authorId(p.post.getUserId())
-                .likeCount(p.post.getLikeCount())
-                .createdAt(p.post.getCreatedAt())
-                .score(p.score)
-                .build()
-        ).collect(Collectors.toList());
+        return new ArrayList<>(ranked.values());
     }
 
     // ===== helpers =====
@@ -169,41 +205,4 @@ public class FeedService {
     private static String firstOrNull(List<String> xs) {
         return (xs == null || xs.isEmpty()) ? null : xs.get(0);
     }
-
-    @SafeVarargs
-    private static List<Pair> diversify(List<Pair> sorted, int size,
-                                        java.util.function.Function<Pair, String>... keys) {
-        var counts = new ArrayList<HashMap<String, Integer>>();
-        for (int i = 0; i < keys.length; i++) counts.add(new HashMap<>());
-
-        var out = new ArrayList<Pair>();
-        for (var s : sorted) {
-            boolean ok = true;
-            for (int i = 0; i < keys.length; i++) {
-                var key = keys[i].apply(s);
-                if (key == null) continue;
-                if (counts.get(i).getOrDefault(key, 0) >= 2) { ok = false; break; } // 키별 최대 2개
-            }
-            if (ok) {
-                out.add(s);
-                for (int i = 0; i < keys.length; i++) {
-                    var key = keys[i].apply(s);
-                    if (key != null) counts.get(i).merge(key, 1, Integer::sum);
-                }
-            }
-            if (out.size() >= size) break;
-        }
-        int idx = 0;
-        while (out.size() < size && idx < sorted.size()) {
-            var s2 = sorted.get(idx++);
-            if (!out.contains(s2)) out.add(s2);
-        }
-        return out;
-    }
-
-    @AllArgsConstructor
-    private static class Pair {
-        PostIndex post;
-        double score;
-    }
 }
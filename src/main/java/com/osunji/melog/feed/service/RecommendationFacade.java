@@ -5,24 +5,40 @@ import com.osunji.melog.feed.repository.CommentReader;
 import com.osunji.melog.feed.repository.PostReader;
 import com.osunji.melog.feed.repository.UserReader;
 import com.osunji.melog.feed.view.FeedItem;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendationFacade {
 
+    private static final int READER_THREADS = 16;
+
     private final FeedService feedService;     // ES 추천 후보
     private final PostReader postReader;       // 도메인(게시글 상세 배치)
     private final UserReader userReader;       // 도메인(작성자 프로필 배치)
     private final CommentReader commentReader; // 도메인(베댓 배치)
     private final FeedMapper feedMapper;       // DTO 매핑
 
-    public FeedResponse recommend(UUID userId, int size, List<String> seen) {
-        // 1) ES에서 1차 후보 뽑기
-        var items = feedService.recommend(userId, size, (seen == null) ? List.of() : seen);
+    // 도메인 배치 조회 3개를 동시에 실행 (응답 지연 = 가장 느린 쿼리 1개)
+    private final ExecutorService readerExecutor = Executors.newFixedThreadPool(READER_THREADS);
+
+    @PreDestroy
+    public void shutdownReaders() {
+        readerExecutor.shutdown();
+    }
+
+    public FeedResponse recommend(UUID userId, int size, String cursor, List<String> seen) {
+        // 1) 후보 풀에서 한 페이지 (풀이 없을 때만 ES 호출)
+        var page  = feedService.recommend(userId, size, cursor, (seen == null) ? List.of() : seen);
+        var items = page.items();
 
         // 2) 배치 키 수집 (String -> UUID 안전 변환)
         List<UUID> postIds = items.stream()
@@ -40,13 +56,17 @@ public class RecommendationFacade {
                 .distinct()
                 .toList();
 
-        // 3) 도메인 배치 조회
+        // 3) 도메인 배치 조회 (각각 쿼리 1번, 병렬)
         // Map<postId, PostDetail>
-        var postMap = postReader.batchFindDetails(postIds);
+        var postFuture = CompletableFuture.supplyAsync(() -> postReader.batchFindDetails(postIds), readerExecutor);
         // Map<userId, UserProfile>
-        var userMap = userReader.batchFindProfiles(authorIds);
+        var userFuture = CompletableFuture.supplyAsync(() -> userReader.batchFindProfiles(authorIds), readerExecutor);
         // Map<postId, BestComment>
-        var bestMap = commentReader.batchFindBestByPostIds(postIds);
+        var bestFuture = CompletableFuture.supplyAsync(() -> commentReader.batchFindBestByPostIds(postIds), readerExecutor);
+
+        var postMap = join(postFuture);
+        var userMap = join(userFuture);
+        var bestMap = join(bestFuture);
 
         // 4) DTO 매핑
         var result = items.stream()
@@ -58,7 +78,17 @@ public class RecommendationFacade {
                 ))
                 .toList();
 
-        return FeedResponse.builder().results(result).build();
+        return FeedResponse.builder().results(result).nextCursor(page.nextCursor()).build();
+    }
+
+    /** 배치 조회 결과 대기 - 원래 예외를 그대로 전파 */
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
     }
 
     /** UUID 안전 변환 (잘못된 포맷은 null 반환) */
@@ -2,64 +2,271 @@ package com.osunji.melog.feed.service;
 
 import com.osunji.melog.feed.reader.SearchLogReader;
 import com.osunji.melog.feed.view.UserSignals;
+import com.osunji.melog.global.common.AfterCommit;
 import com.osunji.melog.user.repository.FollowRepository;
 import com.osunji.melog.user.repository.OnboardingRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 
+/**
+ * 사용자 신호(상위 태그/팔로잉/alpha) 프로필 저장소
+ * - 피드 요청은 로컬 캐시 1회 조회로 끝나고, 없을 때만 온보딩/검색로그(집계 1회)/팔로우로 계산
+ * - 팔로우/언팔로우, 온보딩 변경, 검색 로그 수집 시 캐시된 프로필을 증분 갱신 (트랜잭션 안이면 커밋 후 → 롤백된 변경은 반영 안 됨)
+ * - 주기 작업이 오래된 프로필을 재계산(30일 윈도우 보정)하고, 오래 안 쓰인 프로필은 제거
+ *   → 재계산 중 들어온 증분은 기록해 뒀다가 새 프로필에 다시 적용한 뒤 교체 (덮어써서 잃지 않음)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserSignalService {
 
+    private static final int WINDOW_DAYS = 30;
+    private static final int TOP_TERMS = 30;
+    private static final int TOP_TAGS = 20;
+
     private final OnboardingRepository onboardingRepository;
     private final FollowRepository followRepository;
     private final SearchLogReader searchLogReader;
+    private final long recomputeMillis;
+    private final long idleMillis;
+
+    private final Map<UUID, SignalProfile> profiles = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public UserSignalService(OnboardingRepository onboardingRepository,
+                             FollowRepository followRepository,
+                             SearchLogReader searchLogReader,
+                             @Value("${recommend.signals.recompute-minutes:30}") long recomputeMinutes,
+                             @Value("${recommend.signals.idle-minutes:120}") long idleMinutes) {
+        this.onboardingRepository = onboardingRepository;
+        this.followRepository = followRepository;
+        this.searchLogReader = searchLogReader;
+        this.recomputeMillis = TimeUnit.MINUTES.toMillis(recomputeMinutes);
+        this.idleMillis = TimeUnit.MINUTES.toMillis(idleMinutes);
+    }
+
+    @PostConstruct
+    public void startScheduler() {
+        scheduler.scheduleWithFixedDelay(this::refreshProfiles, 5, 5, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stopScheduler() {
+        scheduler.shutdown();
+    }
 
+    /** 피드 요청 경로 - 캐시 hit이면 계산 없음 */
     public UserSignals build(UUID userId) {
+        SignalProfile profile = profiles.get(userId);
+        if (profile == null) {
+            SignalProfile loaded = load(userId);
+            profile = profiles.putIfAbsent(userId, loaded);
+            if (profile == null) profile = loaded;
+        }
+        return profile.snapshot();
+    }
+
+    //---------------증분 갱신 (캐시에 있을 때만, 없으면 다음 build에서 새로 계산)-----------------//
+
+    public void onFollow(UUID userId, UUID followeeId) {
+        AfterCommit.run("추천 신호 갱신", () -> update(userId, p -> p.follow(followeeId)));
+    }
+
+    public void onUnfollow(UUID userId, UUID followeeId) {
+        AfterCommit.run("추천 신호 갱신", () -> update(userId, p -> p.unfollow(followeeId)));
+    }
+
+    public void onOnboardingChanged(UUID userId, List<String> composers, List<String> periods, List<String> instruments) {
+        List<String> tags = onboardingTags(composers, periods, instruments);
+        AfterCommit.run("추천 신호 갱신", () -> update(userId, p -> p.replaceOnboarding(tags)));
+    }
+
+    /** 검색 로그 수집 시점 - userId가 UUID가 아니면(anonymous 등) 무시 */
+    public void onSearch(String userId, String query, String category) {
+        UUID id;
+        try {
+            id = UUID.fromString(userId);
+        } catch (Exception e) {
+            return;
+        }
+        AfterCommit.run("추천 신호 갱신", () -> update(id, p -> p.search(query, category)));
+    }
+
+    /** 캐시된 프로필에 증분 적용 - 재계산으로 막 교체된 프로필이면 새 프로필을 다시 읽어서 적용 */
+    private void update(UUID userId, Consumer<SignalProfile> change) {
+        while (true) {
+            SignalProfile p = profiles.get(userId);
+            if (p == null || p.apply(change)) return;
+        }
+    }
+
+    //---------------계산 / 주기 재계산-----------------//
+
+    private SignalProfile load(UUID userId) {
         // 1) 온보딩 → 태그 후보
         var obTags = new ArrayList<String>();
-        onboardingRepository.findByUser_Id(userId).ifPresent(ob -> {
-            if (ob.getComposers()   != null) obTags.addAll(ob.getComposers());
-            if (ob.getPeriods()     != null) obTags.addAll(ob.getPeriods());
-            if (ob.getInstruments() != null) obTags.addAll(ob.getInstruments());
-        });
-
-        // 2) 검색 로그(최근 30일): query + category
-        var topQ = searchLogReader.topQueries(userId.toString(), 30, 30).keySet();     // ["베토벤 피아노", ...]
-        var topC = searchLogReader.topCategories(userId.toString(), 30, 30).keySet();  // ["낭만파","피아노",...]
-
-        var qTokens = new ArrayList<String>();
-        for (var q : topQ) {
-            for (var t : q.split("\\s+")) {
-                if (t.length() >= 2) qTokens.add(t);
+        onboardingRepository.findByUser_Id(userId).ifPresent(ob ->
+                obTags.addAll(onboardingTags(ob.getComposers(), ob.getPeriods(), ob.getInstruments())));
+
+        // 2) 검색 로그(최근 30일): query + category - 집계 요청 1회
+        var top = searchLogReader.topTerms(userId.toString(), WINDOW_DAYS, TOP_TERMS);
+
+        // 3) 팔로우
+        var followees = new HashSet<>(followRepository.findFolloweeIds(userId));
+
+        return new SignalProfile(obTags, top.queries(), top.categories(), followees);
+    }
+
+    private void refreshProfiles() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, SignalProfile> e : profiles.entrySet()) {
+            SignalProfile p = e.getValue();
+            try {
+                if (now - p.lastAccessAt > idleMillis) {
+                    profiles.remove(e.getKey(), p);
+                } else if (now - p.computedAt > recomputeMillis) {
+                    p.startJournal();
+                    SignalProfile fresh = load(e.getKey());
+                    p.handOver(fresh, () -> profiles.replace(e.getKey(), p, fresh));
+                }
+            } catch (Exception ex) {
+                p.stopJournal();
+                log.warn("사용자 신호 재계산 실패 userId={}: {}", e.getKey(), ex.getMessage());
             }
         }
+    }
+
+    private static List<String> onboardingTags(List<String> composers, List<String> periods, List<String> instruments) {
+        var tags = new ArrayList<String>();
+        if (composers   != null) tags.addAll(composers);
+        if (periods     != null) tags.addAll(periods);
+        if (instruments != null) tags.addAll(instruments);
+        return tags;
+    }
 
-        // 3) 통합 + 중복 제거 + 상위 20개
-        var merged = new LinkedHashSet<String>();
-        merged.addAll(topC);
-        merged.addAll(qTokens);
-        merged.addAll(obTags);
-        var topTags = merged.stream().limit(20).toList();
+    /** 사용자 1명의 신호 원천 데이터 + 파생 UserSignals 메모 */
+    private static class SignalProfile {
+        private List<String> onboarding;
+        private final Map<String, Long> queries;
+        private final Map<String, Long> categories;
+        private final Set<UUID> followees;
+        private final long computedAt = System.currentTimeMillis();
+        private volatile long lastAccessAt = computedAt;
+        private UserSignals cached;
+        /** 재계산 중 들어온 증분 (새 프로필에 다시 적용), 재계산 중이 아니면 null */
+        private List<Consumer<SignalProfile>> journal;
+        /** 새 프로필로 교체됨 - 이후 증분은 새 프로필로 */
+        private boolean retired;
 
-        // 4) 동적 alpha (온보딩 vs 활동 비중)
-        int events = topQ.size() + topC.size();
-        double alpha = Math.max(0.2, Math.min(0.8, 1.0 / (1.0 + (events / 30.0))));
+        SignalProfile(List<String> onboarding, Map<String, Long> queries,
+                      Map<String, Long> categories, Set<UUID> followees) {
+            this.onboarding = onboarding;
+            this.queries = new HashMap<>(queries);
+            this.categories = new HashMap<>(categories);
+            this.followees = followees;
+        }
 
-        // 5) 팔로우
-        var followees = new HashSet<>(followRepository.findFolloweeIds(userId));
+        /** 증분 적용 - 이미 교체된 프로필이면 false */
+        synchronized boolean apply(Consumer<SignalProfile> change) {
+            if (retired) return false;
+            change.accept(this);
+            if (journal != null) journal.add(change);
+            return true;
+        }
 
-        return UserSignals.builder()
-                .topTags(topTags)
-                .followeeIds(followees)
-                .alpha(alpha)
-                .build();
+        synchronized void startJournal() {
+            journal = new ArrayList<>();
+        }
+
+        synchronized void stopJournal() {
+            journal = null;
+        }
+
+        /**
+         * 재계산 결과로 교체 - 그동안의 증분을 next에 다시 적용하고 같은 락 안에서 replace
+         * - 팔로우/온보딩은 멱등, 검색은 집계에 이미 잡힌 건이 한 번 더 더해질 수 있음 (다음 재계산에서 보정)
+         */
+        synchronized void handOver(SignalProfile next, Runnable replace) {
+            if (journal != null) journal.forEach(change -> change.accept(next));
+            journal = null;
+            retired = true;
+            replace.run();
+        }
+
+        synchronized UserSignals snapshot() {
+            lastAccessAt = System.currentTimeMillis();
+            if (cached == null) cached = derive();
+            return cached;
+        }
+
+        synchronized void follow(UUID id)   { if (followees.add(id)) cached = null; }
+        synchronized void unfollow(UUID id) { if (followees.remove(id)) cached = null; }
+
+        synchronized void replaceOnboarding(List<String> tags) {
+            onboarding = tags;
+            cached = null;
+        }
+
+        synchronized void search(String query, String category) {
+            if (query != null && !query.isBlank()) queries.merge(query.trim(), 1L, Long::sum);
+            if (category != null && !category.isBlank()) categories.merge(category.trim(), 1L, Long::sum);
+            cached = null;
+        }
+
+        private UserSignals derive() {
+            List<String> topQ = top(queries);
+            List<String> topC = top(categories);
+
+            var qTokens = new ArrayList<String>();
+            for (var q : topQ) {
+                for (var t : q.split("\\s+")) {
+                    if (t.length() >= 2) qTokens.add(t);
+                }
+            }
+
+            // 통합 + 중복 제거 + 상위 20개
+            var merged = new LinkedHashSet<String>();
+            merged.addAll(topC);
+            merged.addAll(qTokens);
+            merged.addAll(onboarding);
+            var topTags = merged.stream().limit(TOP_TAGS).toList();
+
+            // 동적 alpha (온보딩 vs 활동 비중)
+            int events = topQ.size() + topC.size();
+            double alpha = Math.max(0.2, Math.min(0.8, 1.0 / (1.0 + (events / 30.0))));
+
+            return UserSignals.builder()
+                    .topTags(topTags)
+                    .followeeIds(Set.copyOf(followees))
+                    .alpha(alpha)
+                    .build();
+        }
+
+        private static List<String> top(Map<String, Long> counts) {
+            return counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                    .limit(TOP_TERMS)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
     }
 }
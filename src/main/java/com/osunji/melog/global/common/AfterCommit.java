@@ -0,0 +1,38 @@
+package com.osunji.melog.global.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 커밋 후 부수효과 실행 (Redis 타임라인/랭킹/캐시 갱신 등)
+ * - 트랜잭션이 있으면 커밋 후, 없으면 즉시 실행
+ * - 작업 실패는 로그만 남김 → 부수효과 실패가 원 요청을 깨지 않음
+ */
+@Slf4j
+public final class AfterCommit {
+    private AfterCommit() {}
+
+    /**
+     * @param label 실패 로그에 붙일 작업 이름 (예: "타임라인 갱신")
+     */
+    public static void run(String label, Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("{} 실패: {}", label, e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
@@ -2,76 +2,102 @@ package com.osunji.melog.global.common;
 
 import java.util.UUID;
 
+import com.osunji.melog.global.security.CurrentUser;
 import com.osunji.melog.global.util.JWTUtil;
+import com.osunji.melog.user.domain.User;
+import com.osunji.melog.user.repository.UserRepository;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
 
+/**
+ * Authorization 헤더 → 사용자 ID
+ * - JwtAuthFilter가 이미 검증한 토큰이면 요청 속성의 ID를 그대로 사용 (파싱 없음)
+ * - 화이트리스트 경로 등 필터를 안 거친 요청만 여기서 한 번 검증
+ */
+@Slf4j
 @Component
 @AllArgsConstructor
 public class AuthHelper {
     private final JWTUtil jwtUtil;
+    private final CurrentUser currentUser;
+    private final UserRepository userRepository;
 
     public String authHelper(String authHeader) {
-        System.out.println("🔍 AuthHelper.authHelper 시작");
-
         // 헤더가 비었는지 확인
         if (authHeader == null || authHeader.isEmpty()) {
-            System.out.println("❌ Authorization 헤더가 비어있음");
             throw new IllegalStateException("Empty Authorization header");
         }
-        System.out.println("✅ Authorization 헤더 존재: " + authHeader.length() + "자");
-
         // 헤더가 Bearer로 시작하는지 확인
         if (!authHeader.startsWith("Bearer ")) {
-            System.out.println("❌ Bearer 형식이 아님. 실제: " + authHeader.substring(0, Math.min(20, authHeader.length())));
             throw new IllegalStateException("Invalid Authorization header");
         }
-        System.out.println("✅ Bearer 형식 확인");
-
-        // 토큰 앞의 "Bearer"을 제외하고, 토큰 부분만 token 변수에 할당
         String token = authHeader.substring("Bearer ".length());
-        System.out.println("✅ 토큰 추출 완료: " + token.length() + "자");
 
-        // 토큰의 만료 여부 확인
-        if (jwtUtil.isTokenExpired(token)) {
-            System.out.println("❌ 토큰이 만료됨");
-            throw new IllegalStateException("Token expired");
+        // 필터에서 검증된 토큰이면 재파싱 없이 반환
+        if (inRequest() && currentUser.isVerified(token)) {
+            UUID userId = currentUser.idOrNull();
+            if (userId != null) return userId.toString();
         }
-        System.out.println("✅ 토큰 만료 확인 통과");
 
-        // 모두 정확할 경우 userId를 String으로 반환
-        String userId = jwtUtil.getUserIdFromToken(token);
-        System.out.println("✅ AuthHelper 완료 - 반환할 userId: " + userId);
-        return userId;
+        try {
+            return jwtUtil.verifyAccessAndGetUserId(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("토큰 만료: {}", e.getMessage());
+            throw new IllegalStateException("Token expired");
+        } catch (JwtException e) {
+            log.debug("토큰 검증 실패: {}", e.getMessage());
+            throw new IllegalStateException("Invalid or expired token");
+        }
     }
 
     public UUID authHelperAsUUID(String authHeader) {
-        System.out.println("🔍 AuthHelper.authHelperAsUUID 시작");
-
         try {
             String userId = authHelper(authHeader);
-            System.out.println("authHelper에서 받은 userId: '" + userId + "'");
-
             if (userId == null || userId.trim().isEmpty()) {
-                System.out.println("❌ userId가 null 또는 빈 문자열");
                 throw new IllegalStateException("Invalid or expired token");
             }
-
-            // UUID 변환 시도
-            System.out.println("UUID 변환 시도: '" + userId + "'");
-            UUID uuid = UUID.fromString(userId.trim());  // ✅ trim() 추가
-            System.out.println("✅ UUID 변환 성공: " + uuid);
-
-            return uuid;
-
+            return UUID.fromString(userId.trim());
         } catch (IllegalArgumentException e) {
-            System.out.println("❌ UUID 변환 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.debug("UUID 변환 실패: {}", e.getMessage());
             throw new IllegalStateException("Invalid UUID format in token");
         } catch (Exception e) {
-            System.out.println("❌ 전체 처리 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.debug("인증 처리 실패: {}", e.getMessage());
             throw new IllegalStateException("Invalid or expired token");
         }
     }
-}
\ No newline at end of file
+
+    /** 비로그인 허용 조회용 - 토큰이 없거나 잘못되면 null */
+    public UUID userIdOrNull(String authHeader) {
+        if (authHeader == null) return null;
+        try {
+            return authHelperAsUUID(authHeader);
+        } catch (IllegalStateException e) {
+            log.debug("비로그인 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 사용자 엔티티 - 요청 안에서는 한 번만 조회 */
+    public User loadUser(UUID userId) {
+        if (inRequest()) return currentUser.user(userId);
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    }
+
+    /** FK로만 쓸 사용자 참조 - 엔티티는 로딩하지 않고 존재 여부만 확인 (없으면 IllegalArgumentException) */
+    public User userReference(UUID userId) {
+        if (inRequest()) return currentUser.reference(userId);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        return userRepository.getReferenceById(userId);
+    }
+
+    private boolean inRequest() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+}
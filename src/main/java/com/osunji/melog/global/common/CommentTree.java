@@ -0,0 +1,116 @@
+package com.osunji.melog.global.common;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 댓글 스레드 트리 조립 (리뷰 댓글 / 하모니 댓글 공용)
+ * - 한 번의 쿼리로 받은 평평한 행 목록 → 부모별 그룹핑 1회 + DFS 1회 (O(n))
+ * - maxDepth보다 깊은 대댓글은 maxDepth 단계에 시간순(DFS 전위)으로 펼쳐 붙임
+ */
+public final class CommentTree {
+
+    private CommentTree() {}
+
+    /** 첫 페이지 cursor 대용 (이보다 먼저 작성된 댓글은 없음) */
+    public static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    public static final UUID CURSOR_START_ID = new UUID(0L, 0L);
+
+    /** 비로그인 조회자 - 어떤 사용자 ID와도 일치하지 않음 (좋아요 여부 EXISTS가 항상 false) */
+    public static final UUID NO_VIEWER = new UUID(0L, 0L);
+
+    /** 스레드 조회 한 행 - 댓글 + 작성자 + 좋아요 수 + 조회자 좋아요 여부 */
+    public interface Row {
+        UUID getId();
+        UUID getParentId();
+        String getContent();
+        LocalDateTime getCreatedAt();
+        Integer getLikeCount();
+        UUID getUserId();
+        String getNickname();
+        String getProfileImageUrl();
+        Boolean getLiked();
+    }
+
+    /** 트리 노드 */
+    public record Node(Row row, List<Node> replies) {}
+
+    /** 루트 댓글 cursor - "{createdAt}_{commentId}" (마지막 루트 기준, exclusive) */
+    public record Cursor(LocalDateTime createdAt, UUID id) {
+
+        /** null/빈 값이면 첫 페이지 */
+        public static Cursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new Cursor(CURSOR_START, CURSOR_START_ID);
+            }
+            int sep = cursor.lastIndexOf('_');
+            if (sep <= 0) throw new IllegalArgumentException("잘못된 cursor입니다");
+            try {
+                return new Cursor(LocalDateTime.parse(cursor.substring(0, sep)), UUID.fromString(cursor.substring(sep + 1)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 cursor입니다");
+            }
+        }
+    }
+
+    /** 다음 페이지 cursor - 루트가 limit개 꽉 찼을 때만 (아니면 null) */
+    public static String nextCursor(List<Node> roots, int limit) {
+        if (roots.size() < limit) return null;
+        Row last = roots.get(roots.size() - 1).row();
+        return last.getCreatedAt() + "_" + last.getId();
+    }
+
+    /**
+     * 행 목록 → 루트 노드 목록
+     * @param rows      한 페이지 루트들과 그 모든 자손 (작성 순 정렬)
+     * @param maxDepth  대댓글 최대 깊이 (루트 = 0)
+     */
+    public static List<Node> build(List<? extends Row> rows, int maxDepth) {
+        Map<UUID, List<Row>> childrenByParent = new HashMap<>();
+        Map<UUID, Row> byId = new HashMap<>();
+        for (Row row : rows) {
+            byId.put(row.getId(), row);
+        }
+
+        List<Row> roots = new ArrayList<>();
+        for (Row row : rows) {
+            UUID parentId = row.getParentId();
+            if (parentId == null || !byId.containsKey(parentId)) {
+                roots.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        // 반복 DFS - (행, 깊이, 붙일 목록), 자식은 역순으로 push해서 작성 순 유지
+        record Frame(Row row, int depth, List<Node> target) {}
+        List<Node> result = new ArrayList<>(roots.size());
+        Deque<Frame> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(new Frame(roots.get(i), 0, result));
+        }
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            Node node = new Node(frame.row(), new ArrayList<>());
+            frame.target().add(node);
+
+            List<Row> children = childrenByParent.get(frame.row().getId());
+            if (children == null) continue;
+            // 최대 깊이에 도달하면 자식을 자기 옆(같은 목록)에 펼침
+            boolean collapse = frame.depth() >= maxDepth;
+            List<Node> childTarget = collapse ? frame.target() : node.replies();
+            int childDepth = collapse ? frame.depth() : frame.depth() + 1;
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(new Frame(children.get(i), childDepth, childTarget));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.osunji.melog.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * JPA @Index로 표현할 수 없는 PostgreSQL 전용 인덱스 (GIN trigram, partial index 등)
+ * - 기동 시 CREATE INDEX CONCURRENTLY IF NOT EXISTS로 생성 (이미 있으면 no-op), PostgreSQL이 아니면(H2 테스트 등) 건너뜀
+ *   → 데이터가 찬 테이블에서도 쓰기를 막지 않음 (JdbcTemplate은 autocommit이라 트랜잭션 밖에서 실행됨)
+ * - CONCURRENTLY가 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS가 건너뛰므로, INVALID면 지우고 다시 생성
+ * - 1회성 데이터 이전은 여기서 하지 않음 → db/migration 의 버전별 스크립트로 수동 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseIndexInitializer {
+
+	/** 인덱스 이름 + ON 뒤의 정의 */
+	private record Index(String name, String definition) {}
+
+	private static final List<Index> INDEXES = List.of(
+		// 검색 fallback (LIKE '%kw%' + similarity 정렬) - lower() 표현식 기준
+		new Index("idx_posts_title_trgm", "posts USING gin (lower(title) gin_trgm_ops)"),
+		new Index("idx_posts_content_trgm", "posts USING gin (lower(content) gin_trgm_ops)"),
+		new Index("idx_users_nickname_trgm", "users USING gin (lower(nickname) gin_trgm_ops)"),
+		new Index("idx_users_intro_trgm", "users USING gin (lower(intro) gin_trgm_ops)"),
+		new Index("idx_harmony_rooms_name_trgm", "harmony_rooms USING gin (lower(name) gin_trgm_ops)"),
+		new Index("idx_harmony_rooms_intro_trgm", "harmony_rooms USING gin (lower(intro) gin_trgm_ops)"),
+
+		// 3글자 미만 검색어 (trigram 인덱스 미사용) - LIKE 'kw%' prefix 경로
+		new Index("idx_posts_title_prefix", "posts (lower(title) text_pattern_ops)"),
+		new Index("idx_users_nickname_prefix", "users (lower(nickname) text_pattern_ops)"),
+		new Index("idx_harmony_rooms_name_prefix", "harmony_rooms (lower(name) text_pattern_ops)"),
+
+		// 내 하모니룸 최근 미디어 - 룸별 LATERAL top-N이 미디어 게시글만 인덱스 순서로 읽음
+		new Index("idx_harmony_room_posts_room_media_created",
+			"harmony_room_posts (harmony_room_id, created_at DESC) WHERE media_type IS NOT NULL")
+	);
+
+	private static final String INVALID_INDEX_SQL =
+		"SELECT COUNT(*) FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+		"WHERE c.relname = ? AND NOT i.indisvalid";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndexes() {
+		String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+		if (!"PostgreSQL".equalsIgnoreCase(product)) {
+			log.info("PostgreSQL 전용 인덱스 생성 건너뜀 (DB: {})", product);
+			return;
+		}
+
+		try {
+			jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+		} catch (Exception e) {
+			log.warn("pg_trgm 확장 생성 실패: {}", e.getMessage());
+		}
+		for (Index index : INDEXES) {
+			try {
+				Integer invalid = jdbcTemplate.queryForObject(INVALID_INDEX_SQL, Integer.class, index.name());
+				if (invalid != null && invalid > 0) {
+					log.warn("INVALID 인덱스 재생성: {}", index.name());
+					jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+				}
+				jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " ON " + index.definition());
+			} catch (Exception e) {
+				log.warn("인덱스 생성 실패: {} - {}", index.name(), e.getMessage());
+			}
+		}
+		log.info("PostgreSQL 전용 인덱스 확인 완료 ({}건)", INDEXES.size());
+	}
+}
@@ -0,0 +1,62 @@
+package com.osunji.melog.global.security;
+
+import com.osunji.melog.user.domain.User;
+import com.osunji.melog.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.UUID;
+
+/**
+ * 요청 단위 인증 사용자
+ * - JwtAuthFilter가 한 번 검증하고 남긴 USER_ID / 토큰을 그대로 읽음 (토큰 재파싱 없음)
+ * - User 엔티티는 처음 필요할 때 한 번만 조회하고 요청이 끝날 때까지 재사용
+ * - FK로만 쓰는 경우 reference() → 조회 없이 프록시 반환
+ *   → 필터가 서명을 검증한 토큰의 사용자는 가입 시 만들어진 행이고 사용자 삭제 경로가 없으므로 존재 확인 생략
+ *   → 그 밖의 ID(다른 사용자)만 존재 확인(PK 조회) 후 프록시, 요청 안에서는 1회만
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final HttpServletRequest request;
+    private final UserRepository userRepository;
+
+    private User user;
+    /** reference()에서 존재 확인을 마친 사용자 ID */
+    private UUID existingId;
+
+    /** 필터에서 인증된 사용자 ID (비로그인/화이트리스트 경로면 null) */
+    public UUID idOrNull() {
+        return request.getAttribute(JwtAuthFilter.USER_ID_ATTR) instanceof UUID userId ? userId : null;
+    }
+
+    /** 필터가 이미 검증한 토큰인지 */
+    public boolean isVerified(String token) {
+        return token != null && token.equals(request.getAttribute(JwtAuthFilter.ACCESS_TOKEN_ATTR));
+    }
+
+    /** 사용자 엔티티 (요청당 1회 조회) */
+    public User user(UUID userId) {
+        if (user == null || !user.getId().equals(userId)) {
+            user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        }
+        return user;
+    }
+
+    /** FK 용 사용자 참조 - 이미 로딩했으면 그 엔티티, 인증된 사용자면 바로 프록시, 아니면 존재 확인 후 프록시 (없으면 400) */
+    public User reference(UUID userId) {
+        if (user != null && user.getId().equals(userId)) return user;
+        if (!userId.equals(idOrNull()) && !userId.equals(existingId)) {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+            }
+            existingId = userId;
+        }
+        return userRepository.getReferenceById(userId);
+    }
+}
@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static final String USER_ID_ATTR = "USER_ID";
+    /** 필터에서 검증을 마친 액세스 토큰 원문 */
+    public static final String ACCESS_TOKEN_ATTR = "ACCESS_TOKEN";
     private final JWTUtil jwtUtil;
     private final WhitelistPaths whitelistPaths;
 
@@ -96,8 +98,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         try {
-            jwtUtil.validateAccess(token); // 만료/서명/iss/aud 등 검증
-            String userIdStr = jwtUtil.getUserIdFromAccess(token);
+            String userIdStr = jwtUtil.verifyAccessAndGetUserId(token); // 만료/서명 검증 + userId (파싱 1회)
             log.debug("✅ token validated, userIdStr={}", userIdStr);
 
             UUID userId = UUID.fromString(userIdStr); // UUID 확정
@@ -108,6 +109,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             SecurityContextHolder.getContext().setAuthentication(auth);
 
             req.setAttribute(USER_ID_ATTR, userId);
+            req.setAttribute(ACCESS_TOKEN_ATTR, token); // 이후 AuthHelper가 같은 토큰을 다시 파싱하지 않도록
             log.debug("🆔 setAttribute(USER_ID_ATTR)={}", userId);
 
             chain.doFilter(req, res);
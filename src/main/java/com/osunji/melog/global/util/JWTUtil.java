@@ -61,6 +61,16 @@ public class JWTUtil {
             .get("userId", String.class);
     }
 
+    /** 액세스 토큰 검증 + userId 추출을 한 번의 파싱으로 (getUserIdFromAccess와 같이 clock skew 없음) */
+    public String verifyAccessAndGetUserId(String token) {
+        return Jwts.parser()
+            .verifyWith(secretKey)
+            .build()
+            .parseSignedClaims(token)
+            .getPayload()
+            .get("userId", String.class);
+    }
+
     /* ===================== Refresh Token ===================== */
 
     public String createRefreshToken(String userId, long ttlMillis) {
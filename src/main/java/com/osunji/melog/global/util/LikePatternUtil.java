@@ -0,0 +1,31 @@
+package com.osunji.melog.global.util;
+
+/**
+ * LIKE 검색어 처리 (검색 fallback 쿼리 공용)
+ * - 사용자 입력의 %, _, \ 를 이스케이프 → 쿼리는 ESCAPE '\' 로 리터럴 매칭
+ * - pg_trgm 인덱스는 3글자 미만 검색어에는 쓰이지 않으므로, 짧은 검색어는 prefix(btree) 경로로 보냄
+ */
+public final class LikePatternUtil {
+
+	/** trigram 인덱스가 효과를 내는 최소 글자 수 */
+	public static final int TRIGRAM_MIN_LENGTH = 3;
+
+	private LikePatternUtil() {
+	}
+
+	/** LIKE 와일드카드/이스케이프 문자를 리터럴로 */
+	public static String escape(String term) {
+		StringBuilder sb = new StringBuilder(term.length() + 4);
+		for (int i = 0; i < term.length(); i++) {
+			char c = term.charAt(i);
+			if (c == '\\' || c == '%' || c == '_') sb.append('\\');
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	/** trigram 인덱스를 못 쓰는 짧은 검색어인지 */
+	public static boolean isShort(String term) {
+		return term.codePointCount(0, term.length()) < TRIGRAM_MIN_LENGTH;
+	}
+}
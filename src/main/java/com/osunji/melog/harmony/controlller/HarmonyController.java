@@ -117,6 +117,28 @@ public class HarmonyController {
 		}
 	}
 
+	/**
+	 * 5-1. 하모니룸 피드 (cursor 페이지) - GET /api/harmony/{harmonyID}/feed?sort=recent|popular&cursor=&size=
+	 */
+	@GetMapping("/harmony/{harmonyId}/feed")
+	public ResponseEntity<ApiMessage<HarmonyRoomResponse.RoomFeed>> getHarmonyRoomFeed(
+		@PathVariable String harmonyId,
+		@RequestParam(defaultValue = "recent") String sort,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size,
+		@RequestHeader(value = "Authorization", required = false) String authHeader) {
+
+		try {
+			HarmonyRoomResponse.RoomFeed response = harmonyService.getHarmonyRoomFeed(harmonyId, sort, cursor, size, authHeader);
+			return ResponseEntity.ok(ApiMessage.success(200, "조회 성공", response));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(ApiMessage.fail(400, e.getMessage()));
+		} catch (Exception e) {
+			log.error("하모니룸 피드 조회 실패: {}", e.getMessage(), e);
+			return ResponseEntity.internalServerError().body(ApiMessage.fail(500, "조회에 실패했습니다"));
+		}
+	}
+
 
 	/**
 	 * 6. 하모니룸 범용 정보 조회 - GET /api/harmony/{harmonyID}/information
@@ -230,16 +252,39 @@ public class HarmonyController {
 	}
 
 	/**
-	 * 11. 가입 승인 대기 유저 리스트 - GET /api/harmony/{harmonyID}/waitingUser
+	 * 10-1. 하모니룸 삭제 정리 진행 상황 - GET /api/harmony/{harmonyID}/delete/progress
+	 */
+	@GetMapping("/harmony/{harmonyId}/delete/progress")
+	public ResponseEntity<ApiMessage<HarmonyRoomResponse.DeletionProgress>> getDeletionProgress(
+		@PathVariable String harmonyId,
+		@RequestHeader("Authorization") String authHeader) {
+
+		try {
+			HarmonyRoomResponse.DeletionProgress response = harmonyService.getDeletionProgress(harmonyId, authHeader);
+			return ResponseEntity.ok(ApiMessage.success(200, "조회 성공", response));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(ApiMessage.fail(400, e.getMessage()));
+		} catch (SecurityException e) {
+			return ResponseEntity.status(403).body(ApiMessage.fail(403, "권한이 없습니다"));
+		} catch (Exception e) {
+			log.error("하모니룸 삭제 진행 상황 조회 실패: {}", e.getMessage(), e);
+			return ResponseEntity.internalServerError().body(ApiMessage.fail(500, "조회에 실패했습니다"));
+		}
+	}
+
+	/**
+	 * 11. 가입 승인 대기 유저 리스트 - GET /api/harmony/{harmonyID}/waitingUser?cursor=&size=
 	 */
 	@GetMapping("/harmony/{harmonyId}/waitingUser")
 	public ResponseEntity<ApiMessage<HarmonyRoomResponse.WaitingUsers>> getWaitingUsers(
-		@PathVariable String harmonyId) {
+		@PathVariable String harmonyId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "50") int size) {
 
 		log.info("⏳ controller line 231~ 가입 대기 유저 조회 요청: {}", harmonyId);
 
 		try {
-			HarmonyRoomResponse.WaitingUsers response = harmonyService.getWaitingUsers(harmonyId);
+			HarmonyRoomResponse.WaitingUsers response = harmonyService.getWaitingUsers(harmonyId, cursor, size);
 			return ResponseEntity.ok(ApiMessage.success(200, "조회 성공", response));
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest().body(ApiMessage.fail(400, e.getMessage()));
@@ -274,7 +319,7 @@ public class HarmonyController {
 
 
 	/**
-	 * 12-1. 가입 승인 - PATCH /api/harmony/{harmonyID}/approve
+	 * 12-1. 가입 승인 - PATCH /api/harmony/{harmonyID}/approve (userID 또는 userIDs 일괄)
 	 */
 	@PatchMapping("/harmony/{harmonyId}/approve")
 	public ResponseEntity<ApiMessage<Void>> approveUser(
@@ -295,7 +340,7 @@ public class HarmonyController {
 	}
 
 	/**
-	 * 12-2. 가입 거절 - PATCH /api/harmony/{harmonyID}/deny
+	 * 12-2. 가입 거절 - PATCH /api/harmony/{harmonyID}/deny (userID 또는 userIDs 일괄)
 	 */
 	@PatchMapping("/harmony/{harmonyId}/deny")
 	public ResponseEntity<ApiMessage<Void>> denyUser(
@@ -510,12 +555,14 @@ public class HarmonyController {
 		return ResponseEntity.status(response.getCode()).body(response);
 	}
 
-	// ========== 하모니룸 게시글 전체 댓글 조회 ==========
+	// ========== 하모니룸 게시글 전체 댓글 조회 (루트 댓글 cursor 페이지) ==========
 	@GetMapping("/harmony/posts/{harmonyPostId}/comments")
 	public ResponseEntity<ApiMessage<HarmonyRoomResponse.HarmonyRoomPostComments>> getHarmonyPostComments(
 		@PathVariable String harmonyPostId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "50") int size,
 		@RequestHeader(value = "Authorization", required = false) String authHeader) {
-		ApiMessage<HarmonyRoomResponse.HarmonyRoomPostComments> response = harmonyService.getHarmonyPostComments(harmonyPostId, authHeader);
+		ApiMessage<HarmonyRoomResponse.HarmonyRoomPostComments> response = harmonyService.getHarmonyPostComments(harmonyPostId, cursor, size, authHeader);
 		return ResponseEntity.status(response.getCode()).body(response);
 	}
 
@@ -117,6 +117,7 @@ public class HarmonyRoomRequest {
 	@Builder
 	public static class ApproveOrDeny {
 		private String userID;
+		private List<String> userIDs;   // 일괄 승인/거절 (userID와 함께 오면 합쳐서 처리)
 	}
 
 	@Getter
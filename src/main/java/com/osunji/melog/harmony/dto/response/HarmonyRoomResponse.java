@@ -7,6 +7,7 @@ import lombok.Builder;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class HarmonyRoomResponse {
 
@@ -96,6 +97,9 @@ public class HarmonyRoomResponse {
 		private String harmonyRoomName;
 		private List<PostResult> recommend;     // 추천 게시글
 		private List<PostResult> popular;       // 인기 게시글
+		private String recommendNextCursor;     // 추천 다음 페이지 cursor (getHarmonyRoomFeed sort=recent, 마지막이면 null)
+		private String popularNextCursor;       // 인기 다음 페이지 cursor (getHarmonyRoomFeed sort=popular, 마지막이면 null)
+		private boolean hasNext;                // 어느 쪽이든 이어서 받을 게시글이 있는지
 
 		@Data
 		@NoArgsConstructor
@@ -119,6 +123,8 @@ public class HarmonyRoomResponse {
 				private Integer likeCount;
 				private List<String> hiddenUser;
 				private Integer commentCount;
+				private Boolean isLiked;                // 현재 사용자 좋아요 여부 (비로그인 false)
+				private Boolean isBookmarked;           // 현재 사용자 북마크 여부 (비로그인 false)
 				private BestComment bestComment;
 
 				@Data
@@ -142,6 +148,20 @@ public class HarmonyRoomResponse {
 			}
 		}
 	}
+	/**
+	 * 하모니룸 피드 한 페이지 (cursor 기반)
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class RoomFeed {
+		private String harmonyRoomId;
+		private String harmonyRoomName;
+		private String sort;                                // recent | popular
+		private List<HarmonyRoomPosts.PostResult> posts;
+		private String nextCursor;                          // 다음 페이지 cursor (마지막 페이지면 null)
+	}
 	/**
 	 * 가입 대기 여부 응답 DTO
 	 */
@@ -228,6 +248,22 @@ public class HarmonyRoomResponse {
 		private Boolean bookmarked;     // true: 즐겨찾기 추가, false: 제거
 		private String message;         // "즐겨찾기에 추가되었습니다" / "즐겨찾기에서 제거되었습니다"
 	}
+	/**
+	 * 하모니룸 삭제 정리 진행 상황 응답 DTO
+	 */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class DeletionProgress {
+		private String harmonyRoomId;
+		private String status;                  // QUEUED | RUNNING | DONE | FAILED
+		private String currentStep;             // 정리 중인 테이블 (끝나면 null)
+		private Map<String, Long> deletedRows;  // 테이블별 삭제된 행 수
+		private LocalDateTime startedAt;
+		private LocalDateTime finishedAt;
+		private String error;
+	}
 	/**
 	 * 가입 승인 대기 유저 리스트 응답 DTO
 	 */
@@ -239,6 +275,7 @@ public class HarmonyRoomResponse {
 		private String harmonyRoomId;           // ✅ 하모니룸 고유 ID 추가
 		private String harmonyRoomName;
 		private List<WaitingUserInfo> waitingUsers;
+		private String nextCursor;              // 다음 페이지 cursor "{requestedAt}_{userId}" (마지막 페이지면 null)
 
 		@Data
 		@NoArgsConstructor
@@ -342,6 +379,7 @@ public class HarmonyRoomResponse {
 	@Builder
 	public static class HarmonyRoomPostComments {
 		private List<CommentData> comments;
+		private String nextCursor;          // 다음 루트 댓글 페이지 cursor (마지막 페이지면 null)
 
 		@Data
 		@NoArgsConstructor
@@ -354,8 +392,9 @@ public class HarmonyRoomResponse {
 			private String userNickname;
 			private String userProfileImgLink;
 			private Integer likeCount;
+			private Boolean isLiked;            // 조회자 좋아요 여부 (비로그인이면 false)
 			private String createdAgo;
-			private List<CommentData> replies;  // 재귀 구조
+			private List<CommentData> replies;  // 재귀 구조 (일정 깊이부터는 같은 단계로 펼침)
 		}
 	}
 		/**
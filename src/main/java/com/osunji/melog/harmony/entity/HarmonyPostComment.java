@@ -14,7 +14,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "harmony_post_comments")
+@Table(name = "harmony_post_comments",
+	indexes = {
+		@Index(name = "idx_harmony_post_comments_post_like_count", columnList = "harmony_post_id, like_count DESC, created_at"),
+		@Index(name = "idx_harmony_post_comments_post_created", columnList = "harmony_post_id, created_at, id"),
+		@Index(name = "idx_harmony_post_comments_parent", columnList = "parent_comment_id")
+	})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HarmonyPostComment {
@@ -75,10 +80,19 @@ public class HarmonyPostComment {
 	@JoinTable(
 		name = "harmony_comment_likes",
 		joinColumns = @JoinColumn(name = "comment_id"),
-		inverseJoinColumns = @JoinColumn(name = "user_id")
+		inverseJoinColumns = @JoinColumn(name = "user_id"),
+		uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "user_id"})
 	)
 	private List<User> likedUsers = new ArrayList<>();
 
+	/**
+	 * 좋아요 수 (harmony_comment_likes 비정규화 컬럼, 베스트 댓글 정렬용)
+	 * - 엔티티 flush로는 갱신하지 않고 HarmonyCommentRepository.adjustLikeCount로만 원자적으로 증감
+	 */
+	@Column(name = "like_count", nullable = false, updatable = false,
+		columnDefinition = "integer default 0")
+	private int likeCount = 0;
+
 	/**
 	 * 일반 댓글 생성자
 	 */
@@ -129,6 +143,7 @@ public class HarmonyPostComment {
 	public void addLike(User user) {
 		if (!this.likedUsers.contains(user)) {
 			this.likedUsers.add(user);
+			this.likeCount++;
 		}
 	}
 
@@ -136,14 +151,16 @@ public class HarmonyPostComment {
 	 * 좋아요 제거
 	 */
 	public void removeLike(User user) {
-		this.likedUsers.remove(user);
+		if (this.likedUsers.remove(user)) {
+			this.likeCount = Math.max(0, this.likeCount - 1);
+		}
 	}
 
 	/**
-	 * 좋아요 개수
+	 * 좋아요 개수 (비정규화 컬럼 - likedUsers 컬렉션을 로딩하지 않음)
 	 */
 	public int getLikeCount() {
-		return this.likedUsers.size();
+		return this.likeCount;
 	}
 
 	/**
@@ -8,6 +8,7 @@ import java.util.UUID;
 import com.osunji.melog.user.domain.User;
 import jakarta.persistence.*;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.type.SqlTypes;
 
 import lombok.AccessLevel;
@@ -17,6 +18,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "harmony_rooms")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -69,9 +71,10 @@ public class HarmonyRoom {
 	private Boolean isPrivate = false;
 
 	/**
-	 * 북마크 수 (기본 0)
+	 * 북마크 수 (기본 0) - harmony_bookmarks 비정규화 컬럼
+	 * - 엔티티 flush로는 갱신하지 않고 HarmonyRoomRepository.adjustBookMarkNum으로만 원자적으로 증감
 	 */
-	@Column(nullable = false)
+	@Column(nullable = false, updatable = false)
 	private Integer bookMarkNum = 0;
 
 	/**
@@ -85,6 +88,12 @@ public class HarmonyRoom {
 	 */
 	private String profileImageUrl;
 
+	/**
+	 * 삭제 표시 시간 (tombstone) - null이 아니면 모든 JPA 조회에서 제외되고,
+	 * 연관 데이터는 HarmonyRoomTeardownService가 나눠서 지운 뒤 행 자체를 삭제
+	 */
+	private LocalDateTime deletedAt;
+
 	// ========== 생성 메서드 ==========
 
 	/**
@@ -169,6 +178,15 @@ public class HarmonyRoom {
 			this.bookMarkNum--;
 		}
 	}
+	/**
+	 * 삭제 표시 (tombstone)
+	 */
+	public void markDeleted() {
+		if (this.deletedAt == null) {
+			this.deletedAt = LocalDateTime.now();
+		}
+	}
+
 	/**
 	 * 소유자 확인
 	 */
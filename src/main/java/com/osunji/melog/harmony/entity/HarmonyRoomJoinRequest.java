@@ -0,0 +1,69 @@
+package com.osunji.melog.harmony.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.osunji.melog.user.domain.User;
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하모니룸 가입 신청 (룸 + 사용자당 1행)
+ * - (harmony_room_id, user_id) 유니크 → 신청 여부 확인은 인덱스 조회 1회
+ * - 승인/거절 시 행을 지우지 않고 상태와 처리 시각만 변경, 재신청은 같은 행을 WAITING으로 되돌림
+ */
+@Entity
+@Table(name = "harmony_room_join_requests",
+	uniqueConstraints = @UniqueConstraint(name = "uk_harmony_room_join_requests_room_user",
+		columnNames = {"harmony_room_id", "user_id"}),
+	indexes = @Index(name = "idx_harmony_room_join_requests_room_status_requested",
+		columnList = "harmony_room_id, status, requested_at, user_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HarmonyRoomJoinRequest {
+
+	public enum Status { WAITING, APPROVED, DENIED }
+
+	/**
+	 * 고유 ID
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(columnDefinition = "uuid")
+	private UUID id;
+
+	/**
+	 * 하모니룸 (FK)
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "harmony_room_id", nullable = false)
+	private HarmonyRoom harmonyRoom;
+
+	/**
+	 * 신청한 사용자 (FK)
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	/**
+	 * 신청 상태 (WAITING/APPROVED/DENIED)
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private Status status;
+
+	/**
+	 * 신청 시간 (재신청 시 갱신)
+	 */
+	@Column(nullable = false)
+	private LocalDateTime requestedAt;
+
+	/**
+	 * 승인/거절 처리 시간 (대기 중이면 null)
+	 */
+	private LocalDateTime decidedAt;
+}
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "harmony_room_members")
+@Table(name = "harmony_room_members",
+	indexes = @Index(name = "idx_harmony_room_members_room_joined", columnList = "harmony_room_id, joined_at DESC"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
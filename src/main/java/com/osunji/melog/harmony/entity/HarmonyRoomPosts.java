@@ -22,7 +22,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "harmony_room_posts")
+@Table(name = "harmony_room_posts",
+	indexes = {
+		@Index(name = "idx_harmony_room_posts_room_created", columnList = "harmony_room_id, created_at DESC, id DESC"),
+		@Index(name = "idx_harmony_room_posts_room_like_count", columnList = "harmony_room_id, like_count DESC, id DESC")
+	})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -87,6 +91,30 @@ public class HarmonyRoomPosts {
 	@Builder.Default
 	private LocalDateTime createdAt = LocalDateTime.now();
 
+	/**
+	 * 좋아요 수 (비정규화 - harmony_post_likes와 원자적 UPDATE로 동기화)
+	 */
+	@Column(name = "like_count", nullable = false, updatable = false,
+		columnDefinition = "integer default 0")
+	@Builder.Default
+	private int likeCount = 0;
+
+	/**
+	 * 댓글 수 (비정규화 - 대댓글 포함, harmony_post_comments와 원자적 UPDATE로 동기화)
+	 */
+	@Column(name = "comment_count", nullable = false, updatable = false,
+		columnDefinition = "integer default 0")
+	@Builder.Default
+	private int commentCount = 0;
+
+	/**
+	 * 북마크 수 (비정규화 - harmony_post_bookmarks와 원자적 UPDATE로 동기화)
+	 */
+	@Column(name = "bookmark_count", nullable = false, updatable = false,
+		columnDefinition = "integer default 0")
+	@Builder.Default
+	private int bookmarkCount = 0;
+
 	//  좋아요 관계
 	@OneToMany(mappedBy = "harmonyPost", cascade = CascadeType.ALL, orphanRemoval = true)
 	@Builder.Default
@@ -1,12 +1,17 @@
 package com.osunji.melog.harmony.repository;
 
+import com.osunji.melog.global.common.CommentTree;
 import com.osunji.melog.harmony.entity.HarmonyPostComment;
 import com.osunji.melog.harmony.entity.HarmonyRoomPosts;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,20 +28,94 @@ public interface HarmonyCommentRepository extends JpaRepository<HarmonyPostComme
 		"ORDER BY c.createdAt ASC")
 	List<HarmonyPostComment> findHarmonyPostCommentAll(@Param("harmonyPostId") UUID harmonyPostId);
 
+	/**
+	 * 댓글 스레드 한 페이지 - 루트 댓글 limit개 (작성 순, (createdAt, id) 이후) + 그 자손을 쿼리 1회로
+	 * - 루트는 (harmony_post_id, created_at, id) 인덱스, 자손은 parent_comment_id 인덱스로 재귀 조회
+	 * - 자손은 부모당 replyLimit개까지만 따라가고, 루트당 작성 순 replyLimit개까지만 반환
+	 * - 조회자 좋아요 여부는 EXISTS (비로그인이면 CommentTree.NO_VIEWER)
+	 * - 트리 조립은 CommentTree.build
+	 */
+	@Query(value = """
+		WITH RECURSIVE roots AS (
+		    SELECT c.id, c.created_at FROM harmony_post_comments c
+		    WHERE c.harmony_post_id = :postId AND c.parent_comment_id IS NULL
+		      AND (c.created_at, c.id) > (:afterCreatedAt, :afterId)
+		    ORDER BY c.created_at, c.id
+		    LIMIT :limit
+		), thread AS (
+		    SELECT r.id, r.id AS root_id, r.created_at FROM roots r
+		    UNION ALL
+		    SELECT c.id, t.root_id, c.created_at FROM thread t
+		    CROSS JOIN LATERAL (
+		        SELECT ch.id, ch.created_at FROM harmony_post_comments ch
+		        WHERE ch.parent_comment_id = t.id
+		        ORDER BY ch.created_at, ch.id
+		        LIMIT :replyLimit
+		    ) c
+		), capped AS (
+		    SELECT n.id FROM (
+		        SELECT t.id, ROW_NUMBER() OVER (PARTITION BY t.root_id
+		                                        ORDER BY (t.id = t.root_id) DESC, t.created_at, t.id) AS rn
+		        FROM thread t
+		    ) n
+		    WHERE n.rn <= :replyLimit + 1
+		)
+		SELECT c.id AS id, c.parent_comment_id AS parentId, c.content AS content, c.created_at AS createdAt,
+		       c.like_count AS likeCount, u.id AS userId, u.nickname AS nickname, u.profile_image_url AS profileImageUrl,
+		       EXISTS (SELECT 1 FROM harmony_comment_likes l WHERE l.comment_id = c.id AND l.user_id = :viewerId) AS liked
+		FROM capped t
+		JOIN harmony_post_comments c ON c.id = t.id
+		JOIN users u ON u.id = c.user_id
+		ORDER BY c.parent_comment_id NULLS FIRST, c.created_at, c.id
+		""", nativeQuery = true)
+	List<CommentTree.Row> findThreadPage(@Param("postId") UUID postId,
+									   @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+									   @Param("afterId") UUID afterId,
+									   @Param("limit") int limit,
+									   @Param("replyLimit") int replyLimit,
+									   @Param("viewerId") UUID viewerId);
+
+	/**
+	 * 댓글 + 모든 자손 댓글 ID - parent_comment_id 인덱스로 재귀 조회 (쿼리 1회)
+	 */
+	@Query(value = """
+		WITH RECURSIVE thread AS (
+		    SELECT c.id FROM harmony_post_comments c WHERE c.id = :commentId
+		    UNION ALL
+		    SELECT c.id FROM harmony_post_comments c JOIN thread t ON c.parent_comment_id = t.id
+		)
+		SELECT t.id FROM thread t
+		""", nativeQuery = true)
+	List<UUID> findThreadIds(@Param("commentId") UUID commentId);
+
+	/**
+	 * 여러 댓글의 좋아요 행 삭제 (스레드 삭제용)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "DELETE FROM harmony_comment_likes WHERE comment_id IN (:commentIds)", nativeQuery = true)
+	int deleteLikesByCommentIds(@Param("commentIds") List<UUID> commentIds);
+
+	/**
+	 * 여러 댓글 삭제 - 삭제된 행 수 반환 (부모/자식이 같은 문장에서 지워지므로 FK는 문장 끝에 만족)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "DELETE FROM harmony_post_comments WHERE id IN (:commentIds)", nativeQuery = true)
+	int deleteAllByIdIn(@Param("commentIds") List<UUID> commentIds);
+
 	//---------------베스트 댓글 조회-----------------//
 	/**
-	 * 특정 하모니룸 게시글의 베스트 댓글 - 좋아요 수가 가장 많은 댓글
+	 * 특정 하모니룸 게시글의 베스트 댓글 후보 - (harmony_post_id, like_count DESC, created_at) 인덱스 순서대로 pageable개만
 	 */
-	@Query("SELECT c FROM HarmonyPostComment c " +
+	@Query("SELECT c FROM HarmonyPostComment c JOIN FETCH c.user " +
 		"WHERE c.harmonyPost.id = :harmonyPostId " +
-		"ORDER BY SIZE(c.likedUsers) DESC, c.createdAt ASC")
-	List<HarmonyPostComment> findBestComments(@Param("harmonyPostId") UUID harmonyPostId);
+		"ORDER BY c.likeCount DESC, c.createdAt ASC")
+	List<HarmonyPostComment> findBestComments(@Param("harmonyPostId") UUID harmonyPostId, Pageable pageable);
 
 	/**
-	 * 베스트 댓글 단일 조회
+	 * 베스트 댓글 단일 조회 (인덱스 top-1)
 	 */
 	default Optional<HarmonyPostComment> findBestComment(UUID harmonyPostId) {
-		List<HarmonyPostComment> comments = findBestComments(harmonyPostId);
+		List<HarmonyPostComment> comments = findBestComments(harmonyPostId, PageRequest.of(0, 1));
 		return comments.isEmpty() ? Optional.empty() : Optional.of(comments.get(0));
 	}
 
@@ -51,7 +130,7 @@ public interface HarmonyCommentRepository extends JpaRepository<HarmonyPostComme
 	/**
 	 * 특정 댓글의 좋아요 수 조회
 	 */
-	@Query("SELECT SIZE(c.likedUsers) FROM HarmonyPostComment c WHERE c.id = :commentId")
+	@Query("SELECT c.likeCount FROM HarmonyPostComment c WHERE c.id = :commentId")
 	int countHarmonyCommentLike(@Param("commentId") UUID commentId);
 
 	/**
@@ -62,6 +141,29 @@ public interface HarmonyCommentRepository extends JpaRepository<HarmonyPostComme
 		"WHERE c.id = :commentId AND u.id = :userId")
 	boolean isHarmonyCommentLikedBy(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
 
+	/**
+	 * like_count 원자적 증감
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyPostComment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+	int adjustLikeCount(@Param("commentId") UUID commentId, @Param("delta") int delta);
+
+	/**
+	 * harmony_comment_likes 행 삭제 - 삭제된 행 수(0/1) 반환 (likedUsers 컬렉션 로딩 없음)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "DELETE FROM harmony_comment_likes WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+	int deleteLike(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+	/**
+	 * harmony_comment_likes 행 추가 - 이미 있으면 0 (동시 요청도 unique 제약에서 충돌 없이 0)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO harmony_comment_likes (comment_id, user_id) VALUES (:commentId, :userId) " +
+		"ON CONFLICT (comment_id, user_id) DO NOTHING", nativeQuery = true)
+	int insertLike(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+
 	//---------------통계 관련-----------------//
 	/**
 	 * 특정 하모니룸 게시글의 총 댓글 수 조회
@@ -108,27 +210,24 @@ public interface HarmonyCommentRepository extends JpaRepository<HarmonyPostComme
 		"ORDER BY c.createdAt DESC")
 	List<HarmonyPostComment> findCommentsByHarmonyRoomId(@Param("harmonyRoomId") UUID harmonyRoomId);
 	/**
-	 * 여러 게시글의 베스트 댓글을 한 번에 조회 (배치 처리)
+	 * 여러 게시글의 베스트 댓글 ID (배치 처리)
+	 * - 게시글마다 LATERAL로 (harmony_post_id, like_count DESC, created_at) 인덱스 첫 행만 읽음
+	 *   → 페이지 크기만큼의 인덱스 탐색, 게시글별 댓글 수와 무관
 	 */
-	@Query("SELECT c FROM HarmonyPostComment c " +
-		"JOIN FETCH c.user " +
-		"WHERE c.harmonyPost.id IN :postIds " +
-		"AND c.id IN (" +
-		"    SELECT c2.id FROM HarmonyPostComment c2 " +
-		"    WHERE c2.harmonyPost.id = c.harmonyPost.id " +
-		"    ORDER BY SIZE(c2.likedUsers) DESC, c2.createdAt ASC " +
-		"    LIMIT 1" +
-		")")
-	List<HarmonyPostComment> findBestCommentsForMultiplePosts(@Param("postIds") List<UUID> postIds);
+	@Query(value = "SELECT b.id FROM harmony_room_posts p " +
+		"CROSS JOIN LATERAL (" +
+		"  SELECT c.id FROM harmony_post_comments c " +
+		"  WHERE c.harmony_post_id = p.id " +
+		"  ORDER BY c.like_count DESC, c.created_at ASC " +
+		"  LIMIT 1) b " +
+		"WHERE p.id IN (:postIds)", nativeQuery = true)
+	List<UUID> findBestCommentIdsByPostIds(@Param("postIds") List<UUID> postIds);
 
 	/**
-	 * 더 간단한 버전 (JPQL LIMIT이 지원되지 않는 경우)xx
+	 * ID 리스트로 댓글 + 작성자 조회
 	 */
-	@Query("SELECT c FROM HarmonyPostComment c " +
-		"JOIN FETCH c.user " +
-		"WHERE c.harmonyPost.id IN :postIds " +
-		"ORDER BY c.harmonyPost.id, SIZE(c.likedUsers) DESC, c.createdAt ASC")
-	List<HarmonyPostComment> findAllCommentsForPosts(@Param("postIds") List<UUID> postIds);
+	@Query("SELECT c FROM HarmonyPostComment c JOIN FETCH c.user WHERE c.id IN :commentIds")
+	List<HarmonyPostComment> findAllWithUserByIdIn(@Param("commentIds") List<UUID> commentIds);
 
 
 	// 특정 게시글 최상위 댓글 조회(대댓글 제외)
@@ -0,0 +1,39 @@
+package com.osunji.melog.harmony.repository;
+
+import com.osunji.melog.harmony.entity.HarmonyPostLike;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface HarmonyPostLikeRepository extends JpaRepository<HarmonyPostLike, UUID> {
+
+	//---------------좋아요 토글 (likes 컬렉션 로딩 없음)-----------------//
+	/**
+	 * 특정 사용자의 게시글 좋아요 여부
+	 */
+	boolean existsByHarmonyPostIdAndUserId(UUID harmonyPostId, UUID userId);
+
+	/**
+	 * 좋아요 행 삭제 - 삭제된 행 수(0/1)를 그대로 like_count 증감에 사용
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM HarmonyPostLike l WHERE l.harmonyPost.id = :harmonyPostId AND l.user.id = :userId")
+	int deleteByHarmonyPostIdAndUserId(@Param("harmonyPostId") UUID harmonyPostId, @Param("userId") UUID userId);
+
+	/**
+	 * 좋아요 행 추가 - 이미 있으면 0 (동시 요청도 unique 제약에서 충돌 없이 0), 추가된 행 수를 like_count 증감에 사용
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO harmony_post_likes (id, harmony_post_id, user_id, created_at) " +
+		"VALUES (:id, :harmonyPostId, :userId, :createdAt) " +
+		"ON CONFLICT (harmony_post_id, user_id) DO NOTHING", nativeQuery = true)
+	int insertLike(@Param("id") UUID id, @Param("harmonyPostId") UUID harmonyPostId,
+		@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt);
+}
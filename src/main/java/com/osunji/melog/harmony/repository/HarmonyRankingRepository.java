@@ -0,0 +1,82 @@
+package com.osunji.melog.harmony.repository;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 하모니룸 북마크 랭킹 (Redis ZSET)
+ * - harmony:bookmark-rank = { roomId : 북마크 수 }
+ * - 등수 = (점수가 더 큰 룸 수) + 1 → 동점은 같은 등수 (기존 COUNT(h)+1 쿼리와 동일한 의미)
+ */
+@Repository
+public class HarmonyRankingRepository {
+
+	private static final String KEY = "harmony:bookmark-rank";
+	private static final String REBUILD_KEY = KEY + ":rebuild";
+
+	private final StringRedisTemplate redis;
+
+	public HarmonyRankingRepository(StringRedisTemplate redis) {
+		this.redis = redis;
+	}
+
+	/** 랭킹 항목 (roomId + 북마크 수) */
+	public record Entry(UUID roomId, long bookmarkCount) {}
+
+	/** 북마크 수 원자적 증감 (ZINCRBY) */
+	public void increment(UUID roomId, long delta) {
+		redis.opsForZSet().incrementScore(KEY, roomId.toString(), delta);
+	}
+
+	/** 룸 제거 (하모니룸 삭제) */
+	public void remove(UUID roomId) {
+		redis.opsForZSet().remove(KEY, roomId.toString());
+	}
+
+	/** 북마크 수 (랭킹에 없으면 null) */
+	public Long score(UUID roomId) {
+		Double score = redis.opsForZSet().score(KEY, roomId.toString());
+		return score == null ? null : score.longValue();
+	}
+
+	/** 주어진 북마크 수의 등수 - O(log n) */
+	public long rankOf(long bookmarkCount) {
+		// 점수는 정수이므로 +0.5 이상 = 더 큰 점수 (exclusive 하한)
+		Long higher = redis.opsForZSet().count(KEY, bookmarkCount + 0.5, Double.POSITIVE_INFINITY);
+		return (higher == null ? 0 : higher) + 1;
+	}
+
+	/** 북마크 수 상위 limit개 - O(log n + limit) */
+	public List<Entry> top(int limit) {
+		Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet().reverseRangeWithScores(KEY, 0, limit - 1);
+		if (tuples == null || tuples.isEmpty()) return Collections.emptyList();
+		List<Entry> result = new ArrayList<>(tuples.size());
+		for (ZSetOperations.TypedTuple<String> t : tuples) {
+			if (t.getValue() == null || t.getScore() == null) continue;
+			result.add(new Entry(UUID.fromString(t.getValue()), t.getScore().longValue()));
+		}
+		return result;
+	}
+
+	/** 전체 재구성 - 임시 키에 채운 뒤 RENAME으로 교체 (읽는 쪽은 항상 완성된 랭킹만 봄) */
+	public void replaceAll(Map<UUID, Long> counts) {
+		if (counts.isEmpty()) {
+			redis.delete(KEY);
+			return;
+		}
+		Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+		counts.forEach((roomId, count) -> tuples.add(ZSetOperations.TypedTuple.of(roomId.toString(), count.doubleValue())));
+		redis.delete(REBUILD_KEY);
+		redis.opsForZSet().add(REBUILD_KEY, tuples);
+		redis.rename(REBUILD_KEY, KEY);
+	}
+}
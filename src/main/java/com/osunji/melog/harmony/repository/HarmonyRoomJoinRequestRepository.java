@@ -0,0 +1,115 @@
+package com.osunji.melog.harmony.repository;
+
+import com.osunji.melog.harmony.entity.HarmonyRoomJoinRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HarmonyRoomJoinRequestRepository extends JpaRepository<HarmonyRoomJoinRequest, UUID> {
+
+	/**
+	 * 가입 대기자 한 행 - 신청 시각 + 사용자 프로필 컬럼만
+	 */
+	interface WaitingRow {
+		UUID getUserId();
+		String getNickname();
+		String getProfileImageUrl();
+		String getIntro();
+		LocalDateTime getRequestedAt();
+	}
+
+	//---------------조회-----------------//
+
+	/**
+	 * 사용자가 특정 하모니룸에 가입 대기 중인지 - (room, user) 유니크 인덱스 조회 1회
+	 */
+	@Query("SELECT COUNT(r) > 0 FROM HarmonyRoomJoinRequest r " +
+		"WHERE r.harmonyRoom.id = :harmonyRoomId AND r.user.id = :userId " +
+		"AND r.status = com.osunji.melog.harmony.entity.HarmonyRoomJoinRequest.Status.WAITING")
+	boolean isWaiting(@Param("harmonyRoomId") UUID harmonyRoomId, @Param("userId") UUID userId);
+
+	/**
+	 * 가입 대기자 첫 페이지 (신청 순)
+	 */
+	@Query("SELECT u.id AS userId, u.nickname AS nickname, u.profileImageUrl AS profileImageUrl, " +
+		"u.intro AS intro, r.requestedAt AS requestedAt " +
+		"FROM HarmonyRoomJoinRequest r JOIN r.user u " +
+		"WHERE r.harmonyRoom.id = :harmonyRoomId " +
+		"AND r.status = com.osunji.melog.harmony.entity.HarmonyRoomJoinRequest.Status.WAITING " +
+		"ORDER BY r.requestedAt ASC, u.id ASC")
+	List<WaitingRow> findWaiting(@Param("harmonyRoomId") UUID harmonyRoomId, Pageable pageable);
+
+	/**
+	 * 가입 대기자 다음 페이지 - (requestedAt, userId) 이후 (keyset)
+	 */
+	@Query("SELECT u.id AS userId, u.nickname AS nickname, u.profileImageUrl AS profileImageUrl, " +
+		"u.intro AS intro, r.requestedAt AS requestedAt " +
+		"FROM HarmonyRoomJoinRequest r JOIN r.user u " +
+		"WHERE r.harmonyRoom.id = :harmonyRoomId " +
+		"AND r.status = com.osunji.melog.harmony.entity.HarmonyRoomJoinRequest.Status.WAITING " +
+		"AND (r.requestedAt > :requestedAt OR (r.requestedAt = :requestedAt AND u.id > :userId)) " +
+		"ORDER BY r.requestedAt ASC, u.id ASC")
+	List<WaitingRow> findWaitingAfter(@Param("harmonyRoomId") UUID harmonyRoomId,
+									  @Param("requestedAt") LocalDateTime requestedAt,
+									  @Param("userId") UUID userId,
+									  Pageable pageable);
+
+	//---------------신청/처리-----------------//
+
+	/**
+	 * 가입 신청 (upsert)
+	 * - 처음이면 INSERT, 이전에 승인/거절된 행이면 WAITING으로 되돌림
+	 * @return 1 = 신청됨, 0 = 이미 대기 중
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO harmony_room_join_requests (id, harmony_room_id, user_id, status, requested_at, decided_at)
+		VALUES (:id, :harmonyRoomId, :userId, 'WAITING', :now, NULL)
+		ON CONFLICT (harmony_room_id, user_id) DO UPDATE
+		SET status = 'WAITING', requested_at = EXCLUDED.requested_at, decided_at = NULL
+		WHERE harmony_room_join_requests.status <> 'WAITING'
+		""", nativeQuery = true)
+	int request(@Param("id") UUID id,
+				@Param("harmonyRoomId") UUID harmonyRoomId,
+				@Param("userId") UUID userId,
+				@Param("now") LocalDateTime now);
+
+	/**
+	 * 대기 중인 신청자들을 한 번에 멤버로 추가 (이미 멤버인 사용자는 제외)
+	 * - 반드시 decide(APPROVED) 전에 호출 (WAITING 상태인 행만 대상)
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO harmony_room_members (id, harmony_room_id, user_id, role, joined_at)
+		SELECT gen_random_uuid(), r.harmony_room_id, r.user_id, 'MEMBER', :now
+		FROM harmony_room_join_requests r
+		WHERE r.harmony_room_id = :harmonyRoomId AND r.user_id IN (:userIds) AND r.status = 'WAITING'
+		  AND NOT EXISTS (SELECT 1 FROM harmony_room_members m
+		                  WHERE m.harmony_room_id = r.harmony_room_id AND m.user_id = r.user_id)
+		""", nativeQuery = true)
+	int insertMembersFromWaiting(@Param("harmonyRoomId") UUID harmonyRoomId,
+								 @Param("userIds") Collection<UUID> userIds,
+								 @Param("now") LocalDateTime now);
+
+	/**
+	 * 대기 중인 신청들을 일괄 승인/거절 (UPDATE 1회)
+	 * @return 처리된 신청 수 (대기 중이 아니던 사용자는 제외)
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyRoomJoinRequest r SET r.status = :status, r.decidedAt = :now " +
+		"WHERE r.harmonyRoom.id = :harmonyRoomId AND r.user.id IN :userIds " +
+		"AND r.status = com.osunji.melog.harmony.entity.HarmonyRoomJoinRequest.Status.WAITING")
+	int decide(@Param("harmonyRoomId") UUID harmonyRoomId,
+			   @Param("userIds") Collection<UUID> userIds,
+			   @Param("status") HarmonyRoomJoinRequest.Status status,
+			   @Param("now") LocalDateTime now);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,4 +40,27 @@ public interface HarmonyRoomMembersRepository extends JpaRepository<HarmonyRoomM
 	 * 사용자의 하모니룸 멤버십 삭제
 	 */
 	void deleteByHarmonyRoomAndUser(HarmonyRoom harmonyRoom, User user);
+
+	//---------------룸 요약 (멤버 수 / 아바타) 배치 조회-----------------//
+	/**
+	 * 여러 하모니룸의 멤버 수 - [roomId, count] (멤버 없는 룸은 행 없음)
+	 */
+	@Query("SELECT m.harmonyRoom.id, COUNT(m) FROM HarmonyRoomMembers m " +
+		"WHERE m.harmonyRoom.id IN :roomIds GROUP BY m.harmonyRoom.id")
+	List<Object[]> countByHarmonyRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+
+	/**
+	 * 여러 하모니룸의 최근 가입 멤버 프로필 이미지 룸별 최대 perRoom개 - [roomId, profileImageUrl]
+	 * - 윈도우 함수 한 번, (harmony_room_id, joined_at) 인덱스 사용
+	 */
+	@Query(value = "SELECT t.harmony_room_id, t.profile_image_url FROM (" +
+		"  SELECT m.harmony_room_id, u.profile_image_url, " +
+		"         ROW_NUMBER() OVER (PARTITION BY m.harmony_room_id ORDER BY m.joined_at DESC) AS rn " +
+		"  FROM harmony_room_members m JOIN users u ON u.id = m.user_id " +
+		"  WHERE m.harmony_room_id IN (:roomIds) " +
+		"    AND u.profile_image_url IS NOT NULL AND u.profile_image_url <> '') t " +
+		"WHERE t.rn <= :perRoom " +
+		"ORDER BY t.harmony_room_id, t.rn", nativeQuery = true)
+	List<Object[]> findRecentAvatarsByHarmonyRoomIds(@Param("roomIds") Collection<UUID> roomIds,
+		@Param("perRoom") int perRoom);
 }
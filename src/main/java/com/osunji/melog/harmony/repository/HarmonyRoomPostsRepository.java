@@ -3,12 +3,15 @@ package com.osunji.melog.harmony.repository;
 import com.osunji.melog.harmony.entity.HarmonyRoom;
 import com.osunji.melog.harmony.entity.HarmonyRoomPosts;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,9 +19,49 @@ import java.util.UUID;
 @Repository
 public interface HarmonyRoomPostsRepository extends JpaRepository<HarmonyRoomPosts, UUID> {
 	/**
-	 * 여러 하모니룸에서 미디어가 있는 게시글만 조회 (최신순)
+	 * 최근 미디어 한 행 - 게시글/룸/작성자 컬럼만
 	 */
-	List<HarmonyRoomPosts> findByHarmonyRoomInAndMediaTypeIsNotNullOrderByCreatedAtDesc(List<HarmonyRoom> harmonyRooms);
+	interface RecentMediaRow {
+		UUID getPostId();
+		String getMediaUrl();
+		String getMediaType();
+		LocalDateTime getCreatedAt();
+		UUID getHarmonyRoomId();
+		String getHarmonyRoomName();
+		String getUserNickname();
+		String getUserProfileImageUrl();
+	}
+
+	/**
+	 * 사용자가 속한 하모니룸들의 최근 미디어 게시글 limit개 (top-N merge)
+	 * - 룸마다 (harmony_room_id, created_at DESC) WHERE media_type IS NOT NULL 부분 인덱스로 최대 limit개만 읽고,
+	 *   합친 뒤 다시 limit → 룸 게시글 이력이 길어져도 읽는 행 수는 (룸 수 × limit) 이하
+	 * - 룸/작성자 조인은 최종 limit개에만
+	 */
+	@Query(value = """
+		SELECT t.id AS postId, t.media_url AS mediaUrl, t.media_type AS mediaType, t.created_at AS createdAt,
+		       r.id AS harmonyRoomId, r.name AS harmonyRoomName,
+		       u.nickname AS userNickname, u.profile_image_url AS userProfileImageUrl
+		FROM (
+		    SELECT p.id, p.media_url, p.media_type, p.created_at, p.harmony_room_id, p.user_id
+		    FROM harmony_room_members m
+		    CROSS JOIN LATERAL (
+		        SELECT p2.id, p2.media_url, p2.media_type, p2.created_at, p2.harmony_room_id, p2.user_id
+		        FROM harmony_room_posts p2
+		        WHERE p2.harmony_room_id = m.harmony_room_id
+		          AND p2.media_type IS NOT NULL AND p2.media_url IS NOT NULL
+		        ORDER BY p2.created_at DESC
+		        LIMIT :limit
+		    ) p
+		    WHERE m.user_id = :userId
+		    ORDER BY p.created_at DESC
+		    LIMIT :limit
+		) t
+		JOIN harmony_rooms r ON r.id = t.harmony_room_id AND r.deleted_at IS NULL
+		JOIN users u ON u.id = t.user_id
+		ORDER BY t.created_at DESC
+		""", nativeQuery = true)
+	List<RecentMediaRow> findRecentMediaForMember(@Param("userId") UUID userId, @Param("limit") int limit);
 
 	/**
 	 * 특정 하모니룸에서 미디어가 있는 게시글만 조회
@@ -33,10 +76,6 @@ public interface HarmonyRoomPostsRepository extends JpaRepository<HarmonyRoomPos
 		"WHERE p.id = :id")
 	Optional<HarmonyRoomPosts> findByIdWithAssociations(@Param("id") UUID id);
 
-	// 좋아요 관계만 fetch join
-	@Query("SELECT p FROM HarmonyRoomPosts p LEFT JOIN FETCH p.likes WHERE p.id = :id")
-	Optional<HarmonyRoomPosts> findByIdWithLikes(@Param("id") UUID id);
-
 	/**
 	 * ✅ 특정 미디어 타입만 조회 (예: "youtube"만)
 	 */
@@ -66,20 +105,6 @@ public interface HarmonyRoomPostsRepository extends JpaRepository<HarmonyRoomPos
 	 */
 	@Query("SELECT h FROM HarmonyRoomPosts h WHERE h.harmonyRoom IN :harmonyRooms")
 	List<HarmonyRoomPosts> findByHarmonyRoomIn(@Param("harmonyRooms") List<HarmonyRoom> harmonyRooms);
-	/**
-	 * ✅ 모든 연관 데이터와 함께 조회 (N+1 문제 해결)
-	 */
-	@Query("SELECT DISTINCT p FROM HarmonyRoomPosts p " +
-		"LEFT JOIN FETCH p.user " +
-		"LEFT JOIN FETCH p.likes l " +
-		"LEFT JOIN FETCH l.user " +
-		"LEFT JOIN FETCH p.bookmarks b " +
-		"LEFT JOIN FETCH b.user " +
-		"LEFT JOIN FETCH p.comments c " +
-		"LEFT JOIN FETCH c.user " +
-		"WHERE p.harmonyRoom = :harmonyRoom " +
-		"ORDER BY p.createdAt DESC")
-	List<HarmonyRoomPosts> findByHarmonyRoomWithAllAssociations(@Param("harmonyRoom") HarmonyRoom harmonyRoom);
 	// 유저별 게시글 목록 조회 (최신순)
 	@Query("SELECT p FROM HarmonyRoomPosts p WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
 	List<HarmonyRoomPosts> findAllByUserIdOrderByCreatedAtDesc(@Param("userId") UUID userId);
@@ -98,4 +123,103 @@ public interface HarmonyRoomPostsRepository extends JpaRepository<HarmonyRoomPos
 		@Param("userId") UUID userId,
 		@Param("currentUserId") UUID currentUserId);
 
+	//---------------하모니룸 피드 (keyset 페이지)-----------------//
+	/**
+	 * 피드 한 행 - 게시글/작성자 컬럼 + 비정규화 카운터만 (연관 컬렉션 로딩 없음)
+	 */
+	interface FeedRow {
+		UUID getId();
+		String getContent();
+		String getMediaType();
+		String getMediaUrl();
+		List<String> getTags();
+		LocalDateTime getCreatedAt();
+		int getLikeCount();
+		int getCommentCount();
+		UUID getUserId();
+		String getNickname();
+		String getProfileImageUrl();
+	}
+
+	String FEED_SELECT = "SELECT p.id AS id, p.content AS content, p.mediaType AS mediaType, p.mediaUrl AS mediaUrl, " +
+		"p.tags AS tags, p.createdAt AS createdAt, p.likeCount AS likeCount, p.commentCount AS commentCount, " +
+		"u.id AS userId, u.nickname AS nickname, u.profileImageUrl AS profileImageUrl " +
+		"FROM HarmonyRoomPosts p JOIN p.user u ";
+
+	/**
+	 * 최신순 첫 페이지
+	 */
+	@Query(FEED_SELECT +
+		"WHERE p.harmonyRoom.id = :roomId " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<FeedRow> findRecentFeed(@Param("roomId") UUID roomId, Pageable pageable);
+
+	/**
+	 * 최신순 다음 페이지 - (createdAt, id) 커서 이후
+	 */
+	@Query(FEED_SELECT +
+		"WHERE p.harmonyRoom.id = :roomId " +
+		"AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<FeedRow> findRecentFeedAfter(@Param("roomId") UUID roomId,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") UUID id,
+		Pageable pageable);
+
+	/**
+	 * 인기순(좋아요) 첫 페이지
+	 */
+	@Query(FEED_SELECT +
+		"WHERE p.harmonyRoom.id = :roomId " +
+		"ORDER BY p.likeCount DESC, p.id DESC")
+	List<FeedRow> findPopularFeed(@Param("roomId") UUID roomId, Pageable pageable);
+
+	/**
+	 * 인기순 다음 페이지 - (likeCount, id) 커서 이후
+	 */
+	@Query(FEED_SELECT +
+		"WHERE p.harmonyRoom.id = :roomId " +
+		"AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) " +
+		"ORDER BY p.likeCount DESC, p.id DESC")
+	List<FeedRow> findPopularFeedAfter(@Param("roomId") UUID roomId,
+		@Param("likeCount") int likeCount,
+		@Param("id") UUID id,
+		Pageable pageable);
+
+	/**
+	 * postIds 중 userId가 좋아요한 게시글 ID (페이지당 1회)
+	 */
+	@Query("SELECT l.harmonyPost.id FROM HarmonyPostLike l " +
+		"WHERE l.user.id = :userId AND l.harmonyPost.id IN :postIds")
+	List<UUID> findLikedPostIds(@Param("userId") UUID userId, @Param("postIds") List<UUID> postIds);
+
+	/**
+	 * postIds 중 userId가 북마크한 게시글 ID (페이지당 1회)
+	 */
+	@Query("SELECT b.harmonyPost.id FROM HarmonyPostBookmark b " +
+		"WHERE b.user.id = :userId AND b.harmonyPost.id IN :postIds")
+	List<UUID> findBookmarkedPostIds(@Param("userId") UUID userId, @Param("postIds") List<UUID> postIds);
+
+	//---------------카운터-----------------//
+	/**
+	 * like_count 원자적 증감
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyRoomPosts p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+	int adjustLikeCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
+	/**
+	 * comment_count 원자적 증감
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyRoomPosts p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+	int adjustCommentCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
+	/**
+	 * bookmark_count 원자적 증감
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyRoomPosts p SET p.bookmarkCount = p.bookmarkCount + :delta WHERE p.id = :postId")
+	int adjustBookmarkCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
 }
@@ -1,14 +1,16 @@
 package com.osunji.melog.harmony.repository;
 
+import com.osunji.melog.global.util.LikePatternUtil;
 import com.osunji.melog.harmony.entity.HarmonyRoom;
 import com.osunji.melog.harmony.entity.HarmonyRoomMembers;
 import com.osunji.melog.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.awt.print.Pageable;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,7 +34,7 @@ public interface HarmonyRoomRepository extends JpaRepository<HarmonyRoom, UUID>
 	 * 공개 하모니룸 조회 (추천용)
 	 */
 	@Query("SELECT h FROM HarmonyRoom h WHERE h.isPrivate = false ORDER BY h.bookMarkNum DESC, h.createdAt DESC")
-	List<HarmonyRoom> findPublicHarmonyRoomsForRecommend();
+	List<HarmonyRoom> findPublicHarmonyRoomsForRecommend(Pageable pageable);
 	/**
 	 * ✅ 실제 북마크 수 기준 랭킹 조회 (기존 메서드 대체)
 	 */
@@ -59,9 +61,14 @@ public interface HarmonyRoomRepository extends JpaRepository<HarmonyRoom, UUID>
 		"GROUP BY hr " +
 		"ORDER BY COUNT(hrb) DESC")
 	List<HarmonyRoom> findTopHarmonyRoomsByBookmarkCount(Pageable pageable);
+	//---------------북마크 수 카운터-----------------//
 	/**
-	 * 북마크 순 랭킹 조회
+	 * bookMarkNum 원자적 증감
 	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE HarmonyRoom h SET h.bookMarkNum = h.bookMarkNum + :delta WHERE h.id = :roomId")
+	int adjustBookMarkNum(@Param("roomId") UUID roomId, @Param("delta") int delta);
+
 	@Query("SELECT COUNT(h) + 1 FROM HarmonyRoom h WHERE h.bookMarkNum > :bookMarkNum")
 	Long findRankingByBookMarkNum(@Param("bookMarkNum") Integer bookMarkNum);
 
@@ -74,12 +81,38 @@ public interface HarmonyRoomRepository extends JpaRepository<HarmonyRoom, UUID>
 	Long findRankingByBookMarkCount(@Param("bookmarkCount") Long bookmarkCount);
 
 
-	@Query("""
-    SELECT h FROM HarmonyRoom h
-    WHERE LOWER(h.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
-       OR LOWER(h.intro) LIKE LOWER(CONCAT('%', :keyword, '%'))
-    """)
-	List<HarmonyRoom> searchByKeyword(@Param("keyword") String keyword);
+	/**
+	 * 이름/소개 검색, 최대 limit개
+	 * - 3글자 이상: pg_trgm GIN 인덱스(lower(name/intro)), 유사도 순
+	 * - 3글자 미만: 이름 prefix (btree idx_harmony_rooms_name_prefix), 최신순
+	 */
+	default List<HarmonyRoom> searchByKeyword(String keyword, int limit) {
+		String term = keyword.trim();
+		String pattern = LikePatternUtil.escape(term);
+		return LikePatternUtil.isShort(term)
+			? searchByNamePrefix(pattern, limit)
+			: searchByKeywordTrigram(pattern, term, limit);
+	}
+
+	@Query(value = """
+    SELECT h.* FROM harmony_rooms h
+    WHERE (lower(h.name) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\'
+       OR lower(h.intro) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\')
+      AND h.deleted_at IS NULL
+    ORDER BY similarity(lower(h.name), lower(:keyword)) DESC, h.created_at DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+	List<HarmonyRoom> searchByKeywordTrigram(@Param("pattern") String pattern, @Param("keyword") String keyword,
+		@Param("limit") int limit);
+
+	@Query(value = """
+    SELECT h.* FROM harmony_rooms h
+    WHERE lower(h.name) LIKE lower(:pattern) || '%' ESCAPE '\\'
+      AND h.deleted_at IS NULL
+    ORDER BY h.created_at DESC
+    LIMIT :limit
+    """, nativeQuery = true)
+	List<HarmonyRoom> searchByNamePrefix(@Param("pattern") String pattern, @Param("limit") int limit);
 
     @Query("""
         select hr
@@ -0,0 +1,138 @@
+package com.osunji.melog.harmony.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 삭제 표시(tombstone)된 하모니룸의 연관 데이터 일괄 삭제 (JPA cascade 없이 set-based DELETE)
+ * - 단계는 FK 의존 순서 (자식 → 부모), 각 단계는 limit개씩 끊어서 지움
+ * - 트랜잭션 없이 호출 → 청크마다 auto-commit, 중간에 멈춰도 다시 돌리면 남은 행만 지움
+ */
+@Repository
+public class HarmonyRoomTeardownRepository {
+
+	/**
+	 * 삭제 단계 - sql 파라미터는 (roomId, limit)
+	 * @param legacy 구 테이블 단계 - 테이블이 없으면(신규 DB, DROP 이후) 건너뜀
+	 */
+	public record Step(String name, String sql, boolean legacy) {
+		Step(String name, String sql) {
+			this(name, sql, false);
+		}
+	}
+
+	/** 정리 대기 중인 룸 */
+	public record Tombstone(UUID roomId, UUID ownerId, LocalDateTime deletedAt) {}
+
+	private static final List<Step> STEPS = List.of(
+		// 룸에 바로 붙은 행 (먼저 지워서 내 하모니룸 목록 등에서 바로 빠지도록)
+		new Step("harmony_room_members",
+			"DELETE FROM harmony_room_members WHERE id IN " +
+				"(SELECT id FROM harmony_room_members WHERE harmony_room_id = ? LIMIT ?)"),
+		new Step("harmony_room_join_requests",
+			"DELETE FROM harmony_room_join_requests WHERE id IN " +
+				"(SELECT id FROM harmony_room_join_requests WHERE harmony_room_id = ? LIMIT ?)"),
+		new Step("harmony_bookmarks",
+			"DELETE FROM harmony_bookmarks WHERE id IN " +
+				"(SELECT id FROM harmony_bookmarks WHERE harmony_room_id = ? LIMIT ?)"),
+
+		// 구 가입 대기 목록 (db/migration/V1 로 harmony_room_join_requests 에 이전, cut-over 후 DROP 예정)
+		new Step("harmony_room_waiting_users",
+			"DELETE FROM harmony_room_waiting_users WHERE ctid = ANY(ARRAY(" +
+				"SELECT wu.ctid FROM harmony_room_waiting_users wu " +
+				"JOIN harmony_room_assign_wait w ON w.id = wu.assign_wait_id " +
+				"WHERE w.harmony_room_id = ? LIMIT ?))", true),
+		new Step("harmony_room_assign_wait",
+			"DELETE FROM harmony_room_assign_wait WHERE id IN " +
+				"(SELECT id FROM harmony_room_assign_wait WHERE harmony_room_id = ? LIMIT ?)", true),
+
+		new Step("harmony_reports",
+			"DELETE FROM harmony_reports WHERE id IN " +
+				"(SELECT id FROM harmony_reports WHERE harmony_room_id = ? LIMIT ?)"),
+
+		// 댓글 좋아요 → 댓글 (대댓글이 있는 댓글은 남겨 두고 leaf부터, 반복하면 트리 전체가 지워짐)
+		new Step("harmony_comment_likes",
+			"DELETE FROM harmony_comment_likes WHERE ctid = ANY(ARRAY(" +
+				"SELECT l.ctid FROM harmony_comment_likes l " +
+				"JOIN harmony_post_comments c ON c.id = l.comment_id " +
+				"JOIN harmony_room_posts p ON p.id = c.harmony_post_id " +
+				"WHERE p.harmony_room_id = ? LIMIT ?))"),
+		new Step("harmony_post_comments",
+			"DELETE FROM harmony_post_comments WHERE id IN (" +
+				"SELECT c.id FROM harmony_post_comments c " +
+				"JOIN harmony_room_posts p ON p.id = c.harmony_post_id " +
+				"WHERE p.harmony_room_id = ? " +
+				"AND NOT EXISTS (SELECT 1 FROM harmony_post_comments ch WHERE ch.parent_comment_id = c.id) " +
+				"LIMIT ?)"),
+
+		// 게시글 좋아요/북마크/숨김 → 게시글
+		new Step("harmony_post_likes",
+			"DELETE FROM harmony_post_likes WHERE id IN (" +
+				"SELECT l.id FROM harmony_post_likes l " +
+				"JOIN harmony_room_posts p ON p.id = l.harmony_post_id " +
+				"WHERE p.harmony_room_id = ? LIMIT ?)"),
+		new Step("harmony_post_bookmarks",
+			"DELETE FROM harmony_post_bookmarks WHERE id IN (" +
+				"SELECT b.id FROM harmony_post_bookmarks b " +
+				"JOIN harmony_room_posts p ON p.id = b.harmony_post_id " +
+				"WHERE p.harmony_room_id = ? LIMIT ?)"),
+		new Step("harmony_post_hidden_users",
+			"DELETE FROM harmony_post_hidden_users WHERE ctid = ANY(ARRAY(" +
+				"SELECT h.ctid FROM harmony_post_hidden_users h " +
+				"JOIN harmony_room_posts p ON p.id = h.harmony_post_id " +
+				"WHERE p.harmony_room_id = ? LIMIT ?))"),
+		new Step("harmony_room_posts",
+			"DELETE FROM harmony_room_posts WHERE id IN " +
+				"(SELECT id FROM harmony_room_posts WHERE harmony_room_id = ? LIMIT ?)")
+	);
+
+	private static final RowMapper<Tombstone> TOMBSTONE_MAPPER = (rs, i) -> new Tombstone(
+		rs.getObject("id", UUID.class), rs.getObject("owner_id", UUID.class),
+		rs.getTimestamp("deleted_at").toLocalDateTime());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public HarmonyRoomTeardownRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** 삭제 단계 목록 (실행 순서) */
+	public List<Step> steps() {
+		return STEPS;
+	}
+
+	/** 한 단계의 한 청크 삭제 - 지운 행 수 (0이면 해당 단계 끝) */
+	public int deleteChunk(Step step, UUID roomId, int limit) {
+		if (step.legacy() && !tableExists(step.name())) return 0;
+		return jdbcTemplate.update(step.sql(), roomId, limit);
+	}
+
+	/** 연관 데이터를 모두 지운 뒤 룸 행 삭제 (삭제 표시된 룸만) */
+	public int deleteRoom(UUID roomId) {
+		return jdbcTemplate.update("DELETE FROM harmony_rooms WHERE id = ? AND deleted_at IS NOT NULL", roomId);
+	}
+
+	private boolean tableExists(String table) {
+		Integer count = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM information_schema.tables WHERE table_name = ?", Integer.class, table);
+		return count != null && count > 0;
+	}
+
+	/** 삭제 표시만 되고 아직 정리되지 않은 룸 (재기동 시 이어서 정리) */
+	public List<Tombstone> findTombstoned() {
+		return jdbcTemplate.query("SELECT id, owner_id, deleted_at FROM harmony_rooms WHERE deleted_at IS NOT NULL",
+			TOMBSTONE_MAPPER);
+	}
+
+	/** 삭제 표시된 룸 하나 (아직 룸 행이 남아 있는 경우만) */
+	public Optional<Tombstone> findTombstone(UUID roomId) {
+		return jdbcTemplate.query("SELECT id, owner_id, deleted_at FROM harmony_rooms WHERE id = ? AND deleted_at IS NOT NULL",
+			TOMBSTONE_MAPPER, roomId).stream().findFirst();
+	}
+}
@@ -0,0 +1,87 @@
+package com.osunji.melog.harmony.service;
+
+import com.osunji.melog.global.common.AfterCommit;
+import com.osunji.melog.harmony.repository.HarmonyRankingRepository;
+import com.osunji.melog.harmony.repository.HarmonyRoomRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 하모니룸 북마크 랭킹
+ * - 즐겨찾기 토글마다 커밋 후 ZINCRBY
+ * - harmony_bookmarks 집계로 Redis ZSET 재구성은 PostCounterSyncService 주기 작업(기동 직후 포함)에서 book_mark_num 보정 후 호출
+ *   → Redis 재시작/유실된 ZINCRBY로 생긴 어긋남도 다음 주기에 복구
+ * - 등수/상위 K 조회는 ZSET에서 O(log n), Redis 장애 시 harmony_rooms.book_mark_num 쿼리로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HarmonyRankingService {
+
+	private final HarmonyRankingRepository harmonyRankingRepository;
+	private final HarmonyRoomRepository harmonyRoomRepository;
+
+	/** harmony_bookmarks 집계로 ZSET 전체 교체 */
+	public void rebuild() {
+		try {
+			Map<UUID, Long> counts = new HashMap<>();
+			for (Object[] row : harmonyRoomRepository.findHarmonyRoomsWithBookmarkCount()) {
+				counts.put((UUID) row[0], ((Number) row[2]).longValue());
+			}
+			harmonyRankingRepository.replaceAll(counts);
+			log.info("하모니룸 북마크 랭킹 재구성 완료: {}개", counts.size());
+		} catch (Exception e) {
+			log.warn("하모니룸 북마크 랭킹 재구성 실패: {}", e.getMessage());
+		}
+	}
+
+	//---------------쓰기-----------------//
+
+	/** 즐겨찾기 추가(+1)/제거(-1) - 커밋 후 반영 */
+	public void onBookmarkChanged(UUID roomId, int delta) {
+		AfterCommit.run("하모니룸 랭킹 갱신", () -> harmonyRankingRepository.increment(roomId, delta));
+	}
+
+	/** 하모니룸 삭제 - 커밋 후 랭킹에서 제거 */
+	public void onRoomDeleted(UUID roomId) {
+		AfterCommit.run("하모니룸 랭킹 갱신", () -> harmonyRankingRepository.remove(roomId));
+	}
+
+	//---------------읽기-----------------//
+
+	/**
+	 * 북마크 수 기준 등수 (동점 같은 등수)
+	 * @param bookmarkCount DB 기준 북마크 수 (랭킹에 아직 없거나 Redis 장애 시 사용)
+	 */
+	public long rank(UUID roomId, long bookmarkCount) {
+		try {
+			Long score = harmonyRankingRepository.score(roomId);
+			return harmonyRankingRepository.rankOf(score != null ? score : bookmarkCount);
+		} catch (Exception e) {
+			log.warn("랭킹 조회 실패 - DB로 대체: {}", e.getMessage());
+			Long ranking = harmonyRoomRepository.findRankingByBookMarkCount(bookmarkCount);
+			return ranking != null ? ranking : 1L;
+		}
+	}
+
+	/** 북마크 수 상위 limit개 룸 ID (랭킹 순, Redis 장애 시 빈 목록) */
+	public List<UUID> topRoomIds(int limit) {
+		try {
+			return harmonyRankingRepository.top(limit).stream()
+				.map(HarmonyRankingRepository.Entry::roomId)
+				.toList();
+		} catch (Exception e) {
+			log.warn("상위 랭킹 조회 실패: {}", e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.osunji.melog.harmony.service;
+
+import com.osunji.melog.global.common.AfterCommit;
+import com.osunji.melog.harmony.repository.HarmonyRoomMembersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하모니룸 요약 (멤버 수 + 최근 가입 멤버 아바타) 읽기 모델
+ * - 룸별로 캐시, 미스난 룸들만 모아 그룹 COUNT 1회 + 윈도우 아바타 조회 1회
+ * - 가입/탈퇴/승인/삭제 시 커밋 후 해당 룸 evict → 멤버 수와 무관하게 요청당 쿼리 수 고정
+ * - 조회 시작 후 evict가 한 번이라도 있었으면 조회 결과를 캐시에 넣지 않음 (evict 전 값을 되살리지 않도록)
+ *   → 인스턴스 내 경합만 막음, 다른 인스턴스와의 경합은 캐시 TTL 동안만 남음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HarmonyRoomSummaryService {
+
+	private static final String CACHE_NAME = "harmony:room-summary";
+	/** 룸별로 보관하는 아바타 후보 수 (응답에서는 이 중 일부만 사용) */
+	private static final int AVATAR_POOL = 6;
+
+	private final HarmonyRoomMembersRepository harmonyRoomMembersRepository;
+	private final CacheManager cacheManager;
+
+	/** evict 세대 - evict 커밋마다 증가 */
+	private final AtomicLong evictions = new AtomicLong();
+
+	/** 룸 요약 - 캐시 값이라 Serializable */
+	public record RoomSummary(UUID roomId, long memberCount, List<String> avatarUrls) implements Serializable {}
+
+	/**
+	 * 여러 룸의 요약 (roomId → 요약), 없는 룸은 멤버 0명으로 채움
+	 */
+	public Map<UUID, RoomSummary> summaries(Collection<UUID> roomIds) {
+		Map<UUID, RoomSummary> result = new HashMap<>();
+		if (roomIds.isEmpty()) return result;
+
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		List<UUID> misses = new ArrayList<>();
+		for (UUID roomId : roomIds) {
+			RoomSummary cached = null;
+			try {
+				cached = (cache != null) ? cache.get(roomId.toString(), RoomSummary.class) : null;
+			} catch (Exception e) {
+				log.debug("룸 요약 캐시 조회 실패: {}", e.getMessage());
+			}
+			if (cached != null) {
+				result.put(roomId, cached);
+			} else {
+				misses.add(roomId);
+			}
+		}
+		if (misses.isEmpty()) return result;
+
+		long generation = evictions.get();
+		Map<UUID, Long> counts = new HashMap<>();
+		for (Object[] row : harmonyRoomMembersRepository.countByHarmonyRoomIds(misses)) {
+			counts.put((UUID) row[0], ((Number) row[1]).longValue());
+		}
+		Map<UUID, List<String>> avatars = new HashMap<>();
+		for (Object[] row : harmonyRoomMembersRepository.findRecentAvatarsByHarmonyRoomIds(misses, AVATAR_POOL)) {
+			avatars.computeIfAbsent((UUID) row[0], k -> new ArrayList<>()).add((String) row[1]);
+		}
+
+		List<RoomSummary> loaded = new ArrayList<>(misses.size());
+		for (UUID roomId : misses) {
+			RoomSummary summary = new RoomSummary(roomId, counts.getOrDefault(roomId, 0L),
+				List.copyOf(avatars.getOrDefault(roomId, List.of())));
+			result.put(roomId, summary);
+			loaded.add(summary);
+		}
+		putAfterCommit(cache, loaded, generation);
+		return result;
+	}
+
+	/**
+	 * 멤버 구성이 바뀐 룸 - 커밋 후 캐시 제거
+	 */
+	public void evict(UUID roomId) {
+		Cache cache = cacheManager.getCache(CACHE_NAME);
+		if (cache == null) return;
+		AfterCommit.run("룸 요약 캐시 갱신", () -> {
+			evictions.incrementAndGet();
+			cache.evict(roomId.toString());
+		});
+	}
+
+	//---------------유틸-----------------//
+
+	/** 조회 시작(generation) 이후 evict가 없었을 때만 캐시에 넣음 */
+	private void putAfterCommit(Cache cache, List<RoomSummary> summaries, long generation) {
+		if (cache == null || summaries.isEmpty()) return;
+		AfterCommit.run("룸 요약 캐시 갱신", () -> {
+			if (evictions.get() != generation) return;
+			summaries.forEach(s -> cache.put(s.roomId().toString(), s));
+			// 확인과 put 사이에 evict가 끼어들었으면 방금 넣은 값을 되돌림
+			if (evictions.get() != generation) {
+				summaries.forEach(s -> cache.evict(s.roomId().toString()));
+			}
+		});
+	}
+}
@@ -0,0 +1,187 @@
+package com.osunji.melog.harmony.service;
+
+import com.osunji.melog.harmony.repository.HarmonyRoomTeardownRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 하모니룸 삭제 정리 (teardown)
+ * - 삭제 요청 트랜잭션은 deleted_at 표시만 → 룸은 즉시 모든 조회에서 사라짐
+ * - 커밋 후 연관 테이블을 의존 순서대로 chunk-size개씩 DELETE (기본 비동기, 단일 스레드로 DB 부하 제한)
+ * - 중간에 멈춰도 tombstone이 남아 있으므로 재기동 시 이어서 정리 (모든 단계가 멱등)
+ * - 진행 상황은 룸별로 메모리에 보관 (완료 후 RETAIN 동안 조회 가능)
+ * - 메모리에 기록이 없으면(재기동, 다른 인스턴스가 정리 중) DB의 tombstone으로 QUEUED 상태를 만들어 돌려줌
+ *   → 룸 행까지 지워진 뒤라면 기록이 없음(empty) = 정리 완료로 보면 됨 (테이블별 삭제 행 수는 정리한 인스턴스 메모리에만 있음)
+ */
+@Slf4j
+@Service
+public class HarmonyRoomTeardownService {
+
+	private static final Duration RETAIN = Duration.ofHours(1);
+
+	private final HarmonyRoomTeardownRepository harmonyRoomTeardownRepository;
+	private final int chunkSize;
+	private final boolean async;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final Map<UUID, Progress> progresses = new ConcurrentHashMap<>();
+
+	public HarmonyRoomTeardownService(HarmonyRoomTeardownRepository harmonyRoomTeardownRepository,
+									  @Value("${harmony.teardown.chunk-size:500}") int chunkSize,
+									  @Value("${harmony.teardown.async:true}") boolean async) {
+		this.harmonyRoomTeardownRepository = harmonyRoomTeardownRepository;
+		this.chunkSize = chunkSize;
+		this.async = async;
+	}
+
+	public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+	/** 진행 상황 스냅샷 */
+	public record Snapshot(UUID roomId, UUID ownerId, Status status, String currentStep,
+						   Map<String, Long> deletedRows, LocalDateTime startedAt, LocalDateTime finishedAt, String error) {}
+
+	/** 룸별 진행 상황 (정리 스레드만 쓰고, 조회는 snapshot으로) */
+	private static class Progress {
+		private final UUID roomId;
+		private final UUID ownerId;
+		private final Map<String, Long> deletedRows = new LinkedHashMap<>();
+		private Status status = Status.QUEUED;
+		private String currentStep;
+		private LocalDateTime startedAt;
+		private LocalDateTime finishedAt;
+		private String error;
+
+		private Progress(UUID roomId, UUID ownerId) {
+			this.roomId = roomId;
+			this.ownerId = ownerId;
+		}
+
+		private synchronized void start() {
+			status = Status.RUNNING;
+			startedAt = LocalDateTime.now();
+			finishedAt = null;
+			error = null;
+		}
+
+		private synchronized void deleted(String step, int rows) {
+			currentStep = step;
+			deletedRows.merge(step, (long) rows, Long::sum);
+		}
+
+		private synchronized void finish(Status result, String message) {
+			status = result;
+			currentStep = null;
+			finishedAt = LocalDateTime.now();
+			error = message;
+		}
+
+		private synchronized Snapshot snapshot() {
+			return new Snapshot(roomId, ownerId, status, currentStep, Map.copyOf(deletedRows), startedAt, finishedAt, error);
+		}
+	}
+
+	/** 재기동 시 정리되지 않은 룸 이어서 처리 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumePending() {
+		try {
+			for (HarmonyRoomTeardownRepository.Tombstone tombstone : harmonyRoomTeardownRepository.findTombstoned()) {
+				log.info("하모니룸 삭제 정리 재개: {}", tombstone.roomId());
+				submit(tombstone.roomId(), tombstone.ownerId());
+			}
+		} catch (Exception e) {
+			log.warn("하모니룸 삭제 정리 재개 실패: {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 삭제 표시된 룸 정리 예약 - 트랜잭션이 있으면 커밋 후 시작
+	 */
+	public void schedule(UUID roomId, UUID ownerId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit(roomId, ownerId);
+				}
+			});
+		} else {
+			submit(roomId, ownerId);
+		}
+	}
+
+	/** 진행 상황 (메모리 기록 → 없으면 DB tombstone, 둘 다 없으면 empty) */
+	public Optional<Snapshot> progress(UUID roomId) {
+		Progress progress = progresses.get(roomId);
+		if (progress != null) return Optional.of(progress.snapshot());
+		return harmonyRoomTeardownRepository.findTombstone(roomId)
+			.map(t -> new Snapshot(t.roomId(), t.ownerId(), Status.QUEUED, null, Map.of(), null, null, null));
+	}
+
+	//---------------정리-----------------//
+
+	private void submit(UUID roomId, UUID ownerId) {
+		prune();
+		Progress progress = progresses.computeIfAbsent(roomId, id -> new Progress(id, ownerId));
+		if (async) {
+			executor.execute(() -> teardown(progress));
+		} else {
+			teardown(progress);
+		}
+	}
+
+	private void teardown(Progress progress) {
+		UUID roomId = progress.roomId;
+		progress.start();
+		try {
+			for (HarmonyRoomTeardownRepository.Step step : harmonyRoomTeardownRepository.steps()) {
+				int rows;
+				do {
+					if (Thread.currentThread().isInterrupted()) {
+						progress.finish(Status.FAILED, "중단됨 (재기동 시 이어서 정리)");
+						return;
+					}
+					rows = harmonyRoomTeardownRepository.deleteChunk(step, roomId, chunkSize);
+					progress.deleted(step.name(), rows);
+				} while (rows > 0);
+			}
+			harmonyRoomTeardownRepository.deleteRoom(roomId);
+			progress.finish(Status.DONE, null);
+			log.info("하모니룸 삭제 정리 완료: {} {}", roomId, progress.snapshot().deletedRows());
+		} catch (Exception e) {
+			progress.finish(Status.FAILED, e.getMessage());
+			log.warn("하모니룸 삭제 정리 실패 (재기동 시 재시도): {} - {}", roomId, e.getMessage());
+		}
+	}
+
+	/** 끝난 지 RETAIN이 지난 진행 기록 제거 */
+	private void prune() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(RETAIN);
+		progresses.values().removeIf(p -> {
+			Snapshot s = p.snapshot();
+			return s.finishedAt() != null && s.finishedAt().isBefore(cutoff);
+		});
+	}
+}
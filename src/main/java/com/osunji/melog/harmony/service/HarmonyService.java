@@ -1,5 +1,6 @@
 package com.osunji.melog.harmony.service;
 import com.osunji.melog.global.common.AuthHelper;
+import com.osunji.melog.global.common.CommentTree;
 import com.osunji.melog.global.dto.ApiMessage;
 import com.osunji.melog.harmony.dto.request.HarmonyRoomRequest;
 import com.osunji.melog.harmony.dto.response.HarmonyRoomResponse;
@@ -14,10 +15,12 @@ import com.osunji.melog.elk.service.HarmonyReportLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,9 +30,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional
 public class HarmonyService {
+
+	private static final int SEARCH_LIMIT = 50;
+	private static final int FEED_MAX_SIZE = 50;
+	private static final int RECOMMEND_SIZE = 10;
+	private static final int RECENT_MEDIA_SIZE = 10;
+	private static final int WAITING_MAX_SIZE = 100;
+	private static final int COMMENT_THREAD_MAX_SIZE = 100;
+	private static final int REPLY_MAX_DEPTH = 2;
+	private static final int REPLY_MAX_PER_ROOT = 100;
+
 	private final HarmonyRoomRepository harmonyRoomRepository;
 	private final HarmonyRoomPostsRepository harmonyRoomPostsRepository;
-	private final HarmonyRoomAssignWaitRepository harmonyRoomAssignWaitRepository;
+	private final HarmonyRoomJoinRequestRepository harmonyRoomJoinRequestRepository;
+	private final HarmonyRoomTeardownService harmonyRoomTeardownService;
 	private final HarmonyRoomMembersRepository harmonyRoomMembersRepository;
 	private final UserRepository userRepository;
 	private final HarmonyReportLogService harmonyReportLogService;
@@ -37,13 +51,15 @@ public class HarmonyService {
 	private final HarmonyRoomReportRepository harmonyRoomReportRepository;
 	private final AuthHelper authHelper;
 	private final HarmonyCommentRepository harmonyCommentRepository;
+	private final HarmonyPostLikeRepository harmonyPostLikeRepository;
+	private final HarmonyRankingService harmonyRankingService;
+	private final HarmonyRoomSummaryService harmonyRoomSummaryService;
 	/**
 	 * 1. 하모니룸 생성
 	 */
 	public void createHarmonyRoom(HarmonyRoomRequest.Create request, String authHeader) {
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.loadUser(userId);
 
 		// 1 =  하모니룸 object 생성 및   db Save
 		HarmonyRoom harmonyRoom = HarmonyRoom.create(
@@ -59,11 +75,6 @@ public class HarmonyService {
 		HarmonyRoomMembers ownerMember = HarmonyRoomMembers.createOwner(harmonyRoom, user);
 		harmonyRoomMembersRepository.save(ownerMember);
 
-
-		// 4 = 가입 대기 목록 생성
-		HarmonyRoomAssignWait assignWait = HarmonyRoomAssignWait.create(harmonyRoom);
-		harmonyRoomAssignWaitRepository.save(assignWait);
-
 		log.info("✅ SERVICE LINE 41 : 하모니룸 생성 완료: {} (소유자: {})", harmonyRoom.getName(), user.getNickname());
 	}
 
@@ -74,8 +85,7 @@ public class HarmonyService {
 	public HarmonyRoomResponse.MyHarmony getMyHarmony(String authHeader) {
 		// 0 = 토큰으로 유저 인식 및 유저 체크
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.userReference(userId);
 
 		// 1 = 내가 생성한 하모니룸
 		List<HarmonyRoom> myHarmonyRooms = harmonyRoomRepository.findByOwnerOrderByNameAsc(user);
@@ -130,8 +140,7 @@ public class HarmonyService {
 	public void createHarmonyRoomPost(String harmonyId, HarmonyRoomRequest.CreateHarmonyPost request, String authHeader) {
 		// 사용자 인증
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.userReference(userId);
 
 		// 하모니룸 조회
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
@@ -182,42 +191,23 @@ public class HarmonyService {
 	public HarmonyRoomResponse.RecentMedia getRecentMedia(String authHeader) {
 		// 사용자 인증
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-		// 내가 속한 하모니룸들 조회
-		List<HarmonyRoomMembers> membershipList = harmonyRoomMembersRepository.findByUser(user);
-		List<HarmonyRoom> myHarmonyRooms = membershipList.stream()
-			.map(HarmonyRoomMembers::getHarmonyRoom)
-			.collect(Collectors.toList());
-
-		if (myHarmonyRooms.isEmpty()) {
-			log.info("📺 속한 하모니룸이 없어서 최근 미디어 없음");
-			return HarmonyRoomResponse.RecentMedia.builder()
-				.recentMedia(List.of())
-				.build();
+		if (!userRepository.existsById(userId)) {
+			throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
 		}
 
-		List<HarmonyRoomPosts> mediaPostsList = harmonyRoomPostsRepository
-			.findByHarmonyRoomInAndMediaTypeIsNotNullOrderByCreatedAtDesc(myHarmonyRooms);
-
-		List<HarmonyRoomResponse.RecentMedia.RecentMediaInfo> recentMediaList = mediaPostsList.stream()
-			.filter(post -> post.getMediaType() != null && post.getMediaUrl() != null)
-			.map(post -> {
-				String createdAgo = calculateCreatedAgo(post.getCreatedAt());
-
-				return HarmonyRoomResponse.RecentMedia.RecentMediaInfo.builder()
-					.harmonyRoomId(post.getHarmonyRoom().getId().toString())
-					.userNickname(post.getUser().getNickname())
-					.userProfileImgLink(post.getUser().getProfileImageUrl())
-					.harmonyRoomName(post.getHarmonyRoom().getName())
-					.postID(post.getId().toString())
-					.mediaUrl(post.getMediaUrl())
-					.mediaType(post.getMediaType())
-					.createdAgo(createdAgo)
-					.build();
-			})
-			.limit(10)
+		// 내가 속한 하모니룸들의 최근 미디어 - DB에서 룸별 top-N 후 RECENT_MEDIA_SIZE개만
+		List<HarmonyRoomResponse.RecentMedia.RecentMediaInfo> recentMediaList = harmonyRoomPostsRepository
+			.findRecentMediaForMember(userId, RECENT_MEDIA_SIZE).stream()
+			.map(row -> HarmonyRoomResponse.RecentMedia.RecentMediaInfo.builder()
+				.harmonyRoomId(row.getHarmonyRoomId().toString())
+				.userNickname(row.getUserNickname())
+				.userProfileImgLink(row.getUserProfileImageUrl())
+				.harmonyRoomName(row.getHarmonyRoomName())
+				.postID(row.getPostId().toString())
+				.mediaUrl(row.getMediaUrl())
+				.mediaType(row.getMediaType())
+				.createdAgo(calculateCreatedAgo(row.getCreatedAt()))
+				.build())
 			.toList();
 
 		log.info("📺 최근 미디어 조회 완료: {}개", recentMediaList.size());
@@ -234,29 +224,26 @@ public class HarmonyService {
 	public HarmonyRoomResponse.RecommendHarmony getRecommendHarmony(String authHeader) {
 		// 0 = ㅇㅇ동일
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.userReference(userId);
 
-		// 1 = 내가 속하지 않은 공개 하모니룸들 조회
-		List<HarmonyRoom> publicRooms = harmonyRoomRepository.findPublicHarmonyRoomsForRecommend();
+		// 1 = 내가 속하지 않은 공개 하모니룸들 조회 (북마크 랭킹 상위에서)
 		List<HarmonyRoomMembers> myMemberships = harmonyRoomMembersRepository.findByUser(user);
 		Set<UUID> myHarmonyRoomIds = myMemberships.stream()
 			.map(membership -> membership.getHarmonyRoom().getId())
 			.collect(Collectors.toSet());
+		List<HarmonyRoom> publicRooms = findRecommendCandidates(myHarmonyRoomIds);
+
+		// 2 = 멤버 수 / 최근 멤버 아바타 (룸 요약 캐시, 미스만 배치 조회)
+		Map<UUID, HarmonyRoomSummaryService.RoomSummary> summaries = harmonyRoomSummaryService.summaries(
+			publicRooms.stream().map(HarmonyRoom::getId).toList());
 
 		List<HarmonyRoomResponse.RecommendHarmony.RecommendHarmonyInfo> recommendedRooms = publicRooms.stream()
-			.filter(room -> !myHarmonyRoomIds.contains(room.getId())) // 내가 속하지 않은 룸만
-			.limit(10)
 			.map(room -> {
-				// 2 = 해당 하모니룸 멤버들 조회
-				List<HarmonyRoomMembers> members = harmonyRoomMembersRepository.findByHarmonyRoom(room);
-				int memberCount = members.size();
-
-				// 3 = 랜덤으로 멤버 프로필 이미지 2개 선택
-				List<String> userProfileImages = members.stream()
-					.map(member -> member.getUser().getProfileImageUrl())
-					.filter(Objects::nonNull)
-					.collect(Collectors.toList());
+				HarmonyRoomSummaryService.RoomSummary summary = summaries.get(room.getId());
+				int memberCount = (int) summary.memberCount();
+
+				// 3 = 최근 멤버 아바타 후보 중 랜덤 2개
+				List<String> userProfileImages = new ArrayList<>(summary.avatarUrls());
 				Collections.shuffle(userProfileImages);
 				List<String> randomProfileImages = userProfileImages.stream()
 					.limit(2)
@@ -281,132 +268,190 @@ public class HarmonyService {
 			.build();
 	}
 	/**
-	 * 5. 하모니룸 게시글 조회 (성능 최적화 버전)
+	 * 추천 후보 - 북마크 랭킹 상위 룸 중 공개 + 내가 속하지 않은 룸 RECOMMEND_SIZE개
+	 * - 비공개/내 룸에 밀려 모자라거나 랭킹을 못 읽으면 book_mark_num 정렬 쿼리(LIMIT)로 보충
 	 */
-	@Transactional(readOnly = true)
-	public HarmonyRoomResponse.HarmonyRoomPosts getHarmonyRoomPosts(String harmonyId, String authHeader) {
-		String currentUserId = null;
-		try {
-			if (authHeader != null) {
-				UUID userId = authHelper.authHelperAsUUID(authHeader);
-				currentUserId = userId.toString();
+	private List<HarmonyRoom> findRecommendCandidates(Set<UUID> excludeRoomIds) {
+		int limit = RECOMMEND_SIZE + excludeRoomIds.size();
+		List<UUID> topIds = harmonyRankingService.topRoomIds(limit * 2);
+
+		Map<UUID, HarmonyRoom> roomById = harmonyRoomRepository.findAllById(topIds).stream()
+			.collect(Collectors.toMap(HarmonyRoom::getId, room -> room));
+		Map<UUID, HarmonyRoom> candidates = new LinkedHashMap<>();
+		for (UUID id : topIds) {
+			HarmonyRoom room = roomById.get(id);
+			if (room != null && !Boolean.TRUE.equals(room.getIsPrivate()) && !excludeRoomIds.contains(id)) {
+				candidates.put(id, room);
 			}
-		} catch (Exception e) {
-			log.debug("비로그인 사용자 하모니룸 게시글 조회");
 		}
 
-		UUID harmonyRoomId = UUID.fromString(harmonyId);
-		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
-			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
-
-		// 연관 데이터와 함께 조회 (N+1 문제 해결)
-		List<HarmonyRoomPosts> harmonyRoomPostsList = harmonyRoomPostsRepository
-			.findByHarmonyRoomWithAllAssociations(harmonyRoom);
-
-		if (harmonyRoomPostsList.isEmpty()) {
-			log.info("📝 하모니룸 {}에 게시글이 없음", harmonyRoom.getName());
-			return HarmonyRoomResponse.HarmonyRoomPosts.builder()
-				.harmonyRoomId(harmonyRoom.getId().toString())
-				.harmonyRoomName(harmonyRoom.getName())
-				.recommend(List.of())
-				.popular(List.of())
-				.build();
+		if (candidates.size() < RECOMMEND_SIZE) {
+			for (HarmonyRoom room : harmonyRoomRepository.findPublicHarmonyRoomsForRecommend(PageRequest.of(0, limit))) {
+				if (!excludeRoomIds.contains(room.getId())) {
+					candidates.putIfAbsent(room.getId(), room);
+				}
+			}
 		}
+		return candidates.values().stream().limit(RECOMMEND_SIZE).toList();
+	}
 
-		final String finalCurrentUserId = currentUserId;
-
-		// 베스트 댓글을 미리 한 번에 조회 (배치 처리)
-		Map<UUID, HarmonyPostComment> bestCommentsMap = getBestCommentsForPosts(
-			harmonyRoomPostsList.stream().map(HarmonyRoomPosts::getId).collect(Collectors.toList())
-		);
+	/**
+	 * 5. 하모니룸 게시글 조회 - 추천(최신순)/인기(좋아요순) 첫 페이지
+	 * - 전체 게시글 로딩 대신 피드 쿼리 첫 페이지(FEED_MAX_SIZE개)만 사용
+	 * - 잘린 경우 recommendNextCursor/popularNextCursor + hasNext로 알려서 getHarmonyRoomFeed로 이어받게 함
+	 */
+	@Transactional(readOnly = true)
+	public HarmonyRoomResponse.HarmonyRoomPosts getHarmonyRoomPosts(String harmonyId, String authHeader) {
+		UUID currentUserId = authHelper.userIdOrNull(authHeader);
 
-		// 추천 (최신순)
-		List<HarmonyRoomResponse.HarmonyRoomPosts.PostResult> recommend = harmonyRoomPostsList.stream()
-			.sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-			.map(post -> createHarmonyPostResult(post, finalCurrentUserId, bestCommentsMap.get(post.getId())))
-			.collect(Collectors.toList());
+		UUID harmonyRoomId = UUID.fromString(harmonyId);
+		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
+			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
-		// 인기 (좋아요순)
-		List<HarmonyRoomResponse.HarmonyRoomPosts.PostResult> popular = harmonyRoomPostsList.stream()
-			.sorted((a, b) -> {
-				int likesA = a.getLikes() != null ? a.getLikes().size() : 0;
-				int likesB = b.getLikes() != null ? b.getLikes().size() : 0;
-				return Integer.compare(likesB, likesA);
-			})
-			.map(post -> createHarmonyPostResult(post, finalCurrentUserId, bestCommentsMap.get(post.getId())))
-			.collect(Collectors.toList());
+		// 한 건 더 읽어서 다음 페이지 존재 여부를 정확히 판단
+		PageRequest firstPage = PageRequest.of(0, FEED_MAX_SIZE + 1);
+		List<HarmonyRoomPostsRepository.FeedRow> recentRows = harmonyRoomPostsRepository.findRecentFeed(harmonyRoomId, firstPage);
+		List<HarmonyRoomPostsRepository.FeedRow> popularRows = harmonyRoomPostsRepository.findPopularFeed(harmonyRoomId, firstPage);
+		boolean recentMore = recentRows.size() > FEED_MAX_SIZE;
+		boolean popularMore = popularRows.size() > FEED_MAX_SIZE;
+		if (recentMore) recentRows = recentRows.subList(0, FEED_MAX_SIZE);
+		if (popularMore) popularRows = popularRows.subList(0, FEED_MAX_SIZE);
+
+		// 두 목록은 대부분 같은 게시글이라 부가 정보는 합집합으로 한 번만 조회
+		Map<UUID, HarmonyRoomPostsRepository.FeedRow> union = new LinkedHashMap<>();
+		recentRows.forEach(row -> union.put(row.getId(), row));
+		popularRows.forEach(row -> union.putIfAbsent(row.getId(), row));
+		Map<UUID, HarmonyRoomResponse.HarmonyRoomPosts.PostResult> results = toPostResults(union.values(), currentUserId);
 
 		return HarmonyRoomResponse.HarmonyRoomPosts.builder()
 			.harmonyRoomId(harmonyRoom.getId().toString())
 			.harmonyRoomName(harmonyRoom.getName())
-			.recommend(recommend)
-			.popular(popular)
+			.recommend(recentRows.stream().map(row -> results.get(row.getId())).toList())
+			.popular(popularRows.stream().map(row -> results.get(row.getId())).toList())
+			.recommendNextCursor(recentMore ? feedCursor(recentRows.get(recentRows.size() - 1), false) : null)
+			.popularNextCursor(popularMore ? feedCursor(popularRows.get(popularRows.size() - 1), true) : null)
+			.hasNext(recentMore || popularMore)
 			.build();
 	}
 
 	/**
-	 *수정된 createHarmonyPostResult (베스트 댓글을 파라미터로 받음)
+	 * 5-1. 하모니룸 피드 (cursor 페이지)
+	 * - 게시글/작성자 컬럼 + 비정규화 카운터만 조회, 좋아요/북마크 여부는 페이지당 IN 조회 1회씩
+	 * - cursor: recent = "{createdAt}_{postId}", popular = "{likeCount}_{postId}" (마지막 게시글 기준, exclusive)
 	 */
-	private HarmonyRoomResponse.HarmonyRoomPosts.PostResult createHarmonyPostResult(
-		HarmonyRoomPosts post, String currentUserId, HarmonyPostComment bestComment) {
+	@Transactional(readOnly = true)
+	public HarmonyRoomResponse.RoomFeed getHarmonyRoomFeed(String harmonyId, String sort, String cursor, int size, String authHeader) {
+		UUID currentUserId = authHelper.userIdOrNull(authHeader);
+		boolean popular = "popular".equalsIgnoreCase(sort);
+		int limit = Math.max(1, Math.min(size, FEED_MAX_SIZE));
 
-		// 좋아요 수
-		int likeCount = post.getLikes() != null ? post.getLikes().size() : 0;
+		UUID harmonyRoomId = UUID.fromString(harmonyId);
+		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
+			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
-		// 댓글 수
-		int commentCount = post.getComments() != null ? post.getComments().size() : 0;
+		PageRequest page = PageRequest.of(0, limit);
+		List<HarmonyRoomPostsRepository.FeedRow> rows;
+		if (cursor == null || cursor.isBlank()) {
+			rows = popular
+				? harmonyRoomPostsRepository.findPopularFeed(harmonyRoomId, page)
+				: harmonyRoomPostsRepository.findRecentFeed(harmonyRoomId, page);
+		} else {
+			int sep = cursor.lastIndexOf('_');
+			if (sep <= 0) throw new IllegalArgumentException("잘못된 cursor입니다");
+			String key = cursor.substring(0, sep);
+			UUID lastId = UUID.fromString(cursor.substring(sep + 1));
+			try {
+				rows = popular
+					? harmonyRoomPostsRepository.findPopularFeedAfter(harmonyRoomId, Integer.parseInt(key), lastId, page)
+					: harmonyRoomPostsRepository.findRecentFeedAfter(harmonyRoomId, LocalDateTime.parse(key), lastId, page);
+			} catch (DateTimeParseException | NumberFormatException e) {
+				throw new IllegalArgumentException("잘못된 cursor입니다");
+			}
+		}
 
-		// 현재 사용자의 좋아요 여부
-		boolean isLiked = false;
-		if (currentUserId != null && post.getLikes() != null) {
-			isLiked = post.getLikes().stream()
-				.anyMatch(like -> like.getUser().getId().toString().equals(currentUserId));
+		Map<UUID, HarmonyRoomResponse.HarmonyRoomPosts.PostResult> results = toPostResults(rows, currentUserId);
+
+		String nextCursor = null;
+		if (rows.size() == limit) {
+			nextCursor = feedCursor(rows.get(rows.size() - 1), popular);
 		}
 
-		// 현재 사용자의 북마크 여부
-		boolean isBookmarked = false;
-		if (currentUserId != null && post.getBookmarks() != null) {
-			isBookmarked = post.getBookmarks().stream()
-				.anyMatch(bookmark -> bookmark.getUser().getId().toString().equals(currentUserId));
+		return HarmonyRoomResponse.RoomFeed.builder()
+			.harmonyRoomId(harmonyRoom.getId().toString())
+			.harmonyRoomName(harmonyRoom.getName())
+			.sort(popular ? "popular" : "recent")
+			.posts(rows.stream().map(row -> results.get(row.getId())).toList())
+			.nextCursor(nextCursor)
+			.build();
+	}
+
+	/**
+	 * 피드 cursor - recent = "{createdAt}_{postId}", popular = "{likeCount}_{postId}"
+	 */
+	private static String feedCursor(HarmonyRoomPostsRepository.FeedRow last, boolean popular) {
+		return (popular ? String.valueOf(last.getLikeCount()) : last.getCreatedAt().toString()) + "_" + last.getId();
+	}
+
+	/**
+	 * 피드 행 → PostResult (postId 기준 맵)
+	 * - 베스트 댓글 / 좋아요 여부 / 북마크 여부를 페이지 단위로 한 번씩 배치 조회
+	 */
+	private Map<UUID, HarmonyRoomResponse.HarmonyRoomPosts.PostResult> toPostResults(
+		Collection<HarmonyRoomPostsRepository.FeedRow> rows, UUID currentUserId) {
+		if (rows.isEmpty()) return Map.of();
+
+		List<UUID> postIds = rows.stream().map(HarmonyRoomPostsRepository.FeedRow::getId).toList();
+		Map<UUID, HarmonyPostComment> bestCommentsMap = getBestCommentsForPosts(postIds);
+		Set<UUID> liked = currentUserId == null ? Set.of()
+			: new HashSet<>(harmonyRoomPostsRepository.findLikedPostIds(currentUserId, postIds));
+		Set<UUID> bookmarked = currentUserId == null ? Set.of()
+			: new HashSet<>(harmonyRoomPostsRepository.findBookmarkedPostIds(currentUserId, postIds));
+
+		Map<UUID, HarmonyRoomResponse.HarmonyRoomPosts.PostResult> results = new HashMap<>();
+		for (HarmonyRoomPostsRepository.FeedRow row : rows) {
+			results.put(row.getId(), createHarmonyPostResult(row,
+				liked.contains(row.getId()), bookmarked.contains(row.getId()), bestCommentsMap.get(row.getId())));
 		}
+		return results;
+	}
 
-		// 생성 시간 (초 단위)
-		String createdAgo = calculateCreatedAgo(post.getCreatedAt());
+	/**
+	 * 피드 행 → PostResult (카운터는 비정규화 컬럼, 연관 컬렉션 접근 없음)
+	 */
+	private HarmonyRoomResponse.HarmonyRoomPosts.PostResult createHarmonyPostResult(
+		HarmonyRoomPostsRepository.FeedRow row, boolean isLiked, boolean isBookmarked, HarmonyPostComment bestComment) {
 
 		HarmonyRoomResponse.HarmonyRoomPosts.PostResult.PostDetail.BestComment bestCommentDto = null;
 		if (bestComment != null) {
-			log.debug("🎯 베스트 댓글 발견: postId={}, commentId={}, content={}",
-				post.getId(), bestComment.getId(), bestComment.getContent());
-
 			bestCommentDto = HarmonyRoomResponse.HarmonyRoomPosts.PostResult.PostDetail.BestComment.builder()
 				.userId(bestComment.getUser().getId().toString())
 				.content(bestComment.getContent())
 				.build();
-		} else {
-			log.debug("🔍 베스트 댓글 없음: postId={}", post.getId());
 		}
 
 		// PostDetail 생성
 		HarmonyRoomResponse.HarmonyRoomPosts.PostResult.PostDetail postDetail =
 			HarmonyRoomResponse.HarmonyRoomPosts.PostResult.PostDetail.builder()
-				.id(post.getId().toString())
-				.content(post.getContent())
-				.mediaType(post.getMediaType())
-				.mediaUrl(post.getMediaUrl())
-				.tags(post.getTags() != null ? post.getTags() : List.of())
-				.createdAgo(createdAgo)
-				.likeCount(likeCount)
+				.id(row.getId().toString())
+				.content(row.getContent())
+				.mediaType(row.getMediaType())
+				.mediaUrl(row.getMediaUrl())
+				.tags(row.getTags() != null ? row.getTags() : List.of())
+				.createdAgo(calculateCreatedAgo(row.getCreatedAt()))
+				.likeCount(row.getLikeCount())
 				.hiddenUser(List.of())  // 숨김 사용자 (추후 구현)
-				.commentCount(commentCount)
+				.commentCount(row.getCommentCount())
+				.isLiked(isLiked)
+				.isBookmarked(isBookmarked)
 				.bestComment(bestCommentDto)
 				.build();
 
 		// UserInfo 생성
 		HarmonyRoomResponse.HarmonyRoomPosts.PostResult.UserInfo userInfo =
 			HarmonyRoomResponse.HarmonyRoomPosts.PostResult.UserInfo.builder()
-				.id(post.getUser().getId().toString())
-				.nickName(post.getUser().getNickname())
-				.profileImg(post.getUser().getProfileImageUrl())
+				.id(row.getUserId().toString())
+				.nickName(row.getNickname())
+				.profileImg(row.getProfileImageUrl())
 				.build();
 
 		// PostResult 생성
@@ -418,6 +463,7 @@ public class HarmonyService {
 
 	/**
 	 *여러 게시글의 베스트 댓글을 한 번에 조회 (배치 처리)
+	 * - 게시글별 인덱스 top-1 ID 조회 1회 + 작성자 fetch 1회
 	 */
 	private Map<UUID, HarmonyPostComment> getBestCommentsForPosts(List<UUID> postIds) {
 		if (postIds.isEmpty()) {
@@ -425,15 +471,18 @@ public class HarmonyService {
 		}
 
 		// 모든 게시글의 베스트 댓글을 한 번에 조회
-		List<HarmonyPostComment> allBestComments = harmonyCommentRepository
-			.findBestCommentsForMultiplePosts(postIds);
+		List<UUID> bestCommentIds = harmonyCommentRepository.findBestCommentIdsByPostIds(postIds);
+		if (bestCommentIds.isEmpty()) {
+			return new HashMap<>();
+		}
+		List<HarmonyPostComment> allBestComments = harmonyCommentRepository.findAllWithUserByIdIn(bestCommentIds);
 
 		// 게시글 ID별로 그룹화
 		return allBestComments.stream()
 			.collect(Collectors.toMap(
 				comment -> comment.getHarmonyPost().getId(),
 				comment -> comment,
-				(existing, replacement) -> existing  // 중복시 첫 번째 댓글 유지 (이미 정렬되어 있음)
+				(existing, replacement) -> existing  // 게시글당 1개라 중복 없음
 			));
 	}
 
@@ -445,8 +494,6 @@ public class HarmonyService {
 	public HarmonyRoomResponse.Information getHarmonyRoomInformation(String harmonyId, String authHeader) {
 		// 0 = ㅇㅇ유저 그거
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 		// 1 = 하모니름 찾기
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
@@ -459,7 +506,7 @@ public class HarmonyService {
 			.collect(Collectors.toList());
 
 		// 4 = 내가 소유자인지 확인
-		boolean isRunning = harmonyRoom.isOwner(user);
+		boolean isRunning = harmonyRoom.isOwner(userId);
 
 		log.info("ℹ️ 하모니룸 정보 조회 완료: {} (멤버 {}명)", harmonyRoom.getName(), members.size());
 		String createdAgo = calculateCreatedAgo(harmonyRoom.getCreatedAt());
@@ -488,8 +535,7 @@ public class HarmonyService {
 	public HarmonyRoomResponse.Detail getHarmonyRoomDetail(String harmonyId, String authHeader) {
 		// 0 = 사용자 인증 및 조회
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.userReference(userId);
 
 		// 1 = 하모니룸 조회
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
@@ -502,14 +548,8 @@ public class HarmonyService {
 		// 3 = 북마크 수 조회 (Entity의 필드 사용)
 		Long actualBookmarkCount = (long) harmonyRoom.getBookMarkNum();
 
-		//  랭킹 조회 (북마크 수 기준, 없으면 기본값)
-		Long ranking = 1L; // 기본값
-		try {
-			ranking = harmonyRoomRepository.findRankingByBookMarkCount(actualBookmarkCount);
-			if (ranking == null) ranking = 1L;
-		} catch (Exception e) {
-			log.warn("랭킹 조회 실패, 기본값 사용: {}", e.getMessage());
-		}
+		//  랭킹 조회 (북마크 랭킹 ZSET, O(log n))
+		Long ranking = harmonyRankingService.rank(harmonyRoomId, actualBookmarkCount);
 
 		//  4 = 실제 게시글 수 조회 (HarmonyRoomPosts 테이블에서)
 		Long postCount = harmonyRoomPostsRepository.countByHarmonyRoom(harmonyRoom);
@@ -545,8 +585,7 @@ public class HarmonyService {
 	public HarmonyRoomResponse.IsMember checkMembership(String harmonyId, String authHeader) {
 		// 0 = ㅇㅇ 유저그거
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.userReference(userId);
 		// 1 = ㅇㅇ 하모니룸 그거
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
@@ -569,15 +608,13 @@ public class HarmonyService {
 	public void updateHarmonyRoom(String harmonyId, HarmonyRoomRequest.Update request, String authHeader) {
 		// 0 = ㅇㅇ 유저 그거
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 		// 1 = 하모니룸 그거
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
 			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
 		// 2 = 소유자 권한 확인
-		if (!harmonyRoom.isOwner(user)) {
+		if (!harmonyRoom.isOwner(userId)) {
 			throw new SecurityException("하모니룸 소유자만 수정할 수 있습니다");
 		}
 
@@ -597,12 +634,11 @@ public class HarmonyService {
 	}
 
 	/**
-	 * 10. 하모니룸 삭제 (연관된 북마크와 신고까지 모두 삭제)
+	 * 10. 하모니룸 삭제 (삭제 표시 후 연관 데이터는 HarmonyRoomTeardownService가 비동기 정리)
 	 */
 	public void deleteHarmonyRoom(String harmonyId, HarmonyRoomRequest.Delete request, String authHeader) {
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.loadUser(userId);
 
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
@@ -617,38 +653,16 @@ public class HarmonyService {
 		log.info("🗑️ 하모니룸 삭제 시작: {} (소유자: {})", roomName, user.getNickname());
 
 		try {
-			// ✅ 1. 북마크 먼저 삭제 (Foreign Key 제약 해결)
-			List<HarmonyRoomBookmark> bookmarks = harmonyRoomBookmarkRepository.findByHarmonyRoomId(harmonyRoomId);
-			if (!bookmarks.isEmpty()) {
-				harmonyRoomBookmarkRepository.deleteAll(bookmarks);
-				log.info("  📌 북마크 {}개 삭제 완료", bookmarks.size());
-			}
+			// ✅ 1. 삭제 표시 (tombstone) - 커밋 시점부터 모든 조회에서 제외
+			harmonyRoom.markDeleted();
+			harmonyRoomSummaryService.evict(harmonyRoomId);
+			harmonyRankingService.onRoomDeleted(harmonyRoomId);
 
-			// ✅ 2. 신고 기록 삭제
-			List<HarmonyRoomReport> reports = harmonyRoomReportRepository.findByHarmonyRoomIdOrderByReportedAtDesc(harmonyRoomId);
-			if (!reports.isEmpty()) {
-				harmonyRoomReportRepository.deleteAll(reports);
-				log.info("  🚨 신고 기록 {}개 삭제 완료", reports.size());
-			}
+			// ✅ 2. 멤버/북마크/신고/게시글/댓글 등 연관 데이터는 커밋 후 teardown이 나눠서 삭제
+			harmonyRoomTeardownService.schedule(harmonyRoomId, userId);
+			log.info("  🏠 하모니룸 삭제 표시 완료 - 연관 데이터 정리 예약");
 
-			// ✅ 3. 기존 연관 데이터 삭제
-			harmonyRoomPostsRepository.findByHarmonyRoom(harmonyRoom).ifPresent(harmonyRoomPostsRepository::delete);
-			log.info("  📝 게시글 목록 삭제 완료");
-
-			harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom).ifPresent(harmonyRoomAssignWaitRepository::delete);
-			log.info("  ⏳ 가입 대기 목록 삭제 완료");
-
-			List<HarmonyRoomMembers> members = harmonyRoomMembersRepository.findByHarmonyRoom(harmonyRoom);
-			if (!members.isEmpty()) {
-				harmonyRoomMembersRepository.deleteAll(members);
-				log.info("  👥 멤버 {}명 삭제 완료", members.size());
-			}
-
-			// ✅ 4. 마지막에 하모니룸 삭제
-			harmonyRoomRepository.delete(harmonyRoom);
-			log.info("  🏠 하모니룸 본체 삭제 완료");
-
-			// ✅ 5. ElasticSearch에 삭제 로그 (선택사항)
+			// ✅ 3. ElasticSearch에 삭제 로그 (선택사항)
 			try {
 				harmonyReportLogService.logHarmonyReport(
 					"DELETE_" + System.currentTimeMillis(),
@@ -662,7 +676,7 @@ public class HarmonyService {
 				log.warn("⚠️ 삭제 로그 기록 실패: {}", e.getMessage());
 			}
 
-			log.info("✅ 하모니룸 완전 삭제 완료: {}", roomName);
+			log.info("✅ 하모니룸 삭제 완료: {}", roomName);
 
 		} catch (Exception e) {
 			log.error("💥 하모니룸 삭제 중 오류 발생: {}", e.getMessage(), e);
@@ -671,39 +685,85 @@ public class HarmonyService {
 	}
 
 	/**
-	 * 11. 가입 승인 대기 유저 리스트
+	 * 10-1. 하모니룸 삭제 정리 진행 상황 (소유자만)
+	 * - 재기동/다른 인스턴스에서 정리 중이면 DB tombstone 기준 QUEUED (테이블별 삭제 행 수 없음)
+	 * - 룸 행까지 지워진 뒤에는 기록 없음 → 정리 완료로 간주
+	 */
+	@Transactional(readOnly = true)
+	public HarmonyRoomResponse.DeletionProgress getDeletionProgress(String harmonyId, String authHeader) {
+		UUID userId = authHelper.authHelperAsUUID(authHeader);
+		UUID harmonyRoomId = UUID.fromString(harmonyId);
+
+		HarmonyRoomTeardownService.Snapshot snapshot = harmonyRoomTeardownService.progress(harmonyRoomId)
+			.orElseThrow(() -> new IllegalArgumentException("삭제 진행 기록이 없습니다 (정리가 끝났거나 삭제 요청이 없는 하모니룸)"));
+		if (!snapshot.ownerId().equals(userId)) {
+			throw new SecurityException("하모니룸 소유자만 조회할 수 있습니다");
+		}
+
+		return HarmonyRoomResponse.DeletionProgress.builder()
+			.harmonyRoomId(harmonyRoomId.toString())
+			.status(snapshot.status().name())
+			.currentStep(snapshot.currentStep())
+			.deletedRows(snapshot.deletedRows())
+			.startedAt(snapshot.startedAt())
+			.finishedAt(snapshot.finishedAt())
+			.error(snapshot.error())
+			.build();
+	}
+
+	/**
+	 * 11. 가입 승인 대기 유저 리스트 (신청 순, cursor 페이지)
+	 * - cursor: "{requestedAt}_{userId}" (마지막 대기자 기준, exclusive)
 	 */
 	@Transactional(readOnly = true)
-	public HarmonyRoomResponse.WaitingUsers getWaitingUsers(String harmonyId) {
+	public HarmonyRoomResponse.WaitingUsers getWaitingUsers(String harmonyId, String cursor, int size) {
+		int limit = Math.max(1, Math.min(size, WAITING_MAX_SIZE));
+
 		// 1 = 하모니룸 체크
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
 			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
-		Optional<HarmonyRoomAssignWait> assignWaitOpt = harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom);
-		// 없으면 빈값리턴
-		if (assignWaitOpt.isEmpty()) {
-			return HarmonyRoomResponse.WaitingUsers.builder()
-				.waitingUsers(List.of())
-				.build();
+		// 2 = 대기자 한 페이지 (유저 프로필 컬럼만)
+		PageRequest page = PageRequest.of(0, limit);
+		List<HarmonyRoomJoinRequestRepository.WaitingRow> rows;
+		if (cursor == null || cursor.isBlank()) {
+			rows = harmonyRoomJoinRequestRepository.findWaiting(harmonyRoomId, page);
+		} else {
+			int sep = cursor.lastIndexOf('_');
+			if (sep <= 0) throw new IllegalArgumentException("잘못된 cursor입니다");
+			try {
+				rows = harmonyRoomJoinRequestRepository.findWaitingAfter(harmonyRoomId,
+					LocalDateTime.parse(cursor.substring(0, sep)), UUID.fromString(cursor.substring(sep + 1)), page);
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException("잘못된 cursor입니다");
+			}
 		}
-		// 2 = 유저 있으면 정보 리턴
-		List<User> waitingUsers = assignWaitOpt.get().getWaitingUsers();
-		List<HarmonyRoomResponse.WaitingUsers.WaitingUserInfo> waitingUserInfos = waitingUsers.stream()
-			.map(waitingUser -> HarmonyRoomResponse.WaitingUsers.WaitingUserInfo.builder()
+
+		List<HarmonyRoomResponse.WaitingUsers.WaitingUserInfo> waitingUserInfos = rows.stream()
+			.map(row -> HarmonyRoomResponse.WaitingUsers.WaitingUserInfo.builder()
 				.user(HarmonyRoomResponse.WaitingUsers.WaitingUserInfo.UserProfile.builder()
-					.id(waitingUser.getId().toString())
-					.nickname(waitingUser.getNickname())
-					.profileImgLink(waitingUser.getProfileImageUrl())
-					.intro(waitingUser.getIntro())
+					.id(row.getUserId().toString())
+					.nickname(row.getNickname())
+					.profileImgLink(row.getProfileImageUrl())
+					.intro(row.getIntro())
 					.build())
 				.build())
 			.collect(Collectors.toList());
 
+		String nextCursor = null;
+		if (rows.size() == limit) {
+			HarmonyRoomJoinRequestRepository.WaitingRow last = rows.get(rows.size() - 1);
+			nextCursor = last.getRequestedAt() + "_" + last.getUserId();
+		}
+
 		log.info("⏳ 가입 대기 유저 조회 완료: {}개", waitingUserInfos.size());
 
 		return HarmonyRoomResponse.WaitingUsers.builder()
+			.harmonyRoomId(harmonyRoom.getId().toString())
+			.harmonyRoomName(harmonyRoom.getName())
 			.waitingUsers(waitingUserInfos)
+			.nextCursor(nextCursor)
 			.build();
 	}
 
@@ -723,14 +783,8 @@ public class HarmonyService {
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
 			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
-		// 2 = 대기목록 조회
-		Optional<HarmonyRoomAssignWait> assignWaitOpt = harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom);
-		boolean isWaiting = false;
-
-		if (assignWaitOpt.isPresent()) {
-			List<User> waitingUsers = assignWaitOpt.get().getWaitingUsers();
-			isWaiting = waitingUsers.stream().anyMatch(user -> user.getId().equals(currentUserId));
-		}
+		// 2 = 대기 여부 - (room, user) 인덱스 조회
+		boolean isWaiting = harmonyRoomJoinRequestRepository.isWaiting(harmonyRoomId, currentUserId);
 
 		// 3 = 응답 DTO 구성
 		return HarmonyRoomResponse.IsWaiting.builder()
@@ -743,62 +797,67 @@ public class HarmonyService {
 
 
 	/**
-	 * 12-1. 가입 승인
+	 * 12-1. 가입 승인 (userID 단건 또는 userIDs 일괄)
+	 * - 대기 중인 신청자 → 멤버 INSERT ... SELECT 1회 + 신청 상태 UPDATE 1회
 	 */
 	public void approveUser(String harmonyId, HarmonyRoomRequest.ApproveOrDeny request) {
 		// 0 = 룸아이디 체크
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
-		UUID targetUserId = UUID.fromString(request.getUserID());
+		Set<UUID> targetUserIds = targetUserIds(request);
 		// 없을때 예외처리
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
 			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
-		// 타겟유저 없을때 예외처리
-		User targetUser = userRepository.findById(targetUserId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-		// 1 = 대기 목록에서 사용자 제거
-		HarmonyRoomAssignWait assignWait = harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom)
-			.orElseThrow(() -> new IllegalArgumentException("가입 대기 목록을 찾을 수 없습니다"));
-
-		if (!assignWait.isWaiting(targetUser)) {
+		// 1 = 대기자 → 멤버 추가, 신청 상태 변경
+		LocalDateTime now = LocalDateTime.now();
+		harmonyRoomJoinRequestRepository.insertMembersFromWaiting(harmonyRoomId, targetUserIds, now);
+		int approved = harmonyRoomJoinRequestRepository.decide(
+			harmonyRoomId, targetUserIds, HarmonyRoomJoinRequest.Status.APPROVED, now);
+		if (approved == 0) {
 			throw new IllegalArgumentException("가입 신청하지 않은 사용자입니다");
 		}
+		harmonyRoomSummaryService.evict(harmonyRoomId);
 
-		assignWait.removeWaitingUser(targetUser);
-		harmonyRoomAssignWaitRepository.save(assignWait);
-
-		// 2 = 멤버로 추가
-		HarmonyRoomMembers newMember = HarmonyRoomMembers.createMember(harmonyRoom, targetUser);
-		harmonyRoomMembersRepository.save(newMember);
-
-		log.info("✅ 가입 승인 완료: {} → {}", targetUser.getNickname(), harmonyRoom.getName());
+		log.info("✅ 가입 승인 완료: {}명 → {}", approved, harmonyRoom.getName());
 	}
 
 	/**
-	 * 12-2. 가입 거절
+	 * 12-2. 가입 거절 (userID 단건 또는 userIDs 일괄) - 신청 상태 UPDATE 1회
 	 */
 	public void denyUser(String harmonyId, HarmonyRoomRequest.ApproveOrDeny request) {
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
-		UUID targetUserId = UUID.fromString(request.getUserID());
+		Set<UUID> targetUserIds = targetUserIds(request);
 
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
 			.orElseThrow(() -> new IllegalArgumentException("하모니룸을 찾을 수 없습니다"));
 
-		User targetUser = userRepository.findById(targetUserId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-		// 대기 목록에서 사용자 제거만
-		HarmonyRoomAssignWait assignWait = harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom)
-			.orElseThrow(() -> new IllegalArgumentException("가입 대기 목록을 찾을 수 없습니다"));
-
-		if (!assignWait.isWaiting(targetUser)) {
+		int denied = harmonyRoomJoinRequestRepository.decide(
+			harmonyRoomId, targetUserIds, HarmonyRoomJoinRequest.Status.DENIED, LocalDateTime.now());
+		if (denied == 0) {
 			throw new IllegalArgumentException("가입 신청하지 않은 사용자입니다");
 		}
 
-		assignWait.removeWaitingUser(targetUser);
-		harmonyRoomAssignWaitRepository.save(assignWait);
+		log.info("❌ 가입 거절 완료: {}명 → {}", denied, harmonyRoom.getName());
+	}
 
-		log.info("❌ 가입 거절 완료: {} → {}", targetUser.getNickname(), harmonyRoom.getName());
+	/**
+	 * 승인/거절 대상 사용자 ID (userID + userIDs)
+	 */
+	private Set<UUID> targetUserIds(HarmonyRoomRequest.ApproveOrDeny request) {
+		Set<UUID> ids = new LinkedHashSet<>();
+		if (request.getUserID() != null && !request.getUserID().isBlank()) {
+			ids.add(UUID.fromString(request.getUserID()));
+		}
+		if (request.getUserIDs() != null) {
+			request.getUserIDs().stream()
+				.filter(id -> id != null && !id.isBlank())
+				.map(UUID::fromString)
+				.forEach(ids::add);
+		}
+		if (ids.isEmpty()) {
+			throw new IllegalArgumentException("승인/거절할 사용자를 지정해주세요");
+		}
+		return ids;
 	}
 
 
@@ -812,8 +871,7 @@ public class HarmonyService {
 
 			// 1. 사용자 인증
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+			User user = authHelper.loadUser(userId);
 
 			// 2. 하모니룸 존재 확인 (HarmonyRoom 사용)
 			UUID harmonyRoomUuid = UUID.fromString(harmonyId);
@@ -830,6 +888,8 @@ public class HarmonyService {
 			if (existingBookmark.isPresent()) {
 				// 즐겨찾기 제거
 				harmonyRoomBookmarkRepository.delete(existingBookmark.get());
+				harmonyRoomRepository.adjustBookMarkNum(harmonyRoomUuid, -1);
+				harmonyRankingService.onBookmarkChanged(harmonyRoomUuid, -1);
 				bookmarked = false;
 				message = "즐겨찾기에서 제거되었습니다";
 				log.info("📌 즐겨찾기 제거됨 - 사용자: {}, 하모니룸: {}", user.getNickname(), harmonyRoom.getName());
@@ -837,6 +897,8 @@ public class HarmonyService {
 				// 즐겨찾기 추가
 				HarmonyRoomBookmark bookmark = HarmonyRoomBookmark.create(user, harmonyRoom);
 				harmonyRoomBookmarkRepository.save(bookmark);
+				harmonyRoomRepository.adjustBookMarkNum(harmonyRoomUuid, 1);
+				harmonyRankingService.onBookmarkChanged(harmonyRoomUuid, 1);
 				bookmarked = true;
 				message = "즐겨찾기에 추가되었습니다";
 				log.info("⭐ 즐겨찾기 추가됨 - 사용자: {}, 하모니룸: {}", user.getNickname(), harmonyRoom.getName());
@@ -894,8 +956,7 @@ public class HarmonyService {
 
 			// 1. 사용자 인증
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User reporter = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+			User reporter = authHelper.loadUser(userId);
 
 			// 2. 하모니룸 존재 확인
 			UUID harmonyRoomUuid = UUID.fromString(harmonyId);
@@ -995,8 +1056,7 @@ public class HarmonyService {
 	 */
 	public String joinHarmonyRoom(String harmonyId, String authHeader) {
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.loadUser(userId);
 
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
@@ -1007,24 +1067,20 @@ public class HarmonyService {
 			return "이미 멤버입니다";
 		}
 
-		// 이미 신청했는지 확인
-		if (harmonyRoomAssignWaitRepository.existsByHarmonyRoomAndUser(harmonyRoom, user)) {
-			return "이미 신청중입니다";
-		}
-
 		if (harmonyRoom.getIsDirectAssign()) {
 			// 바로 승인인 경우 멤버로 추가
 			HarmonyRoomMembers newMember = HarmonyRoomMembers.createMember(harmonyRoom, user);
 			harmonyRoomMembersRepository.save(newMember);
+			harmonyRoomSummaryService.evict(harmonyRoom.getId());
 			log.info("🚪 바로 가입 완료: {} → {}", user.getNickname(), harmonyRoom.getName());
 			return "가입 완료";
 		} else {
-			// 승인 필요한 경우 대기 목록에 추가
-			HarmonyRoomAssignWait assignWait = harmonyRoomAssignWaitRepository.findByHarmonyRoom(harmonyRoom)
-				.orElseThrow(() -> new IllegalArgumentException("가입 대기 목록을 찾을 수 없습니다"));
-
-			assignWait.addWaitingUser(user);
-			harmonyRoomAssignWaitRepository.save(assignWait);
+			// 승인 필요한 경우 가입 신청 (이미 대기 중이면 0행)
+			int requested = harmonyRoomJoinRequestRepository.request(
+				UUID.randomUUID(), harmonyRoomId, userId, LocalDateTime.now());
+			if (requested == 0) {
+				return "이미 신청중입니다";
+			}
 			log.info("🚪 가입 신청 완료: {} → {}", user.getNickname(), harmonyRoom.getName());
 			return "가입 신청완료";
 		}
@@ -1035,8 +1091,7 @@ public class HarmonyService {
 	 */
 	public void leaveHarmonyRoom(String harmonyId, String authHeader) {
 		UUID userId = authHelper.authHelperAsUUID(authHeader);
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+		User user = authHelper.loadUser(userId);
 
 		UUID harmonyRoomId = UUID.fromString(harmonyId);
 		HarmonyRoom harmonyRoom = harmonyRoomRepository.findById(harmonyRoomId)
@@ -1054,6 +1109,7 @@ public class HarmonyService {
 
 		// 멤버십 삭제
 		harmonyRoomMembersRepository.deleteByHarmonyRoomAndUser(harmonyRoom, user);
+		harmonyRoomSummaryService.evict(harmonyRoom.getId());
 
 		log.info("🚪 하모니룸 탈퇴 완료: {} ← {}", harmonyRoom.getName(), user.getNickname());
 	}
@@ -1071,19 +1127,19 @@ public class HarmonyService {
 
 		if (keyword == null || keyword.isBlank()) throw new IllegalArgumentException("검색어를 입력하세요");
 
-		List<HarmonyRoom> rooms = harmonyRoomRepository.searchByKeyword(keyword.trim());
+		List<HarmonyRoom> rooms = harmonyRoomRepository.searchByKeyword(keyword.trim(), SEARCH_LIMIT);
+
+		// 각 하모니룸의 멤버수와 멤버 프로필 이미지 2개 (룸 요약 캐시, 미스만 배치 조회)
+		Map<UUID, HarmonyRoomSummaryService.RoomSummary> summaries = harmonyRoomSummaryService.summaries(
+			rooms.stream().map(HarmonyRoom::getId).toList());
 
-		// 각 하모니룸의 멤버수와 멤버 프로필 이미지 2개 조회
 		return rooms.stream()
 			.map(room -> {
-				// 멤버 목록 조회
-				List<HarmonyRoomMembers> members = harmonyRoomMembersRepository.findByHarmonyRoom(room);
-				int memberNum = members.size();
-
-				// 멤버 프로필 이미지 (최대 2개)
-				List<String> userProfileImgsUrl = members.stream()
-					.map(m -> m.getUser().getProfileImageUrl())
-					.filter(img -> img != null && !img.isBlank())
+				HarmonyRoomSummaryService.RoomSummary summary = summaries.get(room.getId());
+				int memberNum = (int) summary.memberCount();
+
+				// 멤버 프로필 이미지 (최대 2개, 최근 가입순)
+				List<String> userProfileImgsUrl = summary.avatarUrls().stream()
 					.limit(2)
 					.collect(Collectors.toList());
 
@@ -1118,22 +1174,19 @@ public class HarmonyService {
 
 			final UUID finalUserId = userId;  // 람다에서 사용할 final 변수로 복사
 
-			HarmonyRoomPosts post = harmonyRoomPostsRepository.findByIdWithAssociations(harmonyPostId)
+			HarmonyRoomPosts post = harmonyRoomPostsRepository.findByIdWithUser(harmonyPostId)
 				.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
+			// 좋아요/북마크 여부는 행 존재 조회, 개수는 비정규화 카운터 (연관 컬렉션 로딩 없음)
 			boolean isLiked = false;
 			boolean isBookmarked = false;
 			if (finalUserId != null) {
-				User user = userRepository.findById(finalUserId).orElse(null);
-				if (user != null) {
-					isLiked = post.getLikes().stream().anyMatch(like -> like.getUser().getId().equals(finalUserId));
-					isBookmarked = post.getBookmarks().stream().anyMatch(b -> b.getUser().getId().equals(finalUserId));
-				}
+				isLiked = harmonyPostLikeRepository.existsByHarmonyPostIdAndUserId(harmonyPostId, finalUserId);
+				isBookmarked = !harmonyRoomPostsRepository.findBookmarkedPostIds(finalUserId, List.of(harmonyPostId)).isEmpty();
 			}
 
-
-			int likeCount = post.getLikes() != null ? post.getLikes().size() : 0;
-			int commentCount = post.getComments() != null ? post.getComments().size() : 0;
+			int likeCount = post.getLikeCount();
+			int commentCount = post.getCommentCount();
 
 			String createdAgo = calculateCreatedAgo(post.getCreatedAt());
 
@@ -1160,20 +1213,28 @@ public class HarmonyService {
 	}
 	// ========== 게시글 전체 댓글 조회 ==========
 	@Transactional(readOnly = true)
-	public ApiMessage<HarmonyRoomResponse.HarmonyRoomPostComments> getHarmonyPostComments(String harmonyPostIdStr, String authHeader) {
+	public ApiMessage<HarmonyRoomResponse.HarmonyRoomPostComments> getHarmonyPostComments(String harmonyPostIdStr, String cursor, int size, String authHeader) {
 		try {
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
-			// 최상위 댓글 조회 (자식 댓글은 재귀적으로 CommentData 내 replies 필드로 포함)
-			List<HarmonyPostComment> rootComments = harmonyCommentRepository.findRootCommentsByPostId(harmonyPostId);
+			int limit = Math.max(1, Math.min(size, COMMENT_THREAD_MAX_SIZE));
+			CommentTree.Cursor after = CommentTree.Cursor.parse(cursor);
+			UUID currentUserId = authHelper.userIdOrNull(authHeader);
+
+			// 루트 댓글 한 페이지 + 자손 전체를 쿼리 1회로 조회 → 트리 조립 (O(n), 지연 로딩 없음)
+			List<CommentTree.Node> roots = CommentTree.build(
+				harmonyCommentRepository.findThreadPage(harmonyPostId, after.createdAt(), after.id(), limit, REPLY_MAX_PER_ROOT,
+					currentUserId != null ? currentUserId : CommentTree.NO_VIEWER),
+				REPLY_MAX_DEPTH);
 
 			List<HarmonyRoomResponse.HarmonyRoomPostComments.CommentData> commentDataList =
-				rootComments.stream()
+				roots.stream()
 					.map(this::toCommentData)
 					.collect(Collectors.toList());
 
 			HarmonyRoomResponse.HarmonyRoomPostComments response =
 				HarmonyRoomResponse.HarmonyRoomPostComments.builder()
 					.comments(commentDataList)
+					.nextCursor(CommentTree.nextCursor(roots, limit))
 					.build();
 
 			return ApiMessage.success(200, "댓글 목록 조회 성공", response);
@@ -1185,21 +1246,19 @@ public class HarmonyService {
 		}
 	}
 
-	// 댓글 DTO 변환 메서드 (재귀 처리)
-	private HarmonyRoomResponse.HarmonyRoomPostComments.CommentData toCommentData(HarmonyPostComment comment) {
-		List<HarmonyRoomResponse.HarmonyRoomPostComments.CommentData> childCommentDtos = comment.getChildComments().stream()
-			.map(this::toCommentData) // 재귀 호출
-			.collect(Collectors.toList());
-
+	// 댓글 트리 노드 → DTO (깊이는 CommentTree에서 REPLY_MAX_DEPTH로 제한됨)
+	private HarmonyRoomResponse.HarmonyRoomPostComments.CommentData toCommentData(CommentTree.Node node) {
+		CommentTree.Row row = node.row();
 		return HarmonyRoomResponse.HarmonyRoomPostComments.CommentData.builder()
-			.id(comment.getId().toString())
-			.content(comment.getContent())
-			.userId(comment.getUser().getId().toString())
-			.userNickname(comment.getUser().getNickname())
-			.userProfileImgLink(comment.getUser().getProfileImageUrl())
-			.likeCount(comment.getLikeCount())
-			.createdAgo(calculateCreatedAgo(comment.getCreatedAt()))
-			.replies(childCommentDtos)
+			.id(row.getId().toString())
+			.content(row.getContent())
+			.userId(row.getUserId().toString())
+			.userNickname(row.getNickname())
+			.userProfileImgLink(row.getProfileImageUrl())
+			.likeCount(row.getLikeCount())
+			.isLiked(Boolean.TRUE.equals(row.getLiked()))
+			.createdAgo(calculateCreatedAgo(row.getCreatedAt()))
+			.replies(node.replies().stream().map(this::toCommentData).collect(Collectors.toList()))
 			.build();
 	}
 
@@ -1240,29 +1299,22 @@ public class HarmonyService {
 	public ApiMessage<Void> likeOrUnlikeHarmonyPost(String harmonyPostIdStr, String authHeader) {
 		try {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
-			HarmonyRoomPosts post = harmonyRoomPostsRepository.findByIdWithLikes(harmonyPostId)
+			HarmonyRoomPosts post = harmonyRoomPostsRepository.findById(harmonyPostId)
 				.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-			boolean wasLiked = post.getLikes().stream().anyMatch(like -> like.getUser().getId().equals(userId));
-
-			if (wasLiked) {
-				// 좋아요 취소
-				post.getLikes().removeIf(like -> like.getUser().getId().equals(userId));
-			} else {
-				// 좋아요 추가
-				HarmonyPostLike like = HarmonyPostLike.builder()
-					.harmonyPost(post)
-					.user(user)
-					.build();
-				post.getLikes().add(like);
+			// 좋아요 행을 직접 삭제/추가 (likes 컬렉션 로딩 없음), like_count는 실제 변경된 행 수만큼 원자적 증감
+			int delta = -harmonyPostLikeRepository.deleteByHarmonyPostIdAndUserId(harmonyPostId, userId);
+			boolean wasLiked = delta < 0;
+			if (!wasLiked) {
+				delta = harmonyPostLikeRepository.insertLike(UUID.randomUUID(), harmonyPostId, userId, LocalDateTime.now());
+			}
+			if (delta != 0) {
+				harmonyRoomPostsRepository.adjustLikeCount(harmonyPostId, delta);
 			}
 
-			harmonyRoomPostsRepository.save(post);
-
-			int newLikeCount = post.getLikes().size();
+			int newLikeCount = Math.max(0, post.getLikeCount() + delta);
 			String action = wasLiked ? "취소" : "추가";
 			String message = String.format("좋아요가 %s되었습니다. (현재 %d개)", action, newLikeCount);
 
@@ -1283,11 +1335,11 @@ public class HarmonyService {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
 
-			HarmonyRoomPosts post = harmonyRoomPostsRepository.findById(harmonyPostId)
-				.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+			if (!harmonyRoomPostsRepository.existsById(harmonyPostId)) {
+				throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+			}
 
-			boolean liked = post.getLikes().stream()
-				.anyMatch(like -> like.getUser().getId().equals(userId));
+			boolean liked = harmonyPostLikeRepository.existsByHarmonyPostIdAndUserId(harmonyPostId, userId);
 
 			return ApiMessage.success(200, "좋아요 여부 조회 성공", liked);
 		} catch (IllegalArgumentException e) {
@@ -1301,7 +1353,7 @@ public class HarmonyService {
 	public ApiMessage<Void> addHarmonyPostBookmark(String harmonyPostIdStr, String authHeader) {
 		try {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
 			HarmonyRoomPosts post = harmonyRoomPostsRepository.findById(harmonyPostId)
@@ -1320,6 +1372,7 @@ public class HarmonyService {
 			post.getBookmarks().add(bookmark);
 
 			harmonyRoomPostsRepository.save(post);
+			harmonyRoomPostsRepository.adjustBookmarkCount(harmonyPostId, 1);
 
 			return ApiMessage.success(201, "북마크가 성공적으로 추가되었습니다.", null);
 		} catch (IllegalArgumentException e) {
@@ -1349,6 +1402,7 @@ public class HarmonyService {
 			post.getBookmarks().remove(bookmarkOpt.get());
 
 			harmonyRoomPostsRepository.save(post);
+			harmonyRoomPostsRepository.adjustBookmarkCount(harmonyPostId, -1);
 
 			return ApiMessage.success(200, "북마크가 성공적으로 제거되었습니다.", null);
 		} catch (IllegalArgumentException e) {
@@ -1389,7 +1443,7 @@ public class HarmonyService {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
 
-			HarmonyRoomPosts post = harmonyRoomPostsRepository.findByIdWithAssociations(harmonyPostId)
+			HarmonyRoomPosts post = harmonyRoomPostsRepository.findByIdWithUser(harmonyPostId)
 				.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
 			if (!post.getUser().getId().equals(userId)) {
@@ -1424,7 +1478,7 @@ public class HarmonyService {
 	public ApiMessage<Void> createHarmonyPostComment(String harmonyPostIdStr, HarmonyRoomRequest.CreateComment request, String authHeader) {
 		try {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID harmonyPostId = UUID.fromString(harmonyPostIdStr);
 			HarmonyRoomPosts post = harmonyRoomPostsRepository.findById(harmonyPostId)
@@ -1443,6 +1497,7 @@ public class HarmonyService {
 				: HarmonyPostComment.createReply(user, post, request.getContent(), parentComment);
 
 			harmonyCommentRepository.save(comment);
+			harmonyRoomPostsRepository.adjustCommentCount(harmonyPostId, 1);
 
 			return ApiMessage.success(201, "댓글이 성공적으로 작성되었습니다.", null);
 		} catch (IllegalArgumentException e) {
@@ -1465,7 +1520,12 @@ public class HarmonyService {
 				return ApiMessage.fail(403, "삭제 권한이 없습니다.");
 			}
 
-			harmonyCommentRepository.delete(comment);
+			// 대댓글까지 스레드 ID를 재귀 CTE 1회로 모아 set-based 삭제, 삭제된 행 수만큼 댓글 수 차감
+			UUID harmonyPostId = comment.getHarmonyPost().getId();
+			List<UUID> threadIds = harmonyCommentRepository.findThreadIds(commentId);
+			harmonyCommentRepository.deleteLikesByCommentIds(threadIds);
+			int removed = harmonyCommentRepository.deleteAllByIdIn(threadIds);
+			harmonyRoomPostsRepository.adjustCommentCount(harmonyPostId, -removed);
 
 			return ApiMessage.success(200, "댓글이 성공적으로 삭제되었습니다.", null);
 		} catch (IllegalArgumentException e) {
@@ -1481,19 +1541,20 @@ public class HarmonyService {
 	public ApiMessage<Void> likeOrUnlikeHarmonyComment(String harmonyPostIdStr, String commentIdStr, String authHeader) {
 		try {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
-			User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID commentId = UUID.fromString(commentIdStr);
 			HarmonyPostComment comment = harmonyCommentRepository.findById(commentId)
 				.orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-			if (comment.isLikedBy(user)) {
-				comment.removeLike(user);
-			} else {
-				comment.addLike(user);
+			// harmony_comment_likes 행을 직접 삭제/추가, like_count는 변경된 행 수만큼 원자적 증감
+			int delta = -harmonyCommentRepository.deleteLike(commentId, user.getId());
+			if (delta == 0) {
+				delta = harmonyCommentRepository.insertLike(commentId, user.getId());
+			}
+			if (delta != 0) {
+				harmonyCommentRepository.adjustLikeCount(commentId, delta);
 			}
-
-			harmonyCommentRepository.save(comment);
 
 			return ApiMessage.success(200, "댓글 좋아요/취소 완료", null);
 		} catch (IllegalArgumentException e) {
@@ -1520,8 +1581,8 @@ public class HarmonyService {
 
 			List<HarmonyRoomResponse.UserHarmonyPosts.UserPostData> userPostList = posts.stream()
 				.map(post -> {
-					int likeCount = post.getLikes() != null ? post.getLikes().size() : 0;
-					int commentCount = post.getComments() != null ? post.getComments().size() : 0;
+					int likeCount = post.getLikeCount();
+					int commentCount = post.getCommentCount();
 					String createdAgo = calculateCreatedAgo(post.getCreatedAt());
 
 					return HarmonyRoomResponse.UserHarmonyPosts.UserPostData.builder()
@@ -96,10 +96,14 @@ public class PostController {
 
 	//---------------댓글 관련------cc-----------//
 
-	/** 16. 특정 게시글 모든 댓글 조회 GET /api/posts/{postID}/comments */
+	/** 16. 특정 게시글 모든 댓글 조회 GET /api/posts/{postID}/comments?cursor=&size= (루트 댓글 기준 페이지) */
 	@GetMapping("/posts/{postId}/comments")
-	public ResponseEntity<ApiMessage<CommentResponse.All>> getAllComments(@PathVariable String postId) {
-		ApiMessage<CommentResponse.All> response = commentService.getAllComments(postId);
+	public ResponseEntity<ApiMessage<CommentResponse.All>> getAllComments(
+		@PathVariable String postId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "50") int size,
+		@RequestHeader(value = "Authorization", required = false) String authHeader) {
+		ApiMessage<CommentResponse.All> response = commentService.getAllComments(postId, cursor, size, authHeader);
 		return ResponseEntity.status(response.getCode()).body(response);
 	}
 
@@ -187,18 +191,21 @@ public class PostController {
 	/** 19. 인기 피드 GET /api/posts/populars */
 	@GetMapping("/posts/populars")
 	public ResponseEntity<ApiMessage<FilterPostResponse.FeedList>> getPopularPosts(
-		@RequestHeader(value = "Authorization", required = false) String authHeader) {
+		@RequestHeader(value = "Authorization", required = false) String authHeader,
+		@RequestParam(defaultValue = "50") int size) {
 
-		ApiMessage<FilterPostResponse.FeedList> response = postService.getPopularPosts(authHeader);
+		ApiMessage<FilterPostResponse.FeedList> response = postService.getPopularPosts(authHeader, size);
 		return ResponseEntity.status(response.getCode()).body(response);
 	}
 
 	/** 20. 팔로우 피드 GET /api/posts/follows */
 	@GetMapping("/posts/follows")
 	public ResponseEntity<ApiMessage<FilterPostResponse.FeedList>> getFollowPosts(
-		@RequestHeader("Authorization") String authHeader) {
+		@RequestHeader("Authorization") String authHeader,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
 
-		ApiMessage<FilterPostResponse.FeedList> response = postService.getFollowPosts(authHeader);
+		ApiMessage<FilterPostResponse.FeedList> response = postService.getFollowPosts(authHeader, cursor, size);
 		return ResponseEntity.status(response.getCode()).body(response);
 	}
 
@@ -13,6 +13,7 @@ public class CommentResponse {
 	//---------------모든 댓글 조회 (API 16번)-----------------//
 	public static class All {
 		private List<CommentData> comments;
+		private String nextCursor;              // 다음 루트 댓글 페이지 cursor (마지막 페이지면 null)
 	}
 
 	@Getter
@@ -38,6 +39,7 @@ public class CommentResponse {
 		private String profileUrl;              // ✅ API 명세: "profileUrl"
 		private String content;                 // 댓글내용
 		private Integer likes;                  // ✅ Integer 타입으로 통일
+		private Boolean isLiked;                // 조회자 좋아요 여부 (비로그인이면 false)
 		private List<RecommentData> recomments; // 대댓글 리스트
 	}
 
@@ -50,7 +52,8 @@ public class CommentResponse {
 		private String nickname;
 		private String content;                 // 댓글내용
 		private Integer likes;                  // ✅ Integer 타입으로 통일
-		private List<RecommentData> recomments; // 대대댓글 (재귀 구조)
+		private Boolean isLiked;                // 조회자 좋아요 여부 (비로그인이면 false)
+		private List<RecommentData> recomments; // 대대댓글 (재귀 구조, 일정 깊이부터는 같은 단계로 펼침)
 	}
 
 	@Getter
@@ -14,6 +14,7 @@ public class FilterPostResponse {
 	//---------------추천/팔로우/인기 피드 (API 18,19,20번)-----------------//
 	public static class FeedList {
 		private List<FeedPostData> results;
+		private String nextCursor;              // 다음 페이지 cursor "millis:postId" (팔로우 피드, 마지막이면 null)
 	}
 
 	@Getter
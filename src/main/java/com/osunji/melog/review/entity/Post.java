@@ -9,6 +9,7 @@ import java.util.UUID;
 import com.osunji.melog.review.dto.request.PostRequest;
 import com.osunji.melog.user.domain.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    @Index(name = "idx_posts_like_count_created_at", columnList = "like_count DESC, created_at DESC"),
+    @Index(name = "idx_posts_user_id_created_at", columnList = "user_id, created_at DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -81,13 +85,39 @@ public class Post {
     @JoinTable(
         name = "post_likes",
         joinColumns = @JoinColumn(name = "post_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"post_id", "user_id"})
     )
     private List<User> likes = new ArrayList<>();
 
+    /**
+     * 좋아요 수 (post_likes 비정규화 컬럼, 인기피드 정렬용)
+     * - 엔티티 flush로는 갱신하지 않고 PostRepository.adjustLikeCount로만 원자적으로 증감
+     */
+    @Column(name = "like_count", nullable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private int likeCount = 0;
+
+    /**
+     * 댓글 수 (post_comments 비정규화 컬럼, 대댓글 포함)
+     * - PostRepository.adjustCommentCount로만 원자적으로 증감
+     */
+    @Column(name = "comment_count", nullable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private int commentCount = 0;
+
+    /**
+     * 북마크 수 (post_bookmarks 비정규화 컬럼)
+     * - PostRepository.adjustBookmarkCount로만 원자적으로 증감
+     */
+    @Column(name = "bookmark_count", nullable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private int bookmarkCount = 0;
+
     /**
      * 이 글을 숨김 처리한 사용자들 (User.id = UUID)
      */
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "post_hidden_users",
@@ -112,6 +142,9 @@ public class Post {
         post.tags = tags != null ? new ArrayList<>(tags) : new ArrayList<>();
         post.createdAt = LocalDateTime.now();
         post.likes = new ArrayList<>();
+        post.likeCount = 0;
+        post.commentCount = 0;
+        post.bookmarkCount = 0;
         post.hiddenUsers = new ArrayList<>();
         return post;
     }
@@ -144,26 +177,33 @@ public class Post {
     }
 
     /**
-     * 좋아요 추가
+     * 좋아요 추가 - 실제로 추가됐으면 true
      */
-    public void addLike(User user) {
+    public boolean addLike(User user) {
         if (!this.likes.contains(user)) {
             this.likes.add(user);
+            this.likeCount++;
+            return true;
         }
+        return false;
     }
 
     /**
-     * 좋아요 제거
+     * 좋아요 제거 - 실제로 제거됐으면 true
      */
-    public void removeLike(User user) {
-        this.likes.remove(user);
+    public boolean removeLike(User user) {
+        if (this.likes.remove(user)) {
+            this.likeCount = Math.max(0, this.likeCount - 1);
+            return true;
+        }
+        return false;
     }
 
     /**
-     * 좋아요 개수
+     * 좋아요 개수 (비정규화 컬럼 - likes 컬렉션을 로딩하지 않음)
      */
     public int getLikeCount() {
-        return this.likes.size();
+        return this.likeCount;
     }
 
     /**
@@ -13,7 +13,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_comments")  // 테이블명 일관성 개선
+@Table(name = "post_comments",  // 테이블명 일관성 개선
+    indexes = {
+        @Index(name = "idx_post_comments_post_like_count", columnList = "post_id, like_count DESC, created_at"),
+        @Index(name = "idx_post_comments_post_created", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_post_comments_parent", columnList = "parent_comment_id")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostComment {
@@ -73,10 +78,19 @@ public class PostComment {
     @JoinTable(
         name = "comment_likes",
         joinColumns = @JoinColumn(name = "comment_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        uniqueConstraints = @UniqueConstraint(columnNames = {"comment_id", "user_id"})
     )
     private List<User> likedUsers = new ArrayList<>();
 
+    /**
+     * 좋아요 수 (comment_likes 비정규화 컬럼, 베스트 댓글 정렬용)
+     * - 엔티티 flush로는 갱신하지 않고 CommentRepository.adjustLikeCount로만 원자적으로 증감
+     */
+    @Column(name = "like_count", nullable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private int likeCount = 0;
+
     /**
      * 일반 댓글 생성자
      */
@@ -127,6 +141,7 @@ public class PostComment {
     public void addLike(User user) {
         if (!this.likedUsers.contains(user)) {
             this.likedUsers.add(user);
+            this.likeCount++;
         }
     }
 
@@ -134,14 +149,16 @@ public class PostComment {
      * 좋아요 제거
      */
     public void removeLike(User user) {
-        this.likedUsers.remove(user);
+        if (this.likedUsers.remove(user)) {
+            this.likeCount = Math.max(0, this.likeCount - 1);
+        }
     }
 
     /**
-     * 좋아요 개수
+     * 좋아요 개수 (비정규화 컬럼 - likedUsers 컬렉션을 로딩하지 않음)
      */
     public int getLikeCount() {
-        return this.likedUsers.size();
+        return this.likeCount;
     }
 
     /**
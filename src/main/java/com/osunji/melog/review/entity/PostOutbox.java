@@ -0,0 +1,88 @@
+package com.osunji.melog.review.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 → ES(posts 인덱스) 동기화용 트랜잭셔널 아웃박스
+ * - Post 변경과 같은 트랜잭션에서 기록되고, PostOutboxRelay가 bulk로 ES에 반영한 뒤 삭제
+ * - 최대 시도 횟수를 넘긴 이벤트는 failedAt을 찍어 보관 (더 이상 릴레이하지 않음, 확인 후 수동 처리)
+ */
+@Entity
+@Table(name = "post_outbox", indexes = {
+    @Index(name = "idx_post_outbox_next_attempt_at", columnList = "next_attempt_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostOutbox {
+
+    public enum Op { UPSERT, DELETE }
+
+    /**
+     * 이벤트 순번
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 대상 게시글 ID (ES 문서 ID)
+     */
+    @Column(name = "post_id", columnDefinition = "uuid", nullable = false)
+    private UUID postId;
+
+    /**
+     * 반영 방식 (UPSERT는 릴레이 시점의 최신 Post 상태로 색인)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Op op;
+
+    /**
+     * 이벤트 생성 시각 (lag 측정용)
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 재시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 시도 가능 시각 (실패 시 backoff)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 재시도 포기 시각 (null이면 처리 대기 중)
+     */
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    public static PostOutbox upsert(UUID postId) {
+        return of(postId, Op.UPSERT);
+    }
+
+    public static PostOutbox delete(UUID postId) {
+        return of(postId, Op.DELETE);
+    }
+
+    private static PostOutbox of(UUID postId, Op op) {
+        PostOutbox e = new PostOutbox();
+        e.postId = postId;
+        e.op = op;
+        e.createdAt = LocalDateTime.now();
+        e.nextAttemptAt = e.createdAt;
+        e.attempts = 0;
+        return e;
+    }
+}
@@ -1,12 +1,10 @@
 package com.osunji.melog.review.mapper;
 
+import com.osunji.melog.global.common.CommentTree;
 import com.osunji.melog.review.dto.response.CommentResponse;
 import com.osunji.melog.review.entity.PostComment;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Component
 public class CommentMapper {
 
@@ -24,38 +22,31 @@ public class CommentMapper {
 			.build();
 	}
 
-	/** 댓글 데이터 변환 (API 16번) */
-	public CommentResponse.CommentData toCommentData(PostComment comment) {
+	/** 스레드 노드 변환 (API 16번) - CommentTree로 조립된 트리, 엔티티/지연 로딩 없음 */
+	public CommentResponse.CommentData toCommentData(CommentTree.Node node) {
+		CommentTree.Row row = node.row();
 		return CommentResponse.CommentData.builder()
-			.id(comment.getId().toString())
-			.userID(comment.getUser().getId().toString())         // ✅ API 명세: "userID"
-			.nickname(comment.getUser().getNickname())
-			.profileUrl(comment.getUser().getProfileImageUrl())  // ✅ API 명세: "profileUrl"
-			.content(comment.getContent())
-			.likes(comment.getLikeCount())                        // ✅ Entity 메서드 사용
-			.recomments(toRecommentList(comment.getChildComments())) // ✅ 대댓글 재귀 처리
+			.id(row.getId().toString())
+			.userID(row.getUserId().toString())
+			.nickname(row.getNickname())
+			.profileUrl(row.getProfileImageUrl())
+			.content(row.getContent())
+			.likes(row.getLikeCount())
+			.isLiked(Boolean.TRUE.equals(row.getLiked()))
+			.recomments(node.replies().stream().map(this::toRecommentData).toList())
 			.build();
 	}
 
-	/** 대댓글 리스트 변환 */
-	private List<CommentResponse.RecommentData> toRecommentList(List<PostComment> childComments) {
-		if (childComments == null || childComments.isEmpty()) {
-			return List.of();
-		}
-		return childComments.stream()
-			.map(this::toRecommentData)
-			.collect(Collectors.toList());
-	}
-
-	/** 대댓글 데이터 변환 (재귀 구조) */
-	private CommentResponse.RecommentData toRecommentData(PostComment comment) {
+	private CommentResponse.RecommentData toRecommentData(CommentTree.Node node) {
+		CommentTree.Row row = node.row();
 		return CommentResponse.RecommentData.builder()
-			.id(comment.getId().toString())
-			.userID(comment.getUser().getId().toString())         // ✅ API 명세: "userID"
-			.nickname((comment.getUser().getNickname()))
-			.content(comment.getContent())
-			.likes(comment.getLikeCount())                        // ✅ Entity 메서드 사용
-			.recomments(toRecommentList(comment.getChildComments())) // ✅ 재귀 처리
+			.id(row.getId().toString())
+			.userID(row.getUserId().toString())
+			.nickname(row.getNickname())
+			.content(row.getContent())
+			.likes(row.getLikeCount())
+			.isLiked(Boolean.TRUE.equals(row.getLiked()))
+			.recomments(node.replies().stream().map(this::toRecommentData).toList())
 			.build();
 	}
 }
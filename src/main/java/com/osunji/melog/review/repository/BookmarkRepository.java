@@ -32,7 +32,7 @@ public interface BookmarkRepository extends JpaRepository<PostBookmark, PostBook
 	@Modifying(clearAutomatically = true)
 	@Query("DELETE FROM PostBookmark pb " +
 		"WHERE pb.user.id = :userId AND pb.post.id = :postId")
-	void deleteByUserIdAndPostId(@Param("userId") UUID userId,  // ✅ String → UUID
+	int deleteByUserIdAndPostId(@Param("userId") UUID userId,  // ✅ String → UUID
 		@Param("postId") UUID postId);  // ✅ String → UUID
 
 	/** 북마크 존재 여부 확인 */
@@ -42,6 +42,12 @@ public interface BookmarkRepository extends JpaRepository<PostBookmark, PostBook
 	boolean existsByUserIdAndPostId(@Param("userId") UUID userId,  // ✅ String → UUID
 		@Param("postId") UUID postId);  // ✅ String → UUID
 
+	/** postIds 중 userId가 북마크한 게시글 ID */
+	@Query("SELECT pb.post.id FROM PostBookmark pb " +
+		"WHERE pb.user.id = :userId AND pb.post.id IN :postIds")
+	List<UUID> findBookmarkedPostIds(@Param("userId") UUID userId,
+		@Param("postIds") List<UUID> postIds);
+
 	//---------------통계 관련-----------------//
 	/** 특정 게시글이 북마크된 총 횟수 조회 */
 	@Query("SELECT COUNT(pb) FROM PostBookmark pb WHERE pb.post.id = :postId")
@@ -1,11 +1,16 @@
 package com.osunji.melog.review.repository;
 
+import com.osunji.melog.global.common.CommentTree;
 import com.osunji.melog.review.entity.PostComment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,19 +25,78 @@ public interface CommentRepository extends JpaRepository<PostComment, UUID> {  /
 		"ORDER BY c.createdAt ASC")
 	List<PostComment> findPostCommentAll(@Param("postId") UUID postId);  // ✅ String → UUID
 
+	/**
+	 * 댓글 스레드 한 페이지 - 루트 limit개((createdAt, id) 이후) + 자손을 재귀 CTE 1회로 (조회자 좋아요 여부 포함, 트리 조립은 CommentTree.build)
+	 * - 자손은 부모당 replyLimit개까지만 따라가고, 루트당 작성 순 replyLimit개까지만 반환
+	 */
+	@Query(value = """
+		WITH RECURSIVE roots AS (
+		    SELECT c.id, c.created_at FROM post_comments c
+		    WHERE c.post_id = :postId AND c.parent_comment_id IS NULL
+		      AND (c.created_at, c.id) > (:afterCreatedAt, :afterId)
+		    ORDER BY c.created_at, c.id
+		    LIMIT :limit
+		), thread AS (
+		    SELECT r.id, r.id AS root_id, r.created_at FROM roots r
+		    UNION ALL
+		    SELECT c.id, t.root_id, c.created_at FROM thread t
+		    CROSS JOIN LATERAL (
+		        SELECT ch.id, ch.created_at FROM post_comments ch
+		        WHERE ch.parent_comment_id = t.id
+		        ORDER BY ch.created_at, ch.id
+		        LIMIT :replyLimit
+		    ) c
+		), capped AS (
+		    SELECT n.id FROM (
+		        SELECT t.id, ROW_NUMBER() OVER (PARTITION BY t.root_id
+		                                        ORDER BY (t.id = t.root_id) DESC, t.created_at, t.id) AS rn
+		        FROM thread t
+		    ) n
+		    WHERE n.rn <= :replyLimit + 1
+		)
+		SELECT c.id AS id, c.parent_comment_id AS parentId, c.content AS content, c.created_at AS createdAt,
+		       c.like_count AS likeCount, u.id AS userId, u.nickname AS nickname, u.profile_image_url AS profileImageUrl,
+		       EXISTS (SELECT 1 FROM comment_likes l WHERE l.comment_id = c.id AND l.user_id = :viewerId) AS liked
+		FROM capped t
+		JOIN post_comments c ON c.id = t.id
+		JOIN users u ON u.id = c.user_id
+		ORDER BY c.parent_comment_id NULLS FIRST, c.created_at, c.id
+		""", nativeQuery = true)
+	List<CommentTree.Row> findThreadPage(@Param("postId") UUID postId,
+									   @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+									   @Param("afterId") UUID afterId,
+									   @Param("limit") int limit,
+									   @Param("replyLimit") int replyLimit,
+									   @Param("viewerId") UUID viewerId);
+
 	//---------------베스트 댓글 조회-----------------//
-	/** 특정 게시글의 베스트 댓글 - 좋아요 수가 가장 많은 댓글 */
-	@Query("SELECT c FROM PostComment c " +
+	/** 특정 게시글의 베스트 댓글 후보 - (post_id, like_count DESC, created_at) 인덱스 순서대로 pageable개만 */
+	@Query("SELECT c FROM PostComment c JOIN FETCH c.user " +
 		"WHERE c.post.id = :postId " +
-		"ORDER BY SIZE(c.likedUsers) DESC, c.createdAt ASC")
-	List<PostComment> findBestComments(@Param("postId") UUID postId);
+		"ORDER BY c.likeCount DESC, c.createdAt ASC")
+	List<PostComment> findBestComments(@Param("postId") UUID postId, Pageable pageable);
 
-	// ✅ 단일 결과 대신 리스트로 받아서 첫 번째 선택
+	// ✅ 인덱스 top-1만 조회
 	default Optional<PostComment> findBestComment(UUID postId) {
-		List<PostComment> comments = findBestComments(postId);
+		List<PostComment> comments = findBestComments(postId, PageRequest.of(0, 1));
 		return comments.isEmpty() ? Optional.empty() : Optional.of(comments.get(0));
 	}
 
+	/** 여러 게시글의 베스트 댓글 ID - 게시글마다 LATERAL로 (post_id, like_count DESC, created_at) 인덱스 첫 행만 읽음 */
+	@Query(value = "SELECT b.id FROM posts p " +
+		"CROSS JOIN LATERAL (" +
+		"  SELECT c.id FROM post_comments c " +
+		"  WHERE c.post_id = p.id " +
+		"  ORDER BY c.like_count DESC, c.created_at ASC " +
+		"  LIMIT 1) b " +
+		"WHERE p.id IN (:postIds)", nativeQuery = true)
+	List<UUID> findBestCommentIdsByPostIds(@Param("postIds") List<UUID> postIds);
+
+	/** ID 리스트로 댓글 + 작성자 + 게시글 조회 */
+	@Query("SELECT c FROM PostComment c JOIN FETCH c.user JOIN FETCH c.post " +
+		"WHERE c.id IN :commentIds")
+	List<PostComment> findAllWithUserByIdIn(@Param("commentIds") List<UUID> commentIds);
+
 	//---------------댓글 작성 관련-----------------//
 	/** 댓글 ID로 조회 + 작성자 정보 포함 (권한 체크용) */
 	@Query("SELECT c FROM PostComment c JOIN FETCH c.user WHERE c.id = :commentId")
@@ -40,7 +104,7 @@ public interface CommentRepository extends JpaRepository<PostComment, UUID> {  /
 
 	//---------------댓글 좋아요 관련-----------------//
 	/** 특정 댓글의 좋아요 수 조회 */
-	@Query("SELECT SIZE(c.likedUsers) FROM PostComment c WHERE c.id = :commentId")
+	@Query("SELECT c.likeCount FROM PostComment c WHERE c.id = :commentId")
 	int countCommentLike(@Param("commentId") UUID commentId);  // ✅ String → UUID
 
 	/** 특정 사용자가 특정 댓글에 좋아요를 눌렀는지 확인 */
@@ -49,11 +113,44 @@ public interface CommentRepository extends JpaRepository<PostComment, UUID> {  /
 		"WHERE c.id = :commentId AND u.id = :userId")
 	boolean isCommentLikebyId(@Param("commentId") UUID commentId, @Param("userId") UUID userId);  // ✅ String → UUID
 
+	/** like_count 원자적 증감 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PostComment c SET c.likeCount = c.likeCount + :delta WHERE c.id = :commentId")
+	int adjustLikeCount(@Param("commentId") UUID commentId, @Param("delta") int delta);
+
+	/** comment_likes 행 삭제 - 삭제된 행 수(0/1) 반환 (likedUsers 컬렉션 로딩 없음) */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "DELETE FROM comment_likes WHERE comment_id = :commentId AND user_id = :userId", nativeQuery = true)
+	int deleteLike(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+	/** comment_likes 행 추가 - 이미 있으면 0 (동시 요청도 unique 제약에서 충돌 없이 0) */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO comment_likes (comment_id, user_id) VALUES (:commentId, :userId) " +
+		"ON CONFLICT (comment_id, user_id) DO NOTHING", nativeQuery = true)
+	int insertLike(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+
+	/** 댓글 + 모든 자손 수 (cascade로 함께 지워질 행 수 → comment_count 차감용) */
+	@Query(value = """
+		WITH RECURSIVE thread AS (
+		    SELECT c.id FROM post_comments c WHERE c.id = :commentId
+		    UNION ALL
+		    SELECT c.id FROM post_comments c JOIN thread t ON c.parent_comment_id = t.id
+		)
+		SELECT COUNT(*) FROM thread
+		""", nativeQuery = true)
+	int countThread(@Param("commentId") UUID commentId);
+
 	//---------------통계 관련-----------------//
 	/** 특정 게시글의 총 댓글 수 조회 */
 	@Query("SELECT COUNT(c) FROM PostComment c WHERE c.post.id = :postId")
 	int countCommentByPostId(@Param("postId") UUID postId);  // ✅ String → UUID
 
+	/** 여러 게시글의 댓글 수 - [postId, count] */
+	@Query("SELECT c.post.id, COUNT(c) FROM PostComment c " +
+		"WHERE c.post.id IN :postIds GROUP BY c.post.id")
+	List<Object[]> countCommentsByPostIds(@Param("postIds") List<UUID> postIds);
+
 	/** 특정 사용자가 작성한 댓글 수 조회 */
 	@Query("SELECT COUNT(c) FROM PostComment c WHERE c.user.id = :userId")
 	int countCommentByuserId(@Param("userId") UUID userId);  // ✅ String → UUID
@@ -0,0 +1,58 @@
+package com.osunji.melog.review.repository;
+
+import com.osunji.melog.review.entity.PostOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostOutboxRepository extends JpaRepository<PostOutbox, Long> {
+
+	/**
+	 * 처리 가능한(backoff 지난) 이벤트를 순서대로 limit개 선점
+	 * - FOR UPDATE SKIP LOCKED로 다른 인스턴스가 잡은 행은 건너뛰고, next_attempt_at을 leaseUntil로 미뤄서
+	 *   ES 반영 중(트랜잭션 밖)에도 다른 인스턴스가 다시 가져가지 않음 → 처리 후 삭제, 실패하면 backoff로 덮어씀
+	 */
+	@Transactional
+	@Query(value = "UPDATE post_outbox SET next_attempt_at = :leaseUntil WHERE id IN (" +
+		"SELECT id FROM post_outbox WHERE failed_at IS NULL AND next_attempt_at <= :now " +
+		"ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) RETURNING *", nativeQuery = true)
+	List<PostOutbox> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+		@Param("limit") int limit);
+
+	/** 반영 완료 이벤트 삭제 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM PostOutbox o WHERE o.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	/** 실패 이벤트 backoff */
+	@Transactional
+	@Modifying
+	@Query("UPDATE PostOutbox o SET o.attempts = o.attempts + 1, o.nextAttemptAt = :nextAttemptAt " +
+		"WHERE o.id IN :ids")
+	int markFailed(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+	/** 최대 시도 횟수 초과 이벤트 보관 (이후 claimDue에서 제외) */
+	@Transactional
+	@Modifying
+	@Query("UPDATE PostOutbox o SET o.attempts = o.attempts + 1, o.failedAt = :failedAt WHERE o.id IN :ids")
+	int park(@Param("ids") Collection<Long> ids, @Param("failedAt") LocalDateTime failedAt);
+
+	/** 가장 오래된 미처리 이벤트 시각 (lag 지표, 보관된 이벤트 제외) */
+	@Query("SELECT MIN(o.createdAt) FROM PostOutbox o WHERE o.failedAt IS NULL")
+	LocalDateTime findOldestCreatedAt();
+
+	/** 처리 대기 중인 이벤트 수 */
+	long countByFailedAtIsNull();
+
+	/** 보관된(재시도 포기) 이벤트 수 */
+	long countByFailedAtIsNotNull();
+}
@@ -1,13 +1,16 @@
 package com.osunji.melog.review.repository;
 
+import com.osunji.melog.global.util.LikePatternUtil;
 import com.osunji.melog.review.entity.Post;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,9 +27,14 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 	/** 인기피드 - 좋아요 수 기준 내림차순 + hiddenUsers 제외 */
 	@Query("SELECT p FROM Post p JOIN FETCH p.user " +
 		"WHERE :userId IS NULL OR :userId NOT MEMBER OF p.hiddenUsers " +
-		"ORDER BY SIZE(p.likes) DESC")
+		"ORDER BY p.likeCount DESC, p.createdAt DESC")
 	List<Post> findPopularPosts(@Param("userId") UUID userId);
 
+	/** 인기피드 Top-N - like_count 인덱스(idx_posts_like_count_created_at)로 DB에서 바로 자름 */
+	@Query("SELECT p FROM Post p JOIN FETCH p.user " +
+		"ORDER BY p.likeCount DESC, p.createdAt DESC")
+	List<Post> findTopByLikeCount(Pageable pageable);
+
 	/** 최신순 게시글 조회 */
 	@Query("SELECT p FROM Post p JOIN FETCH p.user " +
 		"WHERE :userId IS NULL OR :userId NOT MEMBER OF p.hiddenUsers " +
@@ -54,7 +62,7 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 	@Query("SELECT p FROM Post p JOIN FETCH p.user " +
 		"WHERE p.mediaUrl IS NOT NULL " +
 		"AND (:userId IS NULL OR :userId NOT MEMBER OF p.hiddenUsers) " +
-		"ORDER BY SIZE(p.likes) DESC")
+		"ORDER BY p.likeCount DESC, p.createdAt DESC")
 	List<Post> findPopularMedia(@Param("userId") UUID userId);
 
 	//---------------ID 리스트로 조회 (Elasticsearch 연동용)-----------------//
@@ -67,18 +75,44 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 	@Query("SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
 	Long countByUserId(@Param("userId") UUID userId);
 
-	/** 제목, 내용으로만 검색 (태그 검색 제외) */
-	@Query("SELECT p FROM Post p WHERE " +
-		"LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-		"LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-		"ORDER BY p.createdAt DESC")
-	List<Post> findByTitleContainingOrContentContaining(
-		@Param("keyword") String keyword);
+	/**
+	 * 제목, 내용으로만 검색 (태그 검색 제외), 최대 limit개
+	 * - 3글자 이상: pg_trgm GIN 인덱스(lower(title/content)), 유사도 높은 순 → 최신순
+	 * - 3글자 미만: trigram 인덱스를 못 쓰므로 제목 prefix (btree idx_posts_title_prefix), 최신순
+	 */
+	default List<Post> searchByTitleOrContent(String keyword, int limit) {
+		String term = keyword.trim();
+		String pattern = LikePatternUtil.escape(term);
+		return LikePatternUtil.isShort(term)
+			? searchByTitlePrefix(pattern, limit)
+			: searchByTitleOrContentTrigram(pattern, term, limit);
+	}
+
+	@Query(value = "SELECT p.* FROM posts p " +
+		"WHERE lower(p.title) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\' " +
+		"   OR lower(p.content) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\' " +
+		"ORDER BY greatest(similarity(lower(p.title), lower(:keyword)), " +
+		"                  similarity(lower(p.content), lower(:keyword))) DESC, p.created_at DESC " +
+		"LIMIT :limit", nativeQuery = true)
+	List<Post> searchByTitleOrContentTrigram(@Param("pattern") String pattern, @Param("keyword") String keyword,
+		@Param("limit") int limit);
+
+	@Query(value = "SELECT p.* FROM posts p " +
+		"WHERE lower(p.title) LIKE lower(:pattern) || '%' ESCAPE '\\' " +
+		"ORDER BY p.created_at DESC " +
+		"LIMIT :limit", nativeQuery = true)
+	List<Post> searchByTitlePrefix(@Param("pattern") String pattern, @Param("limit") int limit);
+
+	/** YouTube 게시글 - like_count 인덱스 순으로 훑다가 size개 채우면 중단 (전체 로딩 없음) */
+	@Query("SELECT p FROM Post p JOIN FETCH p.user WHERE " +
+		"LOWER(p.mediaUrl) LIKE '%youtube%' OR LOWER(p.mediaUrl) LIKE '%youtu.be%' " +
+		"ORDER BY p.likeCount DESC, p.createdAt DESC")
+	List<Post> findPopularYoutubePosts(Pageable pageable);
 
 	/** YouTube 미디어 조회 - 좋아요 순 정렬 */
 	@Query("SELECT p FROM Post p WHERE " +
 		"p.mediaType = 'youtube' " +
-		"ORDER BY SIZE(p.likes) DESC, p.createdAt DESC")
+		"ORDER BY p.likeCount DESC, p.createdAt DESC")
 	List<Post> findPopularMedia(Pageable pageable);
 
 	/** YouTube 미디어만 모두 조회 */
@@ -117,4 +151,63 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
 	List<Post> findMediaPostsByUserIdOrderByCreatedAtDesc(@Param("userId") UUID userId,
 														  @Param("currentUserId") UUID currentUserId);
 
+	//---------------팔로우 타임라인-----------------//
+	/** 작성자들의 cursor 이전 게시글 [id, createdAt] 최신순 - idx_posts_user_id_created_at */
+	@Query("SELECT p.id, p.createdAt FROM Post p " +
+		"WHERE p.user.id IN :authorIds AND p.createdAt < :before " +
+		"ORDER BY p.createdAt DESC")
+	List<Object[]> findTimelineEntries(@Param("authorIds") List<UUID> authorIds,
+		@Param("before") LocalDateTime before, Pageable pageable);
+
+	/** 작성자들의 [from, to) 구간 게시글 [id, createdAt] - 타임라인 cursor 경계 밀리초 보충용 */
+	@Query("SELECT p.id, p.createdAt FROM Post p " +
+		"WHERE p.user.id IN :authorIds AND p.createdAt >= :from AND p.createdAt < :to")
+	List<Object[]> findTimelineEntriesBetween(@Param("authorIds") List<UUID> authorIds,
+		@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+	/** ID 리스트로 게시글 + 작성자 조회 */
+	@Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :ids")
+	List<Post> findAllWithUserByIdIn(@Param("ids") List<UUID> ids);
+
+	//---------------좋아요 카운터-----------------//
+	/** like_count 원자적 증감 (동시 좋아요에도 lost update 없음) */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta WHERE p.id = :postId")
+	int adjustLikeCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
+	/** post_likes 행 삭제 - 삭제된 행 수(0/1)를 그대로 like_count 증감에 사용 (likes 컬렉션 로딩 없음) */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+	int deleteLike(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
+	/** post_likes 행 추가 - 이미 있으면 0 (동시 요청도 unique 제약에서 충돌 없이 0) */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO post_likes (post_id, user_id) VALUES (:postId, :userId) " +
+		"ON CONFLICT (post_id, user_id) DO NOTHING", nativeQuery = true)
+	int insertLike(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
+	/** 사용자가 게시글에 좋아요를 눌렀는지 (likes 컬렉션 로딩 없음) */
+	@Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END " +
+		"FROM Post p JOIN p.likes u WHERE p.id = :postId AND u.id = :userId")
+	boolean isLikedBy(@Param("postId") UUID postId, @Param("userId") UUID userId);
+
+	//---------------댓글/북마크 카운터-----------------//
+	/** comment_count 원자적 증감 (대댓글 포함) */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+	int adjustCommentCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
+	/** bookmark_count 원자적 증감 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Post p SET p.bookmarkCount = p.bookmarkCount + :delta WHERE p.id = :postId")
+	int adjustBookmarkCount(@Param("postId") UUID postId, @Param("delta") int delta);
+
+
+	//---------------배치 조회 (피드 N+1 제거)-----------------//
+	/** postIds 중 userId가 좋아요한 게시글 ID */
+	@Query("SELECT p.id FROM Post p JOIN p.likes u " +
+		"WHERE u.id = :userId AND p.id IN :postIds")
+	List<UUID> findLikedPostIds(@Param("userId") UUID userId,
+		@Param("postIds") List<UUID> postIds);
+
 }
@@ -0,0 +1,139 @@
+package com.osunji.melog.review.repository;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 팔로우 피드 타임라인 (Redis ZSET)
+ * - timeline:{userId} = { postId : createdAt(epoch millis) }
+ * - timeline:pull-authors = 팔로워가 많아 fan-out 하지 않은 작성자 (읽을 때 DB에서 pull)
+ */
+@Repository
+public class TimelineRepository {
+
+    private static final String PULL_AUTHORS_KEY = "timeline:pull-authors";
+
+    private final StringRedisTemplate redis;
+
+    public TimelineRepository(StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    private static String key(UUID userId) {
+        return "timeline:%s".formatted(userId);
+    }
+
+    /** 타임라인 항목 (postId + createdAt millis) */
+    public record Entry(UUID postId, long createdAtMillis) {}
+
+    /** 여러 팔로워 타임라인에 한 게시글 push (파이프라인 1회) + 최대 길이 유지 */
+    public void pushToAll(Collection<UUID> userIds, UUID postId, long createdAtMillis, int maxSize) {
+        if (userIds.isEmpty()) return;
+        String member = postId.toString();
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                String k = key(userId);
+                conn.zAdd(k, createdAtMillis, member);
+                conn.zRemRange(k, 0, -(maxSize + 1));
+            }
+            return null;
+        });
+    }
+
+    /** 한 사용자 타임라인에 여러 게시글 추가 (팔로우 backfill / 콜드스타트 재구성) */
+    public void pushAll(UUID userId, List<Entry> entries, int maxSize) {
+        if (entries.isEmpty()) return;
+        String k = key(userId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Entry e : entries) {
+            tuples.add(ZSetOperations.TypedTuple.of(e.postId().toString(), (double) e.createdAtMillis()));
+        }
+        redis.opsForZSet().add(k, tuples);
+        redis.opsForZSet().removeRange(k, 0, -(maxSize + 1));
+    }
+
+    /** 타임라인에서 게시글 제거 (언팔로우 evict / 삭제된 게시글 정리) */
+    public void removeAll(UUID userId, Collection<UUID> postIds) {
+        if (postIds.isEmpty()) return;
+        Object[] members = postIds.stream().map(UUID::toString).toArray();
+        redis.opsForZSet().remove(key(userId), members);
+    }
+
+    /** 여러 팔로워 타임라인에서 한 게시글 제거 (게시글 삭제) */
+    public void removeFromAll(Collection<UUID> userIds, UUID postId) {
+        if (userIds.isEmpty()) return;
+        String member = postId.toString();
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                conn.zRem(key(userId), member);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * (cursorMillis, cursorPostId) 이전 최신순 size개 - O(log n + size)
+     * - 같은 점수는 member 역순으로 정렬되므로 경계 밀리초의 게시글은 postId 문자열로 이어서 읽음
+     * - cursorPostId가 null이면 cursorMillis 이하 전체가 대상 (첫 페이지)
+     */
+    public List<Entry> findBefore(UUID userId, long cursorMillis, UUID cursorPostId, int size) {
+        String cursorMember = (cursorPostId != null) ? cursorPostId.toString() : null;
+        List<Entry> result = new ArrayList<>(size);
+        long offset = 0;
+        int batch = size + 8;
+        while (result.size() < size) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redis.opsForZSet()
+                    .reverseRangeByScoreWithScores(key(userId), Double.NEGATIVE_INFINITY, cursorMillis, offset, batch);
+            if (tuples == null || tuples.isEmpty()) break;
+            for (ZSetOperations.TypedTuple<String> t : tuples) {
+                if (t.getValue() == null || t.getScore() == null) continue;
+                long score = t.getScore().longValue();
+                // 경계 밀리초에서 cursor 이후(이미 읽은) member는 건너뜀
+                if (cursorMember != null && score == cursorMillis && t.getValue().compareTo(cursorMember) >= 0) continue;
+                result.add(new Entry(UUID.fromString(t.getValue()), score));
+                if (result.size() == size) break;
+            }
+            if (tuples.size() < batch) break;
+            offset += batch;
+        }
+        return result;
+    }
+
+    /** 타임라인이 만들어져 있는지 (콜드스타트 판단) */
+    public boolean exists(UUID userId) {
+        return Boolean.TRUE.equals(redis.hasKey(key(userId)));
+    }
+
+    //---------------pull 대상 작성자-----------------//
+
+    public void markPullAuthor(UUID authorId) {
+        redis.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+    }
+
+    /** 후보 중 pull 대상 작성자만 */
+    public List<UUID> filterPullAuthors(List<UUID> authorIds) {
+        if (authorIds.isEmpty()) return Collections.emptyList();
+        Map<Object, Boolean> members = redis.opsForSet()
+                .isMember(PULL_AUTHORS_KEY, authorIds.stream().map(UUID::toString).toArray());
+        if (members == null) return Collections.emptyList();
+        List<UUID> result = new ArrayList<>();
+        for (UUID id : authorIds) {
+            if (Boolean.TRUE.equals(members.get(id.toString()))) result.add(id);
+        }
+        return result;
+    }
+}
@@ -11,7 +11,6 @@ import com.osunji.melog.review.entity.PostBookmark;
 import com.osunji.melog.review.repository.BookmarkRepository;
 import com.osunji.melog.review.repository.PostRepository;
 import com.osunji.melog.user.domain.User;
-import com.osunji.melog.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +22,6 @@ public class BookmarkService {
 
 	private final BookmarkRepository bookmarkRepository;
 	private final PostRepository postRepository;
-	private final UserRepository userRepository;
 	private final AuthHelper authHelper;
 
 	/** 게시글 북마크 생성 (API 27번)fff */
@@ -33,8 +31,7 @@ public class BookmarkService {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
 
 			// 2. 사용자 및 게시글 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID postId = UUID.fromString(postIdStr);
 			Post post = postRepository.findById(postId)
@@ -48,6 +45,7 @@ public class BookmarkService {
 			// 4. 북마크 생성 및 저장
 			PostBookmark bookmark = PostBookmark.createBookmark(user, post);
 			bookmarkRepository.save(bookmark);
+			postRepository.adjustBookmarkCount(postId, 1);
 
 			return ApiMessage.success(201, "북마크가 성공적으로 추가되었습니다.", null);
 
@@ -75,7 +73,8 @@ public class BookmarkService {
 			}
 
 			// 4. 북마크 삭제
-			bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+			int removed = bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
+			postRepository.adjustBookmarkCount(postId, -removed);
 
 			return ApiMessage.success(200, "북마크가 성공적으로 제거되었습니다.", null);
 
@@ -1,6 +1,7 @@
 package com.osunji.melog.review.service;
 
 import com.osunji.melog.global.common.AuthHelper;
+import com.osunji.melog.global.common.CommentTree;
 import com.osunji.melog.global.dto.ApiMessage;
 import com.osunji.melog.review.entity.Post;
 import com.osunji.melog.review.entity.PostComment;
@@ -10,7 +11,6 @@ import com.osunji.melog.review.mapper.CommentMapper;
 import com.osunji.melog.review.dto.request.CommentRequest;
 import com.osunji.melog.review.dto.response.CommentResponse;
 import com.osunji.melog.user.domain.User;
-import com.osunji.melog.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,31 +24,45 @@ import java.util.UUID;
 @Transactional
 public class CommentService {
 
+	/** 루트 댓글 페이지 최대 크기 */
+	private static final int THREAD_MAX_SIZE = 100;
+	/** 대댓글 최대 깊이 (더 깊은 답글은 이 단계에 펼침) */
+	private static final int REPLY_MAX_DEPTH = 2;
+	/** 루트 댓글당 대댓글 최대 개수 (작성 순, 넘는 대댓글은 응답에서 생략) */
+	private static final int REPLY_MAX_PER_ROOT = 100;
+
 	private final CommentRepository commentRepository;
 	private final PostRepository postRepository;
-	private final UserRepository userRepository;
 	private final AuthHelper authHelper;
 	private final CommentMapper commentMapper;
 
-	/** 특정 게시글의 모든 댓글 GET (API 16번) */
+	/** 특정 게시글의 모든 댓글 GET (API 16번) - 루트 댓글 cursor 페이지 + 각 스레드 전체 */
 	@Transactional(readOnly = true)
-	public ApiMessage<CommentResponse.All> getAllComments(String postIdStr) {
+	public ApiMessage<CommentResponse.All> getAllComments(String postIdStr, String cursor, int size, String authHeader) {
 		try {
 			// 1. postId 변환 및 게시글 존재 검사
 			UUID postId = UUID.fromString(postIdStr);
-			postRepository.findById(postId)
-				.orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+			if (!postRepository.existsById(postId)) {
+				throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+			}
 
-			// 2. 최상위 댓글들 조회 (대댓글은 매퍼에서 재귀로 처리)
-			List<PostComment> comments = commentRepository.findRootCommentsByPostId(postId);
+			// 2. 루트 댓글 한 페이지 + 자손 전체를 쿼리 1회로 조회 후 트리 조립
+			int limit = Math.max(1, Math.min(size, THREAD_MAX_SIZE));
+			CommentTree.Cursor after = CommentTree.Cursor.parse(cursor);
+			UUID viewerId = authHelper.userIdOrNull(authHeader);
+			List<CommentTree.Node> roots = CommentTree.build(
+				commentRepository.findThreadPage(postId, after.createdAt(), after.id(), limit, REPLY_MAX_PER_ROOT,
+					viewerId != null ? viewerId : CommentTree.NO_VIEWER),
+				REPLY_MAX_DEPTH);
 
 			// 3. DTO 변환
-			List<CommentResponse.CommentData> commentDataList = comments.stream()
+			List<CommentResponse.CommentData> commentDataList = roots.stream()
 				.map(commentMapper::toCommentData)
 				.toList();
 
 			CommentResponse.All response = CommentResponse.All.builder()
 				.comments(commentDataList)
+				.nextCursor(CommentTree.nextCursor(roots, limit))
 				.build();
 
 			return ApiMessage.success(200, "게시글 모든 댓글 조회 성공", response);
@@ -90,8 +104,7 @@ public class CommentService {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
 
 			// 2. 사용자 및 게시글 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID postId = UUID.fromString(postIdStr);
 			Post post = postRepository.findById(postId)
@@ -111,6 +124,7 @@ public class CommentService {
 				: PostComment.createReply(user, post, request.getContent(), parentComment);
 
 			commentRepository.save(comment);
+			postRepository.adjustCommentCount(postId, 1);
 
 			return ApiMessage.success(201, "댓글이 성공적으로 작성되었습니다.", null);
 
@@ -138,8 +152,11 @@ public class CommentService {
 				return ApiMessage.fail(403, "삭제 권한이 없습니다.");
 			}
 
-			// 3. 댓글 삭제
+			// 3. 댓글 삭제 (대댓글은 cascade로 함께 삭제 → 지워질 행 수만큼 comment_count 차감)
+			int removed = commentRepository.countThread(commentId);
+			UUID postId = comment.getPost().getId();
 			commentRepository.delete(comment);
+			postRepository.adjustCommentCount(postId, -removed);
 
 			return ApiMessage.success(200, "댓글이 성공적으로 삭제되었습니다.", null);
 
@@ -161,37 +178,33 @@ public class CommentService {
 			UUID userId = authHelper.authHelperAsUUID(authHeader);
 
 			// 2. 사용자 및 댓글 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			User user = authHelper.userReference(userId);
 
 			UUID commentId = UUID.fromString(commentIdStr);
 			PostComment comment = commentRepository.findById(commentId)
 				.orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-			// 3. 좋아요 토글
-			boolean liked;
-			String action;
-			if (comment.isLikedBy(user)) {
-				comment.removeLike(user);
-				liked = false;
-				action = "삭제";
-			} else {
-				comment.addLike(user);
-				liked = true;
-				action = "추가";
+			// 3. 좋아요 토글 - comment_likes 행을 직접 삭제/추가, like_count는 변경된 행 수만큼 원자적 증감
+			int delta = -commentRepository.deleteLike(commentId, user.getId());
+			boolean liked = delta == 0;
+			if (liked) {
+				delta = commentRepository.insertLike(commentId, user.getId());
 			}
-
-			commentRepository.save(comment);
+			if (delta != 0) {
+				commentRepository.adjustLikeCount(commentId, delta);
+			}
+			String action = liked ? "추가" : "삭제";
+			int likeCount = Math.max(0, comment.getLikeCount() + delta);
 
 			// 4. 응답 DTO 생성
 			CommentResponse.CommentLikeResponse responseData = CommentResponse.CommentLikeResponse.builder()
 				.action(action)
 				.liked(liked)
-				.likeCount(comment.getLikeCount())
+				.likeCount(likeCount)
 				.build();
 
 			return ApiMessage.success(200,
-				String.format("좋아요가 %s되었습니다. (현재 %d개)", action, comment.getLikeCount()),
+				String.format("좋아요가 %s되었습니다. (현재 %d개)", action, likeCount),
 				responseData);
 
 		} catch (IllegalArgumentException e) {
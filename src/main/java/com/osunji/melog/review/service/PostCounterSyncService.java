@@ -0,0 +1,128 @@
+package com.osunji.melog.review.service;
+
+import com.osunji.melog.harmony.service.HarmonyRankingService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비정규화 카운터 컬럼 동기화 (reconciliation)
+ * - posts.like_count/comment_count/bookmark_count, post_comments.like_count,
+ *   harmony_room_posts.like_count/comment_count/bookmark_count, harmony_post_comments.like_count, harmony_rooms.book_mark_num
+ * - 토글은 원본 행을 넣고/지운 뒤 같은 트랜잭션에서 카운터를 원자적으로 증감하므로 평소엔 어긋나지 않음
+ * - 기동 직후 한 번(컬럼 추가 직후 default 0 채우기) + 주기적으로 원본 테이블 기준 재계산, 어긋난 행만 보정
+ * - 카운터 보정 후 하모니룸 북마크 랭킹 ZSET 재구성 (HarmonyRankingService.rebuild)
+ * - 보정은 batchSize개씩 한 트랜잭션: 어긋난 행을 FOR UPDATE로 잠근 뒤 다음 문장(새 스냅샷)에서 다시 세어 덮어씀
+ *   → 잠그기 전에 커밋된 토글은 재계산에 포함되고, 이후 토글은 락이 풀린 뒤 증감하므로 보정 중 토글이 유실되지 않음
+ */
+@Slf4j
+@Service
+public class PostCounterSyncService {
+
+	/** 카운터 컬럼 - countSql은 대상 행(t)에 대한 상관 서브쿼리 */
+	private record Counter(String table, String column, String countSql) {
+		String name() {
+			return table + "." + column;
+		}
+	}
+
+	private static final List<Counter> COUNTERS = List.of(
+		new Counter("posts", "like_count",
+			"SELECT COUNT(*) FROM post_likes x WHERE x.post_id = t.id"),
+		new Counter("posts", "comment_count",
+			"SELECT COUNT(*) FROM post_comments x WHERE x.post_id = t.id"),
+		new Counter("posts", "bookmark_count",
+			"SELECT COUNT(*) FROM post_bookmarks x WHERE x.post_id = t.id"),
+		new Counter("post_comments", "like_count",
+			"SELECT COUNT(*) FROM comment_likes x WHERE x.comment_id = t.id"),
+		new Counter("harmony_room_posts", "like_count",
+			"SELECT COUNT(*) FROM harmony_post_likes x WHERE x.harmony_post_id = t.id"),
+		new Counter("harmony_room_posts", "comment_count",
+			"SELECT COUNT(*) FROM harmony_post_comments x WHERE x.harmony_post_id = t.id"),
+		new Counter("harmony_room_posts", "bookmark_count",
+			"SELECT COUNT(*) FROM harmony_post_bookmarks x WHERE x.harmony_post_id = t.id"),
+		new Counter("harmony_post_comments", "like_count",
+			"SELECT COUNT(*) FROM harmony_comment_likes x WHERE x.comment_id = t.id"),
+		new Counter("harmony_rooms", "book_mark_num",
+			"SELECT COUNT(*) FROM harmony_bookmarks x WHERE x.harmony_room_id = t.id")
+	);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final HarmonyRankingService harmonyRankingService;
+	private final TransactionTemplate transactionTemplate;
+	private final long reconcileMinutes;
+	private final int batchSize;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	public PostCounterSyncService(JdbcTemplate jdbcTemplate,
+								  HarmonyRankingService harmonyRankingService,
+								  PlatformTransactionManager transactionManager,
+								  @Value("${counter.reconcile-minutes:60}") long reconcileMinutes,
+								  @Value("${counter.reconcile-batch-size:500}") int batchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.harmonyRankingService = harmonyRankingService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.reconcileMinutes = reconcileMinutes;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void startReconciliation() {
+		scheduler.scheduleWithFixedDelay(this::reconcile, 0, reconcileMinutes, TimeUnit.MINUTES);
+	}
+
+	@PreDestroy
+	public void stopReconciliation() {
+		scheduler.shutdownNow();
+	}
+
+	/** 전체 카운터 재계산 (카운터별로 독립 실행 - 하나가 실패해도 나머지는 진행) + 랭킹 재구성 */
+	public void reconcile() {
+		for (Counter counter : COUNTERS) {
+			try {
+				int updated = sync(counter);
+				if (updated > 0) {
+					log.info("{} 동기화 완료 - 보정된 행 {}개", counter.name(), updated);
+				}
+			} catch (Exception e) {
+				log.warn("{} 동기화 실패: {}", counter.name(), e.getMessage());
+			}
+		}
+		harmonyRankingService.rebuild();
+	}
+
+	/** 어긋난 행이 batchSize보다 적게 나올 때까지 배치 반복 */
+	private int sync(Counter counter) {
+		String lockSql = "SELECT t.id FROM " + counter.table() + " t " +
+			"WHERE t." + counter.column() + " IS DISTINCT FROM (" + counter.countSql() + ") " +
+			"ORDER BY t.id LIMIT ? FOR UPDATE";
+		String updateSql = "UPDATE " + counter.table() + " t SET " + counter.column() + " = (" + counter.countSql() + ") " +
+			"WHERE t.id = ANY(?) AND t." + counter.column() + " IS DISTINCT FROM (" + counter.countSql() + ")";
+
+		int total = 0;
+		while (true) {
+			int[] batch = transactionTemplate.execute(status -> {
+				List<UUID> ids = jdbcTemplate.queryForList(lockSql, UUID.class, batchSize);
+				if (ids.isEmpty()) return new int[] {0, 0};
+				int updated = jdbcTemplate.update(updateSql, ps ->
+					ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())));
+				return new int[] {ids.size(), updated};
+			});
+			total += batch[1];
+			if (batch[0] < batchSize) return total;
+		}
+	}
+}
@@ -7,7 +7,9 @@ import com.osunji.melog.harmony.entity.HarmonyRoomPosts;
 import com.osunji.melog.harmony.repository.HarmonyRoomPostsRepository;
 import com.osunji.melog.review.entity.Post;
 import com.osunji.melog.review.entity.PostComment;
+import com.osunji.melog.review.entity.PostOutbox;
 import com.osunji.melog.review.repository.BookmarkRepository;
+import com.osunji.melog.review.repository.PostOutboxRepository;
 import com.osunji.melog.user.domain.User;
 import com.osunji.melog.review.repository.PostRepository;
 import com.osunji.melog.review.repository.CommentRepository;
@@ -15,10 +17,11 @@ import com.osunji.melog.review.mapper.PostMapper;
 import com.osunji.melog.review.dto.request.PostRequest;
 import com.osunji.melog.review.dto.response.PostResponse;
 import com.osunji.melog.review.dto.response.FilterPostResponse;
-import com.osunji.melog.user.repository.UserRepository;
 import com.osunji.melog.user.repository.FollowRepository;
 import io.micrometer.common.lang.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,12 +29,16 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
@@ -40,16 +47,23 @@ public class PostService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final UserRepository userRepository;
     private final AuthHelper authHelper;
     private final PostMapper postMapper;
     private final JWTUtil jwtUtil;
+    private final TimelineService timelineService;
+    private final PostOutboxRepository postOutboxRepository;
+
+    /** 인기 피드 최대 개수 */
+    private static final int POPULAR_FEED_MAX_SIZE = 100;
+    /** 팔로우 피드 페이지 최대 크기 */
+    private static final int FOLLOW_FEED_MAX_SIZE = 50;
 
     //---------------게시글 CRUD-----------------//
 
     /**
      * 게시글 CREATE - UUID 반환하도록 수정
      */
+    @Transactional
     public ApiMessage<String> createPost(PostRequest.Create request, String authHeader) {
         try {
             System.out.println("🔥 요청 데이터 확인:");
@@ -61,15 +75,7 @@ public class PostService {
 
             UUID userId = authHelper.authHelperAsUUID(authHeader);
 
-            Optional<User> userOpt;
-            try {
-                userOpt = userRepository.findByUUID(userId);
-            } catch (Exception e) {
-                userOpt = userRepository.findByIdString(userId.toString());
-            }
-
-            User user = userOpt.orElseThrow(() ->
-                    new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            User user = authHelper.userReference(userId);
 
             System.out.println("✅ 사용자 확인: " + user.getId());
 
@@ -81,6 +87,8 @@ public class PostService {
             System.out.println("📋 Post 저장 시작...");
             Post savedPost = postRepository.save(post);
             System.out.println("✅ Post 저장 완료: " + savedPost.getId());
+            postOutboxRepository.save(PostOutbox.upsert(savedPost.getId()));
+            timelineService.onPostCreated(savedPost);
 
             // ✅ 게시글 ID를 String으로 변환
             String postIdStr;
@@ -130,19 +138,19 @@ public class PostService {
                     .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
             // 4. 숨김 처리된 게시글 체크
-            if (userId != null && post.isHiddenBy(userRepository.findById(userId).orElse(null))) {
+            if (userId != null && post.isHiddenBy(authHelper.loadUser(userId))) {
                 return ApiMessage.fail(403, "숨김 처리된 게시글입니다.");
             }
 
             // 5. 베스트 댓글 및 댓글 개수 조회
             Optional<PostComment> bestCommentOpt = commentRepository.findBestComment(postId);
             PostComment bestComment = bestCommentOpt.orElse(null);
-            int commentCount = commentRepository.countCommentByPostId(postId);
+            int commentCount = post.getCommentCount();
             // 6. 좋아요/북마크 여부 체크
             boolean isLike = false;
             boolean isBookmark = false;
             if (userId != null) {
-                isLike = post.isLikedBy(userRepository.findById(userId).orElse(null));
+                isLike = postRepository.isLikedBy(postId, userId);
                 isBookmark = bookmarkRepository.existsByUserIdAndPostId(userId, postId);
             }
             // 7. DTO 변환
@@ -178,6 +186,7 @@ public class PostService {
 
             // 4. 게시글 업데이트
             post.update(request);
+            postOutboxRepository.save(PostOutbox.upsert(postId));
             // postRepository.save(post); // @Transactional이므로 자동 저장
 
             return ApiMessage.success(200, "게시글이 성공적으로 수정되었습니다.", null);
@@ -212,6 +221,8 @@ public class PostService {
 
             // 4. 게시글 삭제
             postRepository.delete(post);
+            postOutboxRepository.save(PostOutbox.delete(postId));
+            timelineService.onPostDeleted(userId, postId);
 
             return ApiMessage.success(200, "게시글이 성공적으로 삭제되었습니다.", null);
 
@@ -236,19 +247,8 @@ public class PostService {
             UUID userId = authHelper.authHelperAsUUID(authHeader);
             System.out.println("  - 사용자 ID: " + userId);
 
-            // 2. 사용자 조회
-            User user;
-            try {
-                Optional<User> userOpt = userRepository.findByUUID(userId);
-                if (userOpt.isEmpty()) {
-                    userOpt = userRepository.findByIdString(userId.toString());
-                }
-                user = userOpt.orElseThrow(() ->
-                        new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-            } catch (Exception e) {
-                System.out.println("❌ 사용자 조회 실패: " + e.getMessage());
-                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
-            }
+            // 2. 사용자 참조 (좋아요 행에는 ID만 필요)
+            User user = authHelper.userReference(userId);
 
             // 3. 게시글 조회
             UUID postId = UUID.fromString(postIdStr);
@@ -258,24 +258,21 @@ public class PostService {
             System.out.println("  - 게시글 ID: " + postId);
             System.out.println("  - 현재 좋아요 수: " + post.getLikeCount());
 
-            // 4. 좋아요 상태 확인 및 토글
-            boolean wasLiked = post.isLikedBy(user);
-            System.out.println("  - 기존 좋아요 여부: " + wasLiked);
-
-            if (wasLiked) {
-                // 좋아요 취소
-                post.removeLike(user);
-                System.out.println("  - 좋아요 취소됨");
-            } else {
-                // 좋아요 추가
-                post.addLike(user);
-                System.out.println("  - 좋아요 추가됨");
+            // 4. 좋아요 토글 - post_likes 행을 직접 삭제/추가 (likes 컬렉션 로딩 없음)
+            int delta = -postRepository.deleteLike(postId, user.getId());
+            boolean wasLiked = delta < 0;
+            if (!wasLiked) {
+                delta = postRepository.insertLike(postId, user.getId());
             }
+            log.debug("기존 좋아요 여부: {}", wasLiked);
 
-            // 5. 저장
-            postRepository.save(post);
+            // 5. like_count는 실제 변경된 행 수만큼 DB에서 원자적으로 증감
+            if (delta != 0) {
+                postRepository.adjustLikeCount(postId, delta);
+                postOutboxRepository.save(PostOutbox.upsert(postId));
+            }
 
-            int newLikeCount = post.getLikeCount();
+            int newLikeCount = Math.max(0, post.getLikeCount() + delta);
             System.out.println("  - 새로운 좋아요 수: " + newLikeCount);
             System.out.println("✅ 좋아요 처리 완료");
 
@@ -331,9 +328,10 @@ public class PostService {
 
     /**
      * 인기 피드 GET (API 19번) - 좋아요 순
+     * - Top-N은 like_count 인덱스로 DB에서 자르고, 댓글/좋아요/북마크는 페이지 단위 배치 조회
      */
     @Transactional(readOnly = true)
-    public ApiMessage<FilterPostResponse.FeedList> getPopularPosts(String authHeader) {
+    public ApiMessage<FilterPostResponse.FeedList> getPopularPosts(String authHeader, int size) {
         try {
             System.out.println("🔥 ===== 인기 피드 조회 시작 (좋아요 순) =====");
 
@@ -346,69 +344,13 @@ public class PostService {
                 System.out.println("ℹ️ 비로그인 사용자로 처리");
             }
 
-            // 2. ✅ 전체 게시글 조회 후 좋아요 순 정렬
-            System.out.println("📋 인기 게시글 조회 시작...");
-
-            List<Post> allPosts = postRepository.findAll();
-            System.out.println("  - 전체 게시글 수: " + allPosts.size());
-
-            // 좋아요 수 기준으로 정렬
-            List<Post> popularPosts = allPosts.stream()
-                    .filter(post -> post.getUser() != null) // user가 null인 게시글 제외
-                    .sorted((p1, p2) -> {
-                        int likes1 = (p1.getLikes() != null) ? p1.getLikes().size() : 0;
-                        int likes2 = (p2.getLikes() != null) ? p2.getLikes().size() : 0;
-
-                        System.out.println("    게시글 " + p1.getId() + ": " + likes1 + "개 좋아요");
-                        System.out.println("    게시글 " + p2.getId() + ": " + likes2 + "개 좋아요");
-
-                        return Integer.compare(likes2, likes1); // 좋아요 많은 순 (내림차순)
-                    })
-                    .limit(50)
-                    .collect(Collectors.toList());
-
-            System.out.println("  - 인기 게시글 (좋아요 순) " + popularPosts.size() + "개 선별 완료");
-
-            // 3. DTO 변환
-            System.out.println("📋 DTO 변환 시작...");
-            List<FilterPostResponse.FeedPostData> feedPostList = new ArrayList<>();
-
-            for (Post post : popularPosts) {
-                try {
-                    int likeCount = (post.getLikes() != null) ? post.getLikes().size() : 0;
-                    System.out.println("  변환 중: " + post.getId() + " - " + post.getTitle() + " (좋아요 " + likeCount + "개)");
-
-                    // ✅ 안전한 댓글 조회
-                    Optional<PostComment> bestCommentOpt = Optional.empty();
-                    int commentCount = 0;
-
-                    try {
-                        bestCommentOpt = commentRepository.findBestComment(post.getId());
-                        commentCount = commentRepository.countCommentByPostId(post.getId());
-                    } catch (Exception e) {
-                        System.out.println("    ⚠️ 댓글 조회 실패: " + e.getMessage());
-                    }
-
-                    PostComment bestComment = bestCommentOpt.orElse(null);
-                    boolean isLike = false;
-                    boolean isBookmark = false;
-                    if (userId != null) {
-                        isLike = postRepository.existsLikeByUserIdAndPostId(userId, post.getId());
-                        isBookmark = bookmarkRepository.existsByUserIdAndPostId(userId, post.getId());
-                    }
-                    FilterPostResponse.FeedPostData feedData = postMapper.toFeedPostData(post, bestComment, commentCount, isLike, isBookmark);
-
-                    feedPostList.add(feedData);
-
-                    System.out.println("    ✅ 변환 완료");
-
-                } catch (Exception e) {
-                    System.out.println("    ❌ DTO 변환 오류: " + e.getMessage());
-                    e.printStackTrace();
-                    // 실패한 게시글은 스킵하고 계속 진행
-                }
-            }
+            // 2. ✅ 좋아요 Top-N만 DB에서 조회 (작성자 fetch join)
+            int limit = Math.max(1, Math.min(size, POPULAR_FEED_MAX_SIZE));
+            List<Post> popularPosts = postRepository.findTopByLikeCount(PageRequest.of(0, limit));
+            log.debug("인기 게시글 (좋아요 순) {}개 조회 완료", popularPosts.size());
 
+            // 3. 페이지 단위 배치 조회 + DTO 변환 (게시글 수와 무관하게 쿼리 수 고정)
+            List<FilterPostResponse.FeedPostData> feedPostList = toFeedPostList(popularPosts, userId);
             System.out.println("✅ DTO 변환 완료: " + feedPostList.size() + "개");
 
             FilterPostResponse.FeedList feedList = FilterPostResponse.FeedList.builder()
@@ -427,9 +369,10 @@ public class PostService {
 
     /**
      * 팔로우 피드 GET (API 20번)
+     * - 타임라인(TimelineService)에서 cursor 이전 size개 postId만 꺼내고, 해당 게시글만 배치 조회
      */
     @Transactional(readOnly = true)
-    public ApiMessage<FilterPostResponse.FeedList> getFollowPosts(String authHeader) {
+    public ApiMessage<FilterPostResponse.FeedList> getFollowPosts(String authHeader, String cursor, int size) {
         try {
             System.out.println("🔥 ===== 팔로우 피드 조회 시작 =====");
 
@@ -437,109 +380,41 @@ public class PostService {
             UUID userId = authHelper.authHelperAsUUID(authHeader);
             System.out.println("✅ 사용자 ID 추출: " + userId);
 
-            // 2. 팔로잉 유저 ID 리스트 조회
-            List<UUID> followingUserIds = followRepository.findFolloweeIds(userId);
-            System.out.println("📋 팔로잉 사용자 수: " + followingUserIds.size());
-            System.out.println("  - 팔로잉 ID 목록: " + followingUserIds);
+            // 2. 타임라인 한 페이지 (push + 대형 작성자 pull 병합)
+            int limit = Math.max(1, Math.min(size, FOLLOW_FEED_MAX_SIZE));
+            TimelineService.Page page = timelineService.read(userId, cursor, limit);
 
-            if (followingUserIds.isEmpty()) {
-                System.out.println("⚠️ 팔로잉 사용자가 없음 - 빈 결과 반환");
-                return ApiMessage.success(200, "팔로우하는 사용자가 없습니다",
+            if (page.postIds().isEmpty()) {
+                log.debug("팔로우 피드 게시글 없음 - 빈 결과 반환");
+                return ApiMessage.success(200, "팔로우 피드 조회 성공",
                         FilterPostResponse.FeedList.builder()
                                 .results(Collections.emptyList())
                                 .build());
             }
-            System.out.println("📋 게시글 조회 시작 (전체 조회 후 필터링 방법)...");
-
-            List<Post> allPosts = postRepository.findAll();
-            System.out.println("  - 전체 게시글 수: " + allPosts.size());
-
-            // 각 게시글 정보 출력 (디버깅)
-            for (Post post : allPosts) {
-                if (post.getUser() != null) {
-                    System.out.println("    게시글: " + post.getId() + " - 작성자: " + post.getUser().getId() + " - 제목: " + post.getTitle());
-                } else {
-                    System.out.println("    게시글: " + post.getId() + " - 작성자: null - 제목: " + post.getTitle());
-                }
-            }
 
-            // 팔로잉하는 사용자의 게시글만 필터링
-            List<Post> followingPosts = allPosts.stream()
-                    .filter(post -> {
-                        if (post.getUser() == null) {
-                            System.out.println("    ⚠️ 게시글 " + post.getId() + "의 user가 null");
-                            return false;
-                        }
-                        boolean isFollowing = followingUserIds.contains(post.getUser().getId());
-                        System.out.println("    게시글 " + post.getId() + " 작성자 " + post.getUser().getId() + " 팔로잉 여부: " + isFollowing);
-                        return isFollowing;
-                    })
-                    .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt())) // 최신순
-                    .limit(50)
+            // 3. 페이지 게시글만 조회 후 타임라인 순서대로 정렬 (삭제된 게시글은 자연히 제외)
+            Map<UUID, Post> postById = postRepository.findAllWithUserByIdIn(page.postIds()).stream()
+                    .collect(Collectors.toMap(Post::getId, p -> p));
+            List<Post> followingPosts = page.postIds().stream()
+                    .map(postById::get)
+                    .filter(p -> p != null)
                     .toList();
-
             System.out.println("  - 팔로잉 사용자 게시글 수: " + followingPosts.size());
 
-            // 각 팔로잉 사용자별 게시글 수 출력
-            for (UUID followingId : followingUserIds) {
-                long count = followingPosts.stream()
-                        .filter(p -> p.getUser() != null && p.getUser().getId().equals(followingId))
-                        .count();
-                System.out.println("    - 사용자 " + followingId + ": " + count + "개 게시글");
-
-                // 해당 사용자의 게시글 제목들 출력
-                followingPosts.stream()
-                        .filter(p -> p.getUser() != null && p.getUser().getId().equals(followingId))
-                        .forEach(p -> System.out.println("      * " + p.getTitle()));
-            }
-
-            // 4. DTO 변환
-            System.out.println("📋 DTO 변환 시작...");
-            List<FilterPostResponse.FeedPostData> feedPostList = new ArrayList<>();
-
-            for (Post post : followingPosts) {
-                boolean isLike = false;
-                boolean isBookmark = false;
-                if (userId != null) {
-                    isLike = postRepository.existsLikeByUserIdAndPostId(userId, post.getId());
-                    isBookmark = bookmarkRepository.existsByUserIdAndPostId(userId, post.getId());
-                }
-                try {
-                    System.out.println("  변환 중: " + post.getId() + " - " + post.getTitle());
-
-                    // ✅ 안전한 댓글 조회
-                    Optional<PostComment> bestCommentOpt = Optional.empty();
-                    int commentCount = 0;
-
-                    try {
-                        bestCommentOpt = commentRepository.findBestComment(post.getId());
-                        commentCount = commentRepository.countCommentByPostId(post.getId());
-                    } catch (Exception e) {
-                        System.out.println("    ⚠️ 댓글 조회 실패: " + e.getMessage());
-                    }
-
-                    PostComment bestComment = bestCommentOpt.orElse(null);
-                    FilterPostResponse.FeedPostData feedData = postMapper.toFeedPostData(post, bestComment, commentCount, isLike, isBookmark);
-                    feedPostList.add(feedData);
-
-                    System.out.println("    ✅ 변환 완료");
-
-                } catch (Exception e) {
-                    System.out.println("    ❌ DTO 변환 오류: " + e.getMessage());
-                    e.printStackTrace();
-                    // 실패한 게시글은 스킵하고 계속 진행
-                }
-            }
-
+            // 4. 배치 조회 + DTO 변환
+            List<FilterPostResponse.FeedPostData> feedPostList = toFeedPostList(followingPosts, userId);
             System.out.println("✅ DTO 변환 완료: " + feedPostList.size() + "개");
 
             FilterPostResponse.FeedList feedList = FilterPostResponse.FeedList.builder()
                     .results(feedPostList)
+                    .nextCursor(page.nextCursor())
                     .build();
 
             System.out.println("🎉 ===== 팔로우 피드 조회 성공 =====");
             return ApiMessage.success(200, "팔로우 피드 조회 성공", feedList);
 
+        } catch (IllegalArgumentException e) {
+            return ApiMessage.fail(400, e.getMessage());
         } catch (Exception e) {
             System.out.println("💥 팔로우 피드 조회 오류: " + e.getMessage());
             e.printStackTrace();
@@ -668,4 +543,52 @@ public class PostService {
 //        }
 //        return null;
 //    }
-}
\ No newline at end of file
+
+    //---------------피드 배치 조회 헬퍼-----------------//
+
+    /** 피드 게시글 목록 → DTO (베댓/좋아요/북마크를 페이지 단위로 한 번씩만 조회, 댓글 수는 comment_count 컬럼) */
+    private List<FilterPostResponse.FeedPostData> toFeedPostList(List<Post> posts, @Nullable UUID userId) {
+        List<UUID> postIds = posts.stream().map(Post::getId).toList();
+        Map<UUID, PostComment> bestComments = loadBestComments(postIds);
+        Set<UUID> likedIds = Collections.emptySet();
+        Set<UUID> bookmarkedIds = Collections.emptySet();
+        if (userId != null && !postIds.isEmpty()) {
+            likedIds = new HashSet<>(postRepository.findLikedPostIds(userId, postIds));
+            bookmarkedIds = new HashSet<>(bookmarkRepository.findBookmarkedPostIds(userId, postIds));
+        }
+
+        List<FilterPostResponse.FeedPostData> feedPostList = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            try {
+                UUID postId = post.getId();
+                feedPostList.add(postMapper.toFeedPostData(
+                        post,
+                        bestComments.get(postId),
+                        post.getCommentCount(),
+                        likedIds.contains(postId),
+                        bookmarkedIds.contains(postId)));
+            } catch (Exception e) {
+                log.warn("피드 DTO 변환 오류: {}", e.getMessage());
+                // 실패한 게시글은 스킵하고 계속 진행
+            }
+        }
+        return feedPostList;
+    }
+
+    /** 게시글별 베스트 댓글 - 윈도우 함수 1회 + 작성자 fetch 1회 */
+    private Map<UUID, PostComment> loadBestComments(List<UUID> postIds) {
+        if (postIds.isEmpty()) return Collections.emptyMap();
+        try {
+            List<UUID> commentIds = commentRepository.findBestCommentIdsByPostIds(postIds);
+            if (commentIds.isEmpty()) return Collections.emptyMap();
+            Map<UUID, PostComment> result = new HashMap<>();
+            for (PostComment c : commentRepository.findAllWithUserByIdIn(commentIds)) {
+                result.put(c.getPost().getId(), c);
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("베스트 댓글 배치 조회 실패: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+}
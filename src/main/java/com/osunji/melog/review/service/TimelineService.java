@@ -0,0 +1,253 @@
+package com.osunji.melog.review.service;
+
+import com.osunji.melog.global.common.AfterCommit;
+import com.osunji.melog.review.entity.Post;
+import com.osunji.melog.review.repository.PostRepository;
+import com.osunji.melog.review.repository.TimelineRepository;
+import com.osunji.melog.user.domain.enums.FollowStatus;
+import com.osunji.melog.user.repository.FollowRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 팔로우 피드 타임라인 (fan-out on write + 대형 작성자 pull-and-merge)
+ * - 게시글 작성 시 팔로워 타임라인(Redis ZSET)에 push
+ * - 팔로워가 fanout-threshold를 넘는 작성자는 push 하지 않고, 읽을 때 DB에서 pull 후 병합
+ * - Redis 장애 시 전체 팔로잉을 DB pull로 대체
+ */
+@Slf4j
+@Service
+public class TimelineService {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    /** fan-out 시 팔로워 ID를 한 번에 읽는 수 */
+    private static final int FOLLOWER_PAGE_SIZE = 1000;
+    private static final UUID FOLLOWER_START = new UUID(0L, 0L);
+
+    private final TimelineRepository timelineRepository;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final int fanoutThreshold;
+    private final int maxSize;
+    private final int backfillSize;
+
+    public TimelineService(TimelineRepository timelineRepository,
+                           PostRepository postRepository,
+                           FollowRepository followRepository,
+                           @Value("${feed.timeline.fanout-threshold:1000}") int fanoutThreshold,
+                           @Value("${feed.timeline.max-size:800}") int maxSize,
+                           @Value("${feed.timeline.backfill-size:50}") int backfillSize) {
+        this.timelineRepository = timelineRepository;
+        this.postRepository = postRepository;
+        this.followRepository = followRepository;
+        this.fanoutThreshold = fanoutThreshold;
+        this.maxSize = maxSize;
+        this.backfillSize = backfillSize;
+    }
+
+    /** 타임라인 한 페이지 (postId 최신순) + 다음 cursor */
+    public record Page(List<UUID> postIds, String nextCursor) {}
+
+    /**
+     * 타임라인 cursor - (createdAt epoch millis, postId), 둘 다 exclusive
+     * - 같은 밀리초에 작성된 게시글은 postId 문자열 역순 (ZSET 동점 member 정렬과 동일)
+     */
+    public record Cursor(long millis, UUID postId) {
+
+        static final Cursor FIRST = new Cursor(Long.MAX_VALUE, null);
+        private static final long MAX_MILLIS = 253_402_300_799_999L; // 9999-12-31T23:59:59.999Z
+
+        /** "millis:postId" 형식, 없으면 첫 페이지 */
+        public static Cursor parse(String value) {
+            if (value == null || value.isBlank()) return FIRST;
+            int sep = value.indexOf(':');
+            if (sep <= 0) throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + value);
+            long millis;
+            UUID postId;
+            try {
+                millis = Long.parseLong(value.substring(0, sep));
+                postId = UUID.fromString(value.substring(sep + 1));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + value);
+            }
+            if (millis < 0 || millis > MAX_MILLIS) throw new IllegalArgumentException("잘못된 cursor 형식입니다: " + value);
+            return new Cursor(millis, postId);
+        }
+
+        static Cursor of(TimelineRepository.Entry entry) {
+            return new Cursor(entry.createdAtMillis(), entry.postId());
+        }
+
+        public String format() {
+            return millis + ":" + postId;
+        }
+    }
+
+    /** 최신순 (밀리초 → postId 문자열 역순) */
+    private static final Comparator<TimelineRepository.Entry> NEWEST_FIRST =
+            Comparator.comparingLong(TimelineRepository.Entry::createdAtMillis)
+                    .thenComparing(e -> e.postId().toString())
+                    .reversed();
+
+    //---------------쓰기 (fan-out)-----------------//
+
+    /** 게시글 작성 - 커밋 후 팔로워 타임라인에 push (팔로워 수를 먼저 세고, push할 때만 ID를 페이지로 읽음) */
+    public void onPostCreated(Post post) {
+        UUID authorId = post.getUser().getId();
+        UUID postId = post.getId();
+        long score = toMillis(post.getCreatedAt());
+        AfterCommit.run("타임라인 갱신", () -> {
+            if (followRepository.countByFollowing_IdAndStatus(authorId, FollowStatus.ACCEPTED) > fanoutThreshold) {
+                timelineRepository.markPullAuthor(authorId);
+                return;
+            }
+            forEachFollowerPage(authorId, followerIds -> timelineRepository.pushToAll(followerIds, postId, score, maxSize));
+        });
+    }
+
+    /** 게시글 삭제 - 커밋 후 팔로워 타임라인에서 제거 (읽기 시에도 없는 게시글은 걸러짐) */
+    public void onPostDeleted(UUID authorId, UUID postId) {
+        AfterCommit.run("타임라인 갱신", () ->
+                forEachFollowerPage(authorId, followerIds -> timelineRepository.removeFromAll(followerIds, postId)));
+    }
+
+    private void forEachFollowerPage(UUID authorId, Consumer<List<UUID>> action) {
+        UUID after = FOLLOWER_START;
+        while (true) {
+            List<UUID> page = followRepository.findFollowerIdsAfter(authorId, after, PageRequest.of(0, FOLLOWER_PAGE_SIZE));
+            if (page.isEmpty()) return;
+            action.accept(page);
+            if (page.size() < FOLLOWER_PAGE_SIZE) return;
+            after = page.get(page.size() - 1);
+        }
+    }
+
+    /** 팔로우 - 상대의 최근 게시글을 내 타임라인에 backfill (pull 대상이면 읽을 때 병합되므로 생략) */
+    public void onFollow(UUID followerId, UUID followeeId) {
+        AfterCommit.run("타임라인 갱신", () -> {
+            if (!timelineRepository.filterPullAuthors(List.of(followeeId)).isEmpty()) return;
+            timelineRepository.pushAll(followerId, loadEntries(List.of(followeeId), Cursor.FIRST, backfillSize), maxSize);
+        });
+    }
+
+    /** 언팔로우 - 상대의 게시글을 내 타임라인에서 evict */
+    public void onUnfollow(UUID followerId, UUID followeeId) {
+        AfterCommit.run("타임라인 갱신", () -> {
+            List<UUID> postIds = loadEntries(List.of(followeeId), Cursor.FIRST, maxSize).stream()
+                    .map(TimelineRepository.Entry::postId)
+                    .toList();
+            timelineRepository.removeAll(followerId, postIds);
+        });
+    }
+
+    //---------------읽기 (push + pull 병합)-----------------//
+
+    /**
+     * cursor 이전 size개
+     * - push: ZSET 범위 조회 O(log n + size), pull: 대형 작성자만 인덱스 조회 LIMIT size
+     * - ZSET은 max-size로 잘려 있으므로 ZSET 끝을 지나면 push 대상 작성자도 DB에서 이어서 읽음
+     */
+    public Page read(UUID userId, String cursor, int size) {
+        Cursor from = Cursor.parse(cursor);
+        List<UUID> followeeIds = followRepository.findFolloweeIds(userId);
+        if (followeeIds.isEmpty()) return new Page(Collections.emptyList(), null);
+
+        List<TimelineRepository.Entry> merged = new ArrayList<>();
+        try {
+            List<UUID> pullAuthors = timelineRepository.filterPullAuthors(followeeIds);
+            List<UUID> pushAuthors = followeeIds.stream().filter(id -> !pullAuthors.contains(id)).toList();
+            if (!timelineRepository.exists(userId)) {
+                // 콜드스타트 - push 대상 팔로잉의 최근 게시글로 재구성
+                timelineRepository.pushAll(userId, loadEntries(pushAuthors, Cursor.FIRST, maxSize), maxSize);
+            }
+            List<TimelineRepository.Entry> pushed = timelineRepository.findBefore(userId, from.millis(), from.postId(), size);
+            merged.addAll(pushed);
+            if (pushed.size() < size) {
+                merged.addAll(loadEntries(pushAuthors, from, size));
+            }
+            merged.addAll(loadEntries(pullAuthors, from, size));
+        } catch (Exception e) {
+            log.warn("타임라인 조회 실패 - DB pull로 대체: {}", e.getMessage());
+            merged.clear();
+            merged.addAll(loadEntries(followeeIds, from, size));
+        }
+
+        // 스트림 병합 (각각 최대 size개 남짓이라 정렬 비용은 페이지 크기에 비례)
+        Set<UUID> seen = new HashSet<>();
+        List<TimelineRepository.Entry> page = merged.stream()
+                .sorted(NEWEST_FIRST)
+                .filter(e -> seen.add(e.postId()))
+                .limit(size)
+                .toList();
+
+        String nextCursor = (page.size() < size) ? null : Cursor.of(page.get(page.size() - 1)).format();
+        return new Page(page.stream().map(TimelineRepository.Entry::postId).toList(), nextCursor);
+    }
+
+    /**
+     * 작성자들의 cursor 이전 게시글 (NEWEST_FIRST 정렬, limit개 이상일 수 있음)
+     * - DB는 createdAt(마이크로초) 순이라 밀리초 경계에서 postId 순서가 ZSET과 다를 수 있음
+     *   → cursor 밀리초와 LIMIT가 잘린 마지막 밀리초는 구간 조회로 전부 가져와서 정렬
+     */
+    private List<TimelineRepository.Entry> loadEntries(List<UUID> authorIds, Cursor cursor, int limit) {
+        if (authorIds.isEmpty()) return Collections.emptyList();
+        List<TimelineRepository.Entry> entries = new ArrayList<>();
+        if (cursor.postId() != null) {
+            String cursorMember = cursor.postId().toString();
+            for (TimelineRepository.Entry e : loadMillisecond(authorIds, cursor.millis())) {
+                if (e.postId().toString().compareTo(cursorMember) < 0) entries.add(e);
+            }
+        }
+
+        List<TimelineRepository.Entry> older = toEntries(
+                postRepository.findTimelineEntries(authorIds, fromMillis(cursor.millis()), PageRequest.of(0, limit)));
+        entries.addAll(older);
+        if (older.size() == limit) {
+            Set<UUID> loaded = new HashSet<>();
+            older.forEach(e -> loaded.add(e.postId()));
+            for (TimelineRepository.Entry e : loadMillisecond(authorIds, older.get(limit - 1).createdAtMillis())) {
+                if (loaded.add(e.postId())) entries.add(e);
+            }
+        }
+        entries.sort(NEWEST_FIRST);
+        return entries;
+    }
+
+    private List<TimelineRepository.Entry> loadMillisecond(List<UUID> authorIds, long millis) {
+        return toEntries(postRepository.findTimelineEntriesBetween(authorIds, fromMillis(millis), fromMillis(millis + 1)));
+    }
+
+    private static List<TimelineRepository.Entry> toEntries(List<Object[]> rows) {
+        List<TimelineRepository.Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(new TimelineRepository.Entry((UUID) row[0], toMillis((LocalDateTime) row[1])));
+        }
+        return entries;
+    }
+
+    //---------------유틸-----------------//
+
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        if (millis == Long.MAX_VALUE) return LocalDateTime.now().plusYears(1);
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+}
@@ -1,17 +1,25 @@
 package com.osunji.melog.search.config;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
-import co.elastic.clients.elasticsearch.core.bulk.IndexOperation;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.CreateOperation;
+import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.GetIndexRequest;
+import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.osunji.melog.search.dto.AutocompleteKeyword;
-import lombok.RequiredArgsConstructor;
+import com.osunji.melog.search.service.AutocompleteLearningService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;  // ✅ javax → jakarta 변경
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,15 +27,52 @@ import java.util.HashMap;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class AutocompleteIndexManager {
 
+	private static final String AUTOCOMPLETE_INDEX = "autocomplete-keywords";
+
+	/** 매핑 _meta 표시 - 문서 ID가 키워드 기반 고정 UUID로 통일된 인덱스 */
+	private static final String ID_SCHEME_META = "id_scheme";
+	private static final String KEYWORD_UUID = "keyword-uuid";
+	private static final int MIGRATION_BATCH = 500;
+
+	/** 무작위 ID 문서 → 고정 ID 문서로 합치기 (count 합산, priority는 큰 값) */
+	private static final String MERGE_SCRIPT = """
+		if (ctx._source.keyword == null) {
+		  ctx._source.keyword = params.keyword;
+		  ctx._source.type = params.type;
+		  ctx._source.priority = params.priority;
+		}
+		if (ctx._source.count == null) { ctx._source.count = 0; }
+		ctx._source.count += params.count;
+		if (ctx._source.priority == null || ctx._source.priority < params.priority) {
+		  ctx._source.priority = params.priority;
+		}
+		""";
+
 	private final ElasticsearchClient elasticsearchClient;
+	/** 초기 키워드/마이그레이션 _bulk 전용 (긴 응답 타임아웃) */
+	private final ElasticsearchClient bulkElasticsearchClient;
+	/** 마이그레이션 PIT 스캔용 (긴 응답 타임아웃) */
+	private final ElasticsearchClient batchElasticsearchClient;
+
+	public AutocompleteIndexManager(ElasticsearchClient elasticsearchClient,
+									@Qualifier("bulkElasticsearchClient") ElasticsearchClient bulkElasticsearchClient,
+									@Qualifier("batchElasticsearchClient") ElasticsearchClient batchElasticsearchClient) {
+		this.elasticsearchClient = elasticsearchClient;
+		this.bulkElasticsearchClient = bulkElasticsearchClient;
+		this.batchElasticsearchClient = batchElasticsearchClient;
+	}
 
 	@PostConstruct
 	public void initializeAutocompleteIndex() {
 		try {
 			createAutocompleteIndex();
+			try {
+				migrateLegacyDocuments();
+			} catch (Exception e) {
+				log.warn("자동완성 무작위 ID 문서 정리 실패 (다음 기동 시 재시도): {}", e.getMessage());
+			}
 			populateInitialKeywords();
 		} catch (Exception e) {
 			log.error("자동완성 인덱스 초기화 실패: {}", e.getMessage());
@@ -89,6 +134,7 @@ public class AutocompleteIndexManager {
 					)
 				)
 				.mappings(m -> m
+					.meta(ID_SCHEME_META, JsonData.of(KEYWORD_UUID))
 					.properties("keyword", p -> p
 						.text(t -> t
 							.analyzer("a_autocomplete_index")
@@ -97,6 +143,7 @@ public class AutocompleteIndexManager {
 					)
 					.properties("type", p -> p.keyword(k -> k))
 					.properties("priority", p -> p.integer(i -> i))
+					.properties("count", p -> p.long_(l -> l))
 				)
 			);
 
@@ -115,22 +162,137 @@ public class AutocompleteIndexManager {
 
 		BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
 
+		// 키워드 기반 고정 ID + create → 재기동해도 중복 문서가 생기지 않고, 학습된 count도 덮어쓰지 않음
 		for (AutocompleteKeyword keyword : initialKeywords) {
 			bulkBuilder.operations(op -> op
-				.index(IndexOperation.of(io -> io
+				.create(CreateOperation.of(co -> co
 					.index("autocomplete-keywords")
+					.id(AutocompleteLearningService.documentId(keyword.getKeyword()))
 					.document(keyword)
 				))
 			);
 		}
 
-		BulkResponse bulkResponse = elasticsearchClient.bulk(bulkBuilder.build());
+		BulkResponse bulkResponse = bulkElasticsearchClient.bulk(bulkBuilder.build());
+
+		long created = bulkResponse.items().stream().filter(item -> item.error() == null).count();
+		long failed = bulkResponse.items().stream()
+			.filter(item -> item.error() != null && item.status() != 409)   // 409 = 이미 존재
+			.count();
 
-		if (bulkResponse.errors()) {
-			System.out.println("❌ 일부 키워드 삽입 실패");
+		if (failed > 0) {
+			log.warn("초기 키워드 일부 삽입 실패: {}개", failed);
 		} else {
-			System.out.println("✅ " + initialKeywords.size() + "개 초기 키워드 삽입 완료");
+			log.info("초기 키워드 {}개 신규 삽입 (기존 {}개 유지)", created, initialKeywords.size() - created);
+		}
+	}
+
+	/**
+	 * 고정 ID 도입 전 무작위 ID로 색인된 문서 정리 (1회성)
+	 * - 같은 키워드의 고정 ID 문서로 count/priority를 합친 뒤 원래 문서 삭제 → 키워드당 문서 1개
+	 * - 끝나면 매핑 _meta에 표시해서 다음 기동부터는 건너뜀 (중간 실패 시 다음 기동에 이어서)
+	 */
+	private void migrateLegacyDocuments() throws IOException {
+		var mapping = elasticsearchClient.indices().getMapping(g -> g.index(AUTOCOMPLETE_INDEX))
+			.result().get(AUTOCOMPLETE_INDEX);
+		Map<String, JsonData> meta = (mapping != null) ? mapping.mappings().meta() : Map.of();
+		JsonData scheme = meta.get(ID_SCHEME_META);
+		if (scheme != null && KEYWORD_UUID.equals(scheme.to(String.class))) return;
+
+		String pitId = batchElasticsearchClient.openPointInTime(p -> p
+			.index(AUTOCOMPLETE_INDEX)
+			.keepAlive(k -> k.time("1m"))
+		).id();
+		int merged = 0;
+		boolean failed = false;
+		try {
+			List<FieldValue> after = null;
+			while (true) {
+				List<FieldValue> searchAfter = after;
+				SearchResponse<JsonNode> page = batchElasticsearchClient.search(s -> {
+					s.size(MIGRATION_BATCH)
+						.pit(pit -> pit.id(pitId).keepAlive(k -> k.time("1m")))
+						.sort(so -> so.field(f -> f.field("_shard_doc")));
+					if (searchAfter != null) s.searchAfter(searchAfter);
+					return s;
+				}, JsonNode.class);
+				List<Hit<JsonNode>> hits = page.hits().hits();
+				if (hits.isEmpty()) break;
+				MergeResult result = mergeLegacy(hits);
+				merged += result.merged();
+				failed |= result.failed();
+				after = hits.get(hits.size() - 1).sort();
+			}
+		} finally {
+			batchElasticsearchClient.closePointInTime(c -> c.id(pitId));
+		}
+
+		log.info("자동완성 무작위 ID 문서 {}개를 고정 ID 문서로 정리", merged);
+		if (failed) {
+			log.warn("자동완성 문서 병합 일부 실패 - 남은 문서는 다음 기동 시 정리");
+			return;
+		}
+		elasticsearchClient.indices().putMapping(p -> p
+			.index(AUTOCOMPLETE_INDEX)
+			.meta(ID_SCHEME_META, JsonData.of(KEYWORD_UUID)));
+	}
+
+	private record MergeResult(int merged, boolean failed) {}
+
+	/** 한 페이지의 무작위 ID 문서 병합 → 병합 성공한 것만 삭제 */
+	private MergeResult mergeLegacy(List<Hit<JsonNode>> hits) throws IOException {
+		BulkRequest.Builder merges = new BulkRequest.Builder();
+		Map<String, List<String>> legacyIdsByTarget = new HashMap<>();
+		for (Hit<JsonNode> hit : hits) {
+			JsonNode doc = hit.source();
+			if (doc == null || !doc.hasNonNull("keyword")) continue;
+			String keyword = doc.get("keyword").asText();
+			String targetId = AutocompleteLearningService.documentId(keyword);
+			if (targetId.equals(hit.id())) continue;
+
+			String type = doc.hasNonNull("type") ? doc.get("type").asText() : "user_search";
+			int priority = doc.hasNonNull("priority") ? doc.get("priority").asInt() : 0;
+			long count = doc.hasNonNull("count") ? doc.get("count").asLong() : 0;
+			merges.operations(op -> op.update(u -> u
+				.index(AUTOCOMPLETE_INDEX)
+				.id(targetId)
+				.retryOnConflict(3)
+				.action(a -> a
+					.scriptedUpsert(true)
+					.upsert(Map.of())
+					.script(sc -> sc
+						.source(MERGE_SCRIPT)
+						.params("keyword", JsonData.of(keyword))
+						.params("type", JsonData.of(type))
+						.params("priority", JsonData.of(priority))
+						.params("count", JsonData.of(count))
+					)
+				)
+			));
+			legacyIdsByTarget.computeIfAbsent(targetId, k -> new ArrayList<>()).add(hit.id());
+		}
+		if (legacyIdsByTarget.isEmpty()) return new MergeResult(0, false);
+
+		// 같은 키워드가 여러 번이면 update 결과도 여러 개 → 대상 문서 단위로 실패 여부 판단
+		Map<String, Boolean> failedTargets = new HashMap<>();
+		for (BulkResponseItem item : bulkElasticsearchClient.bulk(merges.build()).items()) {
+			failedTargets.merge(item.id(), item.error() != null, Boolean::logicalOr);
+		}
+
+		BulkRequest.Builder deletes = new BulkRequest.Builder();
+		int deleted = 0;
+		for (Map.Entry<String, List<String>> e : legacyIdsByTarget.entrySet()) {
+			if (!Boolean.FALSE.equals(failedTargets.get(e.getKey()))) continue;
+			for (String legacyId : e.getValue()) {
+				deletes.operations(op -> op.delete(d -> d.index(AUTOCOMPLETE_INDEX).id(legacyId)));
+				deleted++;
+			}
+		}
+		boolean failed = failedTargets.containsValue(true);
+		if (deleted > 0) {
+			failed |= bulkElasticsearchClient.bulk(deletes.build()).errors();
 		}
+		return new MergeResult(deleted, failed);
 	}
 
 	/**
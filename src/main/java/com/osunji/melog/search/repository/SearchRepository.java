@@ -12,6 +12,10 @@ import com.osunji.melog.review.repository.CommentRepository;
 import com.osunji.melog.elk.repository.ELKSearchRepository;
 import com.osunji.melog.elk.service.SearchLogService;
 import com.osunji.melog.search.preset.SearchPresetLoader;
+import com.osunji.melog.search.service.AutocompleteLearningService;
+import com.osunji.melog.search.service.AutocompleteService;
+import com.osunji.melog.search.service.LiveSearchTermService;
+import com.osunji.melog.search.service.PopularityRankingService;
 import com.osunji.melog.search.dto.response.SearchResponse;
 import com.osunji.melog.global.common.AuthHelper;
 import co.elastic.clients.elasticsearch._types.SortOrder;
@@ -19,16 +23,12 @@ import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.PrefixQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.TermQuery;
-import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import co.elastic.clients.elasticsearch._types.FieldSort;
 import co.elastic.clients.elasticsearch._types.ScoreSort;
-import com.osunji.melog.search.dto.AutocompleteKeyword;
-import org.springframework.scheduling.annotation.Async;
 import java.util.Map;
 import java.util.HashMap;
 
-import java.util.concurrent.CompletableFuture;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.json.JsonData;
@@ -46,7 +46,6 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Slf4j
 @Repository
@@ -60,6 +59,10 @@ public class SearchRepository {
 	private final CommentRepository commentRepository;
 	private final SearchLogService searchLogService;
 	private final SearchPresetLoader searchPresetLoader;
+	private final PopularityRankingService popularityRankingService;
+	private final LiveSearchTermService liveSearchTermService;
+	private final AutocompleteService autocompleteService;
+	private final AutocompleteLearningService autocompleteLearningService;
 	private final ElasticsearchClient elasticsearchClient;
 	private final AuthHelper authHelper;
 
@@ -99,9 +102,8 @@ public class SearchRepository {
 
 	private List<String> getActualPopularSearchTerms() {
 		try {
-			System.out.println("📊 실제 인기 검색어 집계 시작");
-			List<String> popularTerms = elkSearchRepository.getPopularSearchTerms();
-			System.out.println("🔍 ELK에서 받은 데이터: " + popularTerms.size() + "개");
+			// 분 버킷으로 미리 집계된 스냅샷 (요청마다 ES 집계하지 않음)
+			List<String> popularTerms = liveSearchTermService.popularTerms(20);
 			return popularTerms.isEmpty() ? getDefaultPopularTerms() : popularTerms;
 		} catch (Exception e) {
 			log.error("실제 인기 검색어 조회 실패: {}", e.getMessage(), e);
@@ -116,99 +118,13 @@ public class SearchRepository {
 		);
 	}
 
-	/** 32번 인기 작곡가 조회 - /api/search/composer */
+	/** 32번 인기 작곡가 조회 - /api/search/composer (검색량 순, 주기 갱신 스냅샷) */
 	public List<SearchResponse.Composer> getPopularComposers() {
-		try {
-			System.out.println("🎼 인기 작곡가 조회 시작 (검색량 순 정렬)");
-
-			// ✅ 1단계: 사전 설정값 가져오기
-			JsonNode composerPreset = searchPresetLoader.composer();
-			if (composerPreset == null || !composerPreset.has("name") || !composerPreset.has("imgLink")) {
-				System.out.println("  - 사전 설정 파일 없음, 기본값 사용");
-				return getDefaultComposers();
-			}
-
-			List<String> allComposers = new ObjectMapper().convertValue(
-				composerPreset.get("name"), List.class);
-			List<String> allImgLinks = new ObjectMapper().convertValue(
-				composerPreset.get("imgLink"), List.class);
-
-			System.out.println("  - 사전 설정 작곡가 수: " + allComposers.size());
-
-			// ✅ 2단계: 각 작곡가별 검색 빈도 조회
-			Map<String, Long> searchCounts = getComposerSearchCounts(allComposers);
-
-			// ✅ 3단계: 검색량 순으로 정렬 (많은 순 → 적은 순)
-			List<Integer> sortedIndexes = IntStream.range(0, allComposers.size())
-				.boxed()
-				.sorted((i1, i2) -> {
-					String composer1 = allComposers.get(i1);
-					String composer2 = allComposers.get(i2);
-					Long count1 = searchCounts.getOrDefault(composer1, 0L);
-					Long count2 = searchCounts.getOrDefault(composer2, 0L);
-
-					// 검색량 기준 내림차순 정렬
-					return Long.compare(count2, count1);
-				})
-				.collect(Collectors.toList());
-
-			// ✅ 4단계: 정렬된 순서로 작곡가와 이미지 재배열
-			List<String> sortedComposers = sortedIndexes.stream()
-				.map(allComposers::get)
-				.collect(Collectors.toList());
-
-			List<String> sortedImgLinks = sortedIndexes.stream()
-				.map(allImgLinks::get)
-				.collect(Collectors.toList());
-
-			// ✅ 5단계: 정렬 결과 로그 출력
-			System.out.println("  - 검색량 기준 정렬 완료:");
-			for (int i = 0; i < Math.min(10, sortedComposers.size()); i++) {
-				String composer = sortedComposers.get(i);
-				Long count = searchCounts.getOrDefault(composer, 0L);
-				System.out.println("    " + (i + 1) + ". " + composer + " (검색 " + count + "회)");
-			}
-
-			return Arrays.asList(
-				SearchResponse.Composer.builder()
-					.name(sortedComposers)
-					.imgLink(sortedImgLinks)
-					.build()
-			);
-
-		} catch (Exception e) {
-			log.error("작곡가 조회 실패: {}", e.getMessage(), e);
+		SearchResponse.Composer composer = popularityRankingService.composers();
+		if (composer == null) {
 			return getDefaultComposers();
 		}
-	}
-
-	/**
-	 * 작곡가별 검색 빈도 조회
-	 */
-	private Map<String, Long> getComposerSearchCounts(List<String> composers) {
-		Map<String, Long> searchCounts = new HashMap<>();
-
-		try {
-			System.out.println("📊 작곡가별 검색 빈도 조회 시작");
-
-			for (String composer : composers) {
-				try {
-					Long count = getSearchCountForKeyword(composer);
-					searchCounts.put(composer, count);
-					if (count > 0) {
-						System.out.println("    " + composer + ": " + count + "회");
-					}
-				} catch (Exception e) {
-					System.out.println("    " + composer + ": 조회 실패");
-					searchCounts.put(composer, 0L);
-				}
-			}
-
-		} catch (Exception e) {
-			log.error("작곡가 검색 빈도 조회 실패: {}", e.getMessage());
-		}
-
-		return searchCounts;
+		return Arrays.asList(composer);
 	}
 
 	/**
@@ -230,55 +146,13 @@ public class SearchRepository {
 		);
 	}
 
-	/** 33번 인기 연주가 + 관련 키워드 조회 - /api/search/player */
+	/** 33번 인기 연주가 + 관련 키워드 조회 - /api/search/player (검색량 순, 주기 갱신 스냅샷) */
 	public List<SearchResponse.Player> getPopularPlayers() {
-		try {
-			System.out.println("🎹 인기 연주가 조회 시작 (검색량 순 정렬)");
-
-			// ✅ 1단계: 사전 설정값 가져오기
-			JsonNode playerPreset = searchPresetLoader.player();
-			if (playerPreset == null || !playerPreset.isArray()) {
-				System.out.println("  - 사전 설정 파일 없음, ELK 조회");
-				return getPlayersFromElk();
-			}
-
-			List<SearchResponse.Player> allPlayers = new ArrayList<>();
-			ObjectMapper mapper = new ObjectMapper();
-
-			// JSON 배열을 Player 객체로 변환
-			for (JsonNode playerNode : playerPreset) {
-				String playerName = playerNode.get("name").asText();
-				List<String> keywords = mapper.convertValue(playerNode.get("keyword"), List.class);
-
-				allPlayers.add(SearchResponse.Player.builder()
-					.name(playerName)
-					.keyword(keywords)
-					.build());
-			}
-
-			System.out.println("  - 사전 설정 연주가 수: " + allPlayers.size());
-
-			// ✅ 2단계: 각 연주가별 검색 빈도 조회 후 정렬
-			allPlayers.sort((p1, p2) -> {
-				Long count1 = getSearchCountForKeyword(p1.getName());
-				Long count2 = getSearchCountForKeyword(p2.getName());
-				return Long.compare(count2, count1); // 내림차순
-			});
-
-			// ✅ 3단계: 정렬 결과 로그 출력
-			System.out.println("  - 검색량 기준 정렬 완료:");
-			for (int i = 0; i < Math.min(10, allPlayers.size()); i++) {
-				SearchResponse.Player player = allPlayers.get(i);
-				Long count = getSearchCountForKeyword(player.getName());
-				System.out.println("    " + (i + 1) + ". " + player.getName() + " (검색 " + count + "회)");
-			}
-
-			return allPlayers;
-
-		} catch (Exception e) {
-			log.error("연주가 조회 실패: {}", e.getMessage(), e);
+		List<SearchResponse.Player> players = popularityRankingService.players();
+		if (players == null) {
 			return getPlayersFromElk();
 		}
+		return players;
 	}
 
 	/**
@@ -325,55 +199,13 @@ public class SearchRepository {
 		);
 	}
 
-	/** 34번 장르 + 관련 키워드 조회 - /api/search/genre */
+	/** 34번 장르 + 관련 키워드 조회 - /api/search/genre (검색량 순, 주기 갱신 스냅샷) */
 	public List<SearchResponse.Genre> getGenres() {
-		try {
-			System.out.println("🎵 장르 데이터 조회 시작 (검색량 순 정렬)");
-
-			// ✅ 1단계: 사전 설정값 가져오기
-			JsonNode genrePreset = searchPresetLoader.genre();
-			if (genrePreset == null || !genrePreset.isArray()) {
-				System.out.println("  - 사전 설정 파일 없음, 기본값 사용");
-				return getDefaultGenres();
-			}
-
-			List<SearchResponse.Genre> allGenres = new ArrayList<>();
-			ObjectMapper mapper = new ObjectMapper();
-
-			// JSON 배열을 Genre 객체로 변환
-			for (JsonNode genreNode : genrePreset) {
-				String genreName = genreNode.get("genre").asText();
-				List<String> keywords = mapper.convertValue(genreNode.get("keyword"), List.class);
-
-				allGenres.add(SearchResponse.Genre.builder()
-					.genre(genreName)
-					.keyword(keywords)
-					.build());
-			}
-
-			System.out.println("  - 사전 설정 장르 수: " + allGenres.size());
-
-			// ✅ 2단계: 각 장르별 검색 빈도 조회 후 정렬
-			allGenres.sort((g1, g2) -> {
-				Long count1 = getSearchCountForKeyword(g1.getGenre());
-				Long count2 = getSearchCountForKeyword(g2.getGenre());
-				return Long.compare(count2, count1); // 내림차순
-			});
-
-			// ✅ 3단계: 정렬 결과 로그 출력
-			System.out.println("  - 검색량 기준 정렬 완료:");
-			for (int i = 0; i < Math.min(10, allGenres.size()); i++) {
-				SearchResponse.Genre genre = allGenres.get(i);
-				Long count = getSearchCountForKeyword(genre.getGenre());
-				System.out.println("    " + (i + 1) + ". " + genre.getGenre() + " (검색 " + count + "회)");
-			}
-
-			return allGenres;
-
-		} catch (Exception e) {
-			log.error("장르 조회 실패: {}", e.getMessage(), e);
+		List<SearchResponse.Genre> genres = popularityRankingService.genres();
+		if (genres == null) {
 			return getDefaultGenres();
 		}
+		return genres;
 	}
 
 	/**
@@ -440,227 +272,13 @@ public class SearchRepository {
 			.build();
 	}
 
-	/** 36번 인기 악기 조회 - /api/search/instrument */
+	/** 36번 인기 악기 조회 - /api/search/instrument (검색량 순, 주기 갱신 스냅샷) */
 	public SearchResponse.Instrument getInstruments() {
-		try {
-			System.out.println("🎺 인기 악기 조회 시작 (검색량 순 정렬)");
-
-			// ✅ 1단계: 사전 설정값 가져오기
-			JsonNode instrumentPreset = searchPresetLoader.instrument();
-			if (instrumentPreset == null || !instrumentPreset.has("instrument") || !instrumentPreset.has("imgLink")) {
-				System.out.println("  - 사전 설정 파일 없음, 기본값 사용");
-				return getDefaultInstruments();
-			}
-
-			List<String> allInstruments = new ObjectMapper().convertValue(
-				instrumentPreset.get("instrument"), List.class);
-			List<String> allImgLinks = new ObjectMapper().convertValue(
-				instrumentPreset.get("imgLink"), List.class);
-
-			System.out.println("  - 사전 설정 악기 수: " + allInstruments.size());
-
-			// ✅ 2단계: 각 악기별 검색 빈도 조회
-			Map<String, Long> searchCounts = getInstrumentSearchCounts(allInstruments);
-
-			// ✅ 3단계: 검색량 순으로 정렬 (많은 순 → 적은 순)
-			List<Integer> sortedIndexes = IntStream.range(0, allInstruments.size())
-				.boxed()
-				.sorted((i1, i2) -> {
-					String instrument1 = allInstruments.get(i1);
-					String instrument2 = allInstruments.get(i2);
-					Long count1 = searchCounts.getOrDefault(instrument1, 0L);
-					Long count2 = searchCounts.getOrDefault(instrument2, 0L);
-
-					// 검색량 기준 내림차순 정렬
-					return Long.compare(count2, count1);
-				})
-				.collect(Collectors.toList());
-
-			// ✅ 4단계: 정렬된 순서로 악기와 이미지 재배열
-			List<String> sortedInstruments = sortedIndexes.stream()
-				.map(allInstruments::get)
-				.collect(Collectors.toList());
-
-			List<String> sortedImgLinks = sortedIndexes.stream()
-				.map(allImgLinks::get)
-				.collect(Collectors.toList());
-
-			// ✅ 5단계: 정렬 결과 로그 출력
-			System.out.println("  - 검색량 기준 정렬 완료:");
-			for (int i = 0; i < Math.min(10, sortedInstruments.size()); i++) {
-				String instrument = sortedInstruments.get(i);
-				Long count = searchCounts.getOrDefault(instrument, 0L);
-				System.out.println("    " + (i + 1) + ". " + instrument + " (검색 " + count + "회)");
-			}
-
-			return SearchResponse.Instrument.builder()
-				.instrument(sortedInstruments)
-				.imgLink(sortedImgLinks)
-				.build();
-
-		} catch (Exception e) {
-			log.error("악기 조회 실패: {}", e.getMessage(), e);
+		SearchResponse.Instrument instrument = popularityRankingService.instruments();
+		if (instrument == null) {
 			return getDefaultInstruments();
 		}
-	}
-
-	/**
-	 * 악기별 검색 빈도 조회 wpqkf
-	 */
-	private Map<String, Long> getInstrumentSearchCounts(List<String> instruments) {
-		Map<String, Long> searchCounts = new HashMap<>();
-
-		try {
-			System.out.println("📊 악기별 검색 빈도 조회 시작");
-
-			// ✅ 각 악기별로 검색 로그에서 빈도 조회
-			for (String instrument : instruments) {
-				try {
-					Long count = getSearchCountForKeyword(instrument);
-					searchCounts.put(instrument, count);
-					if (count > 0) {
-						System.out.println("    " + instrument + ": " + count + "회");
-					}
-				} catch (Exception e) {
-					System.out.println("    " + instrument + ": 조회 실패");
-					searchCounts.put(instrument, 0L);
-				}
-			}
-
-		} catch (Exception e) {
-			log.error("악기 검색 빈도 조회 실패: {}", e.getMessage());
-		}
-
-		return searchCounts;
-	}
-
-	/**
-	 * 특정 키워드의 검색 빈도 조회 - 한글/영어 통합
-	 */
-	private Long getSearchCountForKeyword(String keyword) {
-		try {
-			// ✅ 한글-영어 매핑
-			List<String> searchKeywords = getEquivalentKeywords(keyword);
-			System.out.println("    검색 키워드들: " + searchKeywords);
-
-			long totalCount = 0L;
-
-			// ✅ 모든 등가 키워드로 검색
-			for (String searchKeyword : searchKeywords) {
-				var searchRequest = co.elastic.clients.elasticsearch.core.SearchRequest.of(s -> s
-					.index("search_logs")
-					.size(0)
-					.query(q -> q
-						.bool(b -> b
-								.must(m -> m
-									.match(ma -> ma
-										.field("query")
-										.query(searchKeyword)
-									)
-								)
-							// 시간 필터는 일단 제거 (field 오류 때문에)
-						)
-					)
-				);
-
-				var response = elasticsearchClient.search(searchRequest, Void.class);
-				long count = response.hits().total().value();
-				if (count > 0) {
-					System.out.println("      '" + searchKeyword + "': " + count + "회");
-					totalCount += count;
-				}
-			}
-
-			return totalCount;
-
-		} catch (Exception e) {
-			System.out.println("        키워드 '" + keyword + "' 검색 실패: " + e.getMessage());
-			return 0L;
-		}
-	}
-
-	/**
-	 * 키워드의 등가 검색어들 반환 (한글, 영어, 별칭 등)
-	 */
-	private List<String> getEquivalentKeywords(String keyword) {
-		Map<String, List<String>> keywordMap = createKeywordMap();
-
-		// 직접 매핑된 경우
-		if (keywordMap.containsKey(keyword)) {
-			return keywordMap.get(keyword);
-		}
-
-		// 매핑에서 찾기 (역방향 검색)
-		for (Map.Entry<String, List<String>> entry : keywordMap.entrySet()) {
-			if (entry.getValue().contains(keyword)) {
-				return entry.getValue();
-			}
-		}
-
-		// 매핑이 없으면 원본만 반환
-		return Arrays.asList(keyword);
-	}
-
-	/**
-	 * 키워드 매핑 맵 생성
-	 */
-	private Map<String, List<String>> createKeywordMap() {
-		Map<String, List<String>> map = new HashMap<>();
-
-		// ✅ 악기 매핑 (한글, 영어, 별칭)
-		map.put("피아노", Arrays.asList("피아노", "piano", "Piano"));
-		map.put("바이올린", Arrays.asList("바이올린", "violin", "Violin", "바이얼린"));
-		map.put("첼로", Arrays.asList("첼로", "cello", "Cello"));
-		map.put("플루트", Arrays.asList("플루트", "flute", "Flute", "플룻"));
-		map.put("클라리넷", Arrays.asList("클라리넷", "clarinet", "Clarinet", "클라리넷"));
-		map.put("트럼펫", Arrays.asList("트럼펫", "trumpet", "Trumpet", "트램펫"));
-		map.put("호른", Arrays.asList("호른", "horn", "Horn", "혼"));
-		map.put("트롬본", Arrays.asList("트롬본", "trombone", "Trombone"));
-		map.put("튜바", Arrays.asList("튜바", "tuba", "Tuba"));
-		map.put("오보에", Arrays.asList("오보에", "oboe", "Oboe"));
-		map.put("바순", Arrays.asList("바순", "bassoon", "Bassoon", "파곳"));
-		map.put("색소폰", Arrays.asList("색소폰", "saxophone", "Saxophone", "색스폰", "sax"));
-		map.put("하프", Arrays.asList("하프", "harp", "Harp"));
-		map.put("기타", Arrays.asList("기타", "guitar", "Guitar"));
-		map.put("드럼", Arrays.asList("드럼", "drum", "Drum", "북"));
-		map.put("심벌즈", Arrays.asList("심벌즈", "cymbals", "Cymbals", "심발"));
-
-		// ✅ 작곡가 매핑 추가 (한글, 영어, 별칭)
-		map.put("바흐", Arrays.asList("바흐", "bach", "Bach", "J.S. Bach"));
-		map.put("베토벤", Arrays.asList("베토벤", "beethoven", "Beethoven"));
-		map.put("모차르트", Arrays.asList("모차르트", "mozart", "Mozart", "W.A. Mozart"));
-		map.put("쇼팽", Arrays.asList("쇼팽", "chopin", "Chopin"));
-		map.put("브람스", Arrays.asList("브람스", "brahms", "Brahms"));
-		map.put("리스트", Arrays.asList("리스트", "liszt", "Liszt"));
-		map.put("슈베르트", Arrays.asList("슈베르트", "schubert", "Schubert"));
-		map.put("하이든", Arrays.asList("하이든", "haydn", "Haydn"));
-		map.put("슈만", Arrays.asList("슈만", "schumann", "Schumann"));
-		map.put("드뷔시", Arrays.asList("드뷔시", "debussy", "Debussy"));
-		map.put("라벨", Arrays.asList("라벨", "ravel", "Ravel"));
-		map.put("차이콥스키", Arrays.asList("차이콥스키", "tchaikovsky", "Tchaikovsky", "차이코프스키"));
-		map.put("라흐마니노프", Arrays.asList("라흐마니노프", "rachmaninoff", "Rachmaninoff"));
-		map.put("베르디", Arrays.asList("베르디", "verdi", "Verdi"));
-		map.put("푸치니", Arrays.asList("푸치니", "puccini", "Puccini"));
-		map.put("바그너", Arrays.asList("바그너", "wagner", "Wagner"));
-		map.put("윤이상", Arrays.asList("윤이상", "yun isang", "Yun Isang"));
-
-		// 장르 매핑 추가
-		map.put("바로크", Arrays.asList("바로크", "baroque", "Baroque"));
-		map.put("클래식", Arrays.asList("클래식", "classical", "Classical", "클라식"));
-		map.put("낭만주의", Arrays.asList("낭만주의", "romantic", "Romantic", "낭만파"));
-		map.put("재즈", Arrays.asList("재즈", "jazz", "Jazz"));
-		map.put("오페라", Arrays.asList("오페라", "opera", "Opera"));
-		map.put("교향곡", Arrays.asList("교향곡", "symphony", "Symphony"));
-		map.put("협주곡", Arrays.asList("협주곡", "concerto", "Concerto"));
-		map.put("소나타", Arrays.asList("소나타", "sonata", "Sonata"));
-
-		// ✅ 용어 매핑
-		map.put("교향곡", Arrays.asList("교향곡", "symphony", "Symphony"));
-		map.put("협주곡", Arrays.asList("협주곡", "concerto", "Concerto"));
-		map.put("소나타", Arrays.asList("소나타", "sonata", "Sonata"));
-		map.put("오페라", Arrays.asList("오페라", "opera", "Opera"));
-
-		return map;
+		return instrument;
 	}
 
 	/**
@@ -703,12 +321,11 @@ public class SearchRepository {
 			if (postIdStrings.isEmpty()) {
 				System.out.println("  - ELK 결과 없음, DB 직접 검색 실행");
 
-				// ✅ 2단계: DB에서 직접 검색 (제목, 내용, 태그)
-				List<Post> posts = postRepository.findByTitleContainingOrContentContaining(query);
+				// ✅ 2단계: DB 검색 (제목, 내용 - trigram 인덱스, 최대 20개)
+				List<Post> posts = postRepository.searchByTitleOrContent(query, 20);
 				System.out.println("  - DB 직접 검색 결과: " + posts.size() + "개");
 
 				results = posts.stream()
-					.limit(20)
 					.map(post -> SearchResponse.PostResult.builder()
 						.post(post)
 						.user(post.getUser())
@@ -770,23 +387,9 @@ public class SearchRepository {
 			if (userIdStrings.isEmpty()) {
 				System.out.println("  - ELK 결과 없음, DB 직접 검색 실행");
 
-				// ✅ 2단계: DB에서 직접 사용자 검색 (닉네임, 자기소개 포함)
-				List<User> users = userRepository.findAll().stream()
-					.filter(user -> {
-						// 자기 자신 제외
-						if (user.getId().equals(currentUserId)) {
-							return false;
-						}
-						if (user.getNickname() != null &&
-							user.getNickname().toLowerCase().contains(query.toLowerCase())) {
-							return true;
-						}
-						if (user.getIntro() != null &&
-							user.getIntro().toLowerCase().contains(query.toLowerCase())) {
-							return true;
-						}
-						return false;
-					})
+				// ✅ 2단계: DB 사용자 검색 (닉네임, 자기소개 - trigram 인덱스, 자기 자신 제외 최대 10개)
+				List<User> users = userRepository.searchByNicknameOrIntro(query, 11).stream()
+					.filter(user -> !user.getId().equals(currentUserId))
 					.limit(10)
 					.collect(Collectors.toList());
 
@@ -899,9 +502,7 @@ public class SearchRepository {
 			if (postIdStrings.isEmpty()) {
 				// ✅ ELK 결과 없으면 DB 직접 검색
 				System.out.println("  - ELK 결과 없음, DB 직접 검색 실행");
-				posts = postRepository.findByTitleContainingOrContentContaining(query).stream()
-					.limit(50)
-					.collect(Collectors.toList());
+				posts = postRepository.searchByTitleOrContent(query, 50);
 				System.out.println("  - DB 직접 검색 결과: " + posts.size() + "개");
 
 				if (posts.isEmpty()) {
@@ -924,13 +525,9 @@ public class SearchRepository {
 					.build())
 				.collect(Collectors.toList());
 
-			// ✅ 인기순 정렬 - likes.size() 기준으로 수정
+			// ✅ 인기순 정렬 - like_count 비정규화 컬럼 기준 (likes 컬렉션 로딩 없음)
 			List<SearchResponse.PostResult> resultsPopular = posts.stream()
-				.sorted((a, b) -> {
-					int likesA = a.getLikes() != null ? a.getLikes().size() : 0;
-					int likesB = b.getLikes() != null ? b.getLikes().size() : 0;
-					return Integer.compare(likesB, likesA); // 좋아요 내림차순
-				})
+				.sorted((a, b) -> Integer.compare(b.getLikeCount(), a.getLikeCount())) // 좋아요 내림차순
 				.map(post -> SearchResponse.PostResult.builder()
 					.post(post)
 					.user(post.getUser())
@@ -959,18 +556,7 @@ public class SearchRepository {
 		try {
 			System.out.println("📺 인기 YouTube 미디어 조회 시작");
 
-			List<Post> youtubePosts = postRepository.findAll().stream()
-				.filter(post -> post.getMediaUrl() != null &&
-					!post.getMediaUrl().trim().isEmpty() &&
-					(post.getMediaUrl().toLowerCase().contains("youtube") ||
-						post.getMediaUrl().toLowerCase().contains("youtu.be")))
-				.sorted((p1, p2) -> {
-					int likes1 = p1.getLikes() != null ? p1.getLikes().size() : 0;
-					int likes2 = p2.getLikes() != null ? p2.getLikes().size() : 0;
-					return Integer.compare(likes2, likes1);
-				})
-				.limit(10)
-				.collect(Collectors.toList());
+			List<Post> youtubePosts = postRepository.findPopularYoutubePosts(PageRequest.of(0, 10));
 
 			System.out.println("  - YouTube 미디어 " + youtubePosts.size() + "개 발견");
 
@@ -1036,365 +622,23 @@ public class SearchRepository {
 
 	/** 40번 자동완성 검색어 조회 (더 유연한 검색) */
 	public SearchResponse.Autocomplete getAutocomplete(String query) {
-		System.out.println("🔍 Elasticsearch 자동완성 검색: '" + query + "'");
-
 		try {
-			// ✅ 1단계: Elasticsearch에서 유연한 검색
-			List<String> elasticSuggestions = getElasticSuggestions(query);
-
-			// ✅ 2단계: 사전 정의된 키워드에서 유연한 검색
-			List<String> presetSuggestions = getPresetSuggestions(query);
-
-			// ✅ 3단계: 사용자 닉네임에서 유연한 검색
-			List<String> userSuggestions = getUserSuggestionsFromDb(query);
-
-			// ✅ 4단계: 모든 결과 합치고 정렬
-			List<String> allSuggestions = new ArrayList<>();
-			allSuggestions.addAll(elasticSuggestions);
-			allSuggestions.addAll(presetSuggestions);
-			allSuggestions.addAll(userSuggestions);
-
-			// 중복 제거 및 스마트 정렬
-			List<String> finalSuggestions = allSuggestions.stream()
-				.distinct()
-				.filter(s -> isMatch(s, query))  // ✅ 유연한 매칭 로직
-				.sorted((a, b) -> compareRelevance(a, b, query))  // ✅ 관련성 기반 정렬
-				.limit(10)
-				.collect(Collectors.toList());
-
-			System.out.println("✅ 자동완성 결과: " + finalSuggestions.size() + "개");
-			finalSuggestions.forEach(s -> System.out.println("  - " + s));
+			// ✅ 인메모리 자동완성 인덱스 (prefix + 초성, 가중치 상위 10개)
+			List<String> finalSuggestions = autocompleteService.suggest(query, 10);
 
-			// 비동기 키워드 업데이트
-			updateAutocompleteKeywords(query);
+			// 키워드 학습은 적재만 (주기적으로 bulk upsert)
+			autocompleteLearningService.record(query);
 
 			return SearchResponse.Autocomplete.builder()
 				.suggestions(finalSuggestions)
 				.build();
 
 		} catch (Exception e) {
-			log.error("Elasticsearch 자동완성 실패: {}", e.getMessage());
+			log.error("자동완성 실패: {}", e.getMessage());
 			return getFallbackAutocomplete(query);
 		}
 	}
 
-	/**
-	 * ✅ Elasticsearch에서 유연한 검색
-	 */
-	private List<String> getElasticSuggestions(String query) {
-		try {
-			var searchRequest = co.elastic.clients.elasticsearch.core.SearchRequest.of(s -> s
-				.index("autocomplete-keywords")
-				.size(20)  // 더 많이 가져와서 필터링
-				.query(q -> q
-					.bool(b -> b
-						.should(sh -> sh
-							// 정확히 시작하는 것 (최고 점수)
-							.prefix(p -> p
-								.field("keyword")
-								.value(query.toLowerCase())
-								.boost(5.0f)
-							)
-						)
-						.should(sh -> sh
-							// 부분 일치 (높은 점수)
-							.wildcard(w -> w
-								.field("keyword")
-								.value("*" + query.toLowerCase() + "*")
-								.boost(3.0f)
-							)
-						)
-						.should(sh -> sh
-							// 퍼지 매칭 (오타 허용)
-							.fuzzy(f -> f
-								.field("keyword")
-								.value(query.toLowerCase())
-								.fuzziness("AUTO")
-								.boost(1.0f)
-							)
-						)
-						.minimumShouldMatch("1")
-					)
-				)
-			);
-
-			var response = elasticsearchClient.search(searchRequest, AutocompleteKeyword.class);
-
-			return response.hits().hits().stream()
-				.map(hit -> hit.source().getKeyword())
-				.distinct()
-				.collect(Collectors.toList());
-
-		} catch (Exception e) {
-			log.warn("Elastic 검색 실패: {}", e.getMessage());
-			return List.of();
-		}
-	}
-
-	/**
-	 * ✅ 사전 정의된 키워드에서 유연한 검색 (확장 버전)
-	 */
-	private List<String> getPresetSuggestions(String query) {
-		List<String> presetKeywords = Arrays.asList(
-			// 작곡가 (클래식)
-			"바흐", "베토벤", "모차르트", "쇼팽", "브람스", "리스트", "슈베르트", "하이든",
-			"슈만", "드뷔시", "라벨", "차이콥스키", "라흐마니노프", "베르디", "푸치니", "바그너",
-			"멘델스존", "그리그", "드보르자크", "시벨리우스", "스트라빈스키", "프로코피예프",
-			"비발디", "헨델", "텔레만", "파헬벨", "알비노니", "코렐리", "퍼셀",
-			"로시니", "도니체티", "벨리니", "마스카니", "레온카발로", "폰키엘리",
-			"말러", "브루크너", "생상스", "프랑크", "마스네", "비제", "구노",
-			"베버", "글루크", "루소", "레스피기", "카탈라니", "보로딘", "무소르그스키",
-			"림스키코르사코프", "글라주노프", "스크리아빈", "파가니니", "비외탕", "생상스",
-
-			// 현대/재즈 작곡가
-			"거슈윈", "번스타인", "코플런드", "아이브스", "케이지", "글래스", "라이히",
-			"앤드류 로이드 웨버", "스티븐 손드하임", "미셸 르그랑", "엔니오 모리코네",
-
-			// 한국 작곡가/음악가
-			"윤이상", "나운영", "김동진", "김순남", "현제명", "홍난파", "채동선",
-			"안익태", "김성태", "이건용", "박재훈", "진은숙", "황병기",
-
-			// 피아니스트 (국외)
-			"글렌 굴드", "아르투르 루빈스타인", "블라디미르 호로비츠", "스비아토슬라브 리히터",
-			"마르타 아르헤리치", "다니엘 바렌보임", "알프레드 브렌델", "클라우디오 아라우",
-			"머레이 페라이어", "라두 루푸", "안드라스 시프", "크리스티안 치메르만",
-			"랑랑", "유자 왕", "키신", "플레트네프", "마우리치오 폴리니", "미첼란젤리",
-
-			// 피아니스트 (한국)
-			"조성진", "임윤찬", "손열음", "김선욱", "이루마", "신지호", "김정원",
-			"문지영", "김태형", "백건우", "강충모", "피아니스트",
-
-			// 바이올리니스트
-			"이츠하크 펄만", "야샤 하이페츠", "다비드 오이스트라흐", "요헤디 메뉴힌",
-			"안네 소피 무터", "힐러리 한", "사라 장", "정경화", "강동석", "김봄소리",
-			"양인모", "클라라 주미 강", "바이올리니스트",
-
-			// 첼리스트
-			"요요마", "미샤 마이스키", "자클린 뒤 프레", "파블로 카잘스", "므스티슬라프 로스트로포비치",
-			"송영훈", "장한나", "한재민", "첼리스트",
-
-			// 성악가
-			"루치아노 파바로티", "플라시도 도밍고", "호세 카레라스", "마리아 칼라스",
-			"조수미", "홍혜경", "신영옥", "김우경", "성악가", "소프라노", "테너", "바리톤", "베이스",
-
-			// 지휘자
-			"헤르베르트 폰 카라얀", "레오나르드 번스타인", "정명훈", "구스타프 말러",
-			"토스카니니", "푸르트벵글러", "클라우디오 아바도", "주빈 메타", "정명훈",
-			"금난새", "조성진", "지휘자", "마에스트로",
-
-			// 악기
-			"피아노", "바이올린", "비올라", "첼로", "콘트라베이스", "더블베이스",
-			"플루트", "피콜로", "오보에", "클라리넷", "바순", "색소폰",
-			"트럼펫", "호른", "트롬본", "튜바", "하프", "팀파니", "실로폰",
-			"오르간", "하프시코드", "아코디언", "밴도네온", "첼레스타",
-			"드럼", "타악기", "심벌즈", "마림바", "비브라폰",
-
-			// 장르/형식
-			"클래식", "클래식 음악", "바로크", "고전주의", "낭만주의", "인상주의", "현대음악",
-			"교향곡", "협주곡", "소나타", "실내악", "현악 4중주", "피아노 트리오",
-			"오페라", "오페레타", "뮤지컬", "발레", "왈츠", "폴로네즈", "마주르카",
-			"녹턴", "에튀드", "즉흥곡", "전주곡", "푸가", "인벤션", "파르티타",
-			"재즈", "블루스", "스윙", "비밥", "쿨재즈", "퓨전", "라틴재즈",
-			"팝", "록", "힙합", "R&B", "컨트리", "포크", "월드뮤직",
-
-			// 유명 작품
-			"운명 교향곡", "미완성 교향곡", "놀라운 교향곡", "합창 교향곡",
-			"월광 소나타", "비창 소나타", "황제 협주곡", "사계", "아이네 클라이네 나흐트무지크",
-			"카르멘", "라보엠", "투란도트", "마탄의 사수", "피가로의 결혼",
-			"백조의 호수", "호두까기 인형", "잠자는 숲속의 미녀", "지젤",
-			"볼레로", "랩소디 인 블루", "신세계 교향곡", "마법피리",
-
-			// 음악 용어
-			"알레그로", "안단테", "아다지오", "라르고", "프레스토", "안다티노",
-			"포르테", "피아노", "크레센도", "디미누엔도", "스타카토", "레가토",
-			"아르페지오", "글리산도", "트릴", "모르던트", "아포지아투라",
-			"장조", "단조", "도미넌트", "서브도미넌트", "토닉", "세븐스",
-
-			// 음악원/학교
-			"줄리어드", "커티스", "왕립음대", "파리 음악원", "빈 음악원",
-			"한국예술종합학교", "서울대 음대", "연세대 음대", "이화여대 음대",
-
-			// 콩쿠르/상
-			"쇼팽 콩쿠르", "차이콥스키 콩쿠르", "퀸 엘리자베스 콩쿠르", "반 클라이번 콩쿠르",
-			"롱티보 콩쿠르", "부조니 콩쿠르", "그라미상", "에코상", "클래식브릿상",
-
-			// 오케스트라/앙상블
-			"베를린 필하모닉", "빈 필하모닉", "런던 심포니", "뉴욕 필하모닉",
-			"시카고 심포니", "보스턴 심포니", "로얄 콘체르트헤바우",
-			"KBS 교향악단", "서울시향", "코리안 심포니", "프라임 필하모닉",
-
-			// 오페라하우스/콘서트홀
-			"빈 슈타츠오퍼", "메트로폴리탄 오페라", "라 스칼라", "코벤트 가든",
-			"카네기홀", "링컨센터", "베를린 콘체르트하우스",
-			"예술의전당", "롯데콘서트홀", "세종문화회관",
-
-			// 음반사/레이블
-			"도이치 그라모폰", "EMI", "소니 클래시컬", "데카", "필립스",
-			"노낙스", "하이페리온", "샹도스", "BIS"
-		);
-
-		return presetKeywords.stream()
-			.filter(keyword -> isMatch(keyword, query))
-			.limit(10)
-			.collect(Collectors.toList());
-	}
-
-	/**
-	 * ✅ 유연한 매칭 로직 (핵심!)
-	 */
-	private boolean isMatch(String keyword, String query) {
-		if (keyword == null || query == null) return false;
-
-		String cleanQuery = cleanText(query);
-		String cleanKeyword = cleanText(keyword);
-
-		// 1. 정확한 포함 관계
-		if (cleanKeyword.contains(cleanQuery)) {
-			return true;
-		}
-
-		// 2. 초성 검색 (ㅂ → 베토벤, 바흐 등)
-		if (isInitialConsonant(cleanQuery)) {
-			return matchesInitialConsonant(cleanKeyword, cleanQuery);
-		}
-
-		// 3. 부분 문자 매칭 (피아 → 피아노, 피아니스트)
-		if (cleanQuery.length() >= 1) {
-			return containsAllCharacters(cleanKeyword, cleanQuery);
-		}
-
-		return false;
-	}
-
-	/**
-	 * ✅ 텍스트 정리 (특수문자, 공백 제거)
-	 */
-	private String cleanText(String text) {
-		return text.toLowerCase()
-			.replaceAll("[\\\\\\n\\r\\t\\s]", "")  // 백슬래시, 공백, 개행 제거
-			.replaceAll("[^가-힣a-z0-9]", "");     // 한글, 영문, 숫자만 남기기
-	}
-
-	/**
-	 * ✅ 초성인지 확인
-	 */
-	private boolean isInitialConsonant(String text) {
-		return text.matches("[ㄱ-ㅎ]+");
-	}
-
-	/**
-	 * ✅ 초성 매칭 검사
-	 */
-	private boolean matchesInitialConsonant(String keyword, String consonants) {
-		String[] initialConsonants = {
-			"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
-			"ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
-		};
-
-		StringBuilder keywordInitials = new StringBuilder();
-
-		for (char c : keyword.toCharArray()) {
-			if (c >= '가' && c <= '힣') {
-				int unicode = c - '가';
-				int initialIndex = unicode / (21 * 28);
-				if (initialIndex < initialConsonants.length) {
-					keywordInitials.append(initialConsonants[initialIndex]);
-				}
-			}
-		}
-
-		return keywordInitials.toString().contains(consonants);
-	}
-
-	/**
-	 * ✅ 모든 문자가 포함되어 있는지 확인
-	 */
-	private boolean containsAllCharacters(String keyword, String query) {
-		for (char c : query.toCharArray()) {
-			if (!keyword.contains(String.valueOf(c))) {
-				return false;
-			}
-		}
-		return true;
-	}
-
-	/**
-	 * ✅ 관련성 기반 정렬
-	 */
-	private int compareRelevance(String a, String b, String query) {
-		String cleanQuery = cleanText(query);
-
-		// 1. 정확히 시작하는 것이 우선
-		boolean aStarts = cleanText(a).startsWith(cleanQuery);
-		boolean bStarts = cleanText(b).startsWith(cleanQuery);
-
-		if (aStarts && !bStarts) return -1;
-		if (!aStarts && bStarts) return 1;
-
-		// 2. 짧은 것이 우선 (더 정확한 매칭)
-		int lengthCompare = Integer.compare(a.length(), b.length());
-		if (lengthCompare != 0) return lengthCompare;
-
-		// 3. 알파벳 순서
-		return a.compareTo(b);
-	}
-
-
-
-	/**
-	 * ✅ 사용자 닉네임에서 자동완성 추가
-	 */
-	private List<String> getUserSuggestionsFromDb(String query) {
-		try {
-			return userRepository.findAll().stream()
-				.map(User::getNickname)
-				.filter(nickname -> nickname != null &&
-					nickname.toLowerCase().contains(query.toLowerCase()))
-				.distinct()
-				.limit(3)
-				.collect(Collectors.toList());
-		} catch (Exception e) {
-			return List.of();
-		}
-	}
-
-	/**
-	 * ✅ 검색된 키워드를 자동완성 인덱스에 추가 (비동기)
-	 */
-	@Async
-	protected void updateAutocompleteKeywords(String query) {
-		try {
-			// 이미 존재하는지 확인
-			var searchRequest = co.elastic.clients.elasticsearch.core.SearchRequest.of(s -> s
-				.index("autocomplete-keywords")
-				.query(q -> q
-					.term(t -> t
-						.field("keyword.keyword")
-						.value(query)
-					)
-				)
-				.size(1)
-			);
-
-			var existingResponse = elasticsearchClient.search(searchRequest, AutocompleteKeyword.class);
-
-			if (existingResponse.hits().total().value() == 0) {
-				// 새로운 키워드 추가
-				AutocompleteKeyword newKeyword = new AutocompleteKeyword(query, "user_search", 10);
-
-				elasticsearchClient.index(IndexRequest.of(i -> i
-					.index("autocomplete-keywords")
-					.document(newKeyword)
-				));
-
-				System.out.println("🆕 새로운 자동완성 키워드 추가: " + query);
-			}
-
-		} catch (Exception e) {
-			log.warn("자동완성 키워드 업데이트 실패: {}", e.getMessage());
-		}
-	}
-
 	/**
 	 * ✅ Elasticsearch 실패시 Fallback
 	 */
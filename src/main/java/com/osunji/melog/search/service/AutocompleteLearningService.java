@@ -0,0 +1,169 @@
+package com.osunji.melog.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.json.JsonData;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 자동완성 키워드 학습 파이프라인
+ * - 요청 경로는 메모리 카운터에 적재만 (ES 조회/쓰기 없음)
+ * - 주기적으로 키워드별 누적 횟수를 _bulk scripted upsert로 반영 (문서 ID = 키워드 기반 고정 UUID → 중복 문서 없음)
+ *   (고정 ID 이전의 무작위 ID 문서는 AutocompleteIndexManager가 기동 시 1회 병합/삭제)
+ * - 사용자 검색 키워드의 priority는 누적 횟수로 올라가되 preset 키워드(100)보다 낮게 유지
+ * - 버퍼 교체 순간의 극소수 증가분은 유실될 수 있음 (best effort)
+ */
+@Slf4j
+@Service
+public class AutocompleteLearningService {
+
+	private static final String AUTOCOMPLETE_INDEX = "autocomplete-keywords";
+	private static final int MIN_LENGTH = 2;
+	private static final int MAX_LENGTH = 50;
+	private static final long PRIORITY_CAP = 99;
+
+	private static final String UPSERT_SCRIPT = """
+		if (ctx._source.keyword == null) {
+		  ctx._source.keyword = params.keyword;
+		  ctx._source.type = 'user_search';
+		  ctx._source.priority = params.base;
+		}
+		if (ctx._source.count == null) { ctx._source.count = 0; }
+		ctx._source.count += params.n;
+		if (ctx._source.type == 'user_search') {
+		  ctx._source.priority = (int) Math.min(params.cap, params.base + ctx._source.count);
+		}
+		""";
+
+	private final ElasticsearchClient elasticsearchClient;
+	private final AutocompleteService autocompleteService;
+	private final int maxPending;
+	private final long flushSeconds;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private volatile Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+	public AutocompleteLearningService(@Qualifier("bulkElasticsearchClient") ElasticsearchClient elasticsearchClient,
+									   AutocompleteService autocompleteService,
+									   @Value("${search.autocomplete.learn.max-pending:20000}") int maxPending,
+									   @Value("${search.autocomplete.learn.flush-seconds:10}") long flushSeconds) {
+		this.elasticsearchClient = elasticsearchClient;
+		this.autocompleteService = autocompleteService;
+		this.maxPending = maxPending;
+		this.flushSeconds = flushSeconds;
+	}
+
+	@PostConstruct
+	public void startScheduler() {
+		scheduler.scheduleWithFixedDelay(this::flushSafely, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stopScheduler() {
+		scheduler.shutdown();
+		flushSafely();
+	}
+
+	/** 검색어 관측 - 카운트만 올림 (대기 키워드가 가득 차면 새 키워드는 버림) */
+	public void record(String query) {
+		if (query == null) return;
+		String keyword = query.trim();
+		if (HangulJamo.normalize(keyword).length() < MIN_LENGTH || keyword.length() > MAX_LENGTH) return;
+
+		Map<String, LongAdder> current = pending;
+		LongAdder counter = current.get(keyword);
+		if (counter == null) {
+			if (current.size() >= maxPending) return;
+			counter = current.computeIfAbsent(keyword, k -> new LongAdder());
+		}
+		counter.increment();
+	}
+
+	/** 키워드 → 고정 문서 ID */
+	public static String documentId(String keyword) {
+		return UUID.nameUUIDFromBytes(keyword.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.warn("자동완성 키워드 반영 실패: {}", e.getMessage());
+		}
+	}
+
+	private void flush() throws Exception {
+		if (pending.isEmpty()) return;
+		Map<String, LongAdder> batch = pending;
+		pending = new ConcurrentHashMap<>();
+
+		Map<String, Long> counts = new HashMap<>();
+		batch.forEach((keyword, adder) -> counts.put(keyword, adder.sum()));
+
+		BulkRequest.Builder br = new BulkRequest.Builder();
+		counts.forEach((keyword, n) -> br.operations(op -> op.update(u -> u
+			.index(AUTOCOMPLETE_INDEX)
+			.id(documentId(keyword))
+			.retryOnConflict(3)
+			.action(a -> a
+				.scriptedUpsert(true)
+				.upsert(Map.of())
+				.script(s -> s
+					.source(UPSERT_SCRIPT)
+					.params("keyword", JsonData.of(keyword))
+					.params("n", JsonData.of(n))
+					.params("base", JsonData.of(AutocompleteService.LEARNED_WEIGHT))
+					.params("cap", JsonData.of(PRIORITY_CAP))
+				)
+			)
+		)));
+
+		BulkResponse response;
+		try {
+			response = elasticsearchClient.bulk(br.build());
+		} catch (Exception e) {
+			requeue(counts);
+			throw e;
+		}
+
+		Map<String, Long> failed = new HashMap<>();
+		Map<String, String> keywordById = new HashMap<>();
+		counts.keySet().forEach(k -> keywordById.put(documentId(k), k));
+		for (BulkResponseItem item : response.items()) {
+			String keyword = keywordById.get(item.id());
+			if (keyword == null) continue;
+			if (item.error() != null) {
+				failed.put(keyword, counts.get(keyword));
+			} else {
+				autocompleteService.addKeyword(keyword, AutocompleteService.LEARNED_WEIGHT);
+			}
+		}
+		if (!failed.isEmpty()) {
+			log.warn("자동완성 키워드 일부 반영 실패: {}건 (다음 주기 재시도)", failed.size());
+			requeue(failed);
+		}
+	}
+
+	/** 실패분은 다음 주기에 다시 합산 */
+	private void requeue(Map<String, Long> counts) {
+		Map<String, LongAdder> current = pending;
+		counts.forEach((keyword, n) -> current.computeIfAbsent(keyword, k -> new LongAdder()).add(n));
+	}
+}
@@ -0,0 +1,361 @@
+package com.osunji.melog.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.osunji.melog.search.dto.AutocompleteKeyword;
+import com.osunji.melog.search.preset.SearchPresetLoader;
+import com.osunji.melog.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * 자동완성 인메모리 인덱스 (40번 API)
+ * - 사전 설정(preset) + 사용자 닉네임 + autocomplete-keywords 인덱스를 두 개의 top-k 트라이로 압축
+ *   (자모 분해 키: 입력 중인 글자까지 prefix 매칭 / 초성 키: ㅂㅌㅂ → 베토벤)
+ * - 요청 경로는 트라이 조회만 (ES/DB 호출 없음), 백그라운드에서 주기적으로 전체 재빌드
+ * - 재빌드 사이에 새로 학습된 키워드/닉네임은 delta 맵에 모아(키는 추가 시 한 번만 계산)
+ *   delta-refresh-ms마다 작은 보조 트라이로 빌드 → 조회는 두 트라이의 prefix 조회만
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+	private static final String AUTOCOMPLETE_INDEX = "autocomplete-keywords";
+	private static final int TOP_K = 10;
+	private static final int MAX_DELTA = 10_000;
+
+	private static final long PRESET_WEIGHT = 100;
+	private static final long EXTRA_WEIGHT = 50;
+	private static final long NICKNAME_WEIGHT = 5;
+	public static final long LEARNED_WEIGHT = 10;
+
+	private final ElasticsearchClient elasticsearchClient;
+	private final SearchPresetLoader searchPresetLoader;
+	private final UserRepository userRepository;
+	private final long rebuildSeconds;
+	private final long deltaRefreshMillis;
+	private final int maxIndexKeywords;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private final Map<String, DeltaKeyword> delta = new ConcurrentHashMap<>();
+	private volatile boolean deltaDirty;
+
+	private volatile Index index = Index.EMPTY;
+	private volatile Index deltaIndex = Index.EMPTY;
+
+	private record Index(KeywordTrie jamo, KeywordTrie choseong) {
+		static final Index EMPTY = new Index(KeywordTrie.build(Map.of(), k -> List.of(), TOP_K),
+			KeywordTrie.build(Map.of(), k -> List.of(), TOP_K));
+	}
+
+	/** delta 키워드 - 색인 키는 추가 시점에 한 번만 계산 */
+	private record DeltaKeyword(long weight, List<String> jamoKeys, List<String> choseongKeys) {}
+
+	public AutocompleteService(ElasticsearchClient elasticsearchClient,
+							   SearchPresetLoader searchPresetLoader,
+							   UserRepository userRepository,
+							   @Value("${search.autocomplete.rebuild-seconds:600}") long rebuildSeconds,
+							   @Value("${search.autocomplete.delta-refresh-ms:2000}") long deltaRefreshMillis,
+							   @Value("${search.autocomplete.max-index-keywords:10000}") int maxIndexKeywords) {
+		this.elasticsearchClient = elasticsearchClient;
+		this.searchPresetLoader = searchPresetLoader;
+		this.userRepository = userRepository;
+		this.rebuildSeconds = rebuildSeconds;
+		this.deltaRefreshMillis = deltaRefreshMillis;
+		this.maxIndexKeywords = maxIndexKeywords;
+	}
+
+	@PostConstruct
+	public void init() {
+		// preset만으로 먼저 채워두고(기동 직후 빈 결과 방지), 전체 소스는 백그라운드에서
+		Map<String, Long> weights = new HashMap<>();
+		addPresets(weights);
+		index = build(weights);
+		scheduler.scheduleWithFixedDelay(this::rebuildSafely, 0, rebuildSeconds, TimeUnit.SECONDS);
+		scheduler.scheduleWithFixedDelay(this::refreshDeltaSafely, deltaRefreshMillis, deltaRefreshMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stopScheduler() {
+		scheduler.shutdown();
+	}
+
+	//---------------조회-----------------//
+
+	/** prefix/초성 자동완성 상위 limit개 (가중치 → 짧은 것 → 사전순) */
+	public List<String> suggest(String query, int limit) {
+		String normalized = HangulJamo.normalize(query);
+		if (normalized.isEmpty()) return List.of();
+
+		boolean choseongOnly = HangulJamo.isChoseongOnly(normalized);
+		String key = choseongOnly ? normalized : HangulJamo.decompose(normalized);
+
+		Index current = index;
+		Index recent = deltaIndex;
+		List<KeywordTrie.Entry> hits = new ArrayList<>(
+			(choseongOnly ? current.choseong() : current.jamo()).prefix(key, limit));
+		hits.addAll((choseongOnly ? recent.choseong() : recent.jamo()).prefix(key, limit));
+
+		Set<String> seen = new LinkedHashSet<>();
+		return hits.stream()
+			.sorted(KeywordTrie.RANK)
+			.map(KeywordTrie.Entry::keyword)
+			.filter(seen::add)
+			.limit(limit)
+			.toList();
+	}
+
+	//---------------delta 갱신-----------------//
+
+	/** 새로 학습된 검색어 (다음 재빌드 전까지 delta로 노출) */
+	public void addKeyword(String keyword, long weight) {
+		if (keyword == null || keyword.isBlank()) return;
+		String trimmed = keyword.trim();
+		DeltaKeyword existing = delta.get(trimmed);
+		if (existing != null && existing.weight() >= weight) return;
+		if (existing == null && delta.size() >= MAX_DELTA) return;
+
+		List<String> choseongKeys = containsHangul(trimmed) ? keysOf(trimmed, HangulJamo::choseong) : List.of();
+		DeltaKeyword added = new DeltaKeyword(weight, keysOf(trimmed, HangulJamo::decompose), choseongKeys);
+		delta.merge(trimmed, added, (a, b) -> a.weight() >= b.weight() ? a : b);
+		deltaDirty = true;
+	}
+
+	/** 닉네임 생성/변경 */
+	public void addNickname(String nickname) {
+		addKeyword(nickname, NICKNAME_WEIGHT);
+	}
+
+	//---------------빌드-----------------//
+
+	private void rebuildSafely() {
+		try {
+			Map<String, Long> weights = new HashMap<>();
+			addPresets(weights);
+			addIndexKeywords(weights);
+			for (String nickname : userRepository.findAllNicknames()) {
+				merge(weights, nickname, NICKNAME_WEIGHT);
+			}
+			// 빌드 시작 전 delta는 이번 빌드에 포함 → 교체 후 제거 (그 사이 가중치가 바뀐 항목은 남김)
+			Map<String, DeltaKeyword> pending = new HashMap<>(delta);
+			pending.forEach((keyword, entry) -> merge(weights, keyword, entry.weight()));
+
+			index = build(weights);
+			pending.forEach(delta::remove);
+			deltaDirty = true;
+			refreshDelta();
+			log.info("자동완성 인덱스 재빌드 완료: {}개 키워드", weights.size());
+		} catch (Exception e) {
+			log.warn("자동완성 인덱스 재빌드 실패 (이전 인덱스 유지): {}", e.getMessage());
+		}
+	}
+
+	private void refreshDeltaSafely() {
+		try {
+			if (deltaDirty) refreshDelta();
+		} catch (Exception e) {
+			log.warn("자동완성 delta 트라이 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	/** delta 맵 → 보조 트라이 (스케줄러 스레드 전용) */
+	private void refreshDelta() {
+		deltaDirty = false;
+		Map<String, DeltaKeyword> snapshot = new HashMap<>(delta);
+		Map<String, Long> weights = new HashMap<>(snapshot.size());
+		snapshot.forEach((keyword, entry) -> weights.put(keyword, entry.weight()));
+		deltaIndex = new Index(
+			KeywordTrie.build(weights, k -> snapshot.get(k).jamoKeys(), TOP_K),
+			KeywordTrie.build(weights, k -> snapshot.get(k).choseongKeys(), TOP_K));
+	}
+
+	private static Index build(Map<String, Long> weights) {
+		KeywordTrie jamo = KeywordTrie.build(weights, k -> keysOf(k, HangulJamo::decompose), TOP_K);
+		KeywordTrie choseong = KeywordTrie.build(weights,
+			k -> containsHangul(k) ? keysOf(k, HangulJamo::choseong) : List.of(), TOP_K);
+		return new Index(jamo, choseong);
+	}
+
+	/** 어절 시작점마다 키 생성 (쇼팽 콩쿠르 → "쇼팽콩쿠르", "콩쿠르") */
+	private static List<String> keysOf(String keyword, UnaryOperator<String> mapper) {
+		String[] tokens = keyword.trim().split("\\s+");
+		Set<String> keys = new LinkedHashSet<>();
+		for (int i = 0; i < tokens.length; i++) {
+			String key = mapper.apply(HangulJamo.normalize(String.join("", List.of(tokens).subList(i, tokens.length))));
+			if (!key.isEmpty()) keys.add(key);
+		}
+		return new ArrayList<>(keys);
+	}
+
+	private static boolean containsHangul(String keyword) {
+		for (char c : keyword.toCharArray()) {
+			if (c >= '가' && c <= '힣') return true;
+		}
+		return false;
+	}
+
+	private void addPresets(Map<String, Long> weights) {
+		addNames(weights, searchPresetLoader.composer(), "name");
+		addNames(weights, searchPresetLoader.instrument(), "instrument");
+		addNames(weights, searchPresetLoader.period(), "era");
+		addArrayField(weights, searchPresetLoader.player(), "name");
+		addArrayField(weights, searchPresetLoader.genre(), "genre");
+		for (String seed : searchPresetLoader.recommendSeed()) {
+			merge(weights, seed, EXTRA_WEIGHT);
+		}
+		for (String keyword : EXTRA_KEYWORDS) {
+			merge(weights, keyword, EXTRA_WEIGHT);
+		}
+	}
+
+	private static void addNames(Map<String, Long> weights, JsonNode preset, String field) {
+		if (preset == null || !preset.has(field)) return;
+		for (JsonNode node : preset.get(field)) {
+			merge(weights, node.asText(), PRESET_WEIGHT);
+		}
+	}
+
+	private static void addArrayField(Map<String, Long> weights, JsonNode preset, String field) {
+		if (preset == null || !preset.isArray()) return;
+		for (JsonNode node : preset) {
+			if (node.has(field)) merge(weights, node.get(field).asText(), PRESET_WEIGHT);
+		}
+	}
+
+	/** autocomplete-keywords 인덱스 (priority 높은 순 상위 N개) */
+	private void addIndexKeywords(Map<String, Long> weights) throws Exception {
+		var response = elasticsearchClient.search(SearchRequest.of(s -> s
+			.index(AUTOCOMPLETE_INDEX)
+			.size(maxIndexKeywords)
+			.sort(so -> so.field(f -> f.field("priority").order(SortOrder.Desc)))
+		), AutocompleteKeyword.class);
+
+		for (Hit<AutocompleteKeyword> hit : response.hits().hits()) {
+			AutocompleteKeyword doc = hit.source();
+			if (doc == null) continue;
+			merge(weights, doc.getKeyword(), doc.getPriority() != null ? doc.getPriority() : LEARNED_WEIGHT);
+		}
+	}
+
+	private static void merge(Map<String, Long> weights, String keyword, long weight) {
+		if (keyword == null || keyword.isBlank()) return;
+		weights.merge(keyword.trim(), weight, Math::max);
+	}
+
+	/** preset 파일에 없는 보조 키워드 (연주가/작품/용어/단체/공연장 등) */
+	private static final List<String> EXTRA_KEYWORDS = List.of(
+		// 작곡가 (클래식)
+		"바흐", "베토벤", "모차르트", "쇼팽", "브람스", "리스트", "슈베르트", "하이든",
+		"슈만", "드뷔시", "라벨", "차이콥스키", "라흐마니노프", "베르디", "푸치니", "바그너",
+		"멘델스존", "그리그", "드보르자크", "시벨리우스", "스트라빈스키", "프로코피예프",
+		"비발디", "헨델", "텔레만", "파헬벨", "알비노니", "코렐리", "퍼셀",
+		"로시니", "도니체티", "벨리니", "마스카니", "레온카발로", "폰키엘리",
+		"말러", "브루크너", "생상스", "프랑크", "마스네", "비제", "구노",
+		"베버", "글루크", "루소", "레스피기", "카탈라니", "보로딘", "무소르그스키",
+		"림스키코르사코프", "글라주노프", "스크리아빈", "파가니니", "비외탕",
+
+		// 현대/재즈 작곡가
+		"거슈윈", "번스타인", "코플런드", "아이브스", "케이지", "글래스", "라이히",
+		"앤드류 로이드 웨버", "스티븐 손드하임", "미셸 르그랑", "엔니오 모리코네",
+
+		// 한국 작곡가/음악가
+		"윤이상", "나운영", "김동진", "김순남", "현제명", "홍난파", "채동선",
+		"안익태", "김성태", "이건용", "박재훈", "진은숙", "황병기",
+
+		// 피아니스트 (국외)
+		"글렌 굴드", "아르투르 루빈스타인", "블라디미르 호로비츠", "스비아토슬라브 리히터",
+		"마르타 아르헤리치", "다니엘 바렌보임", "알프레드 브렌델", "클라우디오 아라우",
+		"머레이 페라이어", "라두 루푸", "안드라스 시프", "크리스티안 치메르만",
+		"랑랑", "유자 왕", "키신", "플레트네프", "마우리치오 폴리니", "미첼란젤리",
+
+		// 피아니스트 (한국)
+		"조성진", "임윤찬", "손열음", "김선욱", "이루마", "신지호", "김정원",
+		"문지영", "김태형", "백건우", "강충모", "피아니스트",
+
+		// 바이올리니스트
+		"이츠하크 펄만", "야샤 하이페츠", "다비드 오이스트라흐", "요헤디 메뉴힌",
+		"안네 소피 무터", "힐러리 한", "사라 장", "정경화", "강동석", "김봄소리",
+		"양인모", "클라라 주미 강", "바이올리니스트",
+
+		// 첼리스트
+		"요요마", "미샤 마이스키", "자클린 뒤 프레", "파블로 카잘스", "므스티슬라프 로스트로포비치",
+		"송영훈", "장한나", "한재민", "첼리스트",
+
+		// 성악가
+		"루치아노 파바로티", "플라시도 도밍고", "호세 카레라스", "마리아 칼라스",
+		"조수미", "홍혜경", "신영옥", "김우경", "성악가", "소프라노", "테너", "바리톤", "베이스",
+
+		// 지휘자
+		"헤르베르트 폰 카라얀", "레오나르드 번스타인", "정명훈", "구스타프 말러",
+		"토스카니니", "푸르트벵글러", "클라우디오 아바도", "주빈 메타",
+		"금난새", "지휘자", "마에스트로",
+
+		// 악기
+		"피아노", "바이올린", "비올라", "첼로", "콘트라베이스", "더블베이스",
+		"플루트", "피콜로", "오보에", "클라리넷", "바순", "색소폰",
+		"트럼펫", "호른", "트롬본", "튜바", "하프", "팀파니", "실로폰",
+		"오르간", "하프시코드", "아코디언", "밴도네온", "첼레스타",
+		"드럼", "타악기", "심벌즈", "마림바", "비브라폰",
+
+		// 장르/형식
+		"클래식", "클래식 음악", "바로크", "고전주의", "낭만주의", "인상주의", "현대음악",
+		"교향곡", "협주곡", "소나타", "실내악", "현악 4중주", "피아노 트리오",
+		"오페라", "오페레타", "뮤지컬", "발레", "왈츠", "폴로네즈", "마주르카",
+		"녹턴", "에튀드", "즉흥곡", "전주곡", "푸가", "인벤션", "파르티타",
+		"재즈", "블루스", "스윙", "비밥", "쿨재즈", "퓨전", "라틴재즈",
+		"팝", "록", "힙합", "R&B", "컨트리", "포크", "월드뮤직",
+
+		// 유명 작품
+		"운명 교향곡", "미완성 교향곡", "놀라운 교향곡", "합창 교향곡",
+		"월광 소나타", "비창 소나타", "황제 협주곡", "사계", "아이네 클라이네 나흐트무지크",
+		"카르멘", "라보엠", "투란도트", "마탄의 사수", "피가로의 결혼",
+		"백조의 호수", "호두까기 인형", "잠자는 숲속의 미녀", "지젤",
+		"볼레로", "랩소디 인 블루", "신세계 교향곡", "마법피리",
+
+		// 음악 용어
+		"알레그로", "안단테", "아다지오", "라르고", "프레스토", "안다티노",
+		"포르테", "크레센도", "디미누엔도", "스타카토", "레가토",
+		"아르페지오", "글리산도", "트릴", "모르던트", "아포지아투라",
+		"장조", "단조", "도미넌트", "서브도미넌트", "토닉", "세븐스",
+
+		// 음악원/학교
+		"줄리어드", "커티스", "왕립음대", "파리 음악원", "빈 음악원",
+		"한국예술종합학교", "서울대 음대", "연세대 음대", "이화여대 음대",
+
+		// 콩쿠르/상
+		"쇼팽 콩쿠르", "차이콥스키 콩쿠르", "퀸 엘리자베스 콩쿠르", "반 클라이번 콩쿠르",
+		"롱티보 콩쿠르", "부조니 콩쿠르", "그라미상", "에코상", "클래식브릿상",
+
+		// 오케스트라/앙상블
+		"베를린 필하모닉", "빈 필하모닉", "런던 심포니", "뉴욕 필하모닉",
+		"시카고 심포니", "보스턴 심포니", "로얄 콘체르트헤바우",
+		"KBS 교향악단", "서울시향", "코리안 심포니", "프라임 필하모닉",
+
+		// 오페라하우스/콘서트홀
+		"빈 슈타츠오퍼", "메트로폴리탄 오페라", "라 스칼라", "코벤트 가든",
+		"카네기홀", "링컨센터", "베를린 콘체르트하우스",
+		"예술의전당", "롯데콘서트홀", "세종문화회관",
+
+		// 음반사/레이블
+		"도이치 그라모폰", "EMI", "소니 클래시컬", "데카", "필립스",
+		"노낙스", "하이페리온", "샹도스", "BIS"
+	);
+}
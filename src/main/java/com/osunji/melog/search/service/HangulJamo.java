@@ -0,0 +1,84 @@
+package com.osunji.melog.search.service;
+
+/**
+ * 자동완성용 한글 자모 변환
+ * - 음절을 초성/중성/종성 호환 자모로 분해 (겹모음·겹받침은 낱자로 풀어 입력 중인 글자도 prefix로 매칭)
+ * - 초성 문자열 추출 (ㅂㅌㅂ → 베토벤)
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BASE = '가';
+	private static final char SYLLABLE_LAST = '힣';
+
+	private static final String[] CHO = {
+		"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+	private static final String[] JUNG = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+		"ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+	private static final String[] JONG = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+		"ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+		"ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+
+	private HangulJamo() {
+	}
+
+	/** 소문자화 + 한글/자모/영문/숫자만 남김 (공백·특수문자 제거) */
+	public static String normalize(String text) {
+		if (text == null) return "";
+		StringBuilder sb = new StringBuilder(text.length());
+		for (char c : text.toLowerCase().toCharArray()) {
+			if ((c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) || isJamo(c)
+				|| (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/** 음절 → 자모 낱자열 (그 외 문자는 그대로) */
+	public static String decompose(String normalized) {
+		StringBuilder sb = new StringBuilder(normalized.length() * 3);
+		for (char c : normalized.toCharArray()) {
+			if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+				int code = c - SYLLABLE_BASE;
+				sb.append(CHO[code / (21 * 28)]);
+				sb.append(JUNG[(code % (21 * 28)) / 28]);
+				sb.append(JONG[code % 28]);
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/** 음절 → 초성열 (그 외 문자는 그대로) */
+	public static String choseong(String normalized) {
+		StringBuilder sb = new StringBuilder(normalized.length());
+		for (char c : normalized.toCharArray()) {
+			if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+				sb.append(CHO[(c - SYLLABLE_BASE) / (21 * 28)]);
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/** 초성(자음)만으로 이루어진 질의인지 */
+	public static boolean isChoseongOnly(String normalized) {
+		if (normalized.isEmpty()) return false;
+		for (char c : normalized.toCharArray()) {
+			if (c < 'ㄱ' || c > 'ㅎ') return false;
+		}
+		return true;
+	}
+
+	private static boolean isJamo(char c) {
+		return c >= 'ㄱ' && c <= 'ㅣ';
+	}
+}
@@ -0,0 +1,172 @@
+package com.osunji.melog.search.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 가중치 top-k prefix 인덱스 (불변, 빌드 후 배열로 압축)
+ * - 키워드 하나를 여러 키(자모열, 어절 시작점 등)로 넣을 수 있음
+ * - 노드마다 하위 트리의 상위 k개 키워드 번호를 미리 저장 → 조회는 O(prefix 길이 + k)
+ * - 키워드 번호는 순위 순서(가중치 내림차순, 짧은 것, 사전순)라 삽입 순서대로 앞 k개만 남기면 됨
+ */
+public final class KeywordTrie {
+
+	/** 조회 결과 (키워드 + 가중치) */
+	public record Entry(String keyword, long weight) {}
+
+	/** 결과 정렬 기준 - 가중치 내림차순, 짧은 것 우선, 사전순 */
+	public static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::weight).reversed()
+		.thenComparingInt(e -> e.keyword().length())
+		.thenComparing(Entry::keyword);
+
+	private final Entry[] entries;
+
+	// 노드 배열 (0 = root), 자식은 firstChild → nextSibling 체인
+	private final char[] label;
+	private final int[] firstChild;
+	private final int[] nextSibling;
+	private final int[] topStart;
+	private final int[] topLen;
+	private final int[] top;
+
+	private KeywordTrie(Entry[] entries, char[] label, int[] firstChild, int[] nextSibling,
+						int[] topStart, int[] topLen, int[] top) {
+		this.entries = entries;
+		this.label = label;
+		this.firstChild = firstChild;
+		this.nextSibling = nextSibling;
+		this.topStart = topStart;
+		this.topLen = topLen;
+		this.top = top;
+	}
+
+	/**
+	 * @param weights 키워드 → 가중치
+	 * @param keysOf  키워드 → 색인 키 목록
+	 * @param k       노드별 보관할 상위 개수 (조회 limit 최대값)
+	 */
+	public static KeywordTrie build(Map<String, Long> weights, Function<String, List<String>> keysOf, int k) {
+		Entry[] entries = weights.entrySet().stream()
+			.map(e -> new Entry(e.getKey(), e.getValue()))
+			.sorted(RANK)
+			.toArray(Entry[]::new);
+
+		BuildNode root = new BuildNode('\0', k);
+		int nodeCount = 1;
+		for (int id = 0; id < entries.length; id++) {
+			for (String key : keysOf.apply(entries[id].keyword())) {
+				BuildNode node = root;
+				for (int i = 0; i < key.length(); i++) {
+					BuildNode child = node.child(key.charAt(i));
+					if (child == null) {
+						child = node.addChild(key.charAt(i), k);
+						nodeCount++;
+					}
+					child.offer(id);
+					node = child;
+				}
+			}
+		}
+		return freeze(entries, root, nodeCount);
+	}
+
+	/** prefix로 시작하는 키를 가진 상위 limit개 (순위순) */
+	public List<Entry> prefix(String prefix, int limit) {
+		if (prefix.isEmpty()) return List.of();
+		int node = 0;
+		for (int i = 0; i < prefix.length() && node >= 0; i++) {
+			node = findChild(node, prefix.charAt(i));
+		}
+		if (node < 0) return List.of();
+
+		int n = Math.min(limit, topLen[node]);
+		List<Entry> out = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			out.add(entries[top[topStart[node] + i]]);
+		}
+		return out;
+	}
+
+	public int size() {
+		return entries.length;
+	}
+
+	private int findChild(int node, char c) {
+		for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+			if (label[child] == c) return child;
+		}
+		return -1;
+	}
+
+	private static KeywordTrie freeze(Entry[] entries, BuildNode root, int nodeCount) {
+		char[] label = new char[nodeCount];
+		int[] firstChild = new int[nodeCount];
+		int[] nextSibling = new int[nodeCount];
+		int[] topStart = new int[nodeCount];
+		int[] topLen = new int[nodeCount];
+
+		List<BuildNode> order = new ArrayList<>(nodeCount);
+		order.add(root);
+		int topTotal = 0;
+		// BFS로 번호 부여 (같은 부모의 자식은 연속 번호)
+		for (int idx = 0; idx < order.size(); idx++) {
+			BuildNode node = order.get(idx);
+			label[idx] = node.c;
+			topStart[idx] = topTotal;
+			topLen[idx] = node.topCount;
+			topTotal += node.topCount;
+
+			firstChild[idx] = node.children.isEmpty() ? -1 : order.size();
+			for (int i = 0; i < node.children.size(); i++) {
+				int childIdx = order.size();
+				nextSibling[childIdx] = (i + 1 < node.children.size()) ? childIdx + 1 : -1;
+				order.add(node.children.get(i));
+			}
+		}
+
+		int[] top = new int[topTotal];
+		for (int idx = 0; idx < order.size(); idx++) {
+			System.arraycopy(order.get(idx).top, 0, top, topStart[idx], topLen[idx]);
+		}
+		return new KeywordTrie(entries, label, firstChild, nextSibling, topStart, topLen, top);
+	}
+
+	/** 빌드 전용 노드 (freeze 후 버려짐) */
+	private static final class BuildNode {
+		private final char c;
+		private final List<BuildNode> children = new ArrayList<>(2);
+		private final int k;
+		private int[] top = new int[1];
+		private int topCount;
+
+		BuildNode(char c, int k) {
+			this.c = c;
+			this.k = k;
+		}
+
+		BuildNode child(char c) {
+			for (BuildNode child : children) {
+				if (child.c == c) return child;
+			}
+			return null;
+		}
+
+		BuildNode addChild(char c, int k) {
+			BuildNode child = new BuildNode(c, k);
+			children.add(child);
+			return child;
+		}
+
+		/** id는 오름차순(순위순)으로 들어오므로 앞 k개 + 직전과 같은 id(같은 키워드의 다른 키)만 거르면 됨 */
+		void offer(int id) {
+			if (topCount == k) return;
+			if (topCount > 0 && top[topCount - 1] == id) return;
+			if (topCount == top.length) top = Arrays.copyOf(top, Math.min(k, top.length * 2));
+			top[topCount++] = id;
+		}
+	}
+}
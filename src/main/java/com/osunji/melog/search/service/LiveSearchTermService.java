@@ -0,0 +1,247 @@
+package com.osunji.melog.search.service;
+
+import com.osunji.melog.elk.repository.ELKSearchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 인기 검색어 (통합 검색 livePopularSearch)
+ * - 검색 로그가 들어올 때 현재 분 카운터만 올림 (LongAdder, 락 없음)
+ * - 1분마다 현재 분을 봉인 → 분 버킷(최근 60개) / 시간 버킷(최근 168개), 버킷마다 상위 bucket-capacity개만 유지
+ * - 봉인 직전에 옛 맵을 집어 간 요청의 증가분은 다음 봉인에서 옛 맵을 다시 세어 이번 분에 더함 (한 분 늦게 반영)
+ *   → 그보다 더 늦는 증가(한 요청이 1분 넘게 멈춘 경우)만 유실
+ * - 1h/24h/7d 창 합계는 들어오는 버킷을 더하고 빠지는 버킷을 빼서 유지 → 봉인할 때마다 창별 top-K 스냅샷 교체
+ * - 카운트는 인스턴스별이라 reconcile-minutes마다 ES search_logs 집계로 보정 (검색어별 max)
+ * - 요청은 스냅샷만 읽음 (ES 집계 없음)
+ */
+@Slf4j
+@Service
+public class LiveSearchTermService {
+
+	private static final int MINUTES_PER_HOUR = 60;
+	private static final int HOURS_PER_DAY = 24;
+	private static final int HOURS_PER_WEEK = 168;
+
+	/** 집계 창 - ES 보정 시 쓰는 date math */
+	public enum Window {
+		HOUR("now-1h"), DAY("now-24h"), WEEK("now-7d");
+
+		private final String since;
+
+		Window(String since) {
+			this.since = since;
+		}
+	}
+
+	private final ELKSearchRepository elkSearchRepository;
+	private final int topK;
+	private final int bucketCapacity;
+	private final long reconcileMinutes;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+	private final AtomicReference<ConcurrentHashMap<String, LongAdder>> current =
+		new AtomicReference<>(new ConcurrentHashMap<>());
+
+	// 아래는 스케줄러 스레드 전용
+	private final Deque<Map<String, Long>> minutes = new ArrayDeque<>();
+	private final Deque<Map<String, Long>> dayHours = new ArrayDeque<>();
+	private final Deque<Map<String, Long>> weekHours = new ArrayDeque<>();
+	private final Map<String, Long> hourTotals = new HashMap<>();
+	private final Map<String, Long> dayTotals = new HashMap<>();
+	private final Map<String, Long> weekTotals = new HashMap<>();
+	private Map<String, Long> currentHour = new HashMap<>();
+	/** 직전에 봉인한 분의 맵과 그때 읽은 값 - 늦게 들어온 증가분 계산용 */
+	private ConcurrentHashMap<String, LongAdder> draining = new ConcurrentHashMap<>();
+	private Map<String, Long> drained = Map.of();
+	private long sealedMinutes;
+	private Map<Window, Map<String, Long>> baselines = new EnumMap<>(Window.class);
+
+	private volatile Map<Window, List<String>> snapshot = Map.of();
+
+	public LiveSearchTermService(ELKSearchRepository elkSearchRepository,
+								 @Value("${search.live.top-k:50}") int topK,
+								 @Value("${search.live.bucket-capacity:500}") int bucketCapacity,
+								 @Value("${search.live.reconcile-minutes:10}") long reconcileMinutes) {
+		this.elkSearchRepository = elkSearchRepository;
+		this.topK = topK;
+		this.bucketCapacity = bucketCapacity;
+		this.reconcileMinutes = reconcileMinutes;
+	}
+
+	@PostConstruct
+	public void init() {
+		// 기동 직후엔 로컬 카운트가 비어 있으므로 ES 보정부터
+		scheduler.scheduleWithFixedDelay(this::reconcileSafely, 0, reconcileMinutes, TimeUnit.MINUTES);
+		scheduler.scheduleAtFixedRate(this::sealSafely, 1, 1, TimeUnit.MINUTES);
+	}
+
+	@PreDestroy
+	public void stop() {
+		scheduler.shutdownNow();
+	}
+
+	/** 검색 1건 반영 (요청 경로) */
+	public void record(String query) {
+		if (query == null || query.isBlank()) return;
+		ConcurrentHashMap<String, LongAdder> minute = current.get();
+		LongAdder counter = minute.get(query);
+		if (counter == null) {
+			// 분당 서로 다른 검색어가 비정상적으로 많으면 새 검색어는 버림 (메모리 상한)
+			if (minute.size() >= bucketCapacity * 10) return;
+			counter = minute.computeIfAbsent(query, k -> new LongAdder());
+		}
+		counter.increment();
+	}
+
+	/** 창별 상위 검색어 (많이 검색된 순) */
+	public List<String> topTerms(Window window, int limit) {
+		List<String> terms = snapshot.getOrDefault(window, List.of());
+		return terms.size() <= limit ? terms : terms.subList(0, limit);
+	}
+
+	/** 최근 24시간 인기 검색어, 모자라면 7일로 채움 */
+	public List<String> popularTerms(int limit) {
+		Set<String> terms = new LinkedHashSet<>(topTerms(Window.DAY, limit));
+		for (String term : topTerms(Window.WEEK, limit)) {
+			if (terms.size() >= limit) break;
+			terms.add(term);
+		}
+		return List.copyOf(terms);
+	}
+
+	//---------------버킷-----------------//
+
+	private void sealSafely() {
+		try {
+			sealMinute();
+		} catch (Exception e) {
+			log.warn("실시간 인기 검색어 버킷 봉인 실패: {}", e.getMessage());
+		}
+	}
+
+	/** 현재 분 봉인 + 스냅샷 교체 (스케줄러가 1분마다 호출, 테스트에서는 시간 진행용) */
+	public void sealMinute() {
+		seal();
+		publish();
+	}
+
+	private void seal() {
+		Map<String, Long> minute = new HashMap<>();
+		draining.forEach((term, count) -> {
+			long late = count.sum() - drained.getOrDefault(term, 0L);
+			if (late > 0) minute.put(term, late);
+		});
+		ConcurrentHashMap<String, LongAdder> swapped = current.getAndSet(new ConcurrentHashMap<>());
+		Map<String, Long> taken = new HashMap<>();
+		swapped.forEach((term, count) -> taken.put(term, count.sum()));
+		add(minute, taken);
+		draining = swapped;
+		drained = taken;
+		Map<String, Long> sealed = truncate(minute);
+
+		minutes.addLast(sealed);
+		add(hourTotals, sealed);
+		if (minutes.size() > MINUTES_PER_HOUR) {
+			subtract(hourTotals, minutes.removeFirst());
+		}
+
+		add(currentHour, sealed);
+		if (++sealedMinutes % MINUTES_PER_HOUR != 0) return;
+
+		// 한 시간 분량이 찼으면 시간 버킷으로 (24h/7d 창은 봉인된 시간 버킷 + 진행 중인 currentHour)
+		Map<String, Long> hour = truncate(currentHour);
+		currentHour = new HashMap<>();
+		slide(dayHours, dayTotals, hour, HOURS_PER_DAY - 1);
+		slide(weekHours, weekTotals, hour, HOURS_PER_WEEK - 1);
+	}
+
+	private void slide(Deque<Map<String, Long>> buckets, Map<String, Long> totals, Map<String, Long> bucket, int size) {
+		buckets.addLast(bucket);
+		add(totals, bucket);
+		if (buckets.size() > size) {
+			subtract(totals, buckets.removeFirst());
+		}
+	}
+
+	/** 창별 top-K 스냅샷 교체 - 로컬 합계와 ES 보정값 중 큰 값 기준 */
+	private void publish() {
+		Map<Window, List<String>> next = new EnumMap<>(Window.class);
+		next.put(Window.HOUR, top(hourTotals, Map.of(), baselines.getOrDefault(Window.HOUR, Map.of())));
+		next.put(Window.DAY, top(dayTotals, currentHour, baselines.getOrDefault(Window.DAY, Map.of())));
+		next.put(Window.WEEK, top(weekTotals, currentHour, baselines.getOrDefault(Window.WEEK, Map.of())));
+		snapshot = next;
+	}
+
+	private List<String> top(Map<String, Long> totals, Map<String, Long> partial, Map<String, Long> baseline) {
+		Map<String, Long> merged = new HashMap<>(totals);
+		add(merged, partial);
+		baseline.forEach((term, count) -> merged.merge(term, count, Math::max));
+		return topEntries(merged, topK).stream().map(Map.Entry::getKey).toList();
+	}
+
+	//---------------ES 보정-----------------//
+
+	private void reconcileSafely() {
+		try {
+			Map<Window, Map<String, Long>> next = new EnumMap<>(Window.class);
+			for (Window window : Window.values()) {
+				next.put(window, elkSearchRepository.countQueryTerms(window.since, topK));
+			}
+			baselines = next;
+			publish();
+		} catch (Exception e) {
+			// 실패하면 이전 보정값 유지
+			log.warn("실시간 인기 검색어 ES 보정 실패: {}", e.getMessage());
+		}
+	}
+
+	//---------------유틸-----------------//
+
+	/** 상위 bucketCapacity개만 남김 (꼬리의 드문 검색어는 버림) */
+	private Map<String, Long> truncate(Map<String, Long> bucket) {
+		if (bucket.size() <= bucketCapacity) return bucket;
+		Map<String, Long> kept = new HashMap<>();
+		topEntries(bucket, bucketCapacity).forEach(e -> kept.put(e.getKey(), e.getValue()));
+		return kept;
+	}
+
+	/** 카운트 내림차순 상위 k개 (min-heap, O(n log k)) */
+	private static List<Map.Entry<String, Long>> topEntries(Map<String, Long> counts, int k) {
+		PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+		for (Map.Entry<String, Long> entry : counts.entrySet()) {
+			heap.offer(entry);
+			if (heap.size() > k) heap.poll();
+		}
+		List<Map.Entry<String, Long>> result = new ArrayList<>(heap);
+		result.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+		return result;
+	}
+
+	private static void add(Map<String, Long> totals, Map<String, Long> bucket) {
+		bucket.forEach((term, count) -> totals.merge(term, count, Long::sum));
+	}
+
+	private static void subtract(Map<String, Long> totals, Map<String, Long> bucket) {
+		bucket.forEach((term, count) -> totals.computeIfPresent(term, (k, v) -> v - count > 0 ? v - count : null));
+	}
+}
@@ -0,0 +1,323 @@
+package com.osunji.melog.search.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Buckets;
+import co.elastic.clients.elasticsearch._types.aggregations.FiltersBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.osunji.melog.search.dto.response.SearchResponse.Composer;
+import com.osunji.melog.search.dto.response.SearchResponse.Genre;
+import com.osunji.melog.search.dto.response.SearchResponse.Instrument;
+import com.osunji.melog.search.dto.response.SearchResponse.Player;
+import com.osunji.melog.search.preset.SearchPresetLoader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 작곡가/연주가/장르/악기 인기 순위 스냅샷 (32~34, 36번 API)
+ * - 사전 설정(preset)의 모든 항목 + 한글/영어 별칭을 search_logs filters 집계 한 번으로 카운트
+ * - 주기적으로 새로 계산해 메모리 스냅샷을 교체하고, 요청은 스냅샷만 읽음 (preset 크기와 무관)
+ * - 첫 집계 전에는 preset 순서 그대로 서빙
+ */
+@Slf4j
+@Service
+public class PopularityRankingService {
+
+	private static final String SEARCH_INDEX = "search_logs";
+	private static final String AGG_NAME = "popularity";
+	private static final Map<String, List<String>> ALIASES = createAliasMap();
+
+	private final ElasticsearchClient elasticsearchClient;
+	private final SearchPresetLoader searchPresetLoader;
+	private final long refreshSeconds;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	// preset 원본 (기동 시 1회 파싱, 없으면 null → 호출부 기본값 사용)
+	private Composer composerPreset;
+	private List<Player> playerPreset;
+	private List<Genre> genrePreset;
+	private Instrument instrumentPreset;
+
+	private volatile Snapshot snapshot = new Snapshot(null, null, null, null);
+
+	private record Snapshot(Composer composer, List<Player> players, List<Genre> genres, Instrument instrument) {}
+
+	public PopularityRankingService(ElasticsearchClient elasticsearchClient,
+									SearchPresetLoader searchPresetLoader,
+									@Value("${search.popularity.refresh-seconds:300}") long refreshSeconds) {
+		this.elasticsearchClient = elasticsearchClient;
+		this.searchPresetLoader = searchPresetLoader;
+		this.refreshSeconds = refreshSeconds;
+	}
+
+	@PostConstruct
+	public void init() {
+		loadPresets();
+		snapshot = rank(Map.of());
+		scheduler.scheduleWithFixedDelay(this::refreshSafely, 0, refreshSeconds, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stopScheduler() {
+		scheduler.shutdown();
+	}
+
+	//---------------조회 (스냅샷)-----------------//
+
+	/** 인기 작곡가 - preset 없으면 null */
+	public Composer composers() {
+		return snapshot.composer();
+	}
+
+	/** 인기 연주가 - preset 없으면 null */
+	public List<Player> players() {
+		return snapshot.players();
+	}
+
+	/** 장르 - preset 없으면 null */
+	public List<Genre> genres() {
+		return snapshot.genres();
+	}
+
+	/** 인기 악기 - preset 없으면 null */
+	public Instrument instruments() {
+		return snapshot.instrument();
+	}
+
+	//---------------집계 / 갱신-----------------//
+
+	private void refreshSafely() {
+		try {
+			snapshot = rank(countAll());
+		} catch (Exception e) {
+			log.warn("인기 순위 스냅샷 갱신 실패 (이전 스냅샷 유지): {}", e.getMessage());
+		}
+	}
+
+	/** preset 전체 항목의 검색 횟수 - 항목별 버킷(별칭 중 하나라도 match)을 가진 filters 집계 1회 */
+	private Map<String, Long> countAll() throws Exception {
+		Set<String> names = new LinkedHashSet<>();
+		if (composerPreset != null) names.addAll(composerPreset.getName());
+		if (playerPreset != null) playerPreset.forEach(p -> names.add(p.getName()));
+		if (genrePreset != null) genrePreset.forEach(g -> names.add(g.getGenre()));
+		if (instrumentPreset != null) names.addAll(instrumentPreset.getInstrument());
+		if (names.isEmpty()) return Map.of();
+
+		Map<String, Query> filters = new LinkedHashMap<>();
+		for (String name : names) {
+			List<String> aliases = equivalentKeywords(name);
+			filters.put(name, Query.of(q -> q.bool(b -> {
+				aliases.forEach(alias -> b.should(s -> s.match(m -> m.field("query").query(alias))));
+				return b.minimumShouldMatch("1");
+			})));
+		}
+
+		SearchRequest request = SearchRequest.of(s -> s
+			.index(SEARCH_INDEX)
+			.size(0)
+			.trackTotalHits(t -> t.enabled(false))
+			.aggregations(AGG_NAME, a -> a.filters(f -> f.filters(Buckets.of(b -> b.keyed(filters)))))
+		);
+		SearchResponse<Void> response = elasticsearchClient.search(request, Void.class);
+
+		Map<String, Long> counts = new HashMap<>();
+		Aggregate agg = response.aggregations().get(AGG_NAME);
+		if (agg != null && agg.isFilters() && agg.filters().buckets().isKeyed()) {
+			for (Map.Entry<String, FiltersBucket> e : agg.filters().buckets().keyed().entrySet()) {
+				counts.put(e.getKey(), e.getValue().docCount());
+			}
+		}
+		return counts;
+	}
+
+	/** 검색량 내림차순 (동률은 preset 순서 유지) */
+	private Snapshot rank(Map<String, Long> counts) {
+		Comparator<String> byCount = Comparator.comparingLong((String name) -> counts.getOrDefault(name, 0L)).reversed();
+
+		Composer composer = null;
+		if (composerPreset != null) {
+			List<Integer> order = sortedIndexes(composerPreset.getName(), byCount);
+			composer = Composer.builder()
+				.name(pick(composerPreset.getName(), order))
+				.imgLink(pick(composerPreset.getImgLink(), order))
+				.build();
+		}
+
+		List<Player> players = null;
+		if (playerPreset != null) {
+			players = playerPreset.stream()
+				.sorted(Comparator.comparing(Player::getName, byCount))
+				.toList();
+		}
+
+		List<Genre> genres = null;
+		if (genrePreset != null) {
+			genres = genrePreset.stream()
+				.sorted(Comparator.comparing(Genre::getGenre, byCount))
+				.toList();
+		}
+
+		Instrument instrument = null;
+		if (instrumentPreset != null) {
+			List<Integer> order = sortedIndexes(instrumentPreset.getInstrument(), byCount);
+			instrument = Instrument.builder()
+				.instrument(pick(instrumentPreset.getInstrument(), order))
+				.imgLink(pick(instrumentPreset.getImgLink(), order))
+				.build();
+		}
+
+		return new Snapshot(composer, players, genres, instrument);
+	}
+
+	private static List<Integer> sortedIndexes(List<String> names, Comparator<String> byCount) {
+		return IntStream.range(0, names.size())
+			.boxed()
+			.sorted(Comparator.comparing(names::get, byCount))
+			.toList();
+	}
+
+	private static List<String> pick(List<String> values, List<Integer> order) {
+		return order.stream()
+			.filter(i -> i < values.size())
+			.map(values::get)
+			.toList();
+	}
+
+	//---------------preset 파싱-----------------//
+
+	@SuppressWarnings("unchecked")
+	private void loadPresets() {
+		ObjectMapper mapper = new ObjectMapper();
+
+		JsonNode composer = searchPresetLoader.composer();
+		if (composer != null && composer.has("name") && composer.has("imgLink")) {
+			composerPreset = Composer.builder()
+				.name(mapper.convertValue(composer.get("name"), List.class))
+				.imgLink(mapper.convertValue(composer.get("imgLink"), List.class))
+				.build();
+		}
+
+		JsonNode player = searchPresetLoader.player();
+		if (player != null && player.isArray()) {
+			List<Player> players = new ArrayList<>();
+			for (JsonNode node : player) {
+				players.add(Player.builder()
+					.name(node.get("name").asText())
+					.keyword(mapper.convertValue(node.get("keyword"), List.class))
+					.build());
+			}
+			playerPreset = players;
+		}
+
+		JsonNode genre = searchPresetLoader.genre();
+		if (genre != null && genre.isArray()) {
+			List<Genre> genres = new ArrayList<>();
+			for (JsonNode node : genre) {
+				genres.add(Genre.builder()
+					.genre(node.get("genre").asText())
+					.keyword(mapper.convertValue(node.get("keyword"), List.class))
+					.build());
+			}
+			genrePreset = genres;
+		}
+
+		JsonNode instrument = searchPresetLoader.instrument();
+		if (instrument != null && instrument.has("instrument") && instrument.has("imgLink")) {
+			instrumentPreset = Instrument.builder()
+				.instrument(mapper.convertValue(instrument.get("instrument"), List.class))
+				.imgLink(mapper.convertValue(instrument.get("imgLink"), List.class))
+				.build();
+		}
+	}
+
+	//---------------키워드 별칭-----------------//
+
+	/**
+	 * 키워드의 등가 검색어들 반환 (한글, 영어, 별칭 등)
+	 */
+	public static List<String> equivalentKeywords(String keyword) {
+		List<String> aliases = ALIASES.get(keyword);
+		return (aliases != null) ? aliases : List.of(keyword);
+	}
+
+	/**
+	 * 키워드 매핑 맵 (정방향 + 별칭 역방향, 클래스 로딩 시 1회 생성)
+	 */
+	private static Map<String, List<String>> createAliasMap() {
+		Map<String, List<String>> map = new HashMap<>();
+
+		// ✅ 악기 매핑 (한글, 영어, 별칭)
+		map.put("피아노", Arrays.asList("피아노", "piano", "Piano"));
+		map.put("바이올린", Arrays.asList("바이올린", "violin", "Violin", "바이얼린"));
+		map.put("첼로", Arrays.asList("첼로", "cello", "Cello"));
+		map.put("플루트", Arrays.asList("플루트", "flute", "Flute", "플룻"));
+		map.put("클라리넷", Arrays.asList("클라리넷", "clarinet", "Clarinet"));
+		map.put("트럼펫", Arrays.asList("트럼펫", "trumpet", "Trumpet", "트램펫"));
+		map.put("호른", Arrays.asList("호른", "horn", "Horn", "혼"));
+		map.put("트롬본", Arrays.asList("트롬본", "trombone", "Trombone"));
+		map.put("튜바", Arrays.asList("튜바", "tuba", "Tuba"));
+		map.put("오보에", Arrays.asList("오보에", "oboe", "Oboe"));
+		map.put("바순", Arrays.asList("바순", "bassoon", "Bassoon", "파곳"));
+		map.put("색소폰", Arrays.asList("색소폰", "saxophone", "Saxophone", "색스폰", "sax"));
+		map.put("하프", Arrays.asList("하프", "harp", "Harp"));
+		map.put("기타", Arrays.asList("기타", "guitar", "Guitar"));
+		map.put("드럼", Arrays.asList("드럼", "drum", "Drum", "북"));
+		map.put("심벌즈", Arrays.asList("심벌즈", "cymbals", "Cymbals", "심발"));
+
+		// ✅ 작곡가 매핑 (한글, 영어, 별칭)
+		map.put("바흐", Arrays.asList("바흐", "bach", "Bach", "J.S. Bach"));
+		map.put("베토벤", Arrays.asList("베토벤", "beethoven", "Beethoven"));
+		map.put("모차르트", Arrays.asList("모차르트", "mozart", "Mozart", "W.A. Mozart"));
+		map.put("쇼팽", Arrays.asList("쇼팽", "chopin", "Chopin"));
+		map.put("브람스", Arrays.asList("브람스", "brahms", "Brahms"));
+		map.put("리스트", Arrays.asList("리스트", "liszt", "Liszt"));
+		map.put("슈베르트", Arrays.asList("슈베르트", "schubert", "Schubert"));
+		map.put("하이든", Arrays.asList("하이든", "haydn", "Haydn"));
+		map.put("슈만", Arrays.asList("슈만", "schumann", "Schumann"));
+		map.put("드뷔시", Arrays.asList("드뷔시", "debussy", "Debussy"));
+		map.put("라벨", Arrays.asList("라벨", "ravel", "Ravel"));
+		map.put("차이콥스키", Arrays.asList("차이콥스키", "tchaikovsky", "Tchaikovsky", "차이코프스키"));
+		map.put("라흐마니노프", Arrays.asList("라흐마니노프", "rachmaninoff", "Rachmaninoff"));
+		map.put("베르디", Arrays.asList("베르디", "verdi", "Verdi"));
+		map.put("푸치니", Arrays.asList("푸치니", "puccini", "Puccini"));
+		map.put("바그너", Arrays.asList("바그너", "wagner", "Wagner"));
+		map.put("윤이상", Arrays.asList("윤이상", "yun isang", "Yun Isang"));
+
+		// ✅ 장르/용어 매핑
+		map.put("바로크", Arrays.asList("바로크", "baroque", "Baroque"));
+		map.put("클래식", Arrays.asList("클래식", "classical", "Classical", "클라식"));
+		map.put("낭만주의", Arrays.asList("낭만주의", "romantic", "Romantic", "낭만파"));
+		map.put("재즈", Arrays.asList("재즈", "jazz", "Jazz"));
+		map.put("오페라", Arrays.asList("오페라", "opera", "Opera"));
+		map.put("교향곡", Arrays.asList("교향곡", "symphony", "Symphony"));
+		map.put("협주곡", Arrays.asList("협주곡", "concerto", "Concerto"));
+		map.put("소나타", Arrays.asList("소나타", "sonata", "Sonata"));
+
+		// 별칭으로 들어와도 같은 그룹을 찾도록 역방향 등록 (기존 키 우선)
+		Map<String, List<String>> withReverse = new HashMap<>(map);
+		map.values().forEach(group -> group.forEach(alias -> withReverse.putIfAbsent(alias, group)));
+		return Map.copyOf(withReverse);
+	}
+}
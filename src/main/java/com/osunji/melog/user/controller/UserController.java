@@ -105,7 +105,7 @@ public class UserController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
-    // 팔로우/언팔로우
+    // 팔로우
     @PostMapping("/following")
     public ResponseEntity<?> following(
             @RequestBody UserRequest.following request,
@@ -115,6 +115,16 @@ public class UserController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    // 언팔로우
+    @DeleteMapping("/following/{targetId}")
+    public ResponseEntity<?> unfollowing(
+            @PathVariable String targetId,
+            @RequestAttribute(JwtAuthFilter.USER_ID_ATTR) UUID userId
+    ) {
+        ApiMessage<UserResponse.followingResponse> response = userService.unfollowing(targetId, userId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     // 팔로우 여부 조회
     @GetMapping("/following/{nickname:[A-Za-z0-9가-힣._-]{2,20}}")
     public ResponseEntity<?> getFollowing(
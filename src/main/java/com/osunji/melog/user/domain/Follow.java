@@ -11,7 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "follow",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"follower", "following"}))
+    uniqueConstraints = @UniqueConstraint(columnNames = {"follower", "following"}),
+    indexes = @Index(name = "idx_follow_following_status", columnList = "following, status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Follow {
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import com.osunji.melog.user.domain.User;
 import com.osunji.melog.user.domain.enums.FollowStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import com.osunji.melog.user.domain.Follow;
@@ -22,6 +23,17 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
     """)
     List<UUID> findFolloweeIds(@Param("userId") UUID userId);
 
+    /** 나를 팔로우하는 사용자 ID 한 페이지 (follower id 순 keyset - fan-out을 나눠서 처리) */
+    @Query("""
+       select f.follower.id
+       from Follow f
+       where f.following.id = :userId
+         and f.status = com.osunji.melog.user.domain.enums.FollowStatus.ACCEPTED
+         and f.follower.id > :afterId
+       order by f.follower.id
+    """)
+    List<UUID> findFollowerIdsAfter(@Param("userId") UUID userId, @Param("afterId") UUID afterId, Pageable pageable);
+
 //    boolean existsByFollower_IdAndFollowing_IdAndStatus(UUID followerId, UUID followingId);
     @Query("""
            select f.following.id
@@ -1,5 +1,6 @@
 package com.osunji.melog.user.repository;
 
+import com.osunji.melog.global.util.LikePatternUtil;
 import com.osunji.melog.user.domain.User;
 import com.osunji.melog.user.domain.enums.Platform;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,4 +37,37 @@ public interface UserRepository extends JpaRepository<User, UUID> {  // UUID →
     Optional<User> findByOidcAndPlatform(String oidc, Platform platform);
 
     Optional<User> findIdByNickname(String nickname);
+
+    // 검색 fallback, 최대 limit개
+    // - 3글자 이상: pg_trgm GIN 인덱스(lower(nickname/intro)), 유사도 순
+    // - 3글자 미만: 닉네임 prefix (btree idx_users_nickname_prefix)
+    default List<User> searchByNicknameOrIntro(String keyword, int limit) {
+        String term = keyword.trim();
+        String pattern = LikePatternUtil.escape(term);
+        return LikePatternUtil.isShort(term)
+                ? searchByNicknamePrefix(pattern, limit)
+                : searchByNicknameOrIntroTrigram(pattern, term, limit);
+    }
+
+    @Query(value = """
+            SELECT u.* FROM users u
+            WHERE lower(u.nickname) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\'
+               OR lower(u.intro) LIKE '%' || lower(:pattern) || '%' ESCAPE '\\'
+            ORDER BY similarity(lower(u.nickname), lower(:keyword)) DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<User> searchByNicknameOrIntroTrigram(@Param("pattern") String pattern, @Param("keyword") String keyword,
+                                              @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT u.* FROM users u
+            WHERE lower(u.nickname) LIKE lower(:pattern) || '%' ESCAPE '\\'
+            ORDER BY lower(u.nickname)
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<User> searchByNicknamePrefix(@Param("pattern") String pattern, @Param("limit") int limit);
+
+    // 자동완성 인덱스 빌드용 - 닉네임 컬럼만
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname IS NOT NULL")
+    List<String> findAllNicknames();
 }
@@ -1,5 +1,6 @@
 package com.osunji.melog.user.service;
 
+import com.osunji.melog.feed.service.UserSignalService;
 import com.osunji.melog.global.dto.ApiMessage;
 import com.osunji.melog.global.util.DtoMapperUtil;
 import com.osunji.melog.harmony.entity.HarmonyRoom;
@@ -10,6 +11,8 @@ import com.osunji.melog.review.dto.response.BookmarkResponse;
 import com.osunji.melog.review.dto.response.FilterPostResponse;
 import com.osunji.melog.review.service.BookmarkService;
 import com.osunji.melog.review.service.PostService;
+import com.osunji.melog.review.service.TimelineService;
+import com.osunji.melog.search.service.AutocompleteService;
 import com.osunji.melog.user.domain.Agreement;
 import com.osunji.melog.user.domain.Follow;
 import com.osunji.melog.user.domain.Onboarding;
@@ -46,8 +49,11 @@ public class UserService {
     private final UserProfileMusicService userProfileMusicService;
     private final BookmarkService bookmarkService;
     private final DtoMapperUtil dtoMapperUtil;
+    private final TimelineService timelineService;
+    private final UserSignalService userSignalService;
+    private final AutocompleteService autocompleteService;
 
-    public UserService(UserRepository userRepository, AgreementRepository agreementRepository, OnboardingRepository onboardingRepository, FollowRepository followRepository, HarmonyRoomRepository harmonyRoomRepository, HarmonyRoomBookmarkRepository harmonyRoomBookmarkRepository, PostService postService, UserProfileMusicService userProfileMusicService, BookmarkService bookmarkService, DtoMapperUtil dtoMapperUtil) {
+    public UserService(UserRepository userRepository, AgreementRepository agreementRepository, OnboardingRepository onboardingRepository, FollowRepository followRepository, HarmonyRoomRepository harmonyRoomRepository, HarmonyRoomBookmarkRepository harmonyRoomBookmarkRepository, PostService postService, UserProfileMusicService userProfileMusicService, BookmarkService bookmarkService, DtoMapperUtil dtoMapperUtil, TimelineService timelineService, UserSignalService userSignalService, AutocompleteService autocompleteService) {
         this.userRepository = userRepository;
         this.agreementRepository = agreementRepository;
         this.onboardingRepository = onboardingRepository;
@@ -58,6 +64,9 @@ public class UserService {
         this.userProfileMusicService = userProfileMusicService;
         this.bookmarkService = bookmarkService;
         this.dtoMapperUtil = dtoMapperUtil;
+        this.timelineService = timelineService;
+        this.userSignalService = userSignalService;
+        this.autocompleteService = autocompleteService;
     }
 
     private static final Set<String> PROFILE_UPDATABLE_FIELDS = Set.of(
@@ -165,6 +174,7 @@ public class UserService {
             // 동시요청 등으로 unique(userId) 충돌
             return ApiMessage.fail(HttpStatus.CONFLICT.value(), "이미 온보딩을 완료한 사용자입니다.");
         }
+        userSignalService.onOnboardingChanged(userId, composers, periods, instruments);
 
         // 5) 응답 바디
         UserResponse.OnboardingResponse body =
@@ -235,6 +245,7 @@ public class UserService {
 
         // JPA Dirty Checking 로 업데이트 반영
         onboardingRepository.flush();
+        userSignalService.onOnboardingChanged(userId, ob.getComposers(), ob.getPeriods(), ob.getInstruments());
 
         UserResponse.OnboardingResponse body =
                 UserResponse.OnboardingResponse.builder()
@@ -286,6 +297,7 @@ public class UserService {
                 case "nickName" -> {
                     if (!value.equals(user.getNickname())) {   // ← 수정
                         user.setNickname(value);               // ← 수정
+                        autocompleteService.addNickname(value);
                         changed = true;
                     }
                 }
@@ -375,11 +387,16 @@ public class UserService {
             // 없으면 새로 팔로우
             rel = Follow.createFollow(me, target);
             followRepository.save(rel);
+            msg = "followed";
+            timelineService.onFollow(userId, targetId);
+            userSignalService.onFollow(userId, targetId);
         } else {
-            // 기존 기록은 있는데 비활성 상태면 다시 팔로우
+            // 기존 기록은 있는데 비활성 상태면 다시 팔로우 + 최근 게시글 backfill
             rel.activate(LocalDateTime.now());
+            msg = "followed";
+            timelineService.onFollow(userId, targetId);
+            userSignalService.onFollow(userId, targetId);
         }
-        msg = "followed";
 
         UserResponse.followingResponse body = UserResponse.followingResponse.builder()
                 .userId(me.getId().toString())
@@ -390,6 +407,32 @@ public class UserService {
         return ApiMessage.success(HttpStatus.OK.value(), msg, body);
     }
 
+    /** 언팔로우 - 관계를 비활성화하고, 커밋 후 내 타임라인/추천 신호에서 상대를 뺌 (팔로우 중이 아니면 그대로 성공) */
+    @Transactional
+    public ApiMessage<UserResponse.followingResponse> unfollowing(String targetIdStr, UUID userId) {
+        UUID targetId;
+        try {
+            targetId = UUID.fromString(targetIdStr);
+        } catch (IllegalArgumentException e) {
+            return ApiMessage.fail(HttpStatus.BAD_REQUEST.value(), "잘못된 UUID 형식입니다: " + targetIdStr);
+        }
+
+        Follow rel = followRepository.findByFollower_IdAndFollowing_Id(userId, targetId).orElse(null);
+        if (rel != null && rel.getStatus() == FollowStatus.ACCEPTED) {
+            rel.deactivate();
+            timelineService.onUnfollow(userId, targetId);
+            userSignalService.onUnfollow(userId, targetId);
+        }
+
+        String msg = "unfollowed";
+        UserResponse.followingResponse body = UserResponse.followingResponse.builder()
+                .userId(userId.toString())
+                .followingId(targetId.toString())
+                .msg(msg)
+                .build();
+        return ApiMessage.success(HttpStatus.OK.value(), msg, body);
+    }
+
     @Transactional
     public ApiMessage<UserResponse.followingCheckResponse> followingListByNickname(UUID userId, String nickname) {
         UUID targetId = userRepository.findIdByNickname(nickname)
@@ -0,0 +1,80 @@
+package com.osunji.melog;
+
+import com.osunji.melog.feed.service.CandidatePoolCache;
+import com.osunji.melog.feed.view.FeedItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 후보 풀 페이지 분할 테스트
+ */
+class CandidatePoolCacheTest {
+
+    private static final List<Function<FeedItem, String>> KEYS = List.of(FeedItem::getAuthorId);
+
+    private static List<FeedItem> candidates(int n, int authors) {
+        List<FeedItem> items = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            items.add(FeedItem.builder()
+                    .id("p" + i)
+                    .authorId("u" + (i % authors))
+                    .score(n - i)
+                    .build());
+        }
+        return items;
+    }
+
+    @Test
+    @DisplayName("페이지 간 중복 없이 풀 전체를 소진하고, 같은 cursor 재요청은 같은 결과")
+    void pages_are_disjoint_and_stable() {
+        CandidatePoolCache cache = new CandidatePoolCache(300);
+        UUID userId = UUID.randomUUID();
+        CandidatePoolCache.CandidatePool pool = cache.put(userId, candidates(50, 10));
+
+        Set<String> all = new HashSet<>();
+        for (int page = 0; pool.hasMore(); page++) {
+            List<FeedItem> items = pool.page(page, 10, Set.of(), KEYS, 2);
+            for (FeedItem item : items) {
+                assertThat(all.add(item.getId())).isTrue();
+            }
+            assertThat(pool.page(page, 10, Set.of(), KEYS, 2)).isEqualTo(items);
+        }
+        assertThat(all).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("한 페이지 안에서 같은 작성자는 최대 2개, seen은 제외")
+    void diversify_and_seen() {
+        CandidatePoolCache cache = new CandidatePoolCache(300);
+        UUID userId = UUID.randomUUID();
+        CandidatePoolCache.CandidatePool pool = cache.put(userId, candidates(60, 6));
+
+        List<FeedItem> first = pool.page(0, 10, Set.of("p0", "p1"), KEYS, 2);
+
+        assertThat(first).hasSize(10);
+        assertThat(first).extracting(FeedItem::getId).doesNotContain("p0", "p1");
+        assertThat(first.stream().map(FeedItem::getAuthorId).distinct().count()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 풀을 찾지 못한다")
+    void find_requires_matching_token() {
+        CandidatePoolCache cache = new CandidatePoolCache(300);
+        UUID userId = UUID.randomUUID();
+        CandidatePoolCache.CandidatePool pool = cache.put(userId, candidates(5, 5));
+        String cursor = CandidatePoolCache.cursor(pool, 1);
+        String token = cursor.substring(0, cursor.lastIndexOf(':'));
+
+        assertThat(cache.find(userId, token)).isSameAs(pool);
+        assertThat(cache.find(userId, "other")).isNull();
+    }
+}
@@ -0,0 +1,123 @@
+package com.osunji.melog;
+
+import com.osunji.melog.global.common.CommentTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 스레드 트리 조립 테스트
+ */
+class CommentTreeTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private record TestRow(UUID getId, UUID getParentId, String getContent, LocalDateTime getCreatedAt)
+            implements CommentTree.Row {
+        public Integer getLikeCount() { return 0; }
+        public UUID getUserId() { return null; }
+        public String getNickname() { return null; }
+        public String getProfileImageUrl() { return null; }
+        public Boolean getLiked() { return false; }
+    }
+
+    private static TestRow row(String content, TestRow parent, int minute) {
+        return new TestRow(UUID.randomUUID(), parent != null ? parent.getId() : null, content, T0.plusMinutes(minute));
+    }
+
+    private static List<String> contents(List<CommentTree.Node> nodes) {
+        return nodes.stream().map(n -> n.row().getContent()).toList();
+    }
+
+    @Test
+    @DisplayName("루트는 입력 순서, 대댓글은 부모 아래 작성 순")
+    void builds_nested_replies_in_order() {
+        TestRow a = row("a", null, 0);
+        TestRow b = row("b", null, 1);
+        TestRow a1 = row("a1", a, 2);
+        TestRow a2 = row("a2", a, 3);
+        TestRow b1 = row("b1", b, 4);
+        TestRow a1x = row("a1x", a1, 5);
+
+        List<CommentTree.Node> roots = CommentTree.build(List.of(a, b, a1, a2, b1, a1x), 2);
+
+        assertThat(contents(roots)).containsExactly("a", "b");
+        assertThat(contents(roots.get(0).replies())).containsExactly("a1", "a2");
+        assertThat(contents(roots.get(0).replies().get(0).replies())).containsExactly("a1x");
+        assertThat(contents(roots.get(1).replies())).containsExactly("b1");
+    }
+
+    @Test
+    @DisplayName("maxDepth보다 깊은 대댓글은 maxDepth 단계에 DFS 전위 순서로 펼침")
+    void collapses_replies_deeper_than_max_depth() {
+        TestRow root = row("root", null, 0);
+        TestRow d1 = row("d1", root, 1);
+        TestRow d2 = row("d2", d1, 2);
+        TestRow d3 = row("d3", d2, 3);
+        TestRow d4 = row("d4", d3, 4);
+        TestRow d2b = row("d2b", d1, 5);
+
+        List<CommentTree.Node> roots = CommentTree.build(List.of(root, d1, d2, d3, d4, d2b), 2);
+
+        CommentTree.Node depth1 = roots.get(0).replies().get(0);
+        assertThat(depth1.row().getContent()).isEqualTo("d1");
+        assertThat(contents(depth1.replies())).containsExactly("d2", "d3", "d4", "d2b");
+        assertThat(depth1.replies()).allMatch(n -> n.replies().isEmpty());
+    }
+
+    @Test
+    @DisplayName("maxDepth 0이면 모든 대댓글이 루트 옆에 펼쳐짐")
+    void max_depth_zero_flattens_everything() {
+        TestRow root = row("root", null, 0);
+        TestRow r1 = row("r1", root, 1);
+        TestRow r11 = row("r11", r1, 2);
+
+        List<CommentTree.Node> roots = CommentTree.build(List.of(root, r1, r11), 0);
+
+        assertThat(contents(roots)).containsExactly("root", "r1", "r11");
+    }
+
+    @Test
+    @DisplayName("부모가 페이지에 없는 행은 루트로 취급")
+    void orphan_becomes_root() {
+        TestRow missingParent = row("missing", null, 0);
+        TestRow orphan = row("orphan", missingParent, 1);
+
+        List<CommentTree.Node> roots = CommentTree.build(List.of(orphan), 2);
+
+        assertThat(contents(roots)).containsExactly("orphan");
+    }
+
+    @Test
+    @DisplayName("다음 cursor는 루트가 limit개 꽉 찼을 때만, 마지막 루트 기준으로 다시 파싱됨")
+    void next_cursor_round_trips() {
+        TestRow a = row("a", null, 0);
+        TestRow b = row("b", null, 1);
+        List<CommentTree.Node> roots = CommentTree.build(List.of(a, b), 2);
+
+        assertThat(CommentTree.nextCursor(roots, 3)).isNull();
+
+        CommentTree.Cursor cursor = CommentTree.Cursor.parse(CommentTree.nextCursor(roots, 2));
+        assertThat(cursor.createdAt()).isEqualTo(b.getCreatedAt());
+        assertThat(cursor.id()).isEqualTo(b.getId());
+    }
+
+    @Test
+    @DisplayName("빈 cursor는 첫 페이지, 형식이 틀리면 IllegalArgumentException")
+    void cursor_parse() {
+        CommentTree.Cursor first = CommentTree.Cursor.parse(null);
+        assertThat(first.createdAt()).isEqualTo(CommentTree.CURSOR_START);
+        assertThat(first.id()).isEqualTo(CommentTree.CURSOR_START_ID);
+
+        assertThatThrownBy(() -> CommentTree.Cursor.parse("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CommentTree.Cursor.parse("2025-01-01T00:00_not-a-uuid"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.osunji.melog;
+
+import com.osunji.melog.search.service.HangulJamo;
+import com.osunji.melog.search.service.KeywordTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 트라이 / 자모 분해 테스트
+ */
+class KeywordTrieTest {
+
+    private static final Map<String, Long> WEIGHTS = Map.of(
+            "베토벤", 100L,
+            "바흐", 100L,
+            "베를린 필하모닉", 50L,
+            "비발디", 30L,
+            "피아노", 80L
+    );
+
+    private static KeywordTrie jamoTrie() {
+        return KeywordTrie.build(WEIGHTS, k -> List.of(HangulJamo.decompose(HangulJamo.normalize(k))), 10);
+    }
+
+    private static List<String> keywords(List<KeywordTrie.Entry> entries) {
+        return entries.stream().map(KeywordTrie.Entry::keyword).toList();
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(벹)도 자모 prefix로 매칭")
+    void partial_syllable_prefix() {
+        String key = HangulJamo.decompose(HangulJamo.normalize("벹"));
+
+        assertThat(keywords(jamoTrie().prefix(key, 10))).containsExactly("베토벤");
+    }
+
+    @Test
+    @DisplayName("가중치 내림차순 → 짧은 것 → 사전순, limit 적용")
+    void weighted_top_k() {
+        KeywordTrie trie = jamoTrie();
+        String key = HangulJamo.decompose("ㅂ");
+
+        assertThat(keywords(trie.prefix(key, 10))).containsExactly("바흐", "베토벤", "베를린 필하모닉", "비발디");
+        assertThat(keywords(trie.prefix(key, 2))).containsExactly("바흐", "베토벤");
+    }
+
+    @Test
+    @DisplayName("초성 키로 색인하면 초성 질의로 찾는다")
+    void choseong_query() {
+        KeywordTrie trie = KeywordTrie.build(WEIGHTS, k -> List.of(HangulJamo.choseong(HangulJamo.normalize(k))), 10);
+
+        assertThat(HangulJamo.isChoseongOnly("ㅂㅌ")).isTrue();
+        assertThat(keywords(trie.prefix("ㅂㅌ", 10))).containsExactly("베토벤");
+        assertThat(keywords(trie.prefix("ㅍ", 10))).containsExactly("피아노");
+    }
+
+    @Test
+    @DisplayName("한 키워드를 여러 키로 넣어도 결과는 한 번만")
+    void multiple_keys_deduplicated() {
+        KeywordTrie trie = KeywordTrie.build(Map.of("피아노 피아니스트", 10L),
+                k -> List.of(HangulJamo.decompose("피아노피아니스트"), HangulJamo.decompose("피아니스트")), 10);
+
+        assertThat(keywords(trie.prefix(HangulJamo.decompose("피아"), 10))).containsExactly("피아노 피아니스트");
+        assertThat(trie.prefix(HangulJamo.decompose("없음"), 10)).isEmpty();
+    }
+}
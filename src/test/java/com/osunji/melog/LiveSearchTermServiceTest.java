@@ -0,0 +1,112 @@
+package com.osunji.melog;
+
+import com.osunji.melog.search.service.LiveSearchTermService;
+import com.osunji.melog.search.service.LiveSearchTermService.Window;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 인기 검색어 창 집계 테스트 (스케줄러 없이 sealMinute로 시간 진행)
+ */
+class LiveSearchTermServiceTest {
+
+    private LiveSearchTermService service;
+
+    @BeforeEach
+    void setUp() {
+        // ES 보정은 init()의 스케줄러에서만 돌므로 repository 없이 생성
+        service = new LiveSearchTermService(null, 10, 500, 10);
+    }
+
+    private void record(String term, int times) {
+        for (int i = 0; i < times; i++) {
+            service.record(term);
+        }
+    }
+
+    private void advance(int minutes) {
+        for (int i = 0; i < minutes; i++) {
+            service.sealMinute();
+        }
+    }
+
+    @Test
+    @DisplayName("봉인 전에는 창에 없고, 봉인하면 세 창 모두에 많이 검색된 순으로")
+    void sealed_minute_appears_in_all_windows() {
+        record("a", 3);
+        record("b", 5);
+        assertThat(service.topTerms(Window.HOUR, 10)).isEmpty();
+
+        advance(1);
+
+        assertThat(service.topTerms(Window.HOUR, 10)).containsExactly("b", "a");
+        assertThat(service.topTerms(Window.DAY, 10)).containsExactly("b", "a");
+        assertThat(service.topTerms(Window.WEEK, 10)).containsExactly("b", "a");
+        assertThat(service.topTerms(Window.HOUR, 1)).containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("여러 분에 걸친 카운트는 창 안에서 합산")
+    void counts_add_up_across_minutes() {
+        record("a", 4);
+        record("b", 3);
+        advance(1);
+        record("b", 2);
+        advance(1);
+
+        // a=4, b=3+2=5
+        assertThat(service.topTerms(Window.HOUR, 10)).containsExactly("b", "a");
+    }
+
+    @Test
+    @DisplayName("60분이 지나면 1h 창에서 빠지고, 시간 경계를 넘어도 24h 창에는 남음")
+    void hour_window_slides_past_hour_boundary() {
+        record("old", 5);
+        advance(1);
+        record("new", 1);
+        advance(59);
+
+        assertThat(service.topTerms(Window.HOUR, 10)).containsExactly("old", "new");
+
+        advance(1);
+
+        assertThat(service.topTerms(Window.HOUR, 10)).containsExactly("new");
+        assertThat(service.topTerms(Window.DAY, 10)).containsExactly("old", "new");
+        assertThat(service.topTerms(Window.WEEK, 10)).containsExactly("old", "new");
+    }
+
+    @Test
+    @DisplayName("24시간이 지나면 24h 창에서 빠지고, 7d 창에는 168시간 동안 남음")
+    void day_and_week_windows_slide_by_hour() {
+        record("term", 1);
+        advance(24 * 60 - 1);
+        assertThat(service.topTerms(Window.DAY, 10)).containsExactly("term");
+
+        advance(1);
+        assertThat(service.topTerms(Window.DAY, 10)).isEmpty();
+        assertThat(service.topTerms(Window.WEEK, 10)).containsExactly("term");
+
+        advance((168 - 24) * 60 - 1);
+        assertThat(service.topTerms(Window.WEEK, 10)).containsExactly("term");
+
+        advance(1);
+        assertThat(service.topTerms(Window.WEEK, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("진행 중인 시간의 카운트도 24h 창에 합산")
+    void current_hour_counts_toward_day_window() {
+        record("a", 2);
+        advance(60);
+        record("a", 1);
+        record("b", 2);
+        advance(1);
+
+        // 봉인된 시간 버킷 a=2 + 진행 중 a=1 → a=3 > b=2
+        assertThat(service.topTerms(Window.DAY, 10)).containsExactly("a", "b");
+        assertThat(service.topTerms(Window.HOUR, 10)).containsExactly("b", "a");
+    }
+}
@@ -0,0 +1,194 @@
+package com.osunji.melog;
+
+import com.osunji.melog.review.entity.Post;
+import com.osunji.melog.review.entity.PostComment;
+import com.osunji.melog.review.repository.BookmarkRepository;
+import com.osunji.melog.review.repository.CommentRepository;
+import com.osunji.melog.review.repository.PostRepository;
+import com.osunji.melog.user.domain.User;
+import com.osunji.melog.user.domain.enums.Platform;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 피드 조회 벤치마크 - 전체 로딩 + 게시글별 쿼리 vs like_count Top-N + 배치 조회
+ * 실행: ./gradlew benchmark (게시글 수 구간: -Dbenchmark.sizes=10000,100000,1000000)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:popular-bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PopularFeedQueryBenchmarkTest {
+
+    private static final int USERS = 200;
+    private static final int POSTS = 2_000;
+    private static final int TOP_N = 50;
+    private static final int RUNS = 7;
+    private static final String SIZES = System.getProperty("benchmark.sizes", "10000,100000,1000000");
+
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired BookmarkRepository bookmarkRepository;
+
+    private User viewer;
+
+    @BeforeEach
+    void seed() {
+        Random random = new Random(42);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User u = new User("bench" + i + "@melog.com", Platform.KAKAO);
+            u.setOidc("bench-" + i);
+            u.setNickname("bench" + i);
+            em.persist(u);
+            users.add(u);
+        }
+        viewer = users.get(0);
+
+        for (int i = 0; i < POSTS; i++) {
+            User author = users.get(random.nextInt(USERS));
+            Post post = Post.create(author, "title " + i, "content " + i, null, null, List.of("bench"));
+            int likes = random.nextInt(30);
+            for (int l = 0; l < likes; l++) {
+                post.addLike(users.get(random.nextInt(USERS)));
+            }
+            em.persist(post);
+            if (i % 3 == 0) {
+                em.persist(PostComment.createComment(users.get(random.nextInt(USERS)), post, "comment " + i));
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("like_count Top-N + 배치 조회는 게시글 수와 무관하게 쿼리 수가 고정된다")
+    void popularFeed_topN_vs_loadAll() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+
+        // ---- 기존 방식: findAll → 메모리 정렬 → 게시글별 댓글/좋아요/북마크 조회 ----
+        stats.clear();
+        long legacyStart = System.nanoTime();
+        List<Post> legacy = postRepository.findAll().stream()
+                .sorted(Comparator.comparingInt((Post p) -> p.getLikes().size()).reversed())
+                .limit(TOP_N)
+                .toList();
+        for (Post p : legacy) {
+            commentRepository.findBestComment(p.getId());
+            commentRepository.countCommentByPostId(p.getId());
+            postRepository.existsLikeByUserIdAndPostId(viewer.getId(), p.getId());
+            bookmarkRepository.existsByUserIdAndPostId(viewer.getId(), p.getId());
+        }
+        long legacyMs = (System.nanoTime() - legacyStart) / 1_000_000;
+        long legacyQueries = stats.getPrepareStatementCount();
+        em.clear();
+
+        // ---- 개선 방식: like_count 인덱스 Top-N + 페이지 단위 배치 조회 ----
+        stats.clear();
+        long topNStart = System.nanoTime();
+        List<Post> topN = postRepository.findTopByLikeCount(PageRequest.of(0, TOP_N));
+        List<UUID> ids = topN.stream().map(Post::getId).toList();
+        List<UUID> bestIds = commentRepository.findBestCommentIdsByPostIds(ids);
+        if (!bestIds.isEmpty()) {
+            commentRepository.findAllWithUserByIdIn(bestIds);
+        }
+        commentRepository.countCommentsByPostIds(ids);
+        postRepository.findLikedPostIds(viewer.getId(), ids);
+        bookmarkRepository.findBookmarkedPostIds(viewer.getId(), ids);
+        long topNMs = (System.nanoTime() - topNStart) / 1_000_000;
+        long topNQueries = stats.getPrepareStatementCount();
+
+        System.out.printf("[popular-feed] posts=%d topN=%d | legacy: %d ms, %d queries | topN: %d ms, %d queries%n",
+                POSTS, TOP_N, legacyMs, legacyQueries, topNMs, topNQueries);
+
+        assertThat(topN).hasSize(TOP_N);
+        assertThat(topN.get(0).getLikeCount()).isGreaterThanOrEqualTo(topN.get(TOP_N - 1).getLikeCount());
+        assertThat(topNQueries).isLessThanOrEqualTo(6);
+        assertThat(topNQueries).isLessThan(legacyQueries);
+    }
+
+    @Test
+    @DisplayName("like_count Top-N 지연은 게시글 10k → 1M 구간에서 평탄하다")
+    void popularFeed_topN_latencyIsFlatAcrossSizes() {
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        Map<Integer, Long> medianMicros = new LinkedHashMap<>();
+        Map<Integer, Long> queries = new LinkedHashMap<>();
+
+        int seeded = POSTS;
+        for (int size : Arrays.stream(SIZES.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray()) {
+            if (size > seeded) {
+                seedPosts(seeded, size - seeded);
+                seeded = size;
+            }
+
+            long[] samples = new long[RUNS];
+            for (int run = 0; run < RUNS; run++) {
+                em.clear();
+                stats.clear();
+                long start = System.nanoTime();
+                List<UUID> ids = postRepository.findTopByLikeCount(PageRequest.of(0, TOP_N)).stream()
+                        .map(Post::getId).toList();
+                List<UUID> bestIds = commentRepository.findBestCommentIdsByPostIds(ids);
+                if (!bestIds.isEmpty()) {
+                    commentRepository.findAllWithUserByIdIn(bestIds);
+                }
+                commentRepository.countCommentsByPostIds(ids);
+                postRepository.findLikedPostIds(viewer.getId(), ids);
+                bookmarkRepository.findBookmarkedPostIds(viewer.getId(), ids);
+                samples[run] = (System.nanoTime() - start) / 1_000;
+                queries.put(size, stats.getPrepareStatementCount());
+            }
+            // 첫 실행(워밍업) 포함 중앙값
+            Arrays.sort(samples);
+            medianMicros.put(size, samples[RUNS / 2]);
+            System.out.printf("[popular-feed] posts=%d topN=%d | median %d us, %d queries%n",
+                    size, TOP_N, medianMicros.get(size), queries.get(size));
+        }
+
+        long smallest = medianMicros.values().iterator().next();
+        long largest = medianMicros.values().stream().reduce((a, b) -> b).orElseThrow();
+        // 쿼리 수는 게시글 수와 무관, 지연은 인덱스 Top-N이라 구간 전체에서 몇 배 이내
+        assertThat(queries.values()).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(6));
+        assertThat(largest).isLessThanOrEqualTo(Math.max(smallest * 5, smallest + 50_000));
+    }
+
+    /** 게시글 대량 삽입 - 엔티티 persist 대신 SYSTEM_RANGE INSERT ... SELECT (좋아요 수는 like_count에 직접) */
+    private void seedPosts(int offset, int count) {
+        em.createNativeQuery("""
+                INSERT INTO posts (id, user_id, title, content, created_at, like_count)
+                SELECT RANDOM_UUID(), :userId, CONCAT('title ', X), CONCAT('content ', X),
+                       DATEADD('SECOND', -X, LOCALTIMESTAMP), CAST(RAND() * 1000 AS INT)
+                FROM SYSTEM_RANGE(:from, :to)
+                """)
+                .setParameter("userId", viewer.getId())
+                .setParameter("from", offset + 1)
+                .setParameter("to", offset + count)
+                .executeUpdate();
+        em.flush();
+        em.clear();
+    }
+}